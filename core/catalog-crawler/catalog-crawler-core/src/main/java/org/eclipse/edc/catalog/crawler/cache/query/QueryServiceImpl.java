@@ -17,6 +17,7 @@ package org.eclipse.edc.catalog.crawler.cache.query;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.QueryService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -36,4 +37,9 @@ public class QueryServiceImpl implements QueryService {
 
         return ServiceResult.from(Result.ofThrowable(() -> cache.query(query)));
     }
+
+    @Override
+    public ServiceResult<Collection<Dataset>> getDatasets(QuerySpec query) {
+        return ServiceResult.from(Result.ofThrowable(() -> cache.queryDatasets(query)));
+    }
 }
@@ -17,6 +17,8 @@ package org.eclipse.edc.catalog.crawler.store;
 import org.eclipse.edc.catalog.spi.CatalogConstants;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -37,11 +39,13 @@ public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
     private final Map<String, MarkableEntry<Catalog>> cache = new ConcurrentHashMap<>();
     private final LockManager lockManager;
     private final QueryResolver<Catalog> queryResolver;
+    private final QueryResolver<Dataset> datasetQueryResolver;
 
 
     public InMemoryFederatedCatalogCache(LockManager lockManager, CriterionOperatorRegistry criterionOperatorRegistry) {
         this.lockManager = lockManager;
         queryResolver = new ReflectionBasedQueryResolver<>(Catalog.class, criterionOperatorRegistry);
+        datasetQueryResolver = new ReflectionBasedQueryResolver<>(Dataset.class, criterionOperatorRegistry);
     }
 
     @Override
@@ -60,6 +64,15 @@ public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
         return lockManager.readLock(() -> queryResolver.query(catalogs, query)).toList();
     }
 
+    @Override
+    public Collection<Dataset> queryDatasets(QuerySpec query) {
+        return lockManager.readLock(() -> {
+            var datasets = cache.entrySet().stream()
+                    .flatMap(entry -> FederatedCatalogUtil.datasets(entry.getValue().getEntry(), entry.getKey()).stream());
+            return datasetQueryResolver.query(datasets, query).toList();
+        });
+    }
+
     @Override
     public void deleteExpired() {
         lockManager.writeLock(() -> {
@@ -23,11 +23,13 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.health.HealthCheckService;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.transaction.spi.TransactionInstrumentation;
 
 import java.time.Clock;
 
@@ -78,6 +80,16 @@ public class BootServicesExtension implements ServiceExtension {
         return ExecutorInstrumentation.noop();
     }
 
+    @Provider(isDefault = true)
+    public CacheInstrumentation defaultCacheInstrumentation() {
+        return CacheInstrumentation.noop();
+    }
+
+    @Provider(isDefault = true)
+    public TransactionInstrumentation defaultTransactionInstrumentation() {
+        return TransactionInstrumentation.noop();
+    }
+
     @Provider(isDefault = true)
     public Vault createInmemVault(ServiceExtensionContext context) {
         context.getMonitor().warning("Using the InMemoryVault is not suitable for production scenarios and should be replaced with an actual Vault!");
@@ -21,11 +21,11 @@ dependencies {
     api(project(":spi:core-spi"))
 
     implementation(project(":core:control-plane:lib:control-plane-lib"))
+    implementation(project(":core:common:lib:core-lib"))
     implementation(libs.cel)
 
     testImplementation(project(":core:common:junit"))
     testImplementation(testFixtures(project(":spi:control-plane-spi")))
-    testImplementation(project(":core:common:lib:core-lib"))
 
 }
 
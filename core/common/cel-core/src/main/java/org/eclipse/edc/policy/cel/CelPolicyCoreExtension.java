@@ -43,11 +43,13 @@ import org.eclipse.edc.policy.model.Rule;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.util.List;
 
 import static org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext.CATALOG_SCOPE;
@@ -62,6 +64,14 @@ public class CelPolicyCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Common Expression Language Policy Core Extension";
 
+    @Setting(description = "Maximum number of left operands whose compiled CEL expressions are cached. 0 disables the cache",
+            defaultValue = CelExpressionEngineImpl.DEFAULT_CACHE_SIZE + "", key = "edc.policy.cel.cache.size")
+    private int cacheSize;
+
+    @Setting(description = "Time in milliseconds after which cached CEL expressions are reloaded from the store. Bounds staleness of changes done through other runtimes",
+            defaultValue = CelExpressionEngineImpl.DEFAULT_CACHE_TTL_MILLIS + "", key = "edc.policy.cel.cache.ttl")
+    private long cacheTtl;
+
     @Inject
     private PolicyEngine policyEngine;
 
@@ -111,7 +121,8 @@ public class CelPolicyCoreExtension implements ServiceExtension {
     @Provider
     public CelExpressionEngine policyExpressionEngine() {
         if (celExpressionEngine == null) {
-            celExpressionEngine = new CelExpressionEngineImpl(transactionContext, celExpressionStore, monitor, celFunctionRegistry());
+            celExpressionEngine = new CelExpressionEngineImpl(transactionContext, celExpressionStore, monitor, celFunctionRegistry(),
+                    cacheSize, cacheTtl, Clock.systemUTC());
         }
         return celExpressionEngine;
     }
@@ -35,20 +35,42 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.util.collection.BoundedCache;
 
+import java.time.Clock;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Default {@link CelExpressionEngine}. Expressions fetched from the {@link CelExpressionStore} are compiled once into
+ * {@link CelRuntime.Program}s and kept in a bounded cache, keyed by left operand (and by action for scope lookups), so
+ * that policy evaluation does not hit the store nor the CEL compiler on the hot path.
+ * <p>
+ * Cache entries are versioned: {@link #invalidate()} bumps the version and a load that started before the bump is never
+ * published. Entries also expire after a configurable time-to-live, which bounds staleness for changes performed
+ * through another runtime sharing the same store.
+ */
 public class CelExpressionEngineImpl implements CelExpressionEngine {
 
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+    public static final long DEFAULT_CACHE_TTL_MILLIS = 30_000;
+
     private final TransactionContext ctx;
     private final CelExpressionStore store;
     private final Monitor monitor;
     private final CelFunctionRegistry functionRegistry;
+    private final int cacheSize;
+    private final long cacheTtlMillis;
+    private final Clock clock;
+    private final AtomicLong version = new AtomicLong();
+    private final BoundedCache<String, CacheEntry<CompiledExpressions>> byLeftOperand;
+    private final BoundedCache<String, CacheEntry<List<CelExpression>>> byAction;
 
     // built lazily on first use: extensions register their custom functions during initialization, which happens
     // after this engine is constructed. Declarations and bindings are derived from a single snapshot of the registry,
@@ -56,10 +78,26 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
     private volatile CelEnvironment environment;
 
     public CelExpressionEngineImpl(TransactionContext ctx, CelExpressionStore store, Monitor monitor, CelFunctionRegistry functionRegistry) {
+        this(ctx, store, monitor, functionRegistry, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_TTL_MILLIS, Clock.systemUTC());
+    }
+
+    /**
+     * Creates the engine.
+     *
+     * @param cacheSize      maximum number of cached left operands (and actions). 0 disables caching.
+     * @param cacheTtlMillis time after which a cached entry is reloaded from the store.
+     */
+    public CelExpressionEngineImpl(TransactionContext ctx, CelExpressionStore store, Monitor monitor, CelFunctionRegistry functionRegistry,
+                                   int cacheSize, long cacheTtlMillis, Clock clock) {
         this.ctx = ctx;
         this.store = store;
         this.monitor = monitor;
         this.functionRegistry = functionRegistry;
+        this.cacheSize = cacheSize;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.clock = clock;
+        this.byLeftOperand = new BoundedCache<>(Math.max(cacheSize, 1));
+        this.byAction = new BoundedCache<>(Math.max(cacheSize, 1));
     }
 
     private CelEnvironment environment() {
@@ -90,6 +128,15 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
     private record CelEnvironment(CelCompiler compiler, CelRuntime runtime) {
     }
 
+    /**
+     * The expressions registered for a left operand, together with their compiled programs, or the compilation failure.
+     */
+    private record CompiledExpressions(List<CelExpression> expressions, Result<List<CelRuntime.Program>> programs) {
+    }
+
+    private record CacheEntry<V>(V value, long version, long expiresAt) {
+    }
+
     @Override
     public ServiceResult<Void> validate(String expression) {
         return compile(expression)
@@ -99,12 +146,13 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
 
     @Override
     public boolean canEvaluate(String leftOperand) {
-        return !fetch(leftOperand).isEmpty();
+        return !compiled(leftOperand).expressions().isEmpty();
     }
 
     @Override
     public Set<String> evaluationScopes(String leftOperand) {
-        return Stream.concat(fetch(leftOperand).stream(), fetchByAction(leftOperand).stream())
+        var actionExpressions = cached(byAction, leftOperand, () -> fetchByAction(leftOperand));
+        return Stream.concat(compiled(leftOperand).expressions().stream(), actionExpressions.stream())
                 .flatMap(expr -> expr.getScopes().stream())
                 .collect(Collectors.toSet());
     }
@@ -112,14 +160,22 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
     @Override
     public ServiceResult<Boolean> test(String expression, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
         return compile(expression)
-                .compose(ast -> evaluateAst(ast, leftOperand, operator, rightOperand, params))
+                .compose(this::createProgram)
+                .compose(program -> evaluateProgram(program, leftOperand, operator, rightOperand, params))
                 .flatMap(ServiceResult::from);
 
     }
 
+    @Override
+    public void invalidate() {
+        version.incrementAndGet();
+        byLeftOperand.clear();
+        byAction.clear();
+    }
+
     @Override
     public ServiceResult<Boolean> evaluateExpression(Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
-        var compileResult = fetchAndCompile(leftOperand.toString());
+        var compileResult = compiled(leftOperand.toString()).programs();
         if (compileResult.failed()) {
             monitor.severe("Failed to compile expressions for left operand: " + leftOperand + ". Reason: " + compileResult.getFailureDetail());
             return ServiceResult.badRequest("Failed to compile expressions for left operand: " + leftOperand + ". Reason: " + compileResult.getFailureDetail());
@@ -130,8 +186,8 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
             return ServiceResult.badRequest("No expressions registered for left operand: " + leftOperand);
         }
         var result = true;
-        for (var ast : expressions) {
-            var evaluationResult = evaluateAst(ast, leftOperand, operator, rightOperand, params);
+        for (var program : expressions) {
+            var evaluationResult = evaluateProgram(program, leftOperand, operator, rightOperand, params);
 
             if (evaluationResult.failed()) {
                 monitor.severe("Failed to evaluate expression for left operand: " + leftOperand + ". Reason: " + evaluationResult.getFailureDetail());
@@ -145,9 +201,8 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
         return ServiceResult.success(result);
     }
 
-    private Result<Boolean> evaluateAst(CelAbstractSyntaxTree ast, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
+    private Result<Boolean> evaluateProgram(CelRuntime.Program program, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
         try {
-            var program = environment().runtime().createProgram(ast);
             Map<String, Object> newParams = new HashMap<>();
             newParams.put("now", ProtoTimeUtils.now());
             newParams.put("this", Map.of("leftOperand", leftOperand, "operator", operator.name(), "rightOperand", rightOperand));
@@ -160,10 +215,37 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
         }
     }
 
-    private Result<List<CelAbstractSyntaxTree>> fetchAndCompile(String leftOperand) {
-        return fetch(leftOperand).stream()
-                .map(expr -> compile(expr.getExpression()))
+    private CompiledExpressions compiled(String leftOperand) {
+        return cached(byLeftOperand, leftOperand, () -> fetchAndCompile(leftOperand));
+    }
+
+    private CompiledExpressions fetchAndCompile(String leftOperand) {
+        var expressions = fetch(leftOperand);
+        var programs = expressions.stream()
+                .map(expr -> compile(expr.getExpression()).compose(this::createProgram))
                 .collect(Result.collector());
+        return new CompiledExpressions(expressions, programs);
+    }
+
+    /**
+     * Returns the cached value for the key, loading it if absent or expired. The loaded value is only published if no
+     * {@link #invalidate()} happened in the meantime, so a load racing with an update can never re-populate the cache
+     * with stale content.
+     */
+    private <V> V cached(BoundedCache<String, CacheEntry<V>> cache, String key, Supplier<V> loader) {
+        if (cacheSize <= 0) {
+            return loader.get();
+        }
+        var currentVersion = version.get();
+        var entry = cache.get(key);
+        if (entry != null && entry.version() == currentVersion && entry.expiresAt() > clock.millis()) {
+            return entry.value();
+        }
+        var value = loader.get();
+        if (version.get() == currentVersion) {
+            cache.put(key, new CacheEntry<>(value, currentVersion, clock.millis() + cacheTtlMillis));
+        }
+        return value;
     }
 
     private List<CelExpression> fetch(String leftOperand) {
@@ -193,4 +275,12 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
         }
         return Result.success(ast);
     }
+
+    private Result<CelRuntime.Program> createProgram(CelAbstractSyntaxTree ast) {
+        try {
+            return Result.success(environment().runtime().createProgram(ast));
+        } catch (CelEvaluationException e) {
+            return Result.failure("Failed to create program for expression. Reason: " + e.getMessage());
+        }
+    }
 }
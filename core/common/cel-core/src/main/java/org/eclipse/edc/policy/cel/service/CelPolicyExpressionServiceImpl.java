@@ -41,7 +41,7 @@ public class CelPolicyExpressionServiceImpl implements CelPolicyExpressionServic
 
     @Override
     public ServiceResult<Void> create(CelExpression expression) {
-        return tx.execute(() -> {
+        return invalidateOnSuccess(tx.execute(() -> {
             var validationResult = engine.validate(expression.getExpression());
             if (validationResult.failed()) {
                 return validationResult;
@@ -52,7 +52,7 @@ public class CelPolicyExpressionServiceImpl implements CelPolicyExpressionServic
             } else {
                 return ServiceResult.from(result);
             }
-        });
+        }));
     }
 
     @Override
@@ -70,7 +70,7 @@ public class CelPolicyExpressionServiceImpl implements CelPolicyExpressionServic
 
     @Override
     public ServiceResult<Void> update(CelExpression expression) {
-        return tx.execute(() -> {
+        return invalidateOnSuccess(tx.execute(() -> {
             var validationResult = engine.validate(expression.getExpression());
             if (validationResult.failed()) {
                 return validationResult;
@@ -81,13 +81,13 @@ public class CelPolicyExpressionServiceImpl implements CelPolicyExpressionServic
             } else {
                 return ServiceResult.from(result);
             }
-        });
+        }));
     }
 
     @Override
     public ServiceResult<Void> delete(String id) {
-        return tx.execute(() -> store.delete(id)
-                .flatMap(ServiceResult::from));
+        return invalidateOnSuccess(tx.execute(() -> store.delete(id)
+                .flatMap(ServiceResult::from)));
     }
 
     @Override
@@ -106,4 +106,15 @@ public class CelPolicyExpressionServiceImpl implements CelPolicyExpressionServic
         }
         return ServiceResult.success(response.build());
     }
+
+    /**
+     * Invalidates the engine cache once the change has been committed, otherwise a concurrent evaluation could reload
+     * the previous version of the expression before the transaction completes.
+     */
+    private ServiceResult<Void> invalidateOnSuccess(ServiceResult<Void> result) {
+        if (result.succeeded()) {
+            engine.invalidate();
+        }
+        return result;
+    }
 }
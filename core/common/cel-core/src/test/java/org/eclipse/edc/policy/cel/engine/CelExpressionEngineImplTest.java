@@ -32,6 +32,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +44,8 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class CelExpressionEngineImplTest {
@@ -270,6 +273,55 @@ public class CelExpressionEngineImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void evaluateExpression_shouldCacheCompiledExpressions() {
+        when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")));
+
+        registry.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+        var result = registry.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+
+        assertThat(result).isSucceeded();
+        verify(store, times(1)).query(any());
+    }
+
+    @Test
+    void evaluateExpression_shouldReload_whenInvalidated() {
+        when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")));
+        assertThat(registry.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123")).getContent()).isTrue();
+
+        when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'another-agent'")));
+        registry.invalidate();
+
+        var result = registry.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+        assertThat(result).isSucceeded();
+        assertThat(result.getContent()).isFalse();
+    }
+
+    @Test
+    void evaluateExpression_shouldReload_whenEntryExpired() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        var engine = new CelExpressionEngineImpl(transactionContext, store, mock(), functionRegistry, 10, 100, clock);
+        when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")));
+
+        engine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+        when(clock.millis()).thenReturn(101L);
+        engine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+
+        verify(store, times(2)).query(any());
+    }
+
+    @Test
+    void evaluateExpression_shouldNotCache_whenDisabled() {
+        var engine = new CelExpressionEngineImpl(transactionContext, store, mock(), functionRegistry, 0, 100, Clock.systemUTC());
+        when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")));
+
+        engine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+        engine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+
+        verify(store, times(2)).query(any());
+    }
+
     @Test
     void canEvaluate() {
         when(store.query(any())).thenReturn(List.of(expression("empty")));
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.bulk;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.BulkItemResult;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStream;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
+
+/**
+ * Creates the entities of a bulk request body. Items are converted while the body is read and handed to the service in
+ * chunks of {@link #CHUNK_SIZE}, so the body is never fully held in memory and every chunk is stored with a single
+ * batch. An item that cannot be converted or created is reported and does not affect the others.
+ */
+public final class BulkCreation {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private BulkCreation() {
+    }
+
+    /**
+     * Creates the entities of the body.
+     *
+     * @param body      the request body.
+     * @param toEntity  converts an item to an entity, failing if it is not valid.
+     * @param createAll creates a chunk of entities, returning a result for every entity, in the same order.
+     * @param idOf      returns the id of an entity.
+     * @param createdAt returns the creation timestamp of an entity.
+     * @return a result for every item, ordered by position in the body.
+     */
+    public static <T> List<BulkItemResult> create(JsonObjectStream body, Function<JsonObject, Result<T>> toEntity,
+                                                  Function<List<T>, List<ServiceResult<T>>> createAll,
+                                                  Function<T, String> idOf, ToLongFunction<T> createdAt) {
+        var results = new ArrayList<BulkItemResult>();
+        var chunk = new ArrayList<Item<T>>(CHUNK_SIZE);
+
+        try (var items = body.items()) {
+            var iterator = items.iterator();
+            for (var index = 0; iterator.hasNext(); index++) {
+                var item = iterator.next();
+                var entity = item.compose(toEntity);
+                if (entity.failed()) {
+                    var id = item.succeeded() ? item.getContent().getString(ID, null) : null;
+                    results.add(BulkItemResult.failed(index, id, BAD_REQUEST.name(), entity.getFailureDetail()));
+                    continue;
+                }
+
+                chunk.add(new Item<>(index, entity.getContent()));
+                if (chunk.size() == CHUNK_SIZE) {
+                    createChunk(chunk, createAll, idOf, createdAt, results);
+                    chunk.clear();
+                }
+            }
+        }
+        createChunk(chunk, createAll, idOf, createdAt, results);
+
+        results.sort(Comparator.comparingInt(BulkItemResult::getIndex));
+        return results;
+    }
+
+    private static <T> void createChunk(List<Item<T>> chunk, Function<List<T>, List<ServiceResult<T>>> createAll,
+                                        Function<T, String> idOf, ToLongFunction<T> createdAt, List<BulkItemResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        var created = createAll.apply(chunk.stream().map(Item::entity).toList());
+        for (var i = 0; i < chunk.size(); i++) {
+            var item = chunk.get(i);
+            var result = created.get(i);
+            var id = idOf.apply(item.entity());
+            if (result.succeeded()) {
+                results.add(BulkItemResult.created(item.index(), id, createdAt.applyAsLong(item.entity())));
+            } else {
+                results.add(BulkItemResult.failed(item.index(), id, result.reason().name(), result.getFailureDetail()));
+            }
+        }
+    }
+
+    private record Item<T>(int index, T entity) {
+    }
+}
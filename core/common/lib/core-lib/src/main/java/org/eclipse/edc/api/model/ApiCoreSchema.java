@@ -63,6 +63,9 @@ public interface ApiCoreSchema {
             int limit,
             SortOrder sortOrder,
             String sortField,
+            @Schema(description = "Opaque keyset cursor: an empty string requests the first page, " +
+                    "the value of the Edc-Next-Cursor response header requests the following one")
+            String cursor,
             List<CriterionSchema> filterExpression
     ) {
         public static final String QUERY_SPEC_EXAMPLE = """
@@ -95,6 +98,37 @@ public interface ApiCoreSchema {
                 """;
     }
 
+    @Schema(name = "BulkItemResult", example = BulkItemResultSchema.BULK_ITEM_RESULT_EXAMPLE)
+    record BulkItemResultSchema(
+            @Schema(name = TYPE, example = BulkItemResult.BULK_ITEM_RESULT_TYPE)
+            String type,
+            @Schema(name = ID)
+            String id,
+            int index,
+            String status,
+            long createdAt,
+            String message
+    ) {
+        public static final String BULK_ITEM_RESULT_EXAMPLE = """
+                [
+                    {
+                        "@type": "BulkItemResult",
+                        "@id": "id-value",
+                        "index": 0,
+                        "status": "CREATED",
+                        "createdAt": 1688465655
+                    },
+                    {
+                        "@type": "BulkItemResult",
+                        "@id": "other-id-value",
+                        "index": 1,
+                        "status": "CONFLICT",
+                        "message": "Asset with ID other-id-value already exists"
+                    }
+                ]
+                """;
+    }
+
     @Schema(name = "ApiErrorDetail", example = ApiErrorDetailSchema.API_ERROR_EXAMPLE)
     record ApiErrorDetailSchema(
             String message,
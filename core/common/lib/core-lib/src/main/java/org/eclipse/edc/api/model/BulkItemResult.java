@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.model;
+
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Represent the outcome of a single item of a bulk "create" call. Items are identified by their position in the request
+ * body, as their id may be missing or unreadable.
+ */
+public class BulkItemResult {
+
+    public static final String BULK_ITEM_RESULT_TYPE = EDC_NAMESPACE + "BulkItemResult";
+    public static final String BULK_ITEM_RESULT_INDEX = EDC_NAMESPACE + "index";
+    public static final String BULK_ITEM_RESULT_CREATED_AT = EDC_NAMESPACE + "createdAt";
+    public static final String BULK_ITEM_RESULT_STATUS = EDC_NAMESPACE + "status";
+    public static final String BULK_ITEM_RESULT_MESSAGE = EDC_NAMESPACE + "message";
+
+    public static final String STATUS_CREATED = "CREATED";
+
+    private int index;
+    private String id;
+    private long createdAt;
+    private String status;
+    private String message;
+
+    private BulkItemResult() {
+    }
+
+    public static BulkItemResult created(int index, String id, long createdAt) {
+        return Builder.newInstance().index(index).id(id).createdAt(createdAt).status(STATUS_CREATED).build();
+    }
+
+    public static BulkItemResult failed(int index, @Nullable String id, String status, String message) {
+        return Builder.newInstance().index(index).id(id).status(status).message(message).build();
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    @Nullable
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isCreated() {
+        return STATUS_CREATED.equals(status);
+    }
+
+    public static final class Builder {
+
+        private final BulkItemResult result = new BulkItemResult();
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder index(int index) {
+            result.index = index;
+            return this;
+        }
+
+        public Builder id(String id) {
+            result.id = id;
+            return this;
+        }
+
+        public Builder createdAt(long createdAt) {
+            result.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder status(String status) {
+            result.status = status;
+            return this;
+        }
+
+        public Builder message(String message) {
+            result.message = message;
+            return this;
+        }
+
+        public BulkItemResult build() {
+            return result;
+        }
+    }
+}
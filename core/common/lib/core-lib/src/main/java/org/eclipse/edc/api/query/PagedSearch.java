@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.KeysetCursor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.util.reflection.PropertyPath;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Runs a search page by page, so that a large result, e.g. an export of all the transfer processes of a participant,
+ * can be streamed to the client without being held in memory at once.
+ * <p>
+ * The window requested by the {@link QuerySpec} (offset and limit) is split into pages of at most the page size, each
+ * one fetched with a separate search when the previous one has been consumed. Queries without a sort field are sorted
+ * by {@code id}, whatever their limit, so that pages do not overlap and the order of the elements does not depend on
+ * the number of pages.
+ * <p>
+ * Queries that carry a {@link KeysetCursor} are executed as they are instead, and the cursor that follows the last
+ * element is handed back to the client, which then requests the following page with it.
+ */
+public final class PagedSearch {
+
+    public static final int DEFAULT_PAGE_SIZE = 500;
+    private static final String DEFAULT_SORT_FIELD = "id";
+
+    private PagedSearch() {
+    }
+
+    /**
+     * Runs a search for an API client: streams the result as {@link #stream(QuerySpec, Function)} does or, if the
+     * query carries a cursor, fetches a single page and determines the cursor of the following one.
+     *
+     * @param query  the query.
+     * @param search the search, e.g. {@code service::search}.
+     * @return the page, or the failure of the search.
+     */
+    public static <T> ServiceResult<SearchPage<T>> page(QuerySpec query, Function<QuerySpec, ServiceResult<List<T>>> search) {
+        return page(query, search, (element, sortField) -> PropertyPath.of(sortField).getValue(element));
+    }
+
+    /**
+     * Runs a search for an API client, reading the sort value of the cursor with an accessor, for elements whose sort
+     * fields are not (only) object fields, e.g. assets, which are sorted by their properties.
+     *
+     * @param query             the query.
+     * @param search            the search, e.g. {@code service::search}.
+     * @param sortValueAccessor returns the value of a sort field of an element, as the search sorts by it.
+     * @return the page, or the failure of the search.
+     * @see #page(QuerySpec, Function)
+     */
+    public static <T> ServiceResult<SearchPage<T>> page(QuerySpec query, Function<QuerySpec, ServiceResult<List<T>>> search,
+                                                        BiFunction<T, String, Object> sortValueAccessor) {
+        if (query.getCursor() == null) {
+            return stream(query, search).map(elements -> new SearchPage<>(elements, null));
+        }
+        return search.apply(query).map(elements -> new SearchPage<>(elements.stream(), nextCursor(query, elements, sortValueAccessor)));
+    }
+
+    /**
+     * Streams the result of a search using pages of {@link #DEFAULT_PAGE_SIZE}.
+     *
+     * @see #stream(QuerySpec, int, Function)
+     */
+    public static <T> ServiceResult<Stream<T>> stream(QuerySpec query, Function<QuerySpec, ServiceResult<List<T>>> search) {
+        return stream(query, DEFAULT_PAGE_SIZE, search);
+    }
+
+    /**
+     * Streams the result of a search. The first page is fetched eagerly, so that an invalid query is reported as a
+     * failed result. The failure of a subsequent page is thrown as an {@link EdcException} while consuming the stream:
+     * when the stream is written to an HTTP response, the status has already been sent by then, so the writer has to
+     * abort the response instead of mapping the exception, see
+     * {@link org.eclipse.edc.web.jersey.providers.jsonld.JsonArrayStreamingOutput}.
+     *
+     * @param query    the query.
+     * @param pageSize the maximum number of elements fetched at once.
+     * @param search   the search, e.g. {@code service::search}.
+     * @return the stream of the elements, or the failure of the first page.
+     */
+    public static <T> ServiceResult<Stream<T>> stream(QuerySpec query, int pageSize, Function<QuerySpec, ServiceResult<List<T>>> search) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Invalid page size: " + pageSize);
+        }
+
+        var ordered = query.getSortField() == null ? query.toBuilder().sortField(DEFAULT_SORT_FIELD).build() : query;
+        if (query.getLimit() <= pageSize) {
+            return search.apply(ordered).map(List::stream);
+        }
+
+        var end = (long) query.getOffset() + query.getLimit();
+        var pages = new Pages<>(ordered, pageSize, end, search);
+
+        return search.apply(pages.page(query.getOffset(), pageSize))
+                .map(first -> Stream.iterate(new Page<>(query.getOffset(), pageSize, first), Objects::nonNull, pages::next)
+                        .flatMap(page -> page.content().stream()));
+    }
+
+    private static <T> KeysetCursor nextCursor(QuerySpec query, List<T> elements, BiFunction<T, String, Object> sortValueAccessor) {
+        if (elements.isEmpty() || elements.size() < query.getLimit()) {
+            return null;
+        }
+        var last = elements.get(elements.size() - 1);
+        var id = Objects.toString(PropertyPath.of(DEFAULT_SORT_FIELD).getValue(last));
+        var sortField = query.getSortField();
+        if (sortField == null || DEFAULT_SORT_FIELD.equals(sortField)) {
+            return KeysetCursor.after(null, null, id);
+        }
+        return KeysetCursor.after(sortField, sortValueAccessor.apply(last, sortField), id);
+    }
+
+    private record Page<T>(int offset, int limit, List<T> content) {
+    }
+
+    private record Pages<T>(QuerySpec query, int pageSize, long end, Function<QuerySpec, ServiceResult<List<T>>> search) {
+
+        Page<T> next(Page<T> previous) {
+            var nextOffset = (long) previous.offset() + previous.limit();
+            if (previous.content().size() < previous.limit() || nextOffset >= end) {
+                return null;
+            }
+
+            var offset = (int) nextOffset;
+            var limit = (int) Math.min(pageSize, end - offset);
+            var content = search.apply(page(offset, limit))
+                    .orElseThrow(failure -> new EdcException("Failed to fetch page at offset %d: %s".formatted(offset, failure.getFailureDetail())));
+            return new Page<>(offset, limit, content);
+        }
+
+        QuerySpec page(int offset, int limit) {
+            return query.toBuilder().offset(offset).limit(limit).build();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.spi.query.KeysetCursor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The elements returned by a {@link PagedSearch}, and the cursor of the following page when the query was paginated
+ * by keyset and there may be more elements.
+ *
+ * @param elements   the elements.
+ * @param nextCursor the cursor of the following page, null if there is none.
+ */
+public record SearchPage<T>(Stream<T> elements, @Nullable KeysetCursor nextCursor) {
+
+    /**
+     * The response header carrying the encoded cursor of the following page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "Edc-Next-Cursor";
+
+    /**
+     * Creates a successful response, with the {@link #NEXT_CURSOR_HEADER} if there is a following page.
+     *
+     * @param entity creates the response entity out of the elements.
+     * @return the response.
+     */
+    public Response toResponse(Function<Stream<T>, Object> entity) {
+        var response = Response.ok(entity.apply(elements));
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor.encode());
+        }
+        return response.build();
+    }
+}
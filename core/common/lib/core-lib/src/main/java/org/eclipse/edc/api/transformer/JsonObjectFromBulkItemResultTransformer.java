@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.transformer;
+
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.BulkItemResult;
+import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_CREATED_AT;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_INDEX;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_MESSAGE;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_STATUS;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+
+public class JsonObjectFromBulkItemResultTransformer extends AbstractJsonLdTransformer<BulkItemResult, JsonObject> {
+
+    private final JsonBuilderFactory builderFactory;
+
+    public JsonObjectFromBulkItemResultTransformer(JsonBuilderFactory builderFactory) {
+        super(BulkItemResult.class, JsonObject.class);
+        this.builderFactory = builderFactory;
+    }
+
+    @Override
+    public @Nullable JsonObject transform(@NotNull BulkItemResult input, @NotNull TransformerContext context) {
+        var builder = builderFactory.createObjectBuilder()
+                .add(TYPE, BULK_ITEM_RESULT_TYPE)
+                .add(BULK_ITEM_RESULT_INDEX, input.getIndex())
+                .add(BULK_ITEM_RESULT_STATUS, input.getStatus());
+
+        if (input.getId() != null) {
+            builder.add(ID, input.getId());
+        }
+        if (input.isCreated()) {
+            builder.add(BULK_ITEM_RESULT_CREATED_AT, input.getCreatedAt());
+        }
+        if (input.getMessage() != null) {
+            builder.add(BULK_ITEM_RESULT_MESSAGE, input.getMessage());
+        }
+        return builder.build();
+    }
+}
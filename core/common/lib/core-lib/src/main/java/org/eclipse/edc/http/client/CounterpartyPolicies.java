@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.http.client;
+
+import dev.failsafe.Bulkhead;
+import dev.failsafe.BulkheadFullException;
+import dev.failsafe.CircuitBreaker;
+import dev.failsafe.Policy;
+import okhttp3.HttpUrl;
+import okhttp3.Response;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.util.collection.BoundedCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Failsafe policies that isolate counterparties from each other: every base url, i.e. scheme, host and port, gets its
+ * own {@link Bulkhead}, that caps the calls to it that are executed concurrently, and its own {@link CircuitBreaker},
+ * that rejects the calls to it after a number of consecutive failures, so that an unresponsive counterparty cannot
+ * exhaust the threads and the connections shared with all the others.
+ * <p>
+ * A failure is an exception or a 5xx response. A call rejected by the bulkhead is not a failure, since it tells
+ * nothing about the counterparty. A zero max concurrency disables the bulkheads, a zero failure threshold disables the
+ * circuit breakers.
+ * <p>
+ * The policies of at most {@link #MAX_COUNTERPARTIES} base urls are kept, the least recently used ones are evicted:
+ * the state of an evicted circuit breaker is lost, which at worst lets a few more calls through to a failing
+ * counterparty that was not called for a while.
+ */
+public class CounterpartyPolicies {
+
+    public static final int MAX_COUNTERPARTIES = 1024;
+
+    private final int maxConcurrentCalls;
+    private final Duration maxWaitTime;
+    private final int failureThreshold;
+    private final Duration openDelay;
+    private final Monitor monitor;
+    private final BoundedCache<String, Policies> policies = new BoundedCache<>(MAX_COUNTERPARTIES);
+
+    public CounterpartyPolicies(int maxConcurrentCalls, Duration maxWaitTime, int failureThreshold, Duration openDelay, Monitor monitor) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitTime = maxWaitTime;
+        this.failureThreshold = failureThreshold;
+        this.openDelay = openDelay;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Policies that do not isolate counterparties.
+     *
+     * @return the policies.
+     */
+    public static CounterpartyPolicies none() {
+        return new CounterpartyPolicies(0, Duration.ZERO, 0, Duration.ZERO, null);
+    }
+
+    /**
+     * Returns the policies to be applied to a call, outermost first.
+     *
+     * @param url the url of the call.
+     * @return the policies.
+     */
+    public List<Policy<Response>> forUrl(HttpUrl url) {
+        if (maxConcurrentCalls <= 0 && failureThreshold <= 0) {
+            return List.of();
+        }
+        return policiesOf(baseUrl(url)).all();
+    }
+
+    /**
+     * Tells whether the calls to the base url of the url are currently rejected by its circuit breaker. An open circuit
+     * breaker whose delay has elapsed is not reported: the breaker only moves to half-open when a call is attempted, so
+     * the next call has to go through as a trial.
+     *
+     * @param url the url.
+     * @return true if the circuit breaker is open and its delay is still running, false otherwise.
+     */
+    public boolean isCircuitOpen(HttpUrl url) {
+        var counterpartyPolicies = policies.get(baseUrl(url));
+        if (counterpartyPolicies == null || counterpartyPolicies.circuitBreaker() == null) {
+            return false;
+        }
+        var circuitBreaker = counterpartyPolicies.circuitBreaker();
+        return circuitBreaker.isOpen() && !circuitBreaker.getRemainingDelay().isZero();
+    }
+
+    private Policies policiesOf(String baseUrl) {
+        var counterpartyPolicies = policies.get(baseUrl);
+        if (counterpartyPolicies == null) {
+            // created under a lock, so that concurrent first calls to a counterparty share the same bulkhead and breaker
+            synchronized (policies) {
+                counterpartyPolicies = policies.get(baseUrl);
+                if (counterpartyPolicies == null) {
+                    counterpartyPolicies = createPolicies(baseUrl);
+                    policies.put(baseUrl, counterpartyPolicies);
+                }
+            }
+        }
+        return counterpartyPolicies;
+    }
+
+    private Policies createPolicies(String baseUrl) {
+        var list = new ArrayList<Policy<Response>>();
+        CircuitBreaker<Response> circuitBreaker = null;
+        if (failureThreshold > 0) {
+            circuitBreaker = CircuitBreaker.<Response>builder()
+                    // the bulkhead is inside the breaker, its rejections are caused by local concurrency
+                    .handleIf(throwable -> throwable instanceof Exception && !(throwable instanceof BulkheadFullException))
+                    .handleResultIf(response -> response.code() >= 500)
+                    .withFailureThreshold(failureThreshold)
+                    .withDelay(openDelay)
+                    .onOpen(event -> monitor.warning("Circuit breaker for %s opened, calls will be rejected for %s".formatted(baseUrl, openDelay)))
+                    .onClose(event -> monitor.info("Circuit breaker for %s closed".formatted(baseUrl)))
+                    .build();
+            list.add(circuitBreaker);
+        }
+        if (maxConcurrentCalls > 0) {
+            list.add(Bulkhead.<Response>builder(maxConcurrentCalls).withMaxWaitTime(maxWaitTime).build());
+        }
+        return new Policies(List.copyOf(list), circuitBreaker);
+    }
+
+    private String baseUrl(HttpUrl url) {
+        return url.scheme() + "://" + url.host() + ":" + url.port();
+    }
+
+    private record Policies(List<Policy<Response>> all, CircuitBreaker<Response> circuitBreaker) {
+    }
+}
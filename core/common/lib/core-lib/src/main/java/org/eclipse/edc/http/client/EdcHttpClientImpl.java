@@ -14,7 +14,11 @@
 
 package org.eclipse.edc.http.client;
 
+import dev.failsafe.BulkheadFullException;
+import dev.failsafe.CircuitBreakerOpenException;
+import dev.failsafe.Policy;
 import dev.failsafe.RetryPolicy;
+import dev.failsafe.okhttp.FailsafeCall;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -26,6 +30,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -38,11 +43,17 @@ public class EdcHttpClientImpl implements EdcHttpClient {
 
     private final OkHttpClient okHttpClient;
     private final RetryPolicy<Response> retryPolicy;
+    private final CounterpartyPolicies counterpartyPolicies;
     private final Monitor monitor;
 
     public EdcHttpClientImpl(OkHttpClient okHttpClient, RetryPolicy<Response> retryPolicy, Monitor monitor) {
+        this(okHttpClient, retryPolicy, CounterpartyPolicies.none(), monitor);
+    }
+
+    public EdcHttpClientImpl(OkHttpClient okHttpClient, RetryPolicy<Response> retryPolicy, CounterpartyPolicies counterpartyPolicies, Monitor monitor) {
         this.okHttpClient = okHttpClient;
         this.retryPolicy = retryPolicy;
+        this.counterpartyPolicies = counterpartyPolicies;
         this.monitor = monitor;
     }
 
@@ -51,12 +62,17 @@ public class EdcHttpClientImpl implements EdcHttpClient {
         return execute(request, emptyList());
     }
 
+    /**
+     * Calls rejected by the bulkhead or the circuit breaker of the counterparty are reported as {@link IOException}s,
+     * as any other call that could not be executed.
+     */
     @Override
     public Response execute(Request request, List<FallbackFactory> fallbacks) throws IOException {
-        var call = okHttpClient.newCall(request);
-        var builder = with(retryPolicy);
-        fallbacks.stream().map(it -> it.create(request)).forEach(builder::compose);
-        return builder.compose(call).execute();
+        try {
+            return failsafeCall(request, fallbacks).execute();
+        } catch (BulkheadFullException | CircuitBreakerOpenException e) {
+            throw new IOException("Call to %s rejected: %s".formatted(request.url(), e.getClass().getSimpleName()), e);
+        }
     }
 
     @Override
@@ -76,12 +92,12 @@ public class EdcHttpClientImpl implements EdcHttpClient {
 
     @Override
     public CompletableFuture<Response> executeAsync(Request request, List<FallbackFactory> fallbacks) {
-        var call = okHttpClient.newCall(request);
-        var builder = with(retryPolicy);
-        fallbacks.stream().map(it -> it.create(request)).forEach(builder::compose);
+        return failsafeCall(request, fallbacks).executeAsync();
+    }
 
-        return builder.compose(call)
-                .executeAsync();
+    @Override
+    public boolean isCircuitOpen(HttpUrl url) {
+        return counterpartyPolicies.isCircuitOpen(url);
     }
 
     @Override
@@ -94,7 +110,22 @@ public class EdcHttpClientImpl implements EdcHttpClient {
                 .includeIPv6(false)
                 .build();
 
-        return new EdcHttpClientImpl(okHttpClient.newBuilder().dns(dns).build(), retryPolicy, monitor);
+        return new EdcHttpClientImpl(okHttpClient.newBuilder().dns(dns).build(), retryPolicy, counterpartyPolicies, monitor);
+    }
+
+    /**
+     * The counterparty policies wrap the retries, so that a call rejected by the circuit breaker or the bulkhead is
+     * not retried, and a call is recorded once by the circuit breaker, whatever the number of attempts.
+     */
+    private FailsafeCall failsafeCall(Request request, List<FallbackFactory> fallbacks) {
+        var call = okHttpClient.newCall(request);
+        var policies = new ArrayList<Policy<Response>>(counterpartyPolicies.forUrl(request.url()));
+        policies.add(retryPolicy);
+        fallbacks.stream().map(it -> it.create(request)).forEach(policies::add);
+
+        var builder = with(policies.get(0));
+        policies.stream().skip(1).forEach(builder::compose);
+        return builder.compose(call);
     }
 
 }
@@ -29,12 +29,13 @@ import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationService;
 import org.eclipse.edc.util.collection.Cache;
+import org.eclipse.edc.util.collection.CacheLoadException;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -43,11 +44,16 @@ import java.util.stream.Collectors;
  * <p>
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
- * To limit traffic on the actual StatusList credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * To limit traffic on the actual StatusList credential, it is cached in a thread-safe {@link Cache}, and only re-downloaded if the cache is expired.
+ * Failed downloads are remembered for a short time, so that a slow or unavailable issuer endpoint does not block checks against other status lists.
+ * Optionally, an expired StatusList credential is served for a grace period while it is re-downloaded in the background on the given
+ * refresh executor. Since a revocation is then only noticed after the grace period, it is disabled (0) unless configured explicitly.
  * <p>
  * Currently, StatusList2021 and BitStringStatusList are supported.
  */
 public abstract class BaseRevocationListService<C extends VerifiableCredential, S> implements RevocationListService {
+    public static final int STATUS_LIST_CACHE_MAX_SIZE = 1000;
+    public static final long STATUS_LIST_FAILURE_VALIDITY_MILLIS = 30 * 1000L;
     private final Cache<String, C> statusListCredentialCache;
     private final Collection<String> acceptedContentTypes;
     private final EdcHttpClient httpClient;
@@ -56,13 +62,19 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
     private TokenValidationService tokenValidationService;
     private DidPublicKeyResolver didPublicKeyResolver;
 
-    protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Collection<String> acceptedContentTypes,
+    protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, long staleWhileRevalidate, Collection<String> acceptedContentTypes,
                                         EdcHttpClient httpClient, TokenValidationService tokenValidationService,
-                                        DidPublicKeyResolver didPublicKeyResolver, Class<C> credentialClass) {
+                                        DidPublicKeyResolver didPublicKeyResolver, Class<C> credentialClass, Executor refreshExecutor) {
         this.objectMapper = mapper.copy()
                                     .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
                                     .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        statusListCredentialCache = new Cache<>(this::downloadStatusListCredential, cacheValidity);
+        statusListCredentialCache = Cache.Builder.<String, C>newInstance(this::downloadStatusListCredential)
+                                            .validity(cacheValidity)
+                                            .staleWhileRevalidate(staleWhileRevalidate)
+                                            .failureValidity(Math.min(cacheValidity, STATUS_LIST_FAILURE_VALIDITY_MILLIS))
+                                            .maxSize(STATUS_LIST_CACHE_MAX_SIZE)
+                                            .refreshExecutor(refreshExecutor)
+                                            .build();
         this.acceptedContentTypes = acceptedContentTypes;
         this.httpClient = httpClient;
         this.tokenValidationService = tokenValidationService;
@@ -130,8 +142,11 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
                 statusListCredentialCache.evict(credentialUrl);
             }
             return Result.success(statusListCredentialCache.get(credentialUrl));
-        } catch (IllegalArgumentException ex) {
-            return Result.failure(ex.getMessage());
+        } catch (CacheLoadException ex) {
+            if (ex.getCause() instanceof IllegalArgumentException cause) {
+                return Result.failure(cause.getMessage());
+            }
+            throw ex;
         }
     }
 
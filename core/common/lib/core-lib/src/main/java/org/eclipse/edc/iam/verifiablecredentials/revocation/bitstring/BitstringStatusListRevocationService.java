@@ -27,6 +27,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -36,10 +37,10 @@ import static org.eclipse.edc.spi.result.Result.success;
  */
 public class BitstringStatusListRevocationService extends BaseRevocationListService<BitstringStatusListCredential, BitstringStatusListStatus> {
 
-    public BitstringStatusListRevocationService(ObjectMapper mapper, long cacheValidity, Collection<String> acceptedContentTypes,
+    public BitstringStatusListRevocationService(ObjectMapper mapper, long cacheValidity, long staleWhileRevalidate, Collection<String> acceptedContentTypes,
                                                 EdcHttpClient httpClient, TokenValidationService tokenValidationService,
-                                                DidPublicKeyResolver didPublicKeyResolver) {
-        super(mapper, cacheValidity, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver, BitstringStatusListCredential.class);
+                                                DidPublicKeyResolver didPublicKeyResolver, Executor refreshExecutor) {
+        super(mapper, cacheValidity, staleWhileRevalidate, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver, BitstringStatusListCredential.class, refreshExecutor);
     }
 
     @Override
@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -36,10 +37,10 @@ import static org.eclipse.edc.spi.result.Result.success;
  */
 public class StatusList2021RevocationService extends BaseRevocationListService<StatusList2021Credential, StatusList2021Status> {
 
-    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, Collection<String> acceptedContentTypes,
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, long staleWhileRevalidate, Collection<String> acceptedContentTypes,
                                            EdcHttpClient httpClient, TokenValidationService tokenValidationService,
-                                           DidPublicKeyResolver didPublicKeyResolver) {
-        super(objectMapper, cacheValidity, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver, StatusList2021Credential.class);
+                                           DidPublicKeyResolver didPublicKeyResolver, Executor refreshExecutor) {
+        super(objectMapper, cacheValidity, staleWhileRevalidate, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver, StatusList2021Credential.class, refreshExecutor);
     }
 
     @Override
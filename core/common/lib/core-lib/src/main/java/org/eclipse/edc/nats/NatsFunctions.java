@@ -42,12 +42,19 @@ public class NatsFunctions {
     }
 
     public static void createConsumer(JetStreamManagement jsm, String streamName, String consumerName, String filterSubject) {
+        createConsumer(jsm, streamName, consumerName, filterSubject, null);
+    }
+
+    public static void createConsumer(JetStreamManagement jsm, String streamName, String consumerName, String filterSubject, Integer maxAckPending) {
         try {
-            jsm.addOrUpdateConsumer(streamName, ConsumerConfiguration.builder()
+            var builder = ConsumerConfiguration.builder()
                     .durable(consumerName)
                     .name(consumerName)
-                    .filterSubject(filterSubject)
-                    .build());
+                    .filterSubject(filterSubject);
+            if (maxAckPending != null) {
+                builder.maxAckPending(maxAckPending);
+            }
+            jsm.addOrUpdateConsumer(streamName, builder.build());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -25,17 +25,36 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.eclipse.edc.nats.NatsFunctions.createConsumer;
 import static org.eclipse.edc.nats.NatsFunctions.createStream;
 
+/**
+ * Pulls messages from a JetStream durable consumer and hands them over to {@link #handleMessage(Message)}.
+ * <p>
+ * By default messages are handled serially on the fetching thread. When {@code concurrency} is greater than 1, messages
+ * are dispatched to a fixed set of single-threaded workers, selected by hashing {@link #partitionKey(Message)}: messages
+ * with the same key are therefore always handled in order, one at a time, while messages with different keys are
+ * handled in parallel. The number of fetched but not yet acknowledged messages is bounded by {@code maxInFlight}, which
+ * is capped to the {@code maxAckPending} of the consumer so the fetcher never pulls messages the server would not
+ * deliver anyway. Workers are created through the {@link ExecutorInstrumentation}, which exposes queue depth, active
+ * count and handle latency per worker.
+ */
 public abstract class NatsSubscriber {
 
     private final AtomicBoolean active = new AtomicBoolean(false);
+    private final List<ExecutorService> workers = new ArrayList<>();
+    private Semaphore inFlight;
     protected String url;
     protected String stream;
     protected String name;
@@ -46,6 +65,9 @@ public abstract class NatsSubscriber {
     protected boolean autoCreateConsumer = false;
     protected Integer batchSize = 100;
     protected Integer maxWait = 100;
+    protected int concurrency = 1;
+    protected int maxInFlight = 100;
+    protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     // externally contributed connect options (e.g. NKey authentication); the server URL is overwritten
     protected Options authenticationOptions;
     private Connection connection;
@@ -71,7 +93,7 @@ public abstract class NatsSubscriber {
                 createStream(jsm, stream, StorageType.Memory, subject);
             }
             if (autoCreateConsumer) {
-                createConsumer(jsm, stream, name, subject);
+                createConsumer(jsm, stream, name, subject, concurrency > 1 ? maxInFlight : null);
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -88,6 +110,9 @@ public abstract class NatsSubscriber {
                     .build();
 
             var sub = js.subscribe(subject, pullOptions);
+            if (concurrency > 1) {
+                startWorkers(sub);
+            }
             active.set(true);
 
             executorService.submit(() -> {
@@ -113,35 +138,131 @@ public abstract class NatsSubscriber {
 
     protected abstract StatusResult<Void> handleMessage(Message message);
 
+    /**
+     * Returns the key used to select the worker that handles the message when running concurrently. Messages with the
+     * same key are never handled concurrently and are handled in the order in which they have been fetched.
+     *
+     * @param message the message.
+     * @return the partition key, by default the message subject.
+     */
+    protected String partitionKey(Message message) {
+        return message.getSubject();
+    }
+
+    /**
+     * Number of messages that have been fetched and are not acknowledged yet. Always 0 when handling serially.
+     */
+    public int inFlight() {
+        return inFlight == null ? 0 : maxInFlight - inFlight.availablePermits();
+    }
+
+    private void startWorkers(JetStreamSubscription sub) throws Exception {
+        var maxAckPending = sub.getConsumerInfo().getConsumerConfiguration().getMaxAckPending();
+        if (maxAckPending > 0 && maxAckPending < maxInFlight) {
+            monitor.warning("NATS consumer %s allows %d pending acks, lowering max in-flight messages from %d".formatted(name, maxAckPending, maxInFlight));
+            maxInFlight = (int) maxAckPending;
+        }
+        inFlight = new Semaphore(maxInFlight);
+        for (var i = 0; i < concurrency; i++) {
+            var workerName = "NatsSubscriber-%s-worker-%d".formatted(name, i);
+            var worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName(workerName);
+                return thread;
+            });
+            workers.add(executorInstrumentation.instrument(worker, workerName));
+        }
+    }
+
     private void run(JetStreamSubscription sub) {
         while (active.get()) {
-            var messages = sub.fetch(batchSize, maxWait);
-            for (var message : messages) {
-                try {
-                    var result = handleMessage(message);
-                    if (result.failed()) {
-                        if (result.fatalError()) {
-                            monitor.severe("Failed to handle Nats message, received a fatal error: " + result.getFailureMessages());
-                            message.term();
-                        } else {
-                            monitor.warning("Failed to handle Nats message: " + result.getFailureMessages());
-                            message.nak();
-                        }
-                        continue;
+            if (workers.isEmpty()) {
+                sub.fetch(batchSize, maxWait).forEach(this::process);
+            } else {
+                fetchAndDispatch(sub);
+            }
+        }
+    }
+
+    private void fetchAndDispatch(JetStreamSubscription sub) {
+        var permits = acquirePermits();
+        if (permits == 0) {
+            return;
+        }
+        List<Message> messages = List.of();
+        try {
+            messages = sub.fetch(permits, maxWait);
+        } finally {
+            inFlight.release(permits - messages.size());
+        }
+        for (var message : messages) {
+            var worker = workers.get(Math.floorMod(Objects.hashCode(partitionKey(message)), workers.size()));
+            try {
+                worker.execute(() -> {
+                    try {
+                        process(message);
+                    } finally {
+                        inFlight.release();
                     }
-                    message.ack();
-                } catch (Exception e) {
-                    monitor.severe("Failed to process transfer message: " + e.getMessage(), e);
+                });
+            } catch (Exception e) {
+                // the worker has been shut down, the message will be redelivered
+                inFlight.release();
+                message.nak();
+            }
+        }
+    }
+
+    /**
+     * Blocks until at least one message can be fetched without exceeding the in-flight limit, then grabs as many
+     * permits as are available, up to the batch size.
+     */
+    private int acquirePermits() {
+        try {
+            if (!inFlight.tryAcquire(maxWait, TimeUnit.MILLISECONDS)) {
+                return 0;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            active.set(false);
+            return 0;
+        }
+        var permits = 1;
+        while (permits < batchSize && inFlight.tryAcquire()) {
+            permits++;
+        }
+        return permits;
+    }
+
+    private void process(Message message) {
+        try {
+            var result = handleMessage(message);
+            if (result.failed()) {
+                if (result.fatalError()) {
+                    monitor.severe("Failed to handle Nats message, received a fatal error: " + result.getFailureMessages());
+                    message.term();
+                } else {
+                    monitor.warning("Failed to handle Nats message: " + result.getFailureMessages());
                     message.nak();
                 }
+                return;
             }
+            message.ack();
+        } catch (Exception e) {
+            monitor.severe("Failed to process transfer message: " + e.getMessage(), e);
+            message.nak();
         }
     }
 
     public void stop() {
         active.set(false);
         executorService.shutdown();
+        workers.forEach(ExecutorService::shutdown);
         try {
+            for (var worker : workers) {
+                // let in-progress messages be acknowledged before closing the connection
+                worker.awaitTermination(5, TimeUnit.SECONDS);
+            }
             if (connection != null) {
                 connection.close();
             }
@@ -153,7 +274,7 @@ public abstract class NatsSubscriber {
     public abstract static class Builder<T extends NatsSubscriber, B extends Builder<T, B>> {
 
         protected final T subscriber;
-        private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+        private Integer maxInFlight;
 
         protected Builder(T subscriber) {
             this.subscriber = subscriber;
@@ -182,7 +303,7 @@ public abstract class NatsSubscriber {
         }
 
         public B executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
-            this.executorInstrumentation = executorInstrumentation;
+            subscriber.executorInstrumentation = executorInstrumentation;
             return self();
         }
 
@@ -211,6 +332,23 @@ public abstract class NatsSubscriber {
             return self();
         }
 
+        /**
+         * Number of workers handling messages in parallel. 1 (default) handles messages serially.
+         */
+        public B concurrency(int concurrency) {
+            subscriber.concurrency = concurrency;
+            return self();
+        }
+
+        /**
+         * Maximum number of fetched messages that are not yet acknowledged when running concurrently. Defaults to the
+         * batch size.
+         */
+        public B maxInFlight(Integer maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return self();
+        }
+
         public B authenticationOptions(Options authenticationOptions) {
             subscriber.authenticationOptions = authenticationOptions;
             return self();
@@ -222,11 +360,15 @@ public abstract class NatsSubscriber {
             Objects.requireNonNull(subscriber.stream, "stream");
             Objects.requireNonNull(subscriber.name, "name");
             Objects.requireNonNull(subscriber.subject, "subject");
-            Objects.requireNonNull(executorInstrumentation, "executorInstrumentation");
+            Objects.requireNonNull(subscriber.executorInstrumentation, "executorInstrumentation");
             Objects.requireNonNull(subscriber.monitor, "monitor");
+            if (subscriber.concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be greater than 0");
+            }
+            subscriber.maxInFlight = maxInFlight != null && maxInFlight > 0 ? maxInFlight : subscriber.batchSize;
 
             var name = "NatsSubscriber-" + subscriber.name;
-            subscriber.executorService = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(r -> {
+            subscriber.executorService = subscriber.executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(r -> {
                 var thread = Executors.defaultThreadFactory().newThread(r);
                 thread.setName(name);
                 return thread;
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.nats.tasks.publisher;
+
+import io.nats.client.api.PublishAck;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Relays the tasks written to the {@link TaskStore} to JetStream once their transaction has committed, implementing
+ * the transactional outbox pattern: producers only store tasks, so a task is never delivered before it is visible in
+ * the store and publishing does not add a broker round trip to the producer's transaction.
+ * <p>
+ * Each call publishes a batch of unpublished tasks of a group: all the messages are sent before any acknowledgement is
+ * awaited, and the acknowledged tasks are marked as published afterwards. Fetching and marking are done in two short
+ * transactions, and no transaction is open while waiting for the broker, so that neither database connections nor
+ * row locks are held for up to the acknowledgement timeout. Tasks that are not acknowledged stay unpublished and are
+ * retried on a following call. A task can therefore be published more than once, e.g. when the runtime stops before
+ * marking it, when the acknowledgement got lost or when two relays fetch it concurrently: since the task id is used as
+ * message id, the duplicates are discarded by JetStream within the duplicate window of the stream.
+ */
+public class NatsTaskOutboxRelay {
+
+    private final String group;
+    private final NatsTaskPublisher publisher;
+    private final TaskStore taskStore;
+    private final TransactionContext transactionContext;
+    private final int batchSize;
+    private final Duration ackTimeout;
+    private final Monitor monitor;
+
+    public NatsTaskOutboxRelay(String group, NatsTaskPublisher publisher, TaskStore taskStore, TransactionContext transactionContext,
+                               int batchSize, Duration ackTimeout, Monitor monitor) {
+        this.group = group;
+        this.publisher = publisher;
+        this.taskStore = taskStore;
+        this.transactionContext = transactionContext;
+        this.batchSize = batchSize;
+        this.ackTimeout = ackTimeout;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Publishes a batch of unpublished tasks.
+     *
+     * @return the number of tasks that have been published.
+     */
+    public Long publishPending() {
+        var tasks = transactionContext.execute(() -> taskStore.fetchUnpublished(group, batchSize));
+        if (tasks.isEmpty()) {
+            return 0L;
+        }
+
+        var acks = new LinkedHashMap<String, CompletableFuture<PublishAck>>();
+        tasks.forEach(task -> acks.put(task.getId(), publisher.publishAsync(task)));
+
+        var deadline = System.nanoTime() + ackTimeout.toNanos();
+        var published = new ArrayList<String>();
+        for (var entry : acks.entrySet()) {
+            try {
+                entry.getValue().get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                published.add(entry.getKey());
+            } catch (ExecutionException | TimeoutException e) {
+                monitor.warning("Failed to publish task %s, it will be retried".formatted(entry.getKey()), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!published.isEmpty()) {
+            transactionContext.execute(() -> taskStore.markPublished(published));
+        }
+        return (long) published.size();
+    }
+}
@@ -16,18 +16,28 @@ package org.eclipse.edc.nats.tasks.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nats.client.JetStream;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.PublishAck;
+import io.nats.client.impl.Headers;
+import io.nats.client.impl.NatsMessage;
 import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
 import org.eclipse.edc.controlplane.tasks.Task;
 import org.eclipse.edc.controlplane.tasks.TaskListener;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import static java.lang.String.format;
 
 public class NatsTaskPublisher implements TaskListener {
 
+    /**
+     * Header carrying the id of the process the task refers to, used by subscribers to partition messages.
+     */
+    public static final String PROCESS_ID_HEADER = "Edc-Process-Id";
+
     private final String subjectPrefix;
     private final Class<? extends ProcessTaskPayload> target;
     private final JetStream js;
@@ -52,8 +62,10 @@ public class NatsTaskPublisher implements TaskListener {
     public void created(Task task) {
         try {
             if (target.isAssignableFrom(task.getPayload().getClass())) {
+                var payload = (ProcessTaskPayload) task.getPayload();
                 var message = objectMapper.get().writeValueAsString(task);
-                js.publish(formatSubject((ProcessTaskPayload) task.getPayload()), message.getBytes());
+                var headers = new Headers().add(PROCESS_ID_HEADER, payload.getProcessId());
+                js.publish(formatSubject(payload), headers, message.getBytes());
             }
         } catch (Exception e) {
             monitor.severe("Failed to publish task created event for task id " + task.getId(), e);
@@ -61,4 +73,29 @@ public class NatsTaskPublisher implements TaskListener {
         }
 
     }
+
+    /**
+     * Publishes the task without waiting for the acknowledgement of the server, so that many tasks can be published
+     * with a single round trip. The task id is used as message id, so that JetStream discards the task if it was
+     * already published within the duplicate window of the stream.
+     *
+     * @param task the task
+     * @return the future acknowledgement, completed with null if the task payload is not published by this publisher.
+     */
+    public CompletableFuture<PublishAck> publishAsync(Task task) {
+        if (!target.isAssignableFrom(task.getPayload().getClass())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            var payload = (ProcessTaskPayload) task.getPayload();
+            var message = NatsMessage.builder()
+                    .subject(formatSubject(payload))
+                    .headers(new Headers().add(PROCESS_ID_HEADER, payload.getProcessId()))
+                    .data(objectMapper.get().writeValueAsBytes(task))
+                    .build();
+            return js.publishAsync(message, PublishOptions.builder().messageId(task.getId()).build());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
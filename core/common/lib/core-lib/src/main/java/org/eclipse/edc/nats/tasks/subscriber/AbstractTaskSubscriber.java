@@ -29,6 +29,8 @@ import java.time.Clock;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import static org.eclipse.edc.nats.tasks.publisher.NatsTaskPublisher.PROCESS_ID_HEADER;
+
 public abstract class AbstractTaskSubscriber<P extends ProcessTaskPayload> extends NatsSubscriber {
 
     protected final Class<P> target;
@@ -50,7 +52,9 @@ public abstract class AbstractTaskSubscriber<P extends ProcessTaskPayload> exten
         try {
             var task = mapperSupplier.get().readValue(message.getData(), Task.class);
             if (target.isAssignableFrom(task.getPayload().getClass())) {
-                return transactionContext.execute(() -> handleTask(message, task));
+                // not wrapped in a transaction: the payload handler performs remote calls, and it demarcates the
+                // transactions around loading and updating the entity itself
+                return handleTask(message, task);
             } else {
                 return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Invalid task payload type");
             }
@@ -59,6 +63,27 @@ public abstract class AbstractTaskSubscriber<P extends ProcessTaskPayload> exten
         }
     }
 
+    /**
+     * Partitions messages by process id, so that tasks of the same process are never handled concurrently.
+     */
+    @Override
+    protected String partitionKey(Message message) {
+        var headers = message.getHeaders();
+        if (headers != null && headers.getFirst(PROCESS_ID_HEADER) != null) {
+            return headers.getFirst(PROCESS_ID_HEADER);
+        }
+        try {
+            // messages published without the header
+            var task = mapperSupplier.get().readValue(message.getData(), Task.class);
+            if (task.getPayload() instanceof ProcessTaskPayload payload) {
+                return payload.getProcessId();
+            }
+        } catch (Exception e) {
+            // the message will be rejected when handled
+        }
+        return super.partitionKey(message);
+    }
+
     @SuppressWarnings("unchecked")
     private @NotNull StatusResult<Void> handleTask(Message message, Task task) {
         var persistedTask = taskService.findById(task.getId());
@@ -66,7 +91,8 @@ public abstract class AbstractTaskSubscriber<P extends ProcessTaskPayload> exten
             // The task is published within the producer's transaction, before it commits, so a fast delivery can
             // arrive before the task is visible in the store. Retry until it becomes visible, bounded by the NATS
             // delivery count (which exists even though the task does not) so a task that never commits cannot be
-            // redelivered forever.
+            // redelivered forever. This does not happen when tasks are published by the outbox relay, which only
+            // sees committed tasks.
             if (message.metaData().deliveredCount() >= maxRetries) {
                 monitor.severe("Task " + task.getId() + " not found after " + maxRetries + " deliveries. Dropping message.");
                 return StatusResult.success();
@@ -76,6 +102,9 @@ public abstract class AbstractTaskSubscriber<P extends ProcessTaskPayload> exten
 
         var result = handlePayload((P) task.getPayload());
         if (result.succeeded() || result.fatalError()) {
+            // The state transition and its follow-up task have been committed together by the payload handler, so if
+            // the runtime stops before the delete the redelivered task is skipped, as the entity is no longer in the
+            // expected state.
             taskService.delete(task.getId());
         }
         // On a retryable (ERROR_RETRY) failure the message is nak'd and redelivered. The retry/give-up decision is
@@ -28,13 +28,21 @@ import org.jetbrains.annotations.NotNull;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import javax.sql.DataSource;
 
 import static java.lang.String.format;
 
 public abstract class AbstractSqlStore {
+    /**
+     * Number of rows inserted with a single JDBC batch by {@link #insertAll}.
+     */
+    protected static final int BATCH_SIZE = 500;
+
     protected final TransactionContext transactionContext;
     private final DataSourceRegistry dataSourceRegistry;
     private final String dataSourceName;
@@ -98,6 +106,39 @@ public abstract class AbstractSqlStore {
         return TypeFactory.defaultInstance().constructCollectionType(List.class, clazz);
     }
 
+    /**
+     * Inserts entities in JDBC batches of {@link #BATCH_SIZE}, with {@code ON CONFLICT DO NOTHING}: an entity whose id
+     * already exists, either in the table or earlier in the list, is not inserted, and that does not fail the other
+     * entities of the batch, even if the conflicting row is inserted concurrently. An entity is reported as inserted only
+     * when the driver reports an updated row for it. Drivers that do not report the row count of each statement of the
+     * batch ({@link Statement#SUCCESS_NO_INFO}, e.g. PostgreSQL with {@code reWriteBatchedInserts}) are not supported,
+     * as inserted and skipped entities could not be told apart.
+     *
+     * @param connection      the connection.
+     * @param entities        the entities.
+     * @param idColumn        the id column of the table.
+     * @param insertTemplate  the insert statement.
+     * @param insertArguments returns the arguments of the insert statement for an entity.
+     * @return for each entity, in the same order, whether it was inserted.
+     * @throws EdcPersistenceException if the driver does not report the row count of a statement.
+     */
+    protected <T> List<Boolean> insertAll(Connection connection, List<T> entities, String idColumn, String insertTemplate,
+                                          Function<T, Object[]> insertArguments) {
+        var sql = insertTemplate.replaceFirst(";\\s*$", "") + format(" ON CONFLICT (%s) DO NOTHING;", idColumn);
+        var inserted = new ArrayList<Boolean>(entities.size());
+        for (var start = 0; start < entities.size(); start += BATCH_SIZE) {
+            var batch = entities.subList(start, Math.min(start + BATCH_SIZE, entities.size()));
+            var arguments = batch.stream().map(insertArguments).toList();
+            for (var updateCount : queryExecutor.executeBatch(connection, sql, arguments)) {
+                if (updateCount == Statement.SUCCESS_NO_INFO) {
+                    throw new EdcPersistenceException("The JDBC driver did not report the row count of a batched insert, cannot tell whether the entity was inserted");
+                }
+                inserted.add(updateCount > 0);
+            }
+        }
+        return inserted;
+    }
+
     @NotNull
     protected <T> TypeReference<T> getTypeRef() {
         return new TypeReference<>() {
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * {@link JsonFieldTranslator} that translates equality and {@code in} criteria with string right operands into the
+ * Postgres JSONB containment operator, e.g. {@code column::jsonb @> '{"nested":{"field":"value"}}'::jsonb}, instead
+ * of extracting the value with {@code ->>} and comparing it. Containment can be answered by a GIN index on the column,
+ * while the extraction has to be evaluated for every row.
+ * <p>
+ * Containment compares JSON values, while the extraction compares the textual representation, so a string right
+ * operand that is also a valid JSON number or boolean, e.g. {@code "42"} or {@code "true"}, is matched against the
+ * string, the number and the boolean document, to keep matching the values the extraction matches. The only remaining
+ * difference is that numbers are compared by value, e.g. {@code "42"} also matches {@code 42.0}. All the other
+ * criteria are translated as done by the {@link JsonFieldTranslator}.
+ */
+public class JsonContainmentFieldTranslator extends JsonFieldTranslator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern JSON_NUMBER = Pattern.compile("-?(0|[1-9]\\d*)(\\.\\d+)?([eE][+-]?\\d+)?");
+
+    public JsonContainmentFieldTranslator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        var operandRight = criterion.getOperandRight();
+        if (operator.representation().equals("=") && operandRight instanceof String value) {
+            return containments(path, List.of(value));
+        }
+
+        if (operator.representation().equals("in") && operandRight instanceof Collection<?> values
+                && !values.isEmpty() && values.stream().allMatch(String.class::isInstance)) {
+            return containments(path, values.stream().map(String.class::cast).toList());
+        }
+
+        return super.toWhereClause(path, criterion, operator);
+    }
+
+    private WhereClause containments(List<PathItem> path, List<String> values) {
+        var parameters = values.stream()
+                .flatMap(value -> jsonValues(value).stream())
+                .<Object>map(value -> toContainedDocument(path, value))
+                .toList();
+        if (parameters.size() == 1) {
+            return new WhereClause(containment(), parameters);
+        }
+        var sql = parameters.stream().map(it -> containment()).collect(joining(" OR ", "(", ")"));
+        return new WhereClause(sql, parameters);
+    }
+
+    private List<Object> jsonValues(String value) {
+        if (JSON_NUMBER.matcher(value).matches()) {
+            return List.of(value, new BigDecimal(value));
+        }
+        if (value.equals("true") || value.equals("false")) {
+            return List.of(value, Boolean.parseBoolean(value));
+        }
+        return List.of(value);
+    }
+
+    private String containment() {
+        return "%s::jsonb @> ?::jsonb".formatted(columnName);
+    }
+
+    private String toContainedDocument(List<PathItem> path, Object value) {
+        var document = value;
+        for (var i = path.size() - 1; i >= 0; i--) {
+            document = Map.of(path.get(i).toString(), document);
+        }
+        try {
+            return MAPPER.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -14,10 +14,13 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -28,6 +31,10 @@ import static java.util.stream.Collectors.joining;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * When the {@link QuerySpec} carries a {@link KeysetCursor}, the rows are ordered by the sort field and then by id,
+ * and only the rows that come after the cursor are selected, so that the database can seek to the start of the page
+ * through an index instead of scanning and discarding all the rows of the preceding pages.
  */
 public class SqlQueryStatement {
 
@@ -35,6 +42,7 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String ID_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
@@ -45,6 +53,7 @@ public class SqlQueryStatement {
     private SortFieldConverter sortFieldConverter;
     private String orderByClause = "";
     private String forUpdate = "";
+    private boolean keyset;
 
     /**
      * Initializes this SQL Query Statement.
@@ -94,6 +103,16 @@ public class SqlQueryStatement {
      * @return the query as SQL statement
      */
     public String getQueryAsString() {
+        return getQueryAsSubquery() + ";";
+    }
+
+    /**
+     * Represents this query as SQL string without the statement terminator, so that it can be combined with other
+     * queries, see {@link SqlUnionAllStatement}.
+     *
+     * @return the query as SQL statement, without terminator
+     */
+    public String getQueryAsSubquery() {
         var whereClause = whereClauses.isEmpty() ? "" : whereClauses.stream().collect(joining(" AND ", "WHERE ", " "));
 
         return selectStatement + " " +
@@ -101,8 +120,7 @@ public class SqlQueryStatement {
                 orderByClause +
                 LIMIT +
                 OFFSET +
-                forUpdate +
-                ";";
+                forUpdate;
     }
 
     /**
@@ -130,6 +148,25 @@ public class SqlQueryStatement {
         return this;
     }
 
+    /**
+     * Appends the columns to the order of the rows, or orders the rows by them when no sort field is requested, so that
+     * rows with equal sort values are returned in a stable order and offset pagination neither skips nor repeats rows.
+     * Has no effect on keyset pagination, whose order already ends with the id.
+     *
+     * @param columns the columns, that together have to be unique.
+     * @return self.
+     */
+    public SqlQueryStatement tiebreak(String... columns) {
+        if (keyset || columns.length == 0) {
+            return this;
+        }
+        var order = Arrays.stream(columns).map(column -> column + " ASC").collect(joining(", "));
+        orderByClause = orderByClause.isEmpty()
+                ? "ORDER BY " + order + " "
+                : orderByClause.stripTrailing() + ", " + order + " ";
+        return this;
+    }
+
     public SqlQueryStatement forUpdate(boolean skipLocked) {
         this.forUpdate = skipLocked ? " FOR UPDATE SKIP LOCKED" : " FOR UPDATE";
         return this;
@@ -147,7 +184,59 @@ public class SqlQueryStatement {
                     parameters.addAll(whereClause.parameters());
                 });
 
-        orderByClause = parseSortField(query);
+        if (query.getCursor() == null) {
+            orderByClause = parseSortField(query);
+        } else {
+            keyset = true;
+            parseCursor(query);
+        }
+    }
+
+    private void parseCursor(QuerySpec query) {
+        var cursor = query.getCursor();
+        var ascending = query.getSortOrder() == SortOrder.ASC;
+        var order = ascending ? "ASC" : "DESC";
+        var comparison = ascending ? ">" : "<";
+        var idColumn = sortFieldConverter.convert(ID_FIELD);
+        if (idColumn == null) {
+            throw new IllegalArgumentException("Cannot paginate by cursor because the id field does not exist");
+        }
+
+        var querySortField = query.getSortField();
+        if (querySortField == null || ID_FIELD.equals(querySortField)) {
+            if (!cursor.isStart()) {
+                addWhereClause(format("%s %s ?", idColumn, comparison), cursor.getId());
+            }
+            orderByClause = format(ORDER_BY_TOKEN + " ", idColumn, order);
+            return;
+        }
+
+        var sortField = sortFieldConverter.convert(querySortField);
+        if (sortField == null) {
+            throw new IllegalArgumentException(format("Cannot sort by %s because the field does not exist", querySortField));
+        }
+        if (!cursor.isStart() && !querySortField.equals(cursor.getSortField())) {
+            throw new InvalidRequestException(format("Cannot sort by %s because the cursor was issued for %s", querySortField, cursor.getSortField()));
+        }
+        orderByClause = format(ORDER_BY_TOKEN + ", %s %s ", sortField, order, idColumn, order);
+
+        if (cursor.isStart()) {
+            return;
+        }
+        // null values come last in ascending and first in descending order
+        if (cursor.getSortValue() == null) {
+            if (ascending) {
+                addWhereClause(format("(%s IS NULL AND %s > ?)", sortField, idColumn), cursor.getId());
+            } else {
+                addWhereClause(format("((%s IS NULL AND %s < ?) OR %s IS NOT NULL)", sortField, idColumn, sortField), cursor.getId());
+            }
+        } else {
+            if (ascending) {
+                addWhereClause(format("((%s, %s) > (?, ?) OR %s IS NULL)", sortField, idColumn, sortField), cursor.getSortValue(), cursor.getId());
+            } else {
+                addWhereClause(format("(%s, %s) < (?, ?)", sortField, idColumn), cursor.getSortValue(), cursor.getId());
+            }
+        }
     }
 
     private String parseSortField(QuerySpec query) {
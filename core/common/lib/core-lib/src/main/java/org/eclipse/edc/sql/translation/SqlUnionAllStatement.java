@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Combines {@link SqlQueryStatement}s with {@code UNION ALL}, so that the rows selected by all of them are fetched with
+ * a single round trip. Every statement keeps its own order, limit and offset.
+ */
+public class SqlUnionAllStatement {
+
+    private final List<SqlQueryStatement> statements;
+
+    public SqlUnionAllStatement(List<SqlQueryStatement> statements) {
+        if (statements.isEmpty()) {
+            throw new IllegalArgumentException("At least one statement is required");
+        }
+        this.statements = statements;
+    }
+
+    /**
+     * Represents the combined query as SQL string, including parameter placeholders (?)
+     *
+     * @return the query as SQL statement
+     */
+    public String getQueryAsString() {
+        return statements.stream()
+                .map(statement -> "(" + statement.getQueryAsSubquery() + ")")
+                .collect(joining(" UNION ALL ", "", ";"));
+    }
+
+    /**
+     * Returns the parameters of all the statements, in the order of their placeholders.
+     *
+     * @return an array of parameters that can be used for prepared statements
+     */
+    public Object[] getParameters() {
+        return statements.stream()
+                .map(SqlQueryStatement::getParameters)
+                .flatMap(Arrays::stream)
+                .toArray(Object[]::new);
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.token;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
@@ -24,12 +25,19 @@ import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.eclipse.edc.util.collection.BoundedCache;
+import org.jetbrains.annotations.Nullable;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.List;
 
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    private static final int VERIFIER_CACHE_CAPACITY = 1024;
+
+    private final BoundedCache<String, KeyVerifier> verifiers = new BoundedCache<>(VERIFIER_CACHE_CAPACITY);
+
     public TokenValidationServiceImpl() {
     }
 
@@ -86,10 +94,10 @@ public class TokenValidationServiceImpl implements TokenValidationService {
             return Result.success();
         }
 
-        var verifierCreationResult = CryptoConverter.createVerifierFor(publicKey);
+        var verifier = getVerifier(publicKeyId, publicKey);
 
         try {
-            var result = jwt.verify(verifierCreationResult);
+            var result = jwt.verify(verifier);
             if (result) {
                 return Result.success();
             }
@@ -99,4 +107,26 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
+    /**
+     * Returns the verifier for the key, reusing the one built for the same key ID as long as the resolver returns an
+     * equal key for it. Key IDs are only unique per resolver, so the key itself is compared before the verifier is reused.
+     */
+    private JWSVerifier getVerifier(@Nullable String keyId, PublicKey publicKey) {
+        if (keyId == null) {
+            return CryptoConverter.createVerifierFor(publicKey);
+        }
+
+        var cached = verifiers.get(keyId);
+        if (cached != null && cached.publicKey().equals(publicKey)) {
+            return cached.verifier();
+        }
+
+        var verifier = CryptoConverter.createVerifierFor(publicKey);
+        verifiers.put(keyId, new KeyVerifier(publicKey, verifier));
+        return verifier;
+    }
+
+    private record KeyVerifier(PublicKey publicKey, JWSVerifier verifier) {
+    }
+
 }
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.eclipse.edc.spi.system.CacheStatistics;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe cache bounded by size, with least-recently-used eviction and an optional expire-after-write time-to-live.
+ * <p>
+ * Keys are spread over independent segments, each one an access-ordered map guarded by its own lock, so that concurrent
+ * callers only contend when they access keys of the same segment. Since every access reorders the entries of a segment,
+ * reads take the segment lock exclusively as well. The least recently used entry is evicted per segment, so the overall
+ * eviction order is approximately LRU, and the number of entries never exceeds the capacity by more than the number of
+ * segments minus one. Small caches use a single segment and are therefore exact.
+ * <p>
+ * Hits, misses and evictions are counted and can be exposed as metrics through a
+ * {@link org.eclipse.edc.spi.system.CacheInstrumentation}.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class BoundedCache<K, V> implements CacheStatistics {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 32;
+
+    private final Segment<K, V>[] segments;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a cache whose entries never expire.
+     *
+     * @param capacity maximum number of entries. Pass 0 to effectively deactivate the cache.
+     */
+    public BoundedCache(int capacity) {
+        this(capacity, 0, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a cache.
+     *
+     * @param capacity         maximum number of entries. Pass 0 to effectively deactivate the cache.
+     * @param timeToLiveMillis time in milliseconds after which an entry expires once written. 0 or less means no expiry.
+     * @param clock            the {@link Clock}
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedCache(int capacity, long timeToLiveMillis, Clock clock) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.clock = Objects.requireNonNull(clock);
+
+        var segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, capacity / MIN_SEGMENT_CAPACITY)));
+        var segmentCapacity = (capacity + segmentCount - 1) / segmentCount;
+        segments = new Segment[segmentCount];
+        for (var i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * Returns the value associated with the key, or null if there is none or it has expired.
+     */
+    public @Nullable V get(K key) {
+        var segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            var node = segment.map.get(key);
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            if (isExpired(node)) {
+                segment.map.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return node.value();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Associates the value with the key, possibly evicting the least recently used entry.
+     */
+    public void put(K key, V value) {
+        var segment = segmentFor(key);
+        if (segment.capacity == 0) {
+            return;
+        }
+        segment.lock.lock();
+        try {
+            segment.map.put(key, new Node<>(value, clock.millis()));
+            if (segment.map.size() > segment.capacity) {
+                var eldest = segment.map.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the key.
+     *
+     * @return the value previously associated with the key, or null if there was none
+     */
+    public @Nullable V remove(K key) {
+        var segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            var node = segment.map.remove(key);
+            return node == null ? null : node.value();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        for (var segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Number of entries, including the expired ones that have not been accessed since they expired.
+     */
+    @Override
+    public int size() {
+        var size = 0;
+        for (var segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Ratio of hits to all lookups, or 0 if there was no lookup yet.
+     */
+    public double hitRate() {
+        var hitCount = hitCount();
+        var total = hitCount + missCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private boolean isExpired(Node<V> node) {
+        return timeToLiveMillis > 0 && clock.millis() - node.writtenAt() >= timeToLiveMillis;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        var hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private record Node<V>(V value, long writtenAt) {
+    }
+
+    private static class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<K, Node<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final int capacity;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+}
@@ -16,28 +16,44 @@ package org.eclipse.edc.util.collection;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
-import static java.util.Optional.ofNullable;
-
 /**
  * Cache, that maintains a map of key-value pairs, where values have an individual expiry. When values expire, they are re-fetched
  * and put back in the cache.
  * <p>
- * Values are not stored directly, but are wrapped in a {@link TimestampedValue}. When getting values from the cache, one has to provide
- * a {@code cacheEntryUpdateFunction}, which encapsulates the re-fetching of the expired value.
+ * When getting values from the cache, the {@code cacheEntryUpdateFunction} is used to fetch missing or expired values. Fetching is
+ * done at most once at a time per key ("single-flight"): concurrent callers asking for the same key wait for the same fetch, while
+ * callers asking for other keys are never blocked by it.
+ * <p>
+ * Optionally, the cache can be configured to:
+ * <ul>
+ *     <li>serve an expired value for a grace period ({@link Builder#staleWhileRevalidate(long)}), while a single refresh runs in the background
+ *     on the {@link Builder#refreshExecutor(Executor)}</li>
+ *     <li>remember failed fetches for a while ({@link Builder#failureValidity(long)}), so that an unavailable source is not hammered by every caller</li>
+ *     <li>hold at most a certain number of entries ({@link Builder#maxSize(int)}), evicting the entries that expire first</li>
+ * </ul>
  * <p>
  * This cache is thread-safe.
  */
 public class Cache<K, V> {
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Map<K, TimestampedValue<V>> cache = new HashMap<>();
-    private final Function<K, V> cacheEntryUpdateFunction;
-    private final long validity;
-    private final Clock clock;
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<Entry<V>>> inFlight = new ConcurrentHashMap<>();
+    private Function<K, V> cacheEntryUpdateFunction;
+    private long validity;
+    private long staleWhileRevalidate;
+    private long failureValidity;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private Executor refreshExecutor;
+    private Clock clock = Clock.systemUTC();
 
     public Cache(Function<K, V> cacheEntryUpdateFunction, long validity) {
         this(cacheEntryUpdateFunction, validity, Clock.systemUTC());
@@ -49,35 +65,31 @@ public class Cache<K, V> {
         this.clock = clock;
     }
 
+    private Cache() {
+    }
+
     /**
-     * Gets an entry from the cache, or - if the entry is expired - calls the refresh function, and then gets the value.
+     * Gets an entry from the cache, or - if the entry is missing or expired - calls the refresh function, and then gets the value.
+     * Within the stale-while-revalidate period the expired value is returned right away and the refresh happens in the background.
      *
      * @param key The key of the value to get.
      * @return the value
+     * @throws CacheLoadException if the value could not be fetched, caused by the exception thrown by the refresh function
      */
     public V get(K key) {
-        V value;
-        lock.readLock().lock();
-        try {
-            if (isEntryExpired(key)) {
-                lock.readLock().unlock(); // unlock read, acquire write -> "upgrade" lock
-                lock.writeLock().lock();
-                try {
-                    if (isEntryExpired(key)) {
-                        var newEntry = cacheEntryUpdateFunction.apply(key);
-                        cache.put(key, new TimestampedValue<>(newEntry, Instant.now(), validity));
-                    }
-                } finally {
-                    lock.readLock().lock(); // downgrade lock
-                    lock.writeLock().unlock();
-                }
-            }
+        var now = clock.instant();
+        var entry = entries.get(key);
+
+        if (entry != null && now.isBefore(entry.expiresAt())) {
+            return entry.getOrThrow();
+        }
 
-            value = cache.get(key).value();
-        } finally {
-            lock.readLock().unlock();
+        if (entry != null && entry.failure() == null && now.isBefore(entry.staleUntil())) {
+            load(key, refreshExecutor);
+            return entry.value();
         }
-        return value;
+
+        return load(key, Runnable::run).join().getOrThrow();
     }
 
     /**
@@ -87,19 +99,170 @@ public class Cache<K, V> {
      * @return the value previously associated with "key", or null if no value was associated with the key
      */
     public V evict(K key) {
-        lock.writeLock().lock();
+        var removed = entries.remove(key);
+        return removed == null ? null : removed.value();
+    }
+
+    /**
+     * Number of entries currently in the cache, including expired ones that have not been evicted yet.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private CompletableFuture<Entry<V>> load(K key, Executor executor) {
+        var future = new CompletableFuture<Entry<V>>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
         try {
-            return ofNullable(cache.remove(key)).map(TimestampedValue::value).orElse(null);
-        } finally {
-            lock.writeLock().unlock();
+            executor.execute(() -> {
+                try {
+                    future.complete(fetch(key));
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RuntimeException e) { // the executor rejected the refresh, the next caller will try again
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Entry<V> fetch(K key) {
+        Entry<V> entry;
+        try {
+            var value = cacheEntryUpdateFunction.apply(key);
+            var now = clock.instant();
+            var expiresAt = now.plusMillis(validity);
+            entry = new Entry<>(value, null, expiresAt, expiresAt.plusMillis(staleWhileRevalidate));
+        } catch (RuntimeException failure) {
+            var now = clock.instant();
+            var previous = entries.get(key);
+            if (previous != null && previous.failure() == null && now.isBefore(previous.staleUntil())) {
+                // keep serving the stale value, but don't try to refresh it again before the failure validity expires
+                var retryAt = now.plusMillis(failureValidity);
+                entry = new Entry<>(previous.value(), null, retryAt.isBefore(previous.staleUntil()) ? retryAt : previous.staleUntil(), previous.staleUntil());
+            } else {
+                entry = new Entry<>(null, failure, now.plusMillis(failureValidity), now);
+            }
+
+            if (failureValidity <= 0) {
+                return entry;
+            }
+        }
+
+        if (!entries.containsKey(key) && entries.size() >= maxSize) {
+            makeRoom();
+        }
+        entries.put(key, entry);
+        return entry;
+    }
+
+    private void makeRoom() {
+        var now = clock.instant();
+        entries.forEach((key, entry) -> {
+            if (!now.isBefore(entry.staleUntil()) && !now.isBefore(entry.expiresAt())) {
+                entries.remove(key, entry);
+            }
+        });
+
+        while (entries.size() >= maxSize) {
+            var soonestExpiring = entries.entrySet().stream()
+                    .min(Comparator.comparing(e -> e.getValue().expiresAt()));
+            if (soonestExpiring.isEmpty()) {
+                return;
+            }
+            entries.remove(soonestExpiring.get().getKey(), soonestExpiring.get().getValue());
         }
     }
 
-    private boolean isEntryExpired(K key) {
-        var timestampedValue = cache.get(key);
-        if (timestampedValue == null) return true;
-        return timestampedValue.isExpired(clock);
+    private record Entry<V>(V value, RuntimeException failure, Instant expiresAt, Instant staleUntil) {
+
+        V getOrThrow() {
+            if (failure != null) {
+                // the failure is shared by all callers that got this entry, so every one of them gets its own exception
+                throw new CacheLoadException(failure);
+            }
+            return value;
+        }
     }
 
+    public static class Builder<K, V> {
+        private final Cache<K, V> cache;
+
+        private Builder() {
+            cache = new Cache<>();
+        }
+
+        public static <K, V> Builder<K, V> newInstance(Function<K, V> cacheEntryUpdateFunction) {
+            var builder = new Builder<K, V>();
+            builder.cache.cacheEntryUpdateFunction = cacheEntryUpdateFunction;
+            return builder;
+        }
 
+        /**
+         * Time in milliseconds a fetched value is valid.
+         */
+        public Builder<K, V> validity(long validity) {
+            cache.validity = validity;
+            return this;
+        }
+
+        /**
+         * Time in milliseconds an expired value is still served while it is refreshed in the background. Defaults to 0.
+         */
+        public Builder<K, V> staleWhileRevalidate(long staleWhileRevalidate) {
+            cache.staleWhileRevalidate = staleWhileRevalidate;
+            return this;
+        }
+
+        /**
+         * Time in milliseconds a failed fetch is remembered, during which it is re-thrown instead of fetching again. Defaults to 0.
+         */
+        public Builder<K, V> failureValidity(long failureValidity) {
+            cache.failureValidity = failureValidity;
+            return this;
+        }
+
+        /**
+         * Maximum number of entries. Defaults to {@link #DEFAULT_MAX_SIZE}.
+         */
+        public Builder<K, V> maxSize(int maxSize) {
+            cache.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Executor used for background refreshes, required when {@link #staleWhileRevalidate(long)} is set. Since
+         * refreshes usually block on remote calls, this should be a dedicated, bounded executor. Refreshes it rejects
+         * are retried by the next caller.
+         */
+        public Builder<K, V> refreshExecutor(Executor refreshExecutor) {
+            cache.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        public Builder<K, V> clock(Clock clock) {
+            cache.clock = clock;
+            return this;
+        }
+
+        public Cache<K, V> build() {
+            Objects.requireNonNull(cache.cacheEntryUpdateFunction, "cacheEntryUpdateFunction");
+            if (cache.staleWhileRevalidate > 0) {
+                Objects.requireNonNull(cache.refreshExecutor, "refreshExecutor");
+            }
+            Objects.requireNonNull(cache.clock, "clock");
+            if (cache.maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be greater than 0");
+            }
+            return cache;
+        }
+    }
 }
@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * Thrown by {@link Cache#get(Object)} when a value could not be fetched. The cause is the exception thrown by the fetch,
+ * which may be shared by several callers (e.g. while a failure is remembered), so every caller gets its own instance.
+ */
+public class CacheLoadException extends EdcException {
+
+    public CacheLoadException(RuntimeException cause) {
+        super(cause.getMessage(), cause);
+    }
+}
@@ -27,7 +27,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *
  * @param <K> the type of keys maintained by this cache
  * @param <V> the type of mapped values
+ * @deprecated use {@link BoundedCache}, which doesn't serialize all accesses and supports expiry and metrics.
  */
+@Deprecated(since = "0.19.0")
 public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final int capacity;
@@ -74,11 +76,12 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
 
     @Override
     public V get(Object key) {
-        lock.readLock().lock();
+        // in access-order mode get moves the entry to the tail of the linked list, so it needs exclusive access
+        lock.writeLock().lock();
         try {
             return super.get(key);
         } finally {
-            lock.readLock().unlock();
+            lock.writeLock().unlock();
         }
     }
 
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.eclipse.edc.util.collection.BoundedCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A property path, as accepted by {@link ReflectionUtil#getFieldValue(String, Object)}, parsed once into its segments.
+ * Fields are resolved once per class and bound to {@link MethodHandle} getters, so evaluating the same path on many
+ * objects, as in-memory stores do when filtering and sorting, costs roughly as much as a direct field access.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class PropertyPath {
+
+    private static final int COMPILED_PATHS_CAPACITY = 1024;
+    private static final Pattern ARRAY_INDEXER = Pattern.compile(".*\\[([0-9])+\\]");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final BoundedCache<String, PropertyPath> COMPILED_PATHS = new BoundedCache<>(COMPILED_PATHS_CAPACITY);
+    private static final ClassValue<ClassAccessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ClassAccessors computeValue(Class<?> type) {
+            return new ClassAccessors(type);
+        }
+    };
+
+    private final String propertyName;
+    private final Segment[] segments;
+
+    private PropertyPath(String propertyName, Segment[] segments) {
+        this.propertyName = propertyName;
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the compiled form of a property path. Recently used paths are cached.
+     *
+     * @param propertyName the property path, e.g. {@code someObject[2].someValue}
+     * @return the compiled path.
+     */
+    public static PropertyPath of(String propertyName) {
+        Objects.requireNonNull(propertyName, "propertyName");
+
+        var path = COMPILED_PATHS.get(propertyName);
+        if (path == null) {
+            path = compile(propertyName);
+            COMPILED_PATHS.put(propertyName, path);
+        }
+        return path;
+    }
+
+    private static PropertyPath compile(String propertyName) {
+        var segments = PathItem.parse(propertyName).stream()
+                .map(PathItem::toString)
+                .map(PropertyPath::segment)
+                .toArray(Segment[]::new);
+        return new PropertyPath(propertyName, segments);
+    }
+
+    private static Segment segment(String item) {
+        if (ARRAY_INDEXER.matcher(item).matches()) {
+            var openingBracketIx = item.indexOf('[');
+            var closingBracketIx = item.indexOf(']');
+            return new Segment(item.substring(0, openingBracketIx), Integer.parseInt(item.substring(openingBracketIx + 1, closingBracketIx)));
+        }
+        return new Segment(item, -1);
+    }
+
+    /**
+     * Evaluates the path on an object.
+     *
+     * @param object the object
+     * @return the value, null if an intermediate value is null.
+     * @throws ReflectionException if a field does not exist or is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(Object object) {
+        Objects.requireNonNull(object, "object");
+
+        var current = object;
+        for (var i = 0; i < segments.length; i++) {
+            if (current == null) {
+                return null;
+            }
+            current = segments[i].getValue(current);
+        }
+        return (T) current;
+    }
+
+    @Override
+    public String toString() {
+        return propertyName;
+    }
+
+    private static Object getProperty(String name, Object object) {
+        if (object instanceof Map<?, ?> map) {
+            return map.get(name);
+        } else if (object instanceof List<?> list) {
+            return list.stream().filter(Objects::nonNull).map(it -> getField(name, it)).toList();
+        } else {
+            return getField(name, object);
+        }
+    }
+
+    private static Object getField(String name, Object object) {
+        var getter = ACCESSORS.get(object.getClass()).getter(name);
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private record Segment(String name, int index) {
+
+        Object getValue(Object object) {
+            var value = getProperty(name, object);
+            if (index < 0) {
+                return value;
+            }
+            return ((List<?>) value).get(index);
+        }
+    }
+
+    /**
+     * The fields of a class, including those of its superclasses, and the getters bound so far. When a field is
+     * declared in more than one class of the hierarchy, the one declared highest wins, as in
+     * {@link ReflectionUtil#getFieldRecursive(Class, String)}.
+     */
+    private static final class ClassAccessors {
+
+        private final Map<String, Field> fields = new HashMap<>();
+        private final Map<String, MethodHandle> getters = new ConcurrentHashMap<>();
+
+        ClassAccessors(Class<?> type) {
+            ReflectionUtil.getAllFieldsRecursive(type).forEach(field -> fields.putIfAbsent(field.getName(), field));
+        }
+
+        MethodHandle getter(String name) {
+            var getter = getters.get(name);
+            if (getter != null) {
+                return getter;
+            }
+            var field = fields.get(name);
+            if (field == null) {
+                throw new ReflectionException(name);
+            }
+            return getters.computeIfAbsent(name, n -> bind(field));
+        }
+
+        private static MethodHandle bind(Field field) {
+            field.setAccessible(true);
+            try {
+                var getter = MethodHandles.lookup().unreflectGetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                }
+                return getter.asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new ReflectionException(e);
+            }
+        }
+    }
+}
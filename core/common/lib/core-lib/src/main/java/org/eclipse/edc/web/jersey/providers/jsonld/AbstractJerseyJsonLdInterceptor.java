@@ -51,6 +51,9 @@ public abstract class AbstractJerseyJsonLdInterceptor implements WriterIntercept
             context.setEntity(compacted);
         } else if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject, context));
+        } else if (context.getEntity() instanceof JsonArrayStreamingOutput output) {
+            // elements are compacted while being written, within context.proceed()
+            context.setEntity(output.map(it -> compact(it, context)));
         }
 
         context.proceed();
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Response entity that writes a stream of {@link JsonObject}s as a JSON array, element by element, instead of
+ * collecting them into a {@link jakarta.json.JsonArray} first. The {@link AbstractJerseyJsonLdInterceptor} compacts
+ * the elements while they are written.
+ * <p>
+ * The stream is consumed, and closed, when the response is written, so an instance can be written only once.
+ * <p>
+ * Elements that are fetched lazily, e.g. the later pages of a {@link org.eclipse.edc.api.query.PagedSearch}, can fail
+ * after the status and the first elements have been sent. The error can no longer be mapped to an error response then:
+ * it is logged, and the response is aborted by throwing an {@link IOException} without closing the array, so that the
+ * client gets an incomplete body and a broken connection instead of a well-formed, but truncated, array.
+ */
+public class JsonArrayStreamingOutput implements StreamingOutput {
+
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(Map.of());
+
+    private final Stream<JsonObject> elements;
+    private final Monitor monitor;
+
+    public JsonArrayStreamingOutput(Stream<JsonObject> elements, Monitor monitor) {
+        this.elements = elements;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns an output that writes the elements transformed by the mapper.
+     */
+    public JsonArrayStreamingOutput map(UnaryOperator<JsonObject> mapper) {
+        return new JsonArrayStreamingOutput(elements.map(mapper), monitor);
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException, WebApplicationException {
+        // the generator is not closed, as that would close the response stream, which is owned by the container
+        var generator = GENERATOR_FACTORY.createGenerator(output);
+        try (elements) {
+            generator.writeStartArray();
+            elements.forEach(generator::write);
+            generator.writeEnd();
+        } catch (RuntimeException e) {
+            monitor.severe("Aborting streamed JSON array response, as an element could not be written", e);
+            throw new IOException("Streamed JSON array response aborted", e);
+        }
+        generator.flush();
+    }
+}
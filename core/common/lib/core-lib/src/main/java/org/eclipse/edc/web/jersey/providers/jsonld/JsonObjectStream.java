@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.result.Result;
+
+import java.util.stream.Stream;
+
+/**
+ * A request body made of many {@link JsonObject}s, read lazily by {@link JsonObjectStreamMessageBodyReader}. Every item
+ * is either the expanded object or the reason why it could not be read, validated or expanded, so a single invalid item
+ * does not reject the whole request.
+ *
+ * @param items the items, in the order in which they appear in the body. Must be consumed before the request ends.
+ */
+public record JsonObjectStream(Stream<Result<JsonObject>> items) {
+}
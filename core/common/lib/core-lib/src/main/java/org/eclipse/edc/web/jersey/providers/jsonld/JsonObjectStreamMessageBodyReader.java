@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.spi.validation.SchemaType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+
+/**
+ * Reads a {@link JsonObjectStream} from either a JSON array or newline-delimited JSON. Objects are parsed, validated
+ * against the {@link SchemaType} of the parameter and expanded one at a time while the stream is consumed, so the body
+ * is never held in memory as a whole.
+ */
+@Provider
+@Consumes({ MediaType.APPLICATION_JSON, JsonObjectStreamMessageBodyReader.APPLICATION_NDJSON })
+public class JsonObjectStreamMessageBodyReader implements MessageBodyReader<JsonObjectStream> {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final JsonLd jsonLd;
+    private final TypeManager typeManager;
+    private final String typeContext;
+    private final JsonObjectValidatorRegistry validatorRegistry;
+
+    public JsonObjectStreamMessageBodyReader(JsonLd jsonLd, TypeManager typeManager, String typeContext, JsonObjectValidatorRegistry validatorRegistry) {
+        this.jsonLd = jsonLd;
+        this.typeManager = typeManager;
+        this.typeContext = typeContext;
+        this.validatorRegistry = validatorRegistry;
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return JsonObjectStream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public JsonObjectStream readFrom(Class<JsonObjectStream> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                                     MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException {
+        // a root level array is unwrapped, a sequence of root level values, as NDJSON is, is read value by value
+        MappingIterator<JsonObject> values = typeManager.getMapper(typeContext).readerFor(JsonObject.class).readValues(entityStream);
+
+        var schemaType = Arrays.stream(annotations)
+                .filter(a -> a.annotationType().equals(SchemaType.class))
+                .map(a -> (SchemaType) a)
+                .findFirst()
+                .orElse(null);
+
+        var items = StreamSupport.stream(Spliterators.spliteratorUnknownSize(new ItemIterator(values), Spliterator.ORDERED), false)
+                .map(item -> item.compose(jsonObject -> validate(schemaType, jsonObject)))
+                .map(item -> item.compose(jsonObject -> jsonLd.expand(jsonObject)
+                        .recover(f -> Result.failure("Failed to expand JsonObject: " + f.getFailureDetail()))))
+                .onClose(() -> close(values));
+
+        return new JsonObjectStream(items);
+    }
+
+    private Result<JsonObject> validate(@Nullable SchemaType schemaType, JsonObject jsonObject) {
+        if (schemaType == null) {
+            return Result.success(jsonObject);
+        }
+        var objectType = jsonObject.getString(TYPE, null);
+        if (objectType == null) {
+            return Result.failure("JsonObject is missing required property: " + TYPE);
+        }
+        if (!Arrays.asList(schemaType.value()).contains(objectType)) {
+            return Result.failure("JsonObject type '" + objectType + "' does not match expected types: " + Arrays.toString(schemaType.value()));
+        }
+        return validatorRegistry.validate(schemaType.version() + ":" + objectType, jsonObject)
+                .toResult()
+                .map(v -> jsonObject);
+    }
+
+    private void close(MappingIterator<JsonObject> values) {
+        try {
+            values.close();
+        } catch (IOException ignored) {
+            // the entity stream is closed by the container anyway
+        }
+    }
+
+    /**
+     * Turns the parsed values into items. A malformed value cannot be skipped, as the position of the next one is
+     * unknown, so it ends the iteration with a failed item.
+     */
+    private static class ItemIterator implements Iterator<Result<JsonObject>> {
+
+        private final MappingIterator<JsonObject> values;
+        private Result<JsonObject> malformed;
+        private boolean done;
+
+        ItemIterator(MappingIterator<JsonObject> values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (done) {
+                return false;
+            }
+            if (malformed != null) {
+                return true;
+            }
+            try {
+                done = !values.hasNextValue();
+            } catch (IOException | RuntimeException e) {
+                malformed = malformed(e);
+            }
+            return !done;
+        }
+
+        @Override
+        public Result<JsonObject> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (malformed != null) {
+                done = true;
+                return malformed;
+            }
+            try {
+                return Result.success(values.nextValue());
+            } catch (IOException | RuntimeException e) {
+                done = true;
+                return malformed(e);
+            }
+        }
+
+        private Result<JsonObject> malformed(Exception e) {
+            return Result.failure("Malformed JSON: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.edc.api.bulk;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.BulkItemResult;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.api.bulk.BulkCreation.CHUNK_SIZE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+
+class BulkCreationTest {
+
+    private final List<List<String>> chunks = new ArrayList<>();
+
+    @Test
+    void create_shouldCreateItemsInChunks() {
+        var body = body(IntStream.range(0, CHUNK_SIZE + 1).mapToObj(i -> Result.success(item("id" + i))));
+
+        var results = BulkCreation.create(body, this::toEntity, this::createAll, it -> it, it -> 1L);
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).hasSize(CHUNK_SIZE);
+        assertThat(chunks.get(1)).containsExactly("id" + CHUNK_SIZE);
+        assertThat(results).hasSize(CHUNK_SIZE + 1).allMatch(BulkItemResult::isCreated);
+        assertThat(results).extracting(BulkItemResult::getIndex).isSorted();
+    }
+
+    @Test
+    void create_shouldReportFailuresByPosition() {
+        var body = body(Stream.of(
+                Result.success(item("id0")),
+                Result.failure("malformed"),
+                Result.success(item("invalid")),
+                Result.success(item("existing"))));
+
+        var results = BulkCreation.create(body, this::toEntity, this::createAll, it -> it, it -> 1L);
+
+        assertThat(chunks).containsExactly(List.of("id0", "existing"));
+        assertThat(results).extracting(BulkItemResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BulkItemResult::getId).containsExactly("id0", null, "invalid", "existing");
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly("CREATED", "BAD_REQUEST", "BAD_REQUEST", "CONFLICT");
+        assertThat(results.get(1).getMessage()).isEqualTo("malformed");
+    }
+
+    @Test
+    void create_shouldNotCallService_whenBodyIsEmpty() {
+        var results = BulkCreation.create(body(Stream.empty()), this::toEntity, this::createAll, it -> it, it -> 1L);
+
+        assertThat(results).isEmpty();
+        assertThat(chunks).isEmpty();
+    }
+
+    private Result<String> toEntity(JsonObject json) {
+        var id = json.getString(ID);
+        return "invalid".equals(id) ? Result.failure("invalid") : Result.success(id);
+    }
+
+    private List<ServiceResult<String>> createAll(List<String> ids) {
+        chunks.add(ids);
+        return ids.stream()
+                .map(id -> "existing".equals(id) ? ServiceResult.<String>conflict("exists") : ServiceResult.success(id))
+                .toList();
+    }
+
+    private JsonObjectStream body(Stream<Result<JsonObject>> items) {
+        return new JsonObjectStream(items);
+    }
+
+    private JsonObject item(String id) {
+        return Json.createObjectBuilder().add(ID, id).build();
+    }
+}
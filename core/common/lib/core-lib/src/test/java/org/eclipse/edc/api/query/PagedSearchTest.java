@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.KeysetCursor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
+class PagedSearchTest {
+
+    private final List<QuerySpec> executedQueries = new ArrayList<>();
+
+    @Test
+    void shouldExecuteSingleQuery_whenLimitFitsIntoOnePage() {
+        var query = QuerySpec.Builder.newInstance().offset(5).limit(10).sortField("createdAt").build();
+
+        var result = PagedSearch.stream(query, 10, search(100));
+
+        assertThat(result).isSucceeded();
+        assertThat(result.getContent()).containsExactlyElementsOf(IntStream.range(5, 15).boxed().toList());
+        assertThat(executedQueries).containsExactly(query);
+    }
+
+    @Test
+    void shouldSortById_whenLimitFitsIntoOnePage() {
+        var query = QuerySpec.Builder.newInstance().limit(10).build();
+
+        var result = PagedSearch.stream(query, 10, search(100));
+
+        assertThat(result).isSucceeded();
+        assertThat(executedQueries).hasSize(1).extracting(QuerySpec::getSortField).containsExactly("id");
+    }
+
+    @Test
+    void shouldFetchPagesLazily_untilLimitIsReached() {
+        var query = QuerySpec.Builder.newInstance().offset(5).limit(25).build();
+
+        var stream = PagedSearch.stream(query, 10, search(100)).getContent();
+
+        assertThat(executedQueries).hasSize(1);
+        assertThat(stream).containsExactlyElementsOf(IntStream.range(5, 30).boxed().toList());
+        assertThat(executedQueries).extracting(QuerySpec::getOffset).containsExactly(5, 15, 25);
+        assertThat(executedQueries).extracting(QuerySpec::getLimit).containsExactly(10, 10, 5);
+        assertThat(executedQueries).extracting(QuerySpec::getSortField).containsOnly("id");
+    }
+
+    @Test
+    void shouldStop_whenPageIsNotFull() {
+        var query = QuerySpec.Builder.newInstance().limit(Integer.MAX_VALUE).sortField("createdAt").build();
+
+        var stream = PagedSearch.stream(query, 10, search(25)).getContent();
+
+        assertThat(stream).hasSize(25);
+        assertThat(executedQueries).hasSize(3).extracting(QuerySpec::getSortField).containsOnly("createdAt");
+    }
+
+    @Test
+    void shouldReturnFailure_whenFirstPageFails() {
+        var query = QuerySpec.Builder.newInstance().limit(100).build();
+
+        var result = PagedSearch.stream(query, 10, q -> ServiceResult.<List<Integer>>badRequest("invalid query"));
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void shouldThrow_whenSubsequentPageFails() {
+        var query = QuerySpec.Builder.newInstance().limit(100).build();
+        Function<QuerySpec, ServiceResult<List<Integer>>> search = q -> q.getOffset() == 0
+                ? search(100).apply(q)
+                : ServiceResult.unexpected("database unavailable");
+
+        var stream = PagedSearch.stream(query, 10, search).getContent();
+
+        assertThatThrownBy(stream::toList).isInstanceOf(EdcException.class).hasMessageContaining("database unavailable");
+    }
+
+    @Test
+    void page_shouldStream_whenQueryHasNoCursor() {
+        var query = QuerySpec.Builder.newInstance().limit(25).build();
+
+        var result = PagedSearch.page(query, search(100));
+
+        assertThat(result).isSucceeded();
+        assertThat(result.getContent().elements()).hasSize(25);
+        assertThat(result.getContent().nextCursor()).isNull();
+    }
+
+    @Test
+    void page_shouldReturnNextCursor_whenPageIsFull() {
+        var items = List.of(new Item("a", 3), new Item("b", 1));
+        var query = QuerySpec.Builder.newInstance().limit(2).sortField("rank").cursor(KeysetCursor.start()).build();
+
+        var result = PagedSearch.page(query, q -> ServiceResult.success(items));
+
+        assertThat(result).isSucceeded();
+        assertThat(result.getContent().elements()).containsExactlyElementsOf(items);
+        assertThat(result.getContent().nextCursor()).isEqualTo(KeysetCursor.after("rank", 1, "b"));
+    }
+
+    @Test
+    void page_shouldReadSortValueWithAccessor_whenSortFieldIsNotAField() {
+        var items = List.of(new Item("a", 3), new Item("b", 1));
+        var sortField = "https://w3id.org/edc/v0.0.1/ns/name";
+        var query = QuerySpec.Builder.newInstance().limit(2).sortField(sortField).cursor(KeysetCursor.start()).build();
+
+        var result = PagedSearch.page(query, q -> ServiceResult.success(items), (item, field) -> field + "-" + item.id());
+
+        assertThat(result).isSucceeded();
+        assertThat(result.getContent().nextCursor()).isEqualTo(KeysetCursor.after(sortField, sortField + "-b", "b"));
+    }
+
+    @Test
+    void page_shouldNotReturnNextCursor_whenPageIsNotFull() {
+        var query = QuerySpec.Builder.newInstance().limit(3).cursor(KeysetCursor.start()).build();
+
+        var result = PagedSearch.page(query, q -> ServiceResult.success(List.of(new Item("a", 3), new Item("b", 1))));
+
+        assertThat(result).isSucceeded();
+        assertThat(result.getContent().nextCursor()).isNull();
+    }
+
+    private Function<QuerySpec, ServiceResult<List<Integer>>> search(int total) {
+        return query -> {
+            executedQueries.add(query);
+            var content = IntStream.range(query.getOffset(), (int) Math.min(total, (long) query.getOffset() + query.getLimit()))
+                    .boxed()
+                    .toList();
+            return ServiceResult.success(content);
+        };
+    }
+
+    private record Item(String id, int rank) {
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+package org.eclipse.edc.api.transformer;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.BulkItemResult;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_CREATED_AT;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_INDEX;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_MESSAGE;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_STATUS;
+import static org.eclipse.edc.api.model.BulkItemResult.BULK_ITEM_RESULT_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.mockito.Mockito.mock;
+
+class JsonObjectFromBulkItemResultTransformerTest {
+
+    private final JsonObjectFromBulkItemResultTransformer transformer = new JsonObjectFromBulkItemResultTransformer(Json.createBuilderFactory(emptyMap()));
+    private final TransformerContext context = mock();
+
+    @Test
+    void types() {
+        assertThat(transformer.getInputType()).isEqualTo(BulkItemResult.class);
+        assertThat(transformer.getOutputType()).isEqualTo(JsonObject.class);
+    }
+
+    @Test
+    void transform_created() {
+        var result = transformer.transform(BulkItemResult.created(3, "id", 1234), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getString(TYPE)).isEqualTo(BULK_ITEM_RESULT_TYPE);
+        assertThat(result.getString(ID)).isEqualTo("id");
+        assertThat(result.getInt(BULK_ITEM_RESULT_INDEX)).isEqualTo(3);
+        assertThat(result.getString(BULK_ITEM_RESULT_STATUS)).isEqualTo(BulkItemResult.STATUS_CREATED);
+        assertThat(result.getInt(BULK_ITEM_RESULT_CREATED_AT)).isEqualTo(1234);
+        assertThat(result).doesNotContainKey(BULK_ITEM_RESULT_MESSAGE);
+    }
+
+    @Test
+    void transform_failed_withoutId() {
+        var result = transformer.transform(BulkItemResult.failed(0, null, "BAD_REQUEST", "invalid"), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getString(BULK_ITEM_RESULT_STATUS)).isEqualTo("BAD_REQUEST");
+        assertThat(result.getString(BULK_ITEM_RESULT_MESSAGE)).isEqualTo("invalid");
+        assertThat(result).doesNotContainKeys(ID, BULK_ITEM_RESULT_CREATED_AT);
+    }
+}
@@ -15,7 +15,10 @@
 package org.eclipse.edc.http.client;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import dev.failsafe.BulkheadFullException;
+import dev.failsafe.CircuitBreakerOpenException;
 import dev.failsafe.RetryPolicy;
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -31,6 +34,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -46,7 +50,9 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMoc
 import static com.github.tomakehurst.wiremock.http.Fault.CONNECTION_RESET_BY_PEER;
 import static com.github.tomakehurst.wiremock.http.Fault.RANDOM_DATA_THEN_CLOSE;
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNot;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNotIn;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusNot2xxOr4xx;
@@ -294,6 +300,93 @@ class EdcHttpClientImplTest {
         }
     }
 
+    @Nested
+    class CounterpartyIsolation {
+
+        @Test
+        void shouldRejectCalls_whenCircuitBreakerFailureThresholdIsReached() throws IOException {
+            var policies = new CounterpartyPolicies(0, Duration.ZERO, 2, Duration.ofMinutes(1), mock());
+            var client = new EdcHttpClientImpl(testOkHttpClient(), RetryPolicy.<Response>builder().withMaxAttempts(2).build(), policies, mock());
+            var request = new Request.Builder()
+                    .url("http://localhost:" + server.getPort())
+                    .build();
+            server.stubFor(get(anyUrl()).willReturn(aResponse().withStatus(500)));
+
+            client.execute(request).close();
+            client.execute(request).close();
+
+            assertThat(client.isCircuitOpen(request.url())).isTrue();
+            assertThatThrownBy(() -> client.execute(request)).isInstanceOf(IOException.class).hasCauseInstanceOf(CircuitBreakerOpenException.class);
+            server.verify(2, getRequestedFor(anyUrl()));
+        }
+
+        @Test
+        void shouldLetTrialCallThrough_whenOpenDelayHasElapsed() throws IOException {
+            var policies = new CounterpartyPolicies(0, Duration.ZERO, 1, Duration.ofMillis(200), mock());
+            var client = new EdcHttpClientImpl(testOkHttpClient(), RetryPolicy.<Response>builder().withMaxAttempts(1).build(), policies, mock());
+            var request = new Request.Builder()
+                    .url("http://localhost:" + server.getPort())
+                    .build();
+            server.stubFor(get(anyUrl()).willReturn(aResponse().withStatus(500)));
+            client.execute(request).close();
+            assertThat(client.isCircuitOpen(request.url())).isTrue();
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> !client.isCircuitOpen(request.url()));
+            server.stubFor(get(anyUrl()).willReturn(ok()));
+
+            try (var response = client.execute(request)) {
+                assertThat(response.code()).isEqualTo(200);
+            }
+            assertThat(client.isCircuitOpen(request.url())).isFalse();
+            server.verify(2, getRequestedFor(anyUrl()));
+        }
+
+        @Test
+        void shouldNotOpenCircuit_whenBulkheadIsFull() {
+            var policies = new CounterpartyPolicies(1, Duration.ZERO, 1, Duration.ofMinutes(1), mock());
+            var client = new EdcHttpClientImpl(testOkHttpClient(), RetryPolicy.<Response>builder().withMaxAttempts(1).build(), policies, mock());
+            var request = new Request.Builder()
+                    .url("http://localhost:" + server.getPort())
+                    .build();
+            server.stubFor(get(anyUrl()).willReturn(ok().withFixedDelay(1000)));
+
+            var first = client.executeAsync(request, emptyList());
+            var second = client.executeAsync(request, emptyList());
+
+            assertThat(second).failsWithin(5, TimeUnit.SECONDS).withThrowableThat().havingCause().isInstanceOf(BulkheadFullException.class);
+            assertThat(first).succeedsWithin(5, TimeUnit.SECONDS);
+            assertThat(client.isCircuitOpen(request.url())).isFalse();
+        }
+
+        @Test
+        void shouldNotRejectCallsToOtherCounterparties_whenCircuitBreakerIsOpen() throws IOException {
+            var policies = new CounterpartyPolicies(0, Duration.ZERO, 1, Duration.ofMinutes(1), mock());
+            var client = new EdcHttpClientImpl(testOkHttpClient(), RetryPolicy.<Response>builder().withMaxAttempts(1).build(), policies, mock());
+            server.stubFor(get(anyUrl()).willReturn(aResponse().withStatus(500)));
+
+            client.execute(new Request.Builder().url("http://localhost:" + server.getPort()).build()).close();
+
+            assertThat(client.isCircuitOpen(HttpUrl.get("http://localhost:" + server.getPort() + "/any/path"))).isTrue();
+            assertThat(client.isCircuitOpen(HttpUrl.get("http://127.0.0.1:" + server.getPort()))).isFalse();
+        }
+
+        @Test
+        void shouldRejectCalls_whenBulkheadIsFull() {
+            var policies = new CounterpartyPolicies(1, Duration.ZERO, 0, Duration.ZERO, mock());
+            var client = new EdcHttpClientImpl(testOkHttpClient(), RetryPolicy.<Response>builder().withMaxAttempts(1).build(), policies, mock());
+            var request = new Request.Builder()
+                    .url("http://localhost:" + server.getPort())
+                    .build();
+            server.stubFor(get(anyUrl()).willReturn(ok().withFixedDelay(1000)));
+
+            var first = client.executeAsync(request, emptyList());
+            var second = client.executeAsync(request, emptyList());
+
+            assertThat(second).failsWithin(5, TimeUnit.SECONDS).withThrowableThat().havingCause().isInstanceOf(BulkheadFullException.class);
+            assertThat(first).succeedsWithin(5, TimeUnit.SECONDS);
+        }
+    }
+
 
     @NotNull
     private Function<Response, Result<String>> handleResponse() {
@@ -78,8 +78,8 @@ class BitstringStatusListRevocationServiceTest {
     private final DidPublicKeyResolver didPublicKeyResolver = mock(DidPublicKeyResolver.class);
 
     private final BitstringStatusListRevocationService revocationService = new BitstringStatusListRevocationService(mapper,
-            5 * 60 * 1000, singleton("application/json"), new EdcHttpClientImpl(new OkHttpClient(), RetryPolicy.ofDefaults(), mock()),
-            tokenValidationService, didPublicKeyResolver);
+            5 * 60 * 1000, 0, singleton("application/json"), new EdcHttpClientImpl(new OkHttpClient(), RetryPolicy.ofDefaults(), mock()),
+            tokenValidationService, didPublicKeyResolver, Runnable::run);
 
     @BeforeEach
     void setUp() {
@@ -337,9 +337,9 @@ class BitstringStatusListRevocationServiceTest {
     @Nested
     public class StatusListCredentialAsJwt {
 
-        private final BitstringStatusListRevocationService acceptJwtService = new BitstringStatusListRevocationService(mapper, 5 * 60 * 1000,
+        private final BitstringStatusListRevocationService acceptJwtService = new BitstringStatusListRevocationService(mapper, 5 * 60 * 1000, 0,
                 singleton("application/vc+jwt"), new EdcHttpClientImpl(new OkHttpClient(), RetryPolicy.ofDefaults(), mock()),
-                tokenValidationService, didPublicKeyResolver);
+                tokenValidationService, didPublicKeyResolver, Runnable::run);
 
         @Test
         void downloadStatusListCredential_asJwt_successfulTokenValidation() throws Exception {
@@ -77,8 +77,8 @@ class StatusList2021RevocationServiceTest {
     private final DidPublicKeyResolver didPublicKeyResolver = mock(DidPublicKeyResolver.class);
 
     private final StatusList2021RevocationService revocationService = new StatusList2021RevocationService(mapper,
-            5 * 60 * 1000, singleton("application/json"), new EdcHttpClientImpl(new OkHttpClient(), RetryPolicy.ofDefaults(), mock()),
-            tokenValidationService, didPublicKeyResolver);
+            5 * 60 * 1000, 0, singleton("application/json"), new EdcHttpClientImpl(new OkHttpClient(), RetryPolicy.ofDefaults(), mock()),
+            tokenValidationService, didPublicKeyResolver, Runnable::run);
 
     @BeforeEach
     void setup() {
@@ -144,6 +144,23 @@ class StatusList2021RevocationServiceTest {
         clientAndServer.verify(1, getRequestedFor(urlEqualTo("/credentials/status/3")));
     }
 
+    @Test
+    void checkRevocation_whenCacheExpired_shouldDownloadAgainBeforeChecking() throws InterruptedException {
+        var shortLivedService = new StatusList2021RevocationService(mapper, 1, 0, singleton("application/json"),
+                new EdcHttpClientImpl(new OkHttpClient(), RetryPolicy.ofDefaults(), mock()), tokenValidationService, didPublicKeyResolver, null);
+        clientAndServer.stubFor(get("/credentials/status/3").willReturn(ok(STATUS_LIST_CREDENTIAL_SINGLE_SUBJECT_INTERMEDIATE)));
+
+        var credential = new CredentialStatus("test-id", "StatusList2021Entry",
+                Map.of(STATUS_LIST_PURPOSE, "revocation",
+                        STATUS_LIST_INDEX, NOT_REVOKED_INDEX,
+                        STATUS_LIST_CREDENTIAL, "http://localhost:%d/credentials/status/3".formatted(clientAndServer.getPort())));
+        assertThat(shortLivedService.checkValidity(credential)).isSucceeded();
+        Thread.sleep(10);
+        assertThat(shortLivedService.checkValidity(credential)).isSucceeded();
+        // without a stale grace period the expired list is not served, it is downloaded again by the caller
+        clientAndServer.verify(2, getRequestedFor(urlEqualTo("/credentials/status/3")));
+    }
+
     @Test
     void checkValidity_wrongContentType_expect415() {
         clientAndServer.stubFor(get("/credentials/status/3").willReturn(aResponse().withStatus(415)));
@@ -213,9 +230,9 @@ class StatusList2021RevocationServiceTest {
     @Nested
     public class StatusListCredentialAsJwt {
 
-        private final StatusList2021RevocationService acceptJwtService = new StatusList2021RevocationService(mapper, 5 * 60 * 1000,
+        private final StatusList2021RevocationService acceptJwtService = new StatusList2021RevocationService(mapper, 5 * 60 * 1000, 0,
                 singleton("application/vc+jwt"), new EdcHttpClientImpl(new OkHttpClient(), RetryPolicy.ofDefaults(), mock()),
-                tokenValidationService, didPublicKeyResolver);
+                tokenValidationService, didPublicKeyResolver, Runnable::run);
 
         @Test
         void downloadStatusListCredential_asJwt_successfulTokenValidation() throws Exception {
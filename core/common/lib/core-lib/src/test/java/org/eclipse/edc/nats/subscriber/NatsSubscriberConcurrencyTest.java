@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.nats.subscriber;
+
+import io.nats.client.Message;
+import org.eclipse.edc.nats.testfixtures.NatsEndToEndExtension;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class NatsSubscriberConcurrencyTest {
+
+    private static final String STREAM_NAME = "concurrency_test_stream";
+    private static final String CONSUMER_NAME = "concurrency_test_consumer";
+    private static final String SUBJECT = "concurrency.test.>";
+
+    @Order(0)
+    @RegisterExtension
+    static final NatsEndToEndExtension NATS_EXTENSION = new NatsEndToEndExtension();
+
+    private TestSubscriber subscriber;
+
+    @BeforeEach
+    void beforeEach() {
+        NATS_EXTENSION.createStream(STREAM_NAME, SUBJECT);
+        NATS_EXTENSION.createConsumer(STREAM_NAME, CONSUMER_NAME, SUBJECT);
+    }
+
+    @AfterEach
+    void afterEach() {
+        subscriber.stop();
+        NATS_EXTENSION.deleteStream(STREAM_NAME);
+    }
+
+    @Test
+    void shouldHandleDifferentPartitionsInParallel() {
+        var latch = new CountDownLatch(2);
+        subscriber = subscriber(4, 10, message -> {
+            // both messages must be in progress at the same time for the latch to open
+            latch.countDown();
+            try {
+                return latch.await(10, TimeUnit.SECONDS) ? StatusResult.success() : StatusResult.failure(null, "timeout");
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        subscriber.start();
+
+        NATS_EXTENSION.publish("concurrency.test.a", "a".getBytes());
+        NATS_EXTENSION.publish("concurrency.test.b", "b".getBytes());
+
+        await().untilAsserted(() -> assertThat(latch.getCount()).isZero());
+    }
+
+    @Test
+    void shouldHandleSamePartitionInOrder() {
+        var handled = new ConcurrentHashMap<String, List<String>>();
+        var concurrentlyHandled = new AtomicInteger();
+        var maxConcurrentlyHandled = new AtomicInteger();
+        subscriber = subscriber(4, 50, message -> {
+            var current = concurrentlyHandled.incrementAndGet();
+            maxConcurrentlyHandled.accumulateAndGet(current, Math::max);
+            handled.computeIfAbsent(message.getSubject(), k -> new CopyOnWriteArrayList<>())
+                    .add(new String(message.getData(), StandardCharsets.UTF_8));
+            concurrentlyHandled.decrementAndGet();
+            return StatusResult.success();
+        });
+        subscriber.start();
+
+        for (var i = 0; i < 20; i++) {
+            NATS_EXTENSION.publish("concurrency.test.same", String.valueOf(i).getBytes());
+        }
+
+        await().untilAsserted(() -> assertThat(handled.get("concurrency.test.same")).hasSize(20));
+        assertThat(handled.get("concurrency.test.same"))
+                .containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17", "18", "19");
+        assertThat(maxConcurrentlyHandled.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotExceedMaxInFlight() {
+        var release = new CountDownLatch(1);
+        var started = new AtomicInteger();
+        subscriber = subscriber(4, 2, message -> {
+            started.incrementAndGet();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return StatusResult.success();
+        });
+        subscriber.start();
+
+        for (var i = 0; i < 4; i++) {
+            NATS_EXTENSION.publish("concurrency.test." + i, "message".getBytes());
+        }
+
+        await().untilAsserted(() -> assertThat(subscriber.inFlight()).isEqualTo(2));
+        assertThat(started.get()).isLessThanOrEqualTo(2);
+
+        release.countDown();
+        await().untilAsserted(() -> assertThat(started.get()).isEqualTo(4));
+        await().untilAsserted(() -> assertThat(subscriber.inFlight()).isZero());
+    }
+
+    private TestSubscriber subscriber(int concurrency, int maxInFlight, Handler handler) {
+        var subscriber = TestSubscriber.Builder.newInstance()
+                .url(NATS_EXTENSION.getNatsUrl())
+                .name(CONSUMER_NAME)
+                .stream(STREAM_NAME)
+                .subject(SUBJECT)
+                .concurrency(concurrency)
+                .maxInFlight(maxInFlight)
+                .monitor(mock())
+                .build();
+        subscriber.handler = handler;
+        return subscriber;
+    }
+
+    private interface Handler {
+        StatusResult<Void> handle(Message message);
+    }
+
+    private static class TestSubscriber extends NatsSubscriber {
+
+        private Handler handler;
+
+        @Override
+        protected StatusResult<Void> handleMessage(Message message) {
+            return handler.handle(message);
+        }
+
+        static class Builder extends NatsSubscriber.Builder<TestSubscriber, Builder> {
+
+            protected Builder(TestSubscriber subscriber) {
+                super(subscriber);
+            }
+
+            static Builder newInstance() {
+                return new Builder(new TestSubscriber());
+            }
+
+            @Override
+            public Builder self() {
+                return this;
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.nats.tasks.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nats.client.JetStream;
+import io.nats.client.Message;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.PublishAck;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.PrepareTransfer;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NatsTaskOutboxRelayTest {
+
+    private final JetStream jetStream = mock();
+    private final TaskStore taskStore = mock();
+    private final Monitor monitor = mock();
+    private final NatsTaskPublisher publisher = new NatsTaskPublisher("transfers", TransferProcessTaskPayload.class, jetStream, monitor, ObjectMapper::new);
+    private final TrackingTransactionContext transactionContext = new TrackingTransactionContext();
+    private final NatsTaskOutboxRelay relay = new NatsTaskOutboxRelay(TransferProcessTaskPayload.GROUP, publisher, taskStore,
+            transactionContext, 10, Duration.ofMillis(100), monitor);
+
+    @Test
+    void publishPending_shouldPublishTasksAndMarkThemAsPublished() {
+        var first = task("process-1");
+        var second = task("process-2");
+        when(taskStore.fetchUnpublished(TransferProcessTaskPayload.GROUP, 10)).thenReturn(List.of(first, second));
+        when(jetStream.publishAsync(any(Message.class), any(PublishOptions.class))).thenReturn(completedFuture(mock(PublishAck.class)));
+
+        var result = relay.publishPending();
+
+        assertThat(result).isEqualTo(2);
+        verify(taskStore).markPublished(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    void publishPending_shouldUseTaskIdAsMessageId() {
+        var task = task("process-1");
+        when(taskStore.fetchUnpublished(TransferProcessTaskPayload.GROUP, 10)).thenReturn(List.of(task));
+        when(jetStream.publishAsync(any(Message.class), any(PublishOptions.class))).thenReturn(completedFuture(mock(PublishAck.class)));
+
+        relay.publishPending();
+
+        var options = ArgumentCaptor.forClass(PublishOptions.class);
+        var message = ArgumentCaptor.forClass(Message.class);
+        verify(jetStream).publishAsync(message.capture(), options.capture());
+        assertThat(options.getValue().getMessageId()).isEqualTo(task.getId());
+        assertThat(message.getValue().getSubject()).isEqualTo("transfers.consumer.transfer.prepare");
+    }
+
+    @Test
+    void publishPending_shouldNotMarkTasksThatHaveNotBeenAcknowledged() {
+        var acknowledged = task("process-1");
+        var failed = task("process-2");
+        var pending = task("process-3");
+        when(taskStore.fetchUnpublished(TransferProcessTaskPayload.GROUP, 10)).thenReturn(List.of(acknowledged, failed, pending));
+        when(jetStream.publishAsync(any(Message.class), any(PublishOptions.class)))
+                .thenReturn(completedFuture(mock(PublishAck.class)))
+                .thenReturn(failedFuture(new RuntimeException("no ack")))
+                .thenReturn(new CompletableFuture<>());
+
+        var result = relay.publishPending();
+
+        assertThat(result).isEqualTo(1);
+        verify(taskStore).markPublished(List.of(acknowledged.getId()));
+        verify(monitor).warning(eq("Failed to publish task %s, it will be retried".formatted(failed.getId())), any());
+        verify(monitor).warning(eq("Failed to publish task %s, it will be retried".formatted(pending.getId())), any());
+    }
+
+    @Test
+    void publishPending_shouldNotHoldTransactionWhilePublishing() {
+        var task = task("process-1");
+        var transactionStates = new ArrayList<Boolean>();
+        when(taskStore.fetchUnpublished(TransferProcessTaskPayload.GROUP, 10)).thenAnswer(i -> {
+            transactionStates.add(transactionContext.active);
+            return List.of(task);
+        });
+        when(jetStream.publishAsync(any(Message.class), any(PublishOptions.class))).thenAnswer(i -> {
+            transactionStates.add(transactionContext.active);
+            return completedFuture(mock(PublishAck.class));
+        });
+        when(taskStore.markPublished(any())).thenAnswer(i -> {
+            transactionStates.add(transactionContext.active);
+            return StoreResult.success();
+        });
+
+        var result = relay.publishPending();
+
+        assertThat(result).isEqualTo(1);
+        assertThat(transactionStates).containsExactly(true, false, true);
+    }
+
+    @Test
+    void publishPending_shouldDoNothing_whenNoTaskIsUnpublished() {
+        when(taskStore.fetchUnpublished(anyString(), anyInt())).thenReturn(List.of());
+
+        var result = relay.publishPending();
+
+        assertThat(result).isZero();
+        verifyNoInteractions(jetStream);
+        verify(taskStore, never()).markPublished(any());
+    }
+
+    private Task task(String processId) {
+        var payload = PrepareTransfer.Builder.newInstance()
+                .processId(processId)
+                .processState(100)
+                .processType("CONSUMER")
+                .build();
+        return Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(payload)
+                .build();
+    }
+
+    private static class TrackingTransactionContext extends NoopTransactionContext {
+
+        private boolean active;
+
+        @Override
+        public void execute(TransactionBlock block) {
+            active = true;
+            try {
+                super.execute(block);
+            } finally {
+                active = false;
+            }
+        }
+
+        @Override
+        public <T> T execute(ResultTransactionBlock<T> block) {
+            active = true;
+            try {
+                return super.execute(block);
+            } finally {
+                active = false;
+            }
+        }
+    }
+}
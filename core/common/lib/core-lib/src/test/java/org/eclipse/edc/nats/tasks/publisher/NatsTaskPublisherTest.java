@@ -16,6 +16,7 @@ package org.eclipse.edc.nats.tasks.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.nats.client.JetStream;
+import io.nats.client.impl.Headers;
 import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.ContractNegotiationTaskPayload;
 import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.RequestNegotiation;
 import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
@@ -26,7 +27,9 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -61,7 +64,7 @@ class NatsTaskPublisherTest {
 
         publisher.created(task);
 
-        verify(jetStream).publish(eq("negotiations.consumer.negotiation.request.prepare"), isA(byte[].class));
+        verify(jetStream).publish(eq("negotiations.consumer.negotiation.request.prepare"), any(Headers.class), isA(byte[].class));
     }
 
     @Test
@@ -80,7 +83,7 @@ class NatsTaskPublisherTest {
 
         publisher.created(task);
 
-        verify(jetStream).publish(eq("transfers.consumer.transfer.prepare"), isA(byte[].class));
+        verify(jetStream).publish(eq("transfers.consumer.transfer.prepare"), any(Headers.class), isA(byte[].class));
     }
 
     @Test
@@ -99,7 +102,28 @@ class NatsTaskPublisherTest {
 
         publisher.created(task);
 
-        verify(jetStream).publish(any(String.class), isA(byte[].class));
+        verify(jetStream).publish(any(String.class), any(Headers.class), isA(byte[].class));
+    }
+
+    @Test
+    void created_shouldAddProcessIdHeader() throws Exception {
+        var publisher = new NatsTaskPublisher("transfers", TransferProcessTaskPayload.class, jetStream, monitor, ObjectMapper::new);
+
+        var payload = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(100)
+                .processType("CONSUMER")
+                .build();
+        var task = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(payload)
+                .build();
+
+        publisher.created(task);
+
+        var headers = ArgumentCaptor.forClass(Headers.class);
+        verify(jetStream).publish(any(String.class), headers.capture(), isA(byte[].class));
+        assertThat(headers.getValue().getFirst(NatsTaskPublisher.PROCESS_ID_HEADER)).isEqualTo("transfer-123");
     }
 
     @Test
@@ -135,7 +159,7 @@ class NatsTaskPublisherTest {
                 .payload(payload)
                 .build();
         var exception = new RuntimeException("NATS publish failed");
-        doThrow(exception).when(jetStream).publish(any(String.class), any(byte[].class));
+        doThrow(exception).when(jetStream).publish(any(String.class), any(Headers.class), any(byte[].class));
 
         assertThatThrownBy(() -> publisher.created(task))
                 .isInstanceOf(EdcException.class)
@@ -175,7 +199,7 @@ class NatsTaskPublisherTest {
 
         publisher.created(task);
 
-        verify(jetStream).publish(any(String.class), isA(byte[].class));
+        verify(jetStream).publish(any(String.class), any(Headers.class), isA(byte[].class));
     }
 
     @Test
@@ -192,7 +216,7 @@ class NatsTaskPublisherTest {
                 .payload(payload)
                 .build();
         var exception = new RuntimeException("Publish error");
-        doThrow(exception).when(jetStream).publish(any(String.class), any(byte[].class));
+        doThrow(exception).when(jetStream).publish(any(String.class), any(Headers.class), any(byte[].class));
 
         assertThatThrownBy(() -> publisher.created(task))
                 .isInstanceOf(EdcException.class);
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AbstractSqlStoreTest {
+
+    private static final String INSERT = "INSERT INTO entity (id) VALUES (?);";
+
+    private final QueryExecutor queryExecutor = mock();
+    private final Connection connection = mock();
+    private final TestSqlStore store = new TestSqlStore(queryExecutor);
+
+    @Test
+    void insertAll_shouldSkipConflictingIds() {
+        when(queryExecutor.executeBatch(any(), any(), anyList())).thenReturn(new int[]{1, 0, 1});
+
+        var result = store.insertAll(connection, List.of("a", "b", "c"), "id", INSERT, id -> new Object[]{id});
+
+        assertThat(result).containsExactly(true, false, true);
+        verify(queryExecutor).executeBatch(eq(connection), eq("INSERT INTO entity (id) VALUES (?) ON CONFLICT (id) DO NOTHING;"), anyList());
+    }
+
+    @Test
+    void insertAll_shouldFail_whenDriverDoesNotReportRowCount() {
+        when(queryExecutor.executeBatch(any(), any(), anyList())).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+
+        assertThatThrownBy(() -> store.insertAll(connection, List.of("a", "b"), "id", INSERT, id -> new Object[]{id}))
+                .isInstanceOf(EdcPersistenceException.class);
+    }
+
+    private static class TestSqlStore extends AbstractSqlStore {
+
+        TestSqlStore(QueryExecutor queryExecutor) {
+            super(mock(DataSourceRegistry.class), "test", new NoopTransactionContext(), new ObjectMapper(), queryExecutor);
+        }
+    }
+}
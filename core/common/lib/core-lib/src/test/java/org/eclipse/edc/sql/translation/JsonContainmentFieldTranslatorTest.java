@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.util.reflection.PathItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class JsonContainmentFieldTranslatorTest {
+
+    private final JsonContainmentFieldTranslator translator = new JsonContainmentFieldTranslator("column_name");
+
+    @Test
+    void shouldUseContainment_whenOperatorIsEqualAndRightOperandIsString() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.nested.field", "=", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("nested.field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name::jsonb @> ?::jsonb");
+        assertThat(result.parameters()).containsExactly("{\"nested\":{\"field\":\"value\"}}");
+    }
+
+    @Test
+    void shouldUseContainment_whenKeyContainsDots() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.'https://w3id.org/edc/v0.0.1/ns/name'", "=", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("'https://w3id.org/edc/v0.0.1/ns/name'"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name::jsonb @> ?::jsonb");
+        assertThat(result.parameters()).containsExactly("{\"https://w3id.org/edc/v0.0.1/ns/name\":\"value\"}");
+    }
+
+    @Test
+    void shouldUseDisjunctionOfContainments_whenOperatorIsIn() {
+        var operator = new SqlOperator("in", Collection.class);
+        var criterion = criterion("json.field", "in", List.of("value1", "value2"));
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name::jsonb @> ?::jsonb OR column_name::jsonb @> ?::jsonb)");
+        assertThat(result.parameters()).containsExactly("{\"field\":\"value1\"}", "{\"field\":\"value2\"}");
+    }
+
+    @Test
+    void shouldAlsoMatchNumber_whenRightOperandIsNumeric() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", "42");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name::jsonb @> ?::jsonb OR column_name::jsonb @> ?::jsonb)");
+        assertThat(result.parameters()).containsExactly("{\"field\":\"42\"}", "{\"field\":42}");
+    }
+
+    @Test
+    void shouldAlsoMatchBoolean_whenRightOperandIsBoolean() {
+        var operator = new SqlOperator("in", Collection.class);
+        var criterion = criterion("json.field", "in", List.of("true", "value"));
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name::jsonb @> ?::jsonb OR column_name::jsonb @> ?::jsonb OR column_name::jsonb @> ?::jsonb)");
+        assertThat(result.parameters()).containsExactly("{\"field\":\"true\"}", "{\"field\":true}", "{\"field\":\"value\"}");
+    }
+
+    @Test
+    void shouldFallbackToExtraction_whenRightOperandIsNotString() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", 100);
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name ->> 'field')::integer = ?");
+        assertThat(result.parameters()).containsExactly(100);
+    }
+
+    @Test
+    void shouldFallbackToExtraction_whenOperatorIsNotEqualOrIn() {
+        var operator = new SqlOperator("like", String.class);
+        var criterion = criterion("json.field", "like", "val%");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' like ?");
+        assertThat(result.parameters()).containsExactly("val%");
+    }
+}
@@ -15,8 +15,10 @@
 package org.eclipse.edc.sql.translation;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -136,6 +138,100 @@ class SqlQueryStatementTest {
         assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description ASC LIMIT ? OFFSET ? FOR UPDATE SKIP LOCKED;");
     }
 
+    @Test
+    void tiebreak_shouldOrderByColumns_whenNoSortFieldIsRequested() {
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(), new TestMapping(), criterionToWhereClauseConverter)
+                .tiebreak("edc_field_1", "edc_id");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_field_1 ASC, edc_id ASC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void tiebreak_shouldFollowSortField() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter)
+                .tiebreak("edc_id");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description DESC, edc_id ASC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void tiebreak_shouldNotChangeKeysetOrder() {
+        var query = queryBuilder().cursor(KeysetCursor.start()).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter)
+                .tiebreak("edc_field_1");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void cursor_start_shouldOrderByIdWithoutCondition() {
+        var query = queryBuilder().cursor(KeysetCursor.start()).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(50, 0);
+    }
+
+    @Test
+    void cursor_shouldSeekById() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        when(criterionToWhereClauseConverter.convert(any())).thenReturn(new WhereClause("edc_field_1 = ?", "testid1"));
+        var query = queryBuilder(criterion).cursor(KeysetCursor.after(null, null, "last-id")).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? AND edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "last-id", 50, 0);
+    }
+
+    @Test
+    void cursor_shouldSeekById_whenDescending() {
+        var query = queryBuilder().sortOrder(SortOrder.DESC).cursor(KeysetCursor.after(null, null, "last-id")).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id < ? ORDER BY edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 50, 0);
+    }
+
+    @Test
+    void cursor_shouldSeekBySortFieldAndId() {
+        var query = queryBuilder().sortField("description").cursor(KeysetCursor.after("description", "foo", "last-id")).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE ((edc_description, edc_id) > (?, ?) OR edc_description IS NULL) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("foo", "last-id", 50, 0);
+    }
+
+    @Test
+    void cursor_shouldSeekBySortFieldAndId_whenDescending() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).cursor(KeysetCursor.after("description", "foo", "last-id")).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description, edc_id) < (?, ?) ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("foo", "last-id", 50, 0);
+    }
+
+    @Test
+    void cursor_shouldSeekAmongNullSortValues() {
+        var query = queryBuilder().sortField("description").cursor(KeysetCursor.after("description", null, "last-id")).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description IS NULL AND edc_id > ?) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 50, 0);
+    }
+
+    @Test
+    void cursor_shouldThrow_whenIssuedForAnotherSortField() {
+        var query = queryBuilder().sortField("description").cursor(KeysetCursor.after("fooBar", "foo", "last-id")).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("cursor");
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
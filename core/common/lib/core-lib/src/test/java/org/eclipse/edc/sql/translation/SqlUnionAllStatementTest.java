@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlUnionAllStatementTest {
+
+    private static final String SELECT_STATEMENT = "SELECT * FROM test-table";
+
+    @Test
+    void shouldCombineStatements_keepingTheirOwnLimits() {
+        var first = new SqlQueryStatement(SELECT_STATEMENT, 5, 0).addWhereClause("state = ?", 100);
+        var second = new SqlQueryStatement(SELECT_STATEMENT, 5, 0).addWhereClause("state = ?", 200);
+
+        var statement = new SqlUnionAllStatement(List.of(first, second));
+
+        assertThat(statement.getQueryAsString()).isEqualToIgnoringCase(
+                "(" + SELECT_STATEMENT + " WHERE state = ? LIMIT ? OFFSET ?) UNION ALL (" + SELECT_STATEMENT + " WHERE state = ? LIMIT ? OFFSET ?);");
+        assertThat(statement.getParameters()).containsExactly(100, 5, 0, 200, 5, 0);
+    }
+
+    @Test
+    void shouldThrow_whenNoStatement() {
+        assertThatThrownBy(() -> new SqlUnionAllStatement(List.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+}
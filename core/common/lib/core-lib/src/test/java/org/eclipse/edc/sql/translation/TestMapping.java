@@ -16,6 +16,7 @@ package org.eclipse.edc.sql.translation;
 
 public class TestMapping extends TranslationMapping {
     public TestMapping() {
+        add("id", "edc_id");
         add("field1", "edc_field_1");
         add("description", "edc_description");
         add("fooBar", "edc_foo_bar");
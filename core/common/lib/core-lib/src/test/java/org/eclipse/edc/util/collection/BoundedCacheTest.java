@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedCacheTest {
+
+    @Test
+    void shouldReturnCachedValue() {
+        var cache = new BoundedCache<String, String>(10);
+
+        cache.put("foo", "bar");
+
+        assertThat(cache.get("foo")).isEqualTo("bar");
+        assertThat(cache.get("baz")).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new BoundedCache<String, String>(2);
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.get("foo");
+
+        cache.put("baz", "baz");
+
+        assertThat(cache.get("foo")).isNotNull();
+        assertThat(cache.get("baz")).isNotNull();
+        assertThat(cache.get("bar")).isNull();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireAfterWrite() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        var cache = new BoundedCache<String, String>(10, 1000, clock);
+        cache.put("foo", "bar");
+
+        when(clock.millis()).thenReturn(999L);
+        assertThat(cache.get("foo")).isEqualTo("bar");
+
+        when(clock.millis()).thenReturn(1000L);
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCache_whenCapacityIsZero() {
+        var cache = new BoundedCache<String, String>(0);
+
+        cache.put("foo", "bar");
+
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldRemoveAndClear() {
+        var cache = new BoundedCache<String, String>(10);
+        cache.put("foo", "bar");
+        cache.put("baz", "qux");
+
+        assertThat(cache.remove("foo")).isEqualTo("bar");
+        assertThat(cache.remove("foo")).isNull();
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Nested
+    class Concurrency {
+
+        private static final int THREADS = 8;
+        private static final int OPERATIONS = 20_000;
+
+        @Test
+        void shouldStayConsistentAndBounded_whenAccessedConcurrently() throws Exception {
+            var capacity = 1000;
+            var cache = new BoundedCache<Integer, Integer>(capacity);
+            var start = new CountDownLatch(1);
+            var wrongValues = new ConcurrentLinkedQueue<Integer>();
+            var executor = Executors.newFixedThreadPool(THREADS);
+
+            try {
+                var futures = new ArrayList<Future<?>>();
+                for (var t = 0; t < THREADS; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        var random = ThreadLocalRandom.current();
+                        for (var i = 0; i < OPERATIONS; i++) {
+                            var key = random.nextInt(4 * capacity);
+                            var value = cache.get(key);
+                            if (value == null) {
+                                cache.put(key, -key);
+                            } else if (value != -key) {
+                                wrongValues.add(key);
+                            }
+                            if (i % 100 == 0) {
+                                cache.remove(random.nextInt(4 * capacity));
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (var future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(wrongValues).isEmpty();
+            assertThat(cache.size()).isLessThanOrEqualTo(capacity + 15);
+            assertThat(cache.hitCount() + cache.missCount()).isEqualTo((long) THREADS * OPERATIONS);
+        }
+    }
+}
@@ -20,9 +20,19 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -31,6 +41,7 @@ import static org.mockito.Mockito.when;
 
 class CacheTest {
     public static final int VALIDITY = 5 * 60 * 1000;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
     private final Function<String, TestObject> updateFunction = mock();
     private Cache<String, TestObject> cache = new Cache<>(updateFunction, VALIDITY, Clock.systemUTC());
 
@@ -56,7 +67,9 @@ class CacheTest {
 
     @Test
     void get_whenPresent_expired() {
-        cache = new Cache<>(updateFunction, VALIDITY, Clock.fixed(Instant.now().plus(1, ChronoUnit.DAYS), ZoneId.systemDefault()));
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW, NOW.plus(1, ChronoUnit.DAYS));
+        cache = new Cache<>(updateFunction, VALIDITY, clock);
         when(updateFunction.apply(anyString())).thenReturn(new TestObject(42));
 
         cache.get("foo"); // no entry there -> expect update
@@ -100,6 +113,160 @@ class CacheTest {
         verify(updateFunction, times(1)).apply(anyString());
     }
 
+    @Test
+    void get_whenLoadingConcurrently_shouldFetchOnce() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+        cache = new Cache<>(key -> {
+            calls.incrementAndGet();
+            awaitRelease(release);
+            return new TestObject(42);
+        }, VALIDITY);
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var results = IntStream.range(0, 4).mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get("foo"), executor)).toList();
+            await().untilAsserted(() -> assertThat(calls.get()).isEqualTo(1));
+            release.countDown();
+
+            assertThat(results).allSatisfy(result -> assertThat(result.join().value()).isEqualTo(42));
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_whenOtherKeyIsLoading_shouldNotBlock() {
+        var release = new CountDownLatch(1);
+        cache = new Cache<>(key -> {
+            if (key.equals("slow")) {
+                awaitRelease(release);
+            }
+            return new TestObject(42);
+        }, VALIDITY);
+
+        try {
+            var slow = CompletableFuture.supplyAsync(() -> cache.get("slow"));
+
+            assertThat(cache.get("fast").value()).isEqualTo(42);
+            assertThat(slow).isNotDone();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void get_whenStale_shouldServeStaleValueAndRefreshInBackground() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        var refreshes = new ArrayList<Runnable>();
+        cache = Cache.Builder.<String, TestObject>newInstance(updateFunction)
+                .validity(VALIDITY)
+                .staleWhileRevalidate(VALIDITY)
+                .refreshExecutor(refreshes::add)
+                .clock(clock)
+                .build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(1), new TestObject(2));
+        cache.get("foo");
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(VALIDITY + 1));
+
+        assertThat(cache.get("foo").value()).isEqualTo(1);
+        assertThat(cache.get("foo").value()).isEqualTo(1);
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+
+        assertThat(cache.get("foo").value()).isEqualTo(2);
+        verify(updateFunction, times(2)).apply("foo");
+    }
+
+    @Test
+    void get_whenStalePeriodIsOver_shouldFetchSynchronously() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        cache = Cache.Builder.<String, TestObject>newInstance(updateFunction)
+                .validity(VALIDITY)
+                .staleWhileRevalidate(VALIDITY)
+                .refreshExecutor(runnable -> { })
+                .clock(clock)
+                .build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(1), new TestObject(2));
+        cache.get("foo");
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(2L * VALIDITY + 1));
+
+        assertThat(cache.get("foo").value()).isEqualTo(2);
+    }
+
+    @Test
+    void get_whenFetchFails_shouldCacheFailure() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        cache = Cache.Builder.<String, TestObject>newInstance(updateFunction)
+                .validity(VALIDITY)
+                .failureValidity(1000)
+                .clock(clock)
+                .build();
+        when(updateFunction.apply(anyString())).thenThrow(new IllegalArgumentException("failure")).thenReturn(new TestObject(42));
+
+        var first = catchThrowable(() -> cache.get("foo"));
+        var second = catchThrowable(() -> cache.get("foo"));
+        verify(updateFunction, times(1)).apply("foo");
+        assertThat(first).isInstanceOf(CacheLoadException.class).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(second).isInstanceOf(CacheLoadException.class).isNotSameAs(first).hasCause(first.getCause());
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(1000));
+
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+    }
+
+    @Test
+    void get_whenFetchFails_andNoFailureValidity_shouldNotCacheFailure() {
+        when(updateFunction.apply(anyString())).thenThrow(new IllegalArgumentException("failure")).thenReturn(new TestObject(42));
+
+        assertThatThrownBy(() -> cache.get("foo")).isInstanceOf(CacheLoadException.class).hasCauseInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+    }
+
+    @Test
+    void build_whenStaleWhileRevalidateWithoutRefreshExecutor_shouldThrow() {
+        assertThatThrownBy(() -> Cache.Builder.<String, TestObject>newInstance(updateFunction)
+                .validity(VALIDITY)
+                .staleWhileRevalidate(VALIDITY)
+                .build())
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void get_whenFull_shouldEvictSoonestExpiring() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusMillis(1), NOW.plusMillis(2));
+        cache = Cache.Builder.<String, TestObject>newInstance(updateFunction)
+                .validity(VALIDITY)
+                .maxSize(2)
+                .clock(clock)
+                .build();
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42));
+
+        cache.get("first");
+        cache.get("second");
+        cache.get("third");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evict("first")).isNull();
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private record TestObject(int value) {
 
     }
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyPathTest {
+
+    @Test
+    void of_shouldReturnCachedInstance() {
+        assertThat(PropertyPath.of("embedded.anotherDescription")).isSameAs(PropertyPath.of("embedded.anotherDescription"));
+    }
+
+    @Test
+    void getValue_shouldEvaluateOnObjectsOfDifferentClasses() {
+        var path = PropertyPath.of("description");
+
+        assertThat((String) path.getValue(new TestObject("test-desc", 1))).isEqualTo("test-desc");
+        assertThat((String) path.getValue(Map.of("description", "from-map"))).isEqualTo("from-map");
+        assertThat((String) path.getValue(new TestObjectWithList(null, 1, List.of()))).isNull();
+    }
+
+    @Test
+    void getValue_shouldPickFieldDeclaredHighestInHierarchy() {
+        var value = PropertyPath.of("description").getValue(new TestObjectSubSubclass("test-desc", 1, "foobar"));
+
+        assertThat(value).isEqualTo("test-desc");
+    }
+
+    @Test
+    void getValue_shouldEvaluateNestedPathWithIndexer() {
+        var object = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to1", 420), new TestObject("to2", 69)));
+
+        var value = PropertyPath.of("nestedObjects[1].priority").getValue(object);
+
+        assertThat(value).isEqualTo(69);
+    }
+
+    @Test
+    void getValue_shouldThrow_whenFieldDoesNotExist() {
+        var path = PropertyPath.of("notExist");
+
+        assertThatThrownBy(() -> path.getValue(new TestObject("test-desc", 1))).isInstanceOf(ReflectionException.class);
+        assertThatThrownBy(() -> path.getValue(new TestObject("test-desc", 1))).isInstanceOf(ReflectionException.class);
+    }
+}
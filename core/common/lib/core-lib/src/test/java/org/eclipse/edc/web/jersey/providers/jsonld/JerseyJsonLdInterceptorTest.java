@@ -20,6 +20,7 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
@@ -27,12 +28,15 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -177,6 +181,23 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
         verifyNoInteractions(jsonLd);
     }
 
+    @Test
+    void compaction_streamed_shouldCompactEveryElement() {
+        when(jsonLd.compact(any(), eq(SCOPE))).thenReturn(Result.success(compactedJson()));
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/streamed/json-object")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .body("[0].compacted-key", is("compacted-value"))
+                .body("[1].compacted-key", is("compacted-value"));
+
+        verify(jsonLd, times(2)).compact(expandedJson(), SCOPE);
+    }
+
     @Override
     protected Object controller() {
         return new TestController();
@@ -234,6 +255,12 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             return Json.createArrayBuilder().add(expandedJson()).build();
         }
 
+        @GET
+        @Path("/get/streamed/json-object")
+        public StreamingOutput getStreamedJsonObject() {
+            return new JsonArrayStreamingOutput(Stream.of(expandedJson(), expandedJson()), mock());
+        }
+
         @GET
         @Path("/get/multiple/not-json-object")
         public List<Map<String, String>> getMultipleNotJsonObject() {
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class JsonArrayStreamingOutputTest {
+
+    private final Monitor monitor = mock();
+
+    @Test
+    void write_shouldWriteElementsAsArray() throws IOException {
+        var output = new ByteArrayOutputStream();
+
+        new JsonArrayStreamingOutput(Stream.of(element("a"), element("b")), monitor).write(output);
+
+        assertThat(output.toString(UTF_8)).isEqualTo("[{\"id\":\"a\"},{\"id\":\"b\"}]");
+    }
+
+    @Test
+    void write_shouldAbortAndLog_whenElementCannotBeFetched() {
+        var output = new ByteArrayOutputStream();
+        var elements = Stream.of("a", "b").map(id -> {
+            if (id.equals("b")) {
+                throw new EdcException("database unavailable");
+            }
+            return element(id);
+        });
+
+        assertThatThrownBy(() -> new JsonArrayStreamingOutput(elements, monitor).write(output))
+                .isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(EdcException.class);
+        assertThat(output.toString(UTF_8)).doesNotEndWith("]");
+        verify(monitor).severe(any(), isA(EdcException.class));
+    }
+
+    private JsonObject element(String id) {
+        return Json.createObjectBuilder().add("id", id).build();
+    }
+}
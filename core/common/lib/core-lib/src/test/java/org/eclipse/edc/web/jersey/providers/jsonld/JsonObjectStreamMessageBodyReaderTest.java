@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.web.spi.validation.SchemaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.validator.spi.Violation.violation;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JsonObjectStreamMessageBodyReaderTest {
+
+    private static final String EXPECTED_TYPE = "TestType";
+    private static final String SCHEMA_VERSION = "v1";
+    private static final String TYPE_CONTEXT = "test";
+
+    private final JsonLd jsonLd = mock();
+    private final TypeManager typeManager = mock();
+    private final JsonObjectValidatorRegistry validatorRegistry = mock();
+    private final ObjectMapper objectMapper = JacksonJsonLd.createObjectMapper();
+
+    private JsonObjectStreamMessageBodyReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new JsonObjectStreamMessageBodyReader(jsonLd, typeManager, TYPE_CONTEXT, validatorRegistry);
+        when(typeManager.getMapper(TYPE_CONTEXT)).thenReturn(objectMapper);
+        when(jsonLd.expand(any())).thenAnswer(i -> Result.success(i.getArgument(0)));
+    }
+
+    @Test
+    void isReadable_shouldReturnTrue_forJsonObjectStreamType() {
+        assertThat(reader.isReadable(JsonObjectStream.class, JsonObjectStream.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE)).isTrue();
+        assertThat(reader.isReadable(JsonObject.class, JsonObject.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE)).isFalse();
+    }
+
+    @Test
+    void readFrom_shouldReadJsonArray() throws IOException {
+        var items = read(new Annotation[0], "[{\"key\":\"value1\"},{\"key\":\"value2\"}]");
+
+        assertThat(items).hasSize(2).allSatisfy(item -> assertThat(item).isSucceeded());
+        assertThat(items.get(0).getContent().getString("key")).isEqualTo("value1");
+        assertThat(items.get(1).getContent().getString("key")).isEqualTo("value2");
+        verifyNoInteractions(validatorRegistry);
+    }
+
+    @Test
+    void readFrom_shouldReadNewlineDelimitedJson() throws IOException {
+        var items = read(new Annotation[0], "{\"key\":\"value1\"}\n{\"key\":\"value2\"}\n");
+
+        assertThat(items).hasSize(2).allSatisfy(item -> assertThat(item).isSucceeded());
+        assertThat(items.get(1).getContent().getString("key")).isEqualTo("value2");
+    }
+
+    @Test
+    void readFrom_shouldReturnNoItems_whenBodyIsEmpty() throws IOException {
+        var items = read(new Annotation[0], "");
+
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    void readFrom_shouldFailSingleItem_whenValidationFails() throws IOException {
+        when(validatorRegistry.validate(eq(SCHEMA_VERSION + ":" + EXPECTED_TYPE), any())).thenReturn(ValidationResult.success());
+        when(validatorRegistry.validate(any(), argThat(json -> json.containsKey("invalid"))))
+                .thenReturn(ValidationResult.failure(violation("invalid", "field")));
+
+        var items = read(schemaTypeAnnotation(), """
+                {"@type":"TestType"}
+                {"@type":"TestType","invalid":true}
+                {"@type":"WrongType"}
+                {"key":"value"}
+                {"@type":"TestType"}
+                """);
+
+        assertThat(items).hasSize(5);
+        assertThat(items.get(0)).isSucceeded();
+        assertThat(items.get(1)).isFailed().detail().contains("invalid");
+        assertThat(items.get(2)).isFailed().detail().contains("WrongType");
+        assertThat(items.get(3)).isFailed().detail().contains("@type");
+        assertThat(items.get(4)).isSucceeded();
+    }
+
+    @Test
+    void readFrom_shouldFailSingleItem_whenExpansionFails() throws IOException {
+        when(jsonLd.expand(argThat(json -> json.containsKey("unexpandable")))).thenReturn(Result.failure("expansion error"));
+
+        var items = read(new Annotation[0], "[{\"unexpandable\":true},{\"key\":\"value\"}]");
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0)).isFailed().detail().contains("expansion error");
+        assertThat(items.get(1)).isSucceeded();
+    }
+
+    @Test
+    void readFrom_shouldEndWithFailedItem_whenJsonIsMalformed() throws IOException {
+        var items = read(new Annotation[0], "{\"key\":\"value\"}\n{\"key\":\n{\"key\":\"value\"}");
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0)).isSucceeded();
+        assertThat(items.get(1)).isFailed().detail().contains("Malformed JSON");
+    }
+
+    private List<Result<JsonObject>> read(Annotation[] annotations, String body) throws IOException {
+        var stream = reader.readFrom(JsonObjectStream.class, JsonObjectStream.class, annotations, MediaType.APPLICATION_JSON_TYPE, null, toStream(body));
+        try (var items = stream.items()) {
+            return items.toList();
+        }
+    }
+
+    private Annotation[] schemaTypeAnnotation() {
+        return new Annotation[]{ new SchemaType() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return SchemaType.class;
+            }
+
+            @Override
+            public String[] value() {
+                return new String[]{ EXPECTED_TYPE };
+            }
+
+            @Override
+            public String version() {
+                return SCHEMA_VERSION;
+            }
+        } };
+    }
+
+    private InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes());
+    }
+}
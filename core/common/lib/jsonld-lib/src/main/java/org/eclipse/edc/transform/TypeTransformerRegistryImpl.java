@@ -20,22 +20,33 @@ import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link TypeTransformerRegistry}. The transformer resolved for a combination of concrete input class and output
+ * type, or the absence of one, is cached, since transforming a single object graph (e.g. a catalog) looks up transformers
+ * many times. The cache is discarded on every {@link #register(TypeTransformer)}.
+ * <p>
+ * Context registries obtained with {@link #forContext(String)} fall back to their parent, which caches its own lookups.
+ * This registry is thread-safe.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
-    private final Map<String, TypeTransformerRegistry> contextRegistries = new HashMap<>();
-    private TypeTransformerRegistry parent;
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private final Map<String, TypeTransformerRegistry> contextRegistries = new ConcurrentHashMap<>();
+    private final TypeTransformerRegistry parent;
+    private volatile Map<TransformerKey, Optional<TypeTransformer<?, ?>>> resolved = new ConcurrentHashMap<>();
 
     public TypeTransformerRegistryImpl() {
+        this(null);
     }
 
     private TypeTransformerRegistryImpl(TypeTransformerRegistry parent) {
@@ -44,7 +55,9 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
-        this.transformers.add(transformer);
+        transformers.add(transformer);
+        // lookups still running on the previous cache can only populate the discarded one
+        resolved = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -53,10 +66,9 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
+        return resolve(input.getClass(), outputType)
                 .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
                 .or(() -> Optional.ofNullable(parent).map(p -> p.transformerFor(input, outputType)))
                 .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
@@ -76,4 +88,13 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         }
     }
 
+    private Optional<TypeTransformer<?, ?>> resolve(Class<?> inputType, Class<?> outputType) {
+        return resolved.computeIfAbsent(new TransformerKey(inputType, outputType), key -> transformers.stream()
+                .filter(t -> t.getInputType().isAssignableFrom(inputType) && t.getOutputType().equals(outputType))
+                .findFirst());
+    }
+
+    private record TransformerKey(Class<?> inputType, Class<?> outputType) {
+    }
+
 }
@@ -15,14 +15,17 @@
 package org.eclipse.edc.transform.transformer.edc.to;
 
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.transform.spi.TransformerContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CURSOR;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -51,6 +54,8 @@ public class JsonObjectToQuerySpecTransformer extends AbstractJsonLdTransformer<
                     return v -> builder.sortOrder(SortOrder.valueOf(transformString(v, context)));
                 case EDC_QUERY_SPEC_SORT_FIELD:
                     return v -> builder.sortField(transformString(v, context));
+                case EDC_QUERY_SPEC_CURSOR:
+                    return v -> builder.cursor(transformCursor(v, context));
                 default:
                     return doNothing();
             }
@@ -59,4 +64,20 @@ public class JsonObjectToQuerySpecTransformer extends AbstractJsonLdTransformer<
         return builder.build();
     }
 
+    private @Nullable KeysetCursor transformCursor(JsonValue value, TransformerContext context) {
+        var cursor = transformString(value, context);
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            context.problem()
+                    .invalidProperty()
+                    .type(QuerySpec.EDC_QUERY_SPEC_TYPE)
+                    .property(EDC_QUERY_SPEC_CURSOR)
+                    .value(cursor)
+                    .error(e.getMessage())
+                    .report();
+            return null;
+        }
+    }
+
 }
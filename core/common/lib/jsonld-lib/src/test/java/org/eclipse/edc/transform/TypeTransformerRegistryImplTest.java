@@ -21,6 +21,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
@@ -54,6 +56,23 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transformerFor(notString, Integer.class)).isInstanceOf(EdcException.class);
             assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
         }
+
+        @Test
+        void shouldReturnTransformer_whenRegisteredAfterFailedLookup() {
+            assertThatThrownBy(() -> registry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(registry.transformerFor(5, String.class)).isInstanceOf(IntegerStringTypeTransformer.class);
+        }
+
+        @Test
+        void shouldReturnSameTransformer_whenLookedUpRepeatedly() {
+            var first = registry.transformerFor("a string", Integer.class);
+            var second = registry.transformerFor("another string", Integer.class);
+
+            assertThat(second).isSameAs(first);
+        }
     }
 
     @Nested
@@ -103,6 +122,25 @@ public class TypeTransformerRegistryImplTest {
             verifyNoInteractions(typeTransformer);
         }
 
+        @Test
+        void shouldUseParentTransformer_whenRegisteredInParentAfterFailedLookup() {
+            assertThatThrownBy(() -> contextRegistry.transform(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(contextRegistry.transform(5, String.class)).isSucceeded().isEqualTo("5");
+        }
+
+        @Test
+        void shouldReturnSameRegistry_whenCalledConcurrently() {
+            var registries = IntStream.range(0, 16).parallel()
+                    .mapToObj(i -> registry.forContext("concurrent"))
+                    .distinct()
+                    .toList();
+
+            assertThat(registries).hasSize(1);
+        }
+
     }
 
     @Nested
@@ -18,6 +18,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.transform.spi.TransformerContext;
@@ -66,7 +67,21 @@ class JsonObjectFromQuerySpecTransformerTest {
                 .isNotNull()
                 .isInstanceOf(JsonArray.class)
                 .matches(v -> v.asJsonArray().size() == 1);
+        assertThat(jsonObject.containsKey(QuerySpec.EDC_QUERY_SPEC_CURSOR)).isFalse();
+    }
+
+    @Test
+    void transform_withCursor() {
+        var cursor = KeysetCursor.after("field", 42L, "id");
+        var querySpec = QuerySpec.Builder.newInstance()
+                .sortField("field")
+                .cursor(cursor)
+                .build();
 
+        var jsonObject = transformer.transform(querySpec, mock(TransformerContext.class));
+
+        assertThat(jsonObject).isNotNull();
+        assertThat(jsonObject.getString(QuerySpec.EDC_QUERY_SPEC_CURSOR)).isEqualTo(cursor.encode());
     }
 
 }
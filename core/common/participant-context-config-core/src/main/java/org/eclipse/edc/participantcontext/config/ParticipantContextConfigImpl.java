@@ -16,32 +16,57 @@ package org.eclipse.edc.participantcontext.config;
 
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
 import org.eclipse.edc.participantcontext.spi.config.ParticipantContextConfig;
-import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
-public class ParticipantContextConfigImpl implements ParticipantContextConfig {
-
+/**
+ * Default {@link ParticipantContextConfig}. The configuration of a participant context is loaded as a whole and kept
+ * as an immutable snapshot for a configurable time, sensitive values are decrypted at most once per snapshot.
+ * Snapshots are dropped by {@link #invalidate(String)}, which is called whenever a {@link ParticipantContextConfigUpdated}
+ * event is received.
+ */
+public class ParticipantContextConfigImpl implements ParticipantContextConfig, EventSubscriber {
 
     private final EncryptionAlgorithmRegistry registry;
     private final String encryptionAlgorithm;
     private final ParticipantContextConfigStore configStore;
     private final TransactionContext transactionContext;
-
+    private final long cacheTtlMillis;
+    private final Clock clock;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
 
     public ParticipantContextConfigImpl(EncryptionAlgorithmRegistry registry, String encryptionAlgorithm, ParticipantContextConfigStore configStore, TransactionContext transactionContext) {
+        this(registry, encryptionAlgorithm, configStore, transactionContext, 0, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a new instance that caches configuration snapshots.
+     *
+     * @param cacheTtlMillis time in milliseconds a snapshot is kept, 0 disables caching
+     */
+    public ParticipantContextConfigImpl(EncryptionAlgorithmRegistry registry, String encryptionAlgorithm, ParticipantContextConfigStore configStore,
+                                        TransactionContext transactionContext, long cacheTtlMillis, Clock clock) {
         this.registry = registry;
         this.encryptionAlgorithm = encryptionAlgorithm;
         this.configStore = configStore;
         this.transactionContext = transactionContext;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.clock = clock;
     }
 
     @Override
@@ -87,31 +112,68 @@ public class ParticipantContextConfigImpl implements ParticipantContextConfig {
 
     @Override
     public String getSensitiveString(String participantContextId, String key) {
-        var encryptedValue = privateConfig(participantContextId).getString(key, null);
+        var snapshot = snapshot(participantContextId);
+        var encryptedValue = snapshot.privateConfig().getString(key, null);
         if (encryptedValue == null) {
             return null;
         }
-        return registry.decrypt(encryptionAlgorithm, encryptedValue)
-                .orElseThrow(f -> new EdcException(format("Failed to decrypt sensitive config value for key %s and participant context %s", key, participantContextId)));
+        return snapshot.decrypted().computeIfAbsent(key, k -> decrypt(participantContextId, k, encryptedValue));
     }
 
-    private Config config(String participantContextId) {
-        return fetchConfig(participantContextId, ParticipantContextConfiguration::getEntries);
+    /**
+     * Discards the cached configuration of a participant context, the next access reloads it from the store.
+     *
+     * @param participantContextId the participant context id
+     */
+    public void invalidate(String participantContextId) {
+        version.incrementAndGet();
+        snapshots.remove(participantContextId);
+    }
 
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof ParticipantContextConfigUpdated updated) {
+            invalidate(updated.getParticipantContextId());
+        }
     }
 
-    private Config privateConfig(String participantContextId) {
-        return fetchConfig(participantContextId, ParticipantContextConfiguration::getPrivateEntries);
+    private Config config(String participantContextId) {
+        return snapshot(participantContextId).config();
     }
 
-    private Config fetchConfig(String participantContextId, Function<ParticipantContextConfiguration, Map<String, String>> supplier) {
+    private Snapshot snapshot(String participantContextId) {
+        var now = clock.millis();
+        var cached = snapshots.get(participantContextId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached;
+        }
+
+        var currentVersion = version.get();
+        var snapshot = fetchSnapshot(participantContextId, now + cacheTtlMillis);
+        // a concurrent invalidation might have been missed by the loaded snapshot, so it's only cached if there was none
+        if (cacheTtlMillis > 0 && version.get() == currentVersion) {
+            snapshots.put(participantContextId, snapshot);
+        }
+        return snapshot;
+    }
+
+    private Snapshot fetchSnapshot(String participantContextId, long expiresAt) {
         return transactionContext.execute(() -> {
             var cfg = configStore.get(participantContextId);
             if (cfg == null) {
                 throw new EdcException("No configuration found for participant context " + participantContextId);
             }
-            return ConfigFactory.fromMap(supplier.apply(cfg));
+            return new Snapshot(ConfigFactory.fromMap(cfg.getEntries()), ConfigFactory.fromMap(cfg.getPrivateEntries()),
+                    new ConcurrentHashMap<>(), expiresAt);
         });
     }
 
+    private String decrypt(String participantContextId, String key, String encryptedValue) {
+        return registry.decrypt(encryptionAlgorithm, encryptedValue)
+                .orElseThrow(f -> new EdcException(format("Failed to decrypt sensitive config value for key %s and participant context %s", key, participantContextId)));
+    }
+
+    private record Snapshot(Config config, Config privateConfig, Map<String, String> decrypted, long expiresAt) {
+    }
+
 }
@@ -17,6 +17,7 @@ package org.eclipse.edc.participantcontext.config;
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
 import org.eclipse.edc.participantcontext.config.service.ParticipantContextConfigServiceImpl;
 import org.eclipse.edc.participantcontext.spi.config.ParticipantContextConfig;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.service.ParticipantContextConfigService;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -24,6 +25,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -36,6 +38,7 @@ import static org.eclipse.edc.participantcontext.config.ParticipantContextConfig
 public class ParticipantContextConfigServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Participant Context Config Services Extension";
+    public static final long DEFAULT_CACHE_TTL_MILLIS = 60_000;
 
     @Setting(
             description = "The encryption algorithm used for encrypting and decrypting sensitive config.",
@@ -44,6 +47,13 @@ public class ParticipantContextConfigServicesExtension implements ServiceExtensi
     )
     private String encryptionAlgorithm;
 
+    @Setting(
+            description = "Time in milliseconds a participant context configuration is cached after it has been read. 0 disables caching",
+            key = "edc.participants.config.cache.ttl",
+            defaultValue = DEFAULT_CACHE_TTL_MILLIS + ""
+    )
+    private long cacheTtlMillis;
+
     @Inject
     private ParticipantContextConfigStore configStore;
 
@@ -59,14 +69,23 @@ public class ParticipantContextConfigServicesExtension implements ServiceExtensi
     @Inject
     private Clock clock;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    private ParticipantContextConfigImpl participantContextConfig;
+
     @Provider
     public ParticipantContextConfigService participantContextConfigService() {
-        return new ParticipantContextConfigServiceImpl(encryptionRegistry, encryptionAlgorithm, configStore, transactionContext, clock);
+        return new ParticipantContextConfigServiceImpl(encryptionRegistry, encryptionAlgorithm, configStore, transactionContext, clock, eventRouter);
     }
 
     @Provider
     public ParticipantContextConfig participantContextConfig() {
-        return new ParticipantContextConfigImpl(encryptionRegistry, encryptionAlgorithm, configStore, transactionContext);
+        if (participantContextConfig == null) {
+            participantContextConfig = new ParticipantContextConfigImpl(encryptionRegistry, encryptionAlgorithm, configStore, transactionContext, cacheTtlMillis, clock);
+            eventRouter.registerSync(ParticipantContextConfigUpdated.class, participantContextConfig);
+        }
+        return participantContextConfig;
     }
 
     @Override
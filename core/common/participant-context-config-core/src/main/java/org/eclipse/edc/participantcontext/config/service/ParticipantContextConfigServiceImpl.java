@@ -15,9 +15,11 @@
 package org.eclipse.edc.participantcontext.config.service;
 
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
 import org.eclipse.edc.participantcontext.spi.config.service.ParticipantContextConfigService;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -33,18 +35,25 @@ public class ParticipantContextConfigServiceImpl implements ParticipantContextCo
     private final ParticipantContextConfigStore configStore;
     private final TransactionContext transactionContext;
     private final Clock clock;
+    private final EventRouter eventRouter;
 
     public ParticipantContextConfigServiceImpl(EncryptionAlgorithmRegistry encryptionRegistry, String encryptionAlgorithm, ParticipantContextConfigStore configStore, TransactionContext transactionContext, Clock clock) {
+        this(encryptionRegistry, encryptionAlgorithm, configStore, transactionContext, clock, null);
+    }
+
+    public ParticipantContextConfigServiceImpl(EncryptionAlgorithmRegistry encryptionRegistry, String encryptionAlgorithm, ParticipantContextConfigStore configStore,
+                                               TransactionContext transactionContext, Clock clock, EventRouter eventRouter) {
         this.encryptionRegistry = encryptionRegistry;
         this.encryptionAlgorithm = encryptionAlgorithm;
         this.configStore = configStore;
         this.transactionContext = transactionContext;
         this.clock = clock;
+        this.eventRouter = eventRouter;
     }
 
     @Override
     public ServiceResult<Void> save(ParticipantContextConfiguration config) {
-        return transactionContext.execute(() -> {
+        return publishOnSuccess(config.getParticipantContextId(), transactionContext.execute(() -> {
             if (hasNullValue(config.getEntries()) || hasNullValue(config.getPrivateEntries())) {
                 return ServiceResult.badRequest("Null values are not allowed when setting a configuration");
             }
@@ -52,12 +61,12 @@ public class ParticipantContextConfigServiceImpl implements ParticipantContextCo
                     .onSuccess(configStore::save)
                     .flatMap(ServiceResult::from)
                     .mapEmpty();
-        });
+        }));
     }
 
     @Override
     public ServiceResult<Void> merge(ParticipantContextConfiguration config) {
-        return transactionContext.execute(() -> {
+        return publishOnSuccess(config.getParticipantContextId(), transactionContext.execute(() -> {
             var existing = configStore.get(config.getParticipantContextId());
             return ServiceResult.from(encryptEntries(config))
                     .map(encryptedPatch -> {
@@ -75,7 +84,20 @@ public class ParticipantContextConfigServiceImpl implements ParticipantContextCo
                     })
                     .onSuccess(configStore::save)
                     .mapEmpty();
-        });
+        }));
+    }
+
+    /**
+     * Publishes a {@link ParticipantContextConfigUpdated} event once the change is committed, so that cached copies of
+     * the configuration get discarded.
+     */
+    private ServiceResult<Void> publishOnSuccess(String participantContextId, ServiceResult<Void> result) {
+        if (result.succeeded() && eventRouter != null) {
+            eventRouter.publish(ParticipantContextConfigUpdated.Builder.newInstance()
+                    .participantContextId(participantContextId)
+                    .build());
+        }
+        return result;
     }
 
     private static boolean hasNullValue(Map<String, String> map) {
@@ -16,11 +16,14 @@ package org.eclipse.edc.participantcontext.config;
 
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
 import org.eclipse.edc.participantcontext.spi.config.ParticipantContextConfig;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -29,6 +32,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.time.Clock;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -36,6 +40,8 @@ import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -167,4 +173,68 @@ public class ParticipantContextConfigImplTest {
             verifyNoInteractions(registry);
         }
     }
+
+    @Nested
+    class Caching {
+
+        private static final long TTL = 1000;
+        private final Clock clock = mock();
+        private final ParticipantContextConfigImpl cachingConfig = new ParticipantContextConfigImpl(registry, "any", store, new NoopTransactionContext(), TTL, clock);
+
+        @BeforeEach
+        void setUp() {
+            var cfg = ParticipantContextConfiguration.Builder.newInstance().participantContextId(PARTICIPANT_CONTEXT_ID)
+                    .entries(Map.of("key", "value"))
+                    .privateEntries(Map.of("private.key", "encryptedValue"))
+                    .build();
+            when(store.get(PARTICIPANT_CONTEXT_ID)).thenReturn(cfg);
+            when(registry.decrypt("any", "encryptedValue")).thenReturn(Result.success("decryptedValue"));
+            when(clock.millis()).thenReturn(0L);
+        }
+
+        @Test
+        void shouldLoadConfigurationOnce_whenNotExpired() {
+            assertThat(cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key")).isEqualTo("value");
+            assertThat(cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "other", "default")).isEqualTo("default");
+
+            verify(store, times(1)).get(PARTICIPANT_CONTEXT_ID);
+        }
+
+        @Test
+        void shouldReload_whenExpired() {
+            cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+
+            when(clock.millis()).thenReturn(TTL);
+            cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+
+            verify(store, times(2)).get(PARTICIPANT_CONTEXT_ID);
+        }
+
+        @Test
+        void shouldReload_whenUpdatedEventReceived() {
+            cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+
+            var event = ParticipantContextConfigUpdated.Builder.newInstance().participantContextId(PARTICIPANT_CONTEXT_ID).build();
+            cachingConfig.on(EventEnvelope.Builder.newInstance().id("id").at(0).payload(event).build());
+            cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+
+            verify(store, times(2)).get(PARTICIPANT_CONTEXT_ID);
+        }
+
+        @Test
+        void shouldDecryptOnce() {
+            assertThat(cachingConfig.getSensitiveString(PARTICIPANT_CONTEXT_ID, "private.key")).isEqualTo("decryptedValue");
+            assertThat(cachingConfig.getSensitiveString(PARTICIPANT_CONTEXT_ID, "private.key")).isEqualTo("decryptedValue");
+
+            verify(registry, times(1)).decrypt("any", "encryptedValue");
+        }
+
+        @Test
+        void shouldNotCache_whenTtlIsZero() {
+            contextConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+            contextConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+
+            verify(store, times(2)).get(PARTICIPANT_CONTEXT_ID);
+        }
+    }
 }
@@ -15,9 +15,11 @@
 package org.eclipse.edc.participantcontext.config.service;
 
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
 import org.eclipse.edc.participantcontext.spi.config.service.ParticipantContextConfigService;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Test;
@@ -45,7 +47,9 @@ public class ParticipantContextConfigServiceImplTest {
 
     private final Clock clock = Clock.fixed(Instant.ofEpochMilli(5000), ZoneId.systemDefault());
 
-    private final ParticipantContextConfigService service = new ParticipantContextConfigServiceImpl(registry, "any", store, new NoopTransactionContext(), clock);
+    private final EventRouter eventRouter = mock();
+
+    private final ParticipantContextConfigService service = new ParticipantContextConfigServiceImpl(registry, "any", store, new NoopTransactionContext(), clock, eventRouter);
 
 
     @Test
@@ -67,6 +71,8 @@ public class ParticipantContextConfigServiceImplTest {
                         saved.getEntries().equals(cfg.getEntries()) &&
                         saved.getPrivateEntries().equals(cfg.getPrivateEntries())));
         verify(registry).encrypt(anyString(), anyString());
+        verify(eventRouter).publish(argThat(event -> event instanceof ParticipantContextConfigUpdated updated &&
+                updated.getParticipantContextId().equals("participantContext")));
     }
 
     @Test
@@ -193,6 +199,7 @@ public class ParticipantContextConfigServiceImplTest {
 
         assertThat(result).isFailed().detail().contains("Null values are not allowed");
         verify(store, never()).save(any());
+        verify(eventRouter, never()).publish(any());
     }
 
     @Test
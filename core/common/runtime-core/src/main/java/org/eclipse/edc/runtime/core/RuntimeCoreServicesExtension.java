@@ -19,13 +19,16 @@ import okhttp3.OkHttpClient;
 import okhttp3.Response;
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistryImpl;
+import org.eclipse.edc.http.client.CounterpartyPolicies;
 import org.eclipse.edc.http.client.EdcHttpClientImpl;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.runtime.core.api.ApiVersionServiceImpl;
 import org.eclipse.edc.runtime.core.command.CommandHandlerRegistryImpl;
 import org.eclipse.edc.runtime.core.event.EventRouterImpl;
+import org.eclipse.edc.runtime.core.http.CounterpartyPoliciesConfiguration;
 import org.eclipse.edc.runtime.core.validator.JsonObjectValidatorRegistryImpl;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
@@ -43,6 +46,7 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.runtime.core.RuntimeDefaultCoreServicesExtension.NAME;
@@ -69,6 +73,8 @@ public class RuntimeCoreServicesExtension implements ServiceExtension {
     private Clock clock;
     @Inject
     private TypeManager typeManager;
+    @Configuration
+    private CounterpartyPoliciesConfiguration counterpartyPoliciesConfiguration;
 
     @Override
     public String name() {
@@ -82,7 +88,10 @@ public class RuntimeCoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EdcHttpClient edcHttpClient(ServiceExtensionContext context) {
-        return new EdcHttpClientImpl(okHttpClient, retryPolicy, context.getMonitor());
+        var counterpartyPolicies = new CounterpartyPolicies(counterpartyPoliciesConfiguration.maxConcurrentCalls(),
+                Duration.ofMillis(counterpartyPoliciesConfiguration.maxWaitTime()), counterpartyPoliciesConfiguration.failureThreshold(),
+                Duration.ofMillis(counterpartyPoliciesConfiguration.openDelay()), context.getMonitor());
+        return new EdcHttpClientImpl(okHttpClient, retryPolicy, counterpartyPolicies, context.getMonitor());
     }
 
     @Provider
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.runtime.core.http;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+/**
+ * Configuration of the bulkhead and of the circuit breaker applied by the {@link org.eclipse.edc.http.spi.EdcHttpClient}
+ * to every counterparty, identified by its base url. Both are disabled by default, since the client is shared by all
+ * the outgoing calls, including the ones to internal services.
+ */
+@Settings
+public record CounterpartyPoliciesConfiguration(
+        @Setting(key = "edc.http.client.bulkhead.max-concurrent-calls",
+                description = "Max number of calls executed concurrently to the same counterparty, 0 disables the bulkhead",
+                defaultValue = "0")
+        int maxConcurrentCalls,
+        @Setting(key = "edc.http.client.bulkhead.max-wait",
+                description = "Max time a call waits for a free slot of the counterparty bulkhead before being rejected, in milliseconds",
+                defaultValue = "1000")
+        long maxWaitTime,
+        @Setting(key = "edc.http.client.circuit-breaker.failure-threshold",
+                description = "Number of consecutive failed calls to the same counterparty after which its circuit breaker opens, 0 disables the circuit breaker",
+                defaultValue = "0")
+        int failureThreshold,
+        @Setting(key = "edc.http.client.circuit-breaker.delay",
+                description = "Time during which an open circuit breaker rejects the calls to its counterparty before letting a trial call through, in milliseconds",
+                defaultValue = "10000")
+        long openDelay
+) {
+}
@@ -14,9 +14,12 @@
 
 package org.eclipse.edc.runtime.core.http;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Response;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -25,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.util.List;
 import javax.net.SocketFactory;
 
 import static java.lang.String.format;
@@ -47,6 +51,22 @@ public class OkHttpClientFactory {
                 .connectTimeout(configuration.getConnectTimeout(), SECONDS)
                 .readTimeout(configuration.getReadTimeout(), SECONDS);
 
+        var dispatcher = new Dispatcher();
+        if (configuration.getMaxRequests() > 0) {
+            dispatcher.setMaxRequests(configuration.getMaxRequests());
+        }
+        if (configuration.getMaxRequestsPerHost() > 0) {
+            dispatcher.setMaxRequestsPerHost(configuration.getMaxRequestsPerHost());
+        }
+        builder.dispatcher(dispatcher);
+
+        if (configuration.getKeepAlive() > 0) {
+            builder.connectionPool(new ConnectionPool(configuration.getMaxIdleConnections(), configuration.getKeepAlive(), SECONDS));
+        }
+
+        // HTTP/2 is negotiated through ALPN, so it is only used over TLS with servers that support it
+        builder.protocols(configuration.isHttp2Enabled() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1));
+
         if (configuration.getSendBufferSize() > 0 || configuration.getReceiveBufferSize() > 0) {
             builder.socketFactory(new CustomSocketFactory(configuration.getSendBufferSize(), configuration.getReceiveBufferSize()));
         }
@@ -91,6 +91,34 @@ class OkHttpClientFactoryTest {
         });
     }
 
+    @Test
+    void shouldConfigureDispatcherAndConnectionPool() {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .maxRequests(128)
+                .maxRequestsPerHost(16)
+                .maxIdleConnections(10)
+                .keepAlive(60)
+                .http2Enabled(true)
+                .build();
+
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+
+        assertThat(okHttpClient.dispatcher().getMaxRequests()).isEqualTo(128);
+        assertThat(okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(16);
+        assertThat(okHttpClient.protocols()).containsExactly(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    }
+
+    @Test
+    void shouldUseHttp11Only_whenHttp2IsDisabled() {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .http2Enabled(false)
+                .build();
+
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+
+        assertThat(okHttpClient.protocols()).containsExactly(Protocol.HTTP_1_1);
+    }
+
     @NotNull
     private Interceptor dummySuccessfulResponse() {
         return it -> new Response.Builder()
@@ -22,8 +22,10 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.store.ReflectionBasedQueryResolver;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -32,6 +34,7 @@ import static java.lang.String.format;
 public class InMemoryTaskStore implements TaskStore {
 
     private final Map<String, Task> tasks = new ConcurrentHashMap<>();
+    private final Set<String> published = ConcurrentHashMap.newKeySet();
     private final QueryResolver<Task> queryResolver;
 
     public InMemoryTaskStore(CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -50,8 +53,25 @@ public class InMemoryTaskStore implements TaskStore {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Task> fetchUnpublished(String group, int max) {
+        return tasks.values().stream()
+                .filter(task -> task.getGroup().equals(group))
+                .filter(task -> !published.contains(task.getId()))
+                .sorted(Comparator.comparingLong(Task::getAt))
+                .limit(max)
+                .toList();
+    }
+
+    @Override
+    public StoreResult<Void> markPublished(List<String> ids) {
+        ids.stream().filter(tasks::containsKey).forEach(published::add);
+        return StoreResult.success();
+    }
+
     @Override
     public StoreResult<Void> delete(String id) {
+        published.remove(id);
         var prev = tasks.remove(id);
         if (prev != null) return StoreResult.success();
         return StoreResult.notFound(format("Task with id %s not found", id));
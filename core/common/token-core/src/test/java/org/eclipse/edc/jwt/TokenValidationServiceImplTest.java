@@ -131,6 +131,22 @@ class TokenValidationServiceImplTest {
                 .hasEntrySatisfying(EXPIRATION_TIME, value -> assertThat((Date) value).isCloseTo(now, 1000));
     }
 
+    @Test
+    void shouldVerifyWithResolvedKey_whenKeyChangesForSameKeyId() throws JOSEException {
+        var claims = createClaims(now);
+        assertThat(tokenValidationService.validate(createJwt(publicKeyId, claims, key.toPrivateKey()), publicKeyResolver).succeeded()).isTrue();
+
+        var rotatedKey = testKey();
+        when(publicKeyResolver.resolveKey(eq(publicKeyId))).thenReturn(Result.success(rotatedKey.toPublicKey()));
+
+        var oldKeyResult = tokenValidationService.validate(createJwt(publicKeyId, claims, key.toPrivateKey()), publicKeyResolver);
+        var rotatedKeyResult = tokenValidationService.validate(createJwt(publicKeyId, claims, rotatedKey.toPrivateKey()), publicKeyResolver);
+
+        assertThat(oldKeyResult.failed()).isTrue();
+        assertThat(oldKeyResult.getFailureMessages()).containsExactly("JWT signature not valid");
+        assertThat(rotatedKeyResult.succeeded()).isTrue();
+    }
+
     private String createJwt(String publicKeyId, JWTClaimsSet claimsSet, PrivateKey pk) {
         var header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(publicKeyId).build();
         try {
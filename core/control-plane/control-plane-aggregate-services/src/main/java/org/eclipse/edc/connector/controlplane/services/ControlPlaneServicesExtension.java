@@ -88,6 +88,7 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionInstrumentation;
 
 import java.time.Clock;
 
@@ -157,6 +158,8 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     private DataFlowController dataFlowController;
     @Inject
     private DataAddressStore dataAddressStore;
+    @Inject
+    private TransactionInstrumentation transactionInstrumentation;
 
     @Override
     public String name() {
@@ -193,7 +196,7 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Provider
     public CatalogProtocolService catalogProtocolService() {
         return new CatalogProtocolServiceImpl(datasetResolver, dataServiceRegistry,
-                protocolTokenValidator(), identityResolver, transactionContext);
+                protocolTokenValidator(), identityResolver, protocolTransactionContext("catalog"));
     }
 
     @Provider
@@ -217,7 +220,7 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Provider
     public ContractNegotiationProtocolService contractNegotiationProtocolService() {
         return new ContractNegotiationProtocolServiceImpl(contractNegotiationStore,
-                transactionContext, contractValidationService, consumerOfferResolver, protocolTokenValidator(), contractNegotiationObservable,
+                protocolTransactionContext("contract-negotiation"), contractValidationService, consumerOfferResolver, protocolTokenValidator(), contractNegotiationObservable,
                 monitor, telemetry);
     }
 
@@ -239,7 +242,7 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Provider
     public TransferProcessProtocolService transferProcessProtocolService() {
         var factory = new TransferProcessProviderFactory(clock, telemetry, assetIndex);
-        return new TransferProcessProtocolServiceImpl(transferProcessStore, transactionContext, contractNegotiationStore,
+        return new TransferProcessProtocolServiceImpl(transferProcessStore, protocolTransactionContext("transfer-process"), contractNegotiationStore,
                 contractValidationService, protocolTokenValidator(), transferProcessObservable,
                 monitor, dataFlowController, dataAddressStore, factory);
     }
@@ -257,4 +260,8 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
         return new VersionProtocolServiceImpl(dataspaceProfileContextRegistry);
     }
 
+    private TransactionContext protocolTransactionContext(String service) {
+        return transactionInstrumentation.instrument(transactionContext, "protocol-" + service);
+    }
+
 }
@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -87,6 +88,33 @@ public class AssetServiceImpl implements AssetService {
         );
     }
 
+    @Override
+    public List<ServiceResult<Asset>> createAll(List<Asset> assets) {
+        var valid = assets.stream().filter(asset -> !asset.hasDuplicatePropertyKeys()).toList();
+        valid.forEach(this::logWarningWhenCatalogAssetPropertiesAreNotSet);
+
+        return transactionContext.execute(() -> {
+            var storeResults = index.createAll(valid).iterator();
+            var results = new ArrayList<ServiceResult<Asset>>(assets.size());
+            var created = new ArrayList<Asset>();
+            for (var asset : assets) {
+                if (asset.hasDuplicatePropertyKeys()) {
+                    results.add(ServiceResult.badRequest(DUPLICATED_KEYS_MESSAGE));
+                    continue;
+                }
+                var storeResult = storeResults.next();
+                if (storeResult.succeeded()) {
+                    created.add(asset);
+                }
+                results.add(ServiceResult.from(storeResult).map(i -> asset));
+            }
+            if (!created.isEmpty()) {
+                observable.invokeForEach(l -> l.createdAll(created));
+            }
+            return results;
+        });
+    }
+
     @Override
     public ServiceResult<Asset> delete(String assetId) {
         return transactionContext.execute(() -> {
@@ -35,6 +35,10 @@ import org.jetbrains.annotations.NotNull;
 
 import static java.lang.String.format;
 
+/**
+ * Handles the inbound catalog protocol messages. The counter-party token is verified before opening the transaction in
+ * which the catalog is resolved, so that no database connection is held during the verification.
+ */
 public class CatalogProtocolServiceImpl implements CatalogProtocolService {
 
     private final DatasetResolver datasetResolver;
@@ -59,8 +63,8 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     @Override
     @NotNull
     public ServiceResult<Catalog> getCatalog(ParticipantContext participantContext, CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> protocolTokenValidator.verify(participantContext, tokenRepresentation, RequestCatalogPolicyContext::new, message)
-                .map(agent -> {
+        return protocolTokenValidator.verify(participantContext, tokenRepresentation, RequestCatalogPolicyContext::new, message)
+                .map(agent -> transactionContext.execute(() -> {
                     try (var datasets = datasetResolver.query(participantContext, agent, message.getQuerySpec(), message.getProtocol())) {
                         var dataServices = dataServiceRegistry.getDataServices(participantContext.getParticipantContextId(), message.getProtocol());
 
@@ -70,22 +74,21 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
                                 .participantId(identityResolver.getParticipantId(participantContext.getParticipantContextId(), message.getProtocol()))
                                 .build();
                     }
-                })
-        );
+                }));
     }
 
     @Override
     public @NotNull ServiceResult<Dataset> getDataset(ParticipantContext participantContext, DatasetRequestMessage message, TokenRepresentation tokenRepresentation) {
         var datasetId = message.getDatasetId();
-        return transactionContext.execute(() -> protocolTokenValidator.verify(participantContext, tokenRepresentation, RequestCatalogPolicyContext::new, message)
-                .map(agent -> datasetResolver.getById(participantContext, agent, datasetId, message.getProtocol()))
+        return protocolTokenValidator.verify(participantContext, tokenRepresentation, RequestCatalogPolicyContext::new, message)
+                .map(agent -> transactionContext.execute(() -> datasetResolver.getById(participantContext, agent, datasetId, message.getProtocol())))
                 .compose(dataset -> {
                     if (dataset == null) {
                         return ServiceResult.notFound(format("Dataset %s does not exist", datasetId));
                     }
 
                     return ServiceResult.success(dataset);
-                }));
+                });
     }
 
 }
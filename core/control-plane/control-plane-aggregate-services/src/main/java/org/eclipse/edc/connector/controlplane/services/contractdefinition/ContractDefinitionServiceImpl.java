@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -68,6 +69,29 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
         });
     }
 
+    @Override
+    public List<ServiceResult<ContractDefinition>> createAll(List<ContractDefinition> contractDefinitions) {
+        return transactionContext.execute(() -> {
+            var saveResults = store.saveAll(contractDefinitions);
+            var results = new ArrayList<ServiceResult<ContractDefinition>>(contractDefinitions.size());
+            var created = new ArrayList<ContractDefinition>();
+            for (var i = 0; i < contractDefinitions.size(); i++) {
+                var contractDefinition = contractDefinitions.get(i);
+                var saveResult = saveResults.get(i);
+                if (saveResult.succeeded()) {
+                    created.add(contractDefinition);
+                    results.add(ServiceResult.success(contractDefinition));
+                } else {
+                    results.add(ServiceResult.fromFailure(saveResult));
+                }
+            }
+            if (!created.isEmpty()) {
+                observable.invokeForEach(l -> l.createdAll(created));
+            }
+            return results;
+        });
+    }
+
     @Override
     public ServiceResult<Void> update(ContractDefinition contractDefinition) {
         return transactionContext.execute(() -> {
@@ -57,6 +57,11 @@ import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiat
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation.Type.PROVIDER;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.isFinal;
 
+/**
+ * Handles the inbound contract negotiation protocol messages. Verifying the counter-party token may involve remote calls
+ * (e.g. to fetch and verify credentials), so it happens outside any transaction: only loading the negotiation (or the
+ * offer) and applying the state transition run in (separate) transactions, and no database connection is held while verifying.
+ */
 public class ContractNegotiationProtocolServiceImpl implements ContractNegotiationProtocolService {
 
     private final ContractNegotiationStore store;
@@ -89,7 +94,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyRequested(ParticipantContext participantContext, ContractRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchValidatableOffer(participantContext, message)
+        return transactionContext.execute(() -> fetchValidatableOffer(participantContext, message))
                 .compose(validatableOffer -> verifyRequest(participantContext, tokenRepresentation, validatableOffer.getContractPolicy(), message)
                         .compose(agent -> {
                             var result = validationService.validateInitialOffer(agent, validatableOffer);
@@ -105,23 +110,24 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                                     .assetId(offerId.assetIdPart())
                                     .build();
 
-                            if (message.getProviderPid() == null) {
-                                var negotiation = createNegotiation(participantContext, message, agent.getIdentity(), PROVIDER, message.getCallbackAddress());
-                                return requestedAction(message, negotiation, contractOffer);
-                            }
+                            return transactionContext.execute(() -> {
+                                if (message.getProviderPid() == null) {
+                                    var negotiation = createNegotiation(participantContext, message, agent.getIdentity(), PROVIDER, message.getCallbackAddress());
+                                    return requestedAction(message, negotiation, contractOffer);
+                                }
 
-                            return onMessageDo(participantContext, message, agent,
-                                    negotiation -> requestedAction(message, negotiation, contractOffer));
-                        })
-                ));
+                                return onMessageDo(participantContext, message, agent,
+                                        negotiation -> requestedAction(message, negotiation, contractOffer));
+                            });
+                        }));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyOffered(ParticipantContext participantContext, ContractOfferMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> verifyRequest(participantContext, tokenRepresentation, message.getContractOffer().getPolicy(), message)
-                .compose(agent -> {
+        return verifyRequest(participantContext, tokenRepresentation, message.getContractOffer().getPolicy(), message)
+                .compose(agent -> transactionContext.execute(() -> {
                     if (message.getConsumerPid() == null) {
                         var negotiation = createNegotiation(participantContext, message, agent.getIdentity(), CONSUMER, message.getCallbackAddress());
                         return offeredAction(message, negotiation);
@@ -136,9 +142,9 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAccepted(ParticipantContext participantContext, ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, contractNegotiation -> acceptedAction(message, contractNegotiation))));
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(participantContext, message, agent, contractNegotiation -> acceptedAction(message, contractNegotiation))));
 
     }
 
@@ -146,36 +152,36 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAgreed(ParticipantContext participantContext, ContractAgreementMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, negotiation -> agreedAction(message, negotiation, agent))));
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(participantContext, message, agent, negotiation -> agreedAction(message, negotiation, agent))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyVerified(ParticipantContext participantContext, ContractAgreementVerificationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, contractNegotiation -> verifiedAction(message, contractNegotiation, agent))));
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(participantContext, message, agent, contractNegotiation -> verifiedAction(message, contractNegotiation, agent))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyFinalized(ParticipantContext participantContext, ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, contractNegotiation -> finalizedAction(message, contractNegotiation))));
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(participantContext, message, agent, contractNegotiation -> finalizedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyTerminated(ParticipantContext participantContext, ContractNegotiationTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, contractNegotiation -> terminatedAction(message, contractNegotiation))));
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(participantContext, message, agent, contractNegotiation -> terminatedAction(message, contractNegotiation))));
     }
 
     @Override
@@ -183,7 +189,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @NotNull
     public ServiceResult<ContractNegotiation> findById(ParticipantContext participantContext, ContractNegotiationRequestMessage message, TokenRepresentation tokenRepresentation) {
 
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getNegotiationId())
+        return transactionContext.execute(() -> getNegotiation(participantContext, message.getNegotiationId()))
                 .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> {
                             var result = validationService.validateRequest(agent, contractNegotiation);
@@ -192,7 +198,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                             }
 
                             return ServiceResult.success(contractNegotiation);
-                        })));
+                        }));
     }
 
     @NotNull
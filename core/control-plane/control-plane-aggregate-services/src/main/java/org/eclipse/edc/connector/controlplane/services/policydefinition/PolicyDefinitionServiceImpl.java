@@ -36,8 +36,10 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
@@ -118,6 +120,33 @@ public class PolicyDefinitionServiceImpl implements PolicyDefinitionService {
                 }));
     }
 
+    @Override
+    public @NotNull List<ServiceResult<PolicyDefinition>> createAll(List<PolicyDefinition> policyDefinitions) {
+        var validations = policyDefinitions.stream().map(this::validatePolicyDefinition).toList();
+        var valid = IntStream.range(0, policyDefinitions.size())
+                .filter(i -> validations.get(i).succeeded())
+                .mapToObj(policyDefinitions::get)
+                .toList();
+
+        return transactionContext.execute(() -> {
+            var saveResults = policyStore.createAll(valid).iterator();
+            var results = new ArrayList<ServiceResult<PolicyDefinition>>(policyDefinitions.size());
+            var created = new ArrayList<PolicyDefinition>();
+            for (var validation : validations) {
+                if (validation.failed()) {
+                    results.add(validation.mapFailure());
+                    continue;
+                }
+                var saveResult = saveResults.next();
+                saveResult.onSuccess(created::add);
+                results.add(ServiceResult.from(saveResult));
+            }
+            if (!created.isEmpty()) {
+                observable.invokeForEach(l -> l.createdAll(created));
+            }
+            return results;
+        });
+    }
 
     @Override
     public ServiceResult<PolicyDefinition> update(PolicyDefinition policyDefinition) {
@@ -58,6 +58,11 @@ import static org.eclipse.edc.connector.controlplane.transfer.spi.types.Transfer
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.SUSPENDED;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.queryByParticipantContextId;
 
+/**
+ * Handles the inbound transfer process protocol messages. Verifying the counter-party token may involve remote calls
+ * (e.g. to fetch and verify credentials), so it happens outside any transaction: only loading the request context and
+ * applying the state transition run in (separate) transactions, and no database connection is held while verifying.
+ */
 public class TransferProcessProtocolServiceImpl implements TransferProcessProtocolService {
 
     private final TransferProcessStore transferProcessStore;
@@ -96,49 +101,45 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyRequested(ParticipantContext participantContext, TransferRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchContractAgreement(participantContext, message)
+        return transactionContext.execute(() -> fetchContractAgreement(participantContext, message))
                 .compose(contractAgreement -> verifyRequest(participantContext, tokenRepresentation, message, contractAgreement))
-                .compose(context -> requestedAction(participantContext, message, context)));
+                .compose(context -> transactionContext.execute(() -> requestedAction(participantContext, message, context)));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyStarted(ParticipantContext participantContext, TransferStartMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId()))
                 .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
-                .compose(context -> onMessageDo(message, transferProcess -> startedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, transferProcess -> startedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyCompleted(ParticipantContext participantContext, TransferCompletionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId()))
                 .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
-                .compose(i -> onMessageDo(message, transferProcess -> completedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, transferProcess -> completedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifySuspended(ParticipantContext participantContext, TransferSuspensionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId()))
                 .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
-                .compose(i -> onMessageDo(message, transferProcess -> suspendedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, transferProcess -> suspendedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyTerminated(ParticipantContext participantContext, TransferTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId())
+        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId()))
                 .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
-                .compose(i -> onMessageDo(message, transferProcess -> terminatedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, transferProcess -> terminatedAction(message, transferProcess))));
     }
 
     @Override
@@ -146,10 +147,9 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @NotNull
     public ServiceResult<TransferProcess> findById(ParticipantContext participantContext, TransferProcessRequestMessage message, TokenRepresentation tokenRepresentation) {
 
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getTransferProcessId())
+        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getTransferProcessId()))
                 .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement())
-                        .map(it -> context.transferProcess()))
-        );
+                        .map(it -> context.transferProcess()));
     }
 
     @NotNull
@@ -40,6 +40,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -170,6 +171,38 @@ class AssetServiceImplTest {
         }
     }
 
+    @Nested
+    class CreateAll {
+        @Test
+        void shouldCreateAssetsInOneBatch() {
+            var assets = List.of(createAsset("id1"), createAsset("id2"));
+            when(index.createAll(assets)).thenReturn(List.of(StoreResult.success(), StoreResult.alreadyExists("test")));
+
+            var results = service.createAll(assets);
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0)).isSucceeded().matches(hasId("id1"));
+            assertThat(results.get(1)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+            verify(index).createAll(assets);
+            verifyNoMoreInteractions(index);
+            verify(observable, times(1)).invokeForEach(any());
+        }
+
+        @Test
+        void shouldNotStoreAssetsWithDuplicatedProperties() {
+            var valid = createAsset("valid");
+            var invalid = createAssetBuilder("invalid").property("property", "value").privateProperty("property", "other-value").build();
+            when(index.createAll(List.of(valid))).thenReturn(List.of(StoreResult.success()));
+
+            var results = service.createAll(List.of(invalid, valid));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+            assertThat(results.get(1)).isSucceeded().matches(hasId("valid"));
+            verify(index).createAll(List.of(valid));
+        }
+    }
+
     @Nested
     class Delete {
         @Test
@@ -30,6 +30,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -145,6 +146,21 @@ class ContractDefinitionServiceImplTest {
         verifyNoInteractions(listener);
     }
 
+    @Test
+    void createAll_shouldNotifyOnlyCreatedDefinitions() {
+        var created = createContractDefinition();
+        var existing = createContractDefinition();
+        when(store.saveAll(List.of(created, existing))).thenReturn(List.of(StoreResult.success(), StoreResult.alreadyExists("Exists")));
+
+        var results = service.createAll(List.of(created, existing));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isSucceeded().isSameAs(created);
+        assertThat(results.get(1).reason()).isEqualTo(CONFLICT);
+        verify(listener).createdAll(List.of(created));
+        verify(listener, never()).created(any());
+    }
+
     @Test
     void delete_shouldDeleteDefinitionIfItsNotReferencedByAnyAgreement() {
         var definition = createContractDefinition();
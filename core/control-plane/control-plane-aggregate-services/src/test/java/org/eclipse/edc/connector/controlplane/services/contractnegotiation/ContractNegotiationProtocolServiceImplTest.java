@@ -64,6 +64,7 @@ import org.mockito.ArgumentCaptor;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -93,6 +94,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -661,6 +663,36 @@ class ContractNegotiationProtocolServiceImplTest {
         verifyNoInteractions(listener);
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(NotifyArguments.class)
+    <M extends RemoteMessage> void notify_shouldVerifyTokenOutsideTransaction(MethodCall<M> methodCall, M message) {
+        var tokenRepresentation = tokenRepresentation();
+        var validatableOffer = mock(ValidatableConsumerOffer.class);
+        var inTransaction = new AtomicBoolean();
+        var verifiedInTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                inTransaction.set(false);
+            }
+        }).when(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        when(validatableOffer.getContractPolicy()).thenReturn(createPolicy());
+        when(validatableOffer.getContractDefinition()).thenReturn(createContractDefinition());
+        when(consumerOfferResolver.resolveOffer(any())).thenReturn(ServiceResult.success(validatableOffer));
+        when(store.findById(any())).thenReturn(createContractNegotiationOffered());
+        when(protocolTokenValidator.verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message))).thenAnswer(invocation -> {
+            verifiedInTransaction.set(inTransaction.get());
+            return ServiceResult.unauthorized("unauthorized");
+        });
+
+        methodCall.call(service, participantContext, message, tokenRepresentation);
+
+        verify(protocolTokenValidator).verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message));
+        assertThat(verifiedInTransaction).isFalse();
+    }
+
     @ParameterizedTest
     @ArgumentsSource(NotifyArguments.class)
     <M extends RemoteMessage> void notify_shouldReturnNotFound_whenParticipantContextNotMatch(MethodCall<M> methodCall, M message) {
@@ -24,12 +24,14 @@ import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -144,6 +146,27 @@ class PolicyDefinitionServiceImplTest {
         verifyNoMoreInteractions(policyStore);
     }
 
+    @Test
+    void createAll_shouldStoreOnlyValidPolicies() {
+        var policyServiceImpl = new PolicyDefinitionServiceImpl(dummyTransactionContext, policyStore, contractDefinitionStore, observable, policyEngine, queryValidator, true);
+        var valid = createPolicy("valid");
+        var invalid = createPolicy("invalid");
+        var existing = createPolicy("existing");
+        when(policyEngine.validate(any())).thenReturn(Result.success());
+        when(policyEngine.validate(invalid.getPolicy())).thenReturn(Result.failure("validation failure"));
+        when(policyStore.createAll(List.of(valid, existing))).thenReturn(List.of(StoreResult.success(valid), StoreResult.alreadyExists("test")));
+
+        var results = policyServiceImpl.createAll(List.of(valid, invalid, existing));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isSucceeded().isEqualTo(valid);
+        assertThat(results.get(1)).isFailed().messages().contains("validation failure");
+        assertThat(results.get(2)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        verify(policyStore).createAll(List.of(valid, existing));
+        verifyNoMoreInteractions(policyStore);
+        verify(observable).invokeForEach(any());
+    }
+
     @Test
     void delete_shouldDeletePolicyIfItsNotReferencedByAnyContractDefinition() {
         when(contractDefinitionStore.findAll(any())).thenReturn(Stream.empty(), Stream.empty());
@@ -61,6 +61,7 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -91,6 +92,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -221,6 +223,33 @@ class TransferProcessProtocolServiceImplTest {
         verifyNoInteractions(listener);
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(NotifyArguments.class)
+    <M extends RemoteMessage> void notify_shouldVerifyTokenOutsideTransaction(MethodCall<M> methodCall, M message) {
+        var tokenRepresentation = tokenRepresentation();
+        var inTransaction = new AtomicBoolean();
+        var verifiedInTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                inTransaction.set(false);
+            }
+        }).when(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        when(store.findById(any())).thenReturn(transferProcessBuilder().build());
+        when(negotiationStore.findContractAgreement(any())).thenReturn(contractAgreement());
+        when(protocolTokenValidator.verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message))).thenAnswer(invocation -> {
+            verifiedInTransaction.set(inTransaction.get());
+            return ServiceResult.unauthorized("unauthorized");
+        });
+
+        methodCall.call(service, participantContext, message, tokenRepresentation);
+
+        verify(protocolTokenValidator).verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message));
+        assertThat(verifiedInTransaction).isFalse();
+    }
+
     private TransferProcess transferProcess(TransferProcessStates state, String id) {
         return transferProcessBuilder()
                 .id(id)
@@ -31,6 +31,7 @@ import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
@@ -38,6 +39,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -76,13 +78,44 @@ public class DatasetResolverImpl implements DatasetResolver {
             return Stream.empty();
         }
 
+        var policies = resolved.policies();
+        var offerableDefinitions = contractDefinitions.stream()
+                .filter(definition -> resolvePolicy(policies, definition) != null)
+                .toList();
+        if (offerableDefinitions.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var participantContextFilter = filterByParticipantContextId(participantContext.getParticipantContextId());
+        var selectors = offerableDefinitions.stream().map(ContractDefinition::getAssetsSelector).distinct().toList();
+
+        var pagedQuery = QuerySpec.Builder.newInstance()
+                .offset(querySpec.getOffset()).limit(querySpec.getLimit()).filter(querySpec.getFilterExpression())
+                .filter(participantContextFilter)
+                .cursor(querySpec.getCursor())
+                .build();
+
+        var assets = assetIndex.queryAssets(pagedQuery, selectors);
+        if (assets != null) {
+            // the selectors are evaluated again in memory to attach the offers, an asset that then gets no offer is
+            // dropped and the following assets are fetched, so that the page is not cut short
+            var first = new Chunk(pagedQuery.getOffset(), assets.toList());
+            return Stream.iterate(first, Objects::nonNull, previous -> nextChunk(previous, pagedQuery, selectors))
+                    .flatMap(chunk -> chunk.assets().stream())
+                    .map(asset -> toDataset(offerableDefinitions, asset, policies, protocol))
+                    .filter(Dataset::hasOffers)
+                    .limit(querySpec.getLimit());
+        }
+
+        // the asset index cannot evaluate the selectors, so they are applied in memory before paging
         var assetsQuery = QuerySpec.Builder.newInstance()
                 .offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression())
-                .filter(filterByParticipantContextId(participantContext.getParticipantContextId()))
+                .filter(participantContextFilter)
+                .cursor(querySpec.getCursor())
                 .build();
 
         return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset, resolved.policies(), protocol))
+                .map(asset -> toDataset(offerableDefinitions, asset, policies, protocol))
                 .filter(Dataset::hasOffers)
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
@@ -140,11 +173,7 @@ public class DatasetResolverImpl implements DatasetResolver {
                         .test(asset)
                 )
                 .forEach(contractDefinition -> {
-                    var policy = policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
-                            Optional.ofNullable(policyDefinitionStore.findById(policyId))
-                                    .map(PolicyDefinition::getPolicy)
-                                    .orElse(null)
-                    );
+                    var policy = resolvePolicy(policies, contractDefinition);
 
                     if (policy != null) {
                         var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
@@ -156,4 +185,25 @@ public class DatasetResolverImpl implements DatasetResolver {
         return datasetBuilder.build();
     }
 
+    private Chunk nextChunk(Chunk previous, QuerySpec query, List<List<Criterion>> selectors) {
+        var offset = (long) previous.offset() + query.getLimit();
+        if (previous.assets().size() < query.getLimit() || offset > MAX_VALUE) {
+            return null;
+        }
+
+        var assets = assetIndex.queryAssets(query.toBuilder().offset((int) offset).build(), selectors);
+        return assets == null ? null : new Chunk((int) offset, assets.toList());
+    }
+
+    private Policy resolvePolicy(Map<String, Policy> policies, ContractDefinition contractDefinition) {
+        return policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
+                Optional.ofNullable(policyDefinitionStore.findById(policyId))
+                        .map(PolicyDefinition::getPolicy)
+                        .orElse(null)
+        );
+    }
+
+    private record Chunk(int offset, List<Asset> assets) {
+    }
+
 }
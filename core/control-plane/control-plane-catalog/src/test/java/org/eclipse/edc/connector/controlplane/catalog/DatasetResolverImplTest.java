@@ -79,6 +79,7 @@ class DatasetResolverImplTest {
     void setUp() {
         datasetResolver = new DatasetResolverImpl(definitionResolver, assetIndex, policyStore, distributionResolver,
                 CriterionOperatorRegistryImpl.ofDefaults(), mock());
+        when(assetIndex.queryAssets(any(), any())).thenReturn(null);
     }
 
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
@@ -208,6 +209,56 @@ class DatasetResolverImplTest {
             ));
         }
 
+        @Test
+        void shouldPushDownSelectorsAndRange_whenSupportedByAssetIndex() {
+            var definitionCriterion = new Criterion(EDC_NAMESPACE + "id", "=", "id");
+            var contractDefinitions = List.of(
+                    contractDefinitionBuilder("definition1").assetsSelector(List.of(definitionCriterion)).build(),
+                    contractDefinitionBuilder("definition2").assetsSelector(List.of(definitionCriterion)).build(),
+                    contractDefinitionBuilder("definition3").contractPolicyId("unknown").build());
+            when(definitionResolver.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
+            when(policyStore.findById("contract")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            when(assetIndex.queryAssets(any(), any())).thenReturn(Stream.of(createAsset("id").build()));
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(20, 30)).build();
+
+            var datasets = datasetResolver.query(createParticipantContext(), createParticipantAgent(), querySpec, "protocol");
+
+            assertThat(datasets).hasSize(1).first().satisfies(dataset -> assertThat(dataset.getOffers()).hasSize(2));
+            verify(assetIndex).queryAssets(
+                    argThat(q -> q.getOffset() == 20 && q.getLimit() == 10),
+                    eq(List.of(List.of(definitionCriterion))));
+            verify(assetIndex, never()).queryAssets(any());
+        }
+
+        @Test
+        void shouldFetchFollowingAssets_whenAnAssetGetsNoOffer() {
+            var definitionCriterion = new Criterion(EDC_NAMESPACE + "id", "in", List.of("id1", "id3"));
+            var contractDefinition = contractDefinitionBuilder("definition").assetsSelector(List.of(definitionCriterion)).build();
+            when(definitionResolver.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
+            when(policyStore.findById("contract")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            when(assetIndex.queryAssets(argThat(q -> q != null && q.getOffset() == 0), any()))
+                    .thenReturn(Stream.of(createAsset("id1").build(), createAsset("id2").build()));
+            when(assetIndex.queryAssets(argThat(q -> q != null && q.getOffset() == 2), any()))
+                    .thenReturn(Stream.of(createAsset("id3").build()));
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(0, 2)).build();
+
+            var datasets = datasetResolver.query(createParticipantContext(), createParticipantAgent(), querySpec, "protocol");
+
+            assertThat(datasets).extracting(Dataset::getId).containsExactly("id1", "id3");
+        }
+
+        @Test
+        void shouldNotQueryAssets_whenNoContractPolicyFound() {
+            var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("unknown").build();
+            when(definitionResolver.resolveFor(any(), any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
+
+            var datasets = datasetResolver.query(createParticipantContext(), createParticipantAgent(), QuerySpec.none(), "protocol");
+
+            assertThat(datasets).isEmpty();
+            verify(assetIndex, never()).queryAssets(any(), any());
+            verify(assetIndex, never()).queryAssets(any());
+        }
+
         @Test
         void shouldLimitDataset_whenSingleDefinitionAndMultipleAssets_contained() {
             var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
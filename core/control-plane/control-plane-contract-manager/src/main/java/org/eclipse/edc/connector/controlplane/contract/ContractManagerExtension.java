@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.contract;
 
 import org.eclipse.edc.connector.controlplane.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.controlplane.contract.negotiation.ProviderContractNegotiationManagerImpl;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.NegotiationProcessors;
@@ -27,12 +28,14 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.StateMachineConfiguration;
+import org.eclipse.edc.statemachine.StateMachineWakeUpSubscriber;
 
 import java.time.Clock;
 
@@ -59,6 +62,8 @@ public class ContractManagerExtension implements ServiceExtension {
     private ExecutorInstrumentation executorInstrumentation;
     @Inject
     private NegotiationProcessors negotiationProcessors;
+    @Inject
+    private EventRouter eventRouter;
 
     private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
     private ProviderContractNegotiationManagerImpl providerNegotiationManager;
@@ -86,6 +91,8 @@ public class ContractManagerExtension implements ServiceExtension {
                 .executorInstrumentation(executorInstrumentation)
                 .store(store)
                 .batchSize(stateMachineConfiguration.batchSize())
+                .multiStateFetch(stateMachineConfiguration.multiStateFetch())
+                .workers(stateMachineConfiguration.workers())
                 .entityRetryProcessConfiguration(stateMachineConfiguration.entityRetryProcessConfiguration())
                 .pendingGuard(pendingGuard)
                 .build();
@@ -99,10 +106,14 @@ public class ContractManagerExtension implements ServiceExtension {
                 .executorInstrumentation(executorInstrumentation)
                 .store(store)
                 .batchSize(stateMachineConfiguration.batchSize())
+                .multiStateFetch(stateMachineConfiguration.multiStateFetch())
+                .workers(stateMachineConfiguration.workers())
                 .entityRetryProcessConfiguration(stateMachineConfiguration.entityRetryProcessConfiguration())
                 .pendingGuard(pendingGuard)
                 .build();
 
+        eventRouter.register(ContractNegotiationEvent.class, new StateMachineWakeUpSubscriber(consumerNegotiationManager, providerNegotiationManager));
+
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
         context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
     }
@@ -22,14 +22,17 @@ import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.Con
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.statemachine.AbstractStateEntityManager;
-import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
+import org.eclipse.edc.statemachine.StateMachineManager;
+import org.eclipse.edc.statemachine.StateProcessor;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
-import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
 
 public abstract class AbstractContractNegotiationManager extends AbstractStateEntityManager<ContractNegotiation, ContractNegotiationStore> {
@@ -39,12 +42,23 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     abstract ContractNegotiation.Type type();
 
-    protected Processor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> function) {
-        var filter = new Criterion[]{hasState(state.code()), isNotPending(), new Criterion("type", "=", type().name())};
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter), entityRetryProcessConfiguration, clock, monitor)
+    protected StateMachineManager.Builder registerProcessors(StateMachineManager.Builder builder, List<StateProcessor<ContractNegotiation>> stateProcessors) {
+        return registerProcessors(builder, List.of(isNotPending(), new Criterion("type", "=", type().name())), stateProcessors);
+    }
+
+    protected StateProcessor<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> function) {
+        return new StateProcessor<>(state.code(), function);
+    }
+
+    @Override
+    protected ProcessorImpl<ContractNegotiation> createProcessor(Supplier<Collection<ContractNegotiation>> entities,
+                                                                 Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> function) {
+        return ProcessorImpl.Builder.newInstance(entities, entityRetryProcessConfiguration, clock, monitor)
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .onDelayed(this::delay)
+                .executor(workerExecutor)
                 .build();
     }
 
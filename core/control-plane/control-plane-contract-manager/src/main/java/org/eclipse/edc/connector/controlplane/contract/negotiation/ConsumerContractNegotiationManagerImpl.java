@@ -22,6 +22,8 @@ import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ConsumerC
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
+import java.util.List;
+
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation.Type.CONSUMER;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.ACCEPTING;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.AGREED;
@@ -45,13 +47,14 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
 
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
-        return builder
-                .processor(processNegotiationsInState(INITIAL, negotiationProcessors::processInitial))
-                .processor(processNegotiationsInState(REQUESTING, negotiationProcessors::processRequesting))
-                .processor(processNegotiationsInState(ACCEPTING, negotiationProcessors::processAccepting))
-                .processor(processNegotiationsInState(AGREED, negotiationProcessors::processAgreed))
-                .processor(processNegotiationsInState(VERIFYING, negotiationProcessors::processVerifying))
-                .processor(processNegotiationsInState(TERMINATING, negotiationProcessors::processTerminating));
+        return registerProcessors(builder, List.of(
+                processNegotiationsInState(INITIAL, negotiationProcessors::processInitial),
+                processNegotiationsInState(REQUESTING, negotiationProcessors::processRequesting),
+                processNegotiationsInState(ACCEPTING, negotiationProcessors::processAccepting),
+                processNegotiationsInState(AGREED, negotiationProcessors::processAgreed),
+                processNegotiationsInState(VERIFYING, negotiationProcessors::processVerifying),
+                processNegotiationsInState(TERMINATING, negotiationProcessors::processTerminating)
+        ));
     }
 
     /**
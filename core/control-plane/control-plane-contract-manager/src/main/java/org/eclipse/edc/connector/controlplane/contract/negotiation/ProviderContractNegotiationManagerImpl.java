@@ -23,6 +23,8 @@ import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ProviderC
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
+import java.util.List;
+
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation.Type.PROVIDER;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.ACCEPTED;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.AGREEING;
@@ -42,14 +44,15 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
 
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
-        return builder
-                .processor(processNegotiationsInState(OFFERING, negotiationProcessors::processOffering))
-                .processor(processNegotiationsInState(REQUESTED, negotiationProcessors::processRequested))
-                .processor(processNegotiationsInState(ACCEPTED, negotiationProcessors::processAccepted))
-                .processor(processNegotiationsInState(AGREEING, negotiationProcessors::processAgreeing))
-                .processor(processNegotiationsInState(VERIFIED, negotiationProcessors::processVerified))
-                .processor(processNegotiationsInState(FINALIZING, negotiationProcessors::processFinalizing))
-                .processor(processNegotiationsInState(TERMINATING, negotiationProcessors::processTerminating));
+        return registerProcessors(builder, List.of(
+                processNegotiationsInState(OFFERING, negotiationProcessors::processOffering),
+                processNegotiationsInState(REQUESTED, negotiationProcessors::processRequested),
+                processNegotiationsInState(ACCEPTED, negotiationProcessors::processAccepted),
+                processNegotiationsInState(AGREEING, negotiationProcessors::processAgreeing),
+                processNegotiationsInState(VERIFIED, negotiationProcessors::processVerified),
+                processNegotiationsInState(FINALIZING, negotiationProcessors::processFinalizing),
+                processNegotiationsInState(TERMINATING, negotiationProcessors::processTerminating)
+        ));
     }
 
     @Override
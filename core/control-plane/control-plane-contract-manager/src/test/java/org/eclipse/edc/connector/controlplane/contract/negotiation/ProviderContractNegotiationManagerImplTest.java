@@ -28,16 +28,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static java.time.ZoneOffset.UTC;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.AGREEING;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isDue;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
 import static org.eclipse.edc.spi.response.StatusResult.success;
 import static org.mockito.AdditionalMatchers.aryEq;
@@ -53,6 +56,7 @@ class ProviderContractNegotiationManagerImplTest {
     private final ContractNegotiationStore store = mock();
     private final NegotiationProcessors negotiationProcessors = mock();
     private final ContractNegotiationPendingGuard pendingGuard = mock();
+    private final Clock clock = Clock.fixed(Instant.now(), UTC);
     private ProviderContractNegotiationManagerImpl manager;
 
     @BeforeEach
@@ -62,6 +66,7 @@ class ProviderContractNegotiationManagerImplTest {
                 .negotiationProcessors(negotiationProcessors)
                 .monitor(mock())
                 .store(store)
+                .clock(clock)
                 .entityRetryProcessConfiguration(new EntityRetryProcessConfiguration(RETRY_LIMIT, () -> new ExponentialWaitStrategy(0L)))
                 .pendingGuard(pendingGuard)
                 .build();
@@ -87,7 +92,7 @@ class ProviderContractNegotiationManagerImplTest {
     }
 
     private Criterion[] stateIs(int state) {
-        return aryEq(new Criterion[]{hasState(state), isNotPending(), new Criterion("type", "=", "PROVIDER")});
+        return aryEq(new Criterion[]{hasState(state), isNotPending(), new Criterion("type", "=", "PROVIDER"), isDue(clock.millis())});
     }
 
     private ContractNegotiation.Builder contractNegotiationBuilder() {
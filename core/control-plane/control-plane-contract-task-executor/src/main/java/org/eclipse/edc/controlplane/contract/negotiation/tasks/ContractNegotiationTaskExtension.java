@@ -63,7 +63,7 @@ public class ContractNegotiationTaskExtension implements ServiceExtension {
 
     @Provider
     public ContractNegotiationTaskExecutor contractNegotiationTaskExecutor() {
-        return ContractNegotiationTaskExecutorImpl.Builder.newInstance()
+        var executor = ContractNegotiationTaskExecutorImpl.Builder.newInstance()
                 .taskService(taskService)
                 .negotiationProcessors(negotiationProcessors)
                 .clock(clock)
@@ -72,5 +72,8 @@ public class ContractNegotiationTaskExtension implements ServiceExtension {
                 .pendingGuard(pendingGuard)
                 .monitor(monitor)
                 .build();
+        // follow-up tasks are stored within the transaction in which the processors save the state transition
+        contractNegotiationObservable.registerListener(executor);
+        return executor;
     }
 }
@@ -16,6 +16,7 @@ package org.eclipse.edc.controlplane.contract.negotiation.tasks.executor;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.NegotiationProcessors;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.observe.ContractNegotiationListener;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates;
@@ -35,23 +36,29 @@ import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.VerifyNegotia
 import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
 import org.eclipse.edc.controlplane.tasks.Task;
 import org.eclipse.edc.controlplane.tasks.TaskService;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.StoreFailure;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATING;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.from;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
-public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationTaskExecutor {
+public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationTaskExecutor, ContractNegotiationListener {
 
     private final Map<Class<? extends ContractNegotiationTaskPayload>, Handler> handlers = new HashMap<>();
+    private final Map<String, FollowUp> followUps = new ConcurrentHashMap<>();
     protected Clock clock;
     protected ContractNegotiationStore store;
     protected TransactionContext transactionContext;
@@ -84,51 +91,100 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
         return handleTask(task);
     }
 
+    /**
+     * Stores the follow-up task of the contract negotiation being handled, if any. Invoked by the processors within the
+     * transaction that saves the state transition, so the follow-up task is committed together with it.
+     */
+    @Override
+    public void persisted(ContractNegotiation negotiation) {
+        var followUp = followUps.get(negotiation.getId());
+        if (followUp != null) {
+            followUp.store(negotiation);
+        }
+    }
+
     private void storeTask(ContractNegotiationTaskPayload payload) {
         var task = Task.Builder.newInstance().at(clock.millis())
                 .payload(payload)
                 .build();
-        taskService.create(task);
+        taskService.create(task)
+                .orElseThrow(f -> new EdcException("Failed to create task: " + f.getFailureDetail()));
     }
 
+    /**
+     * Handles the task in two phases, so that no transaction is open during the remote calls performed by the processors:
+     * the contract negotiation is loaded, validated and leased in a short transaction, then the processor is invoked
+     * outside any transaction. The processor saves the state transition in its own short transaction, which also breaks
+     * the lease and stores the follow-up task (see {@link #persisted(ContractNegotiation)}); the lease guarantees that no
+     * other runtime transitions the negotiation in the meantime.
+     */
     private StatusResult<Void> handleTask(ContractNegotiationTaskPayload task) {
-        var expectedState = ContractNegotiationStates.from(task.getProcessState());
+        var handler = handlers.get(task.getClass());
+        var leaseResult = transactionContext.execute(() -> leaseNegotiation(task, handler));
+        if (leaseResult.failed() || leaseResult.getContent() == null) {
+            return leaseResult.mapEmpty();
+        }
+
+        var negotiation = leaseResult.getContent();
+        var result = handler.function.apply(negotiation);
+        if (result.failed()) {
+            // the processor might have failed before persisting the negotiation, release it for the next attempt
+            transactionContext.execute(() -> store.breakLease(negotiation));
+        }
+        return result;
+    }
+
+    /**
+     * Loads and leases the contract negotiation, if the task has to be handled.
+     *
+     * @return the leased negotiation, a successful result with null content if the task has to be skipped, or a failure.
+     */
+    private StatusResult<ContractNegotiation> leaseNegotiation(ContractNegotiationTaskPayload task, Handler handler) {
         var negotiationId = task.getProcessId();
-        return transactionContext.execute(() -> {
-            var negotiationResult = loadNegotiation(task.getProcessId());
-            if (negotiationResult.failed()) {
-                return StatusResult.failure(FATAL_ERROR, negotiationResult.getFailureDetail());
+        var negotiationResult = store.findByIdAndLease(negotiationId);
+        if (negotiationResult.failed()) {
+            if (negotiationResult.reason() == StoreFailure.Reason.NOT_FOUND) {
+                return StatusResult.failure(FATAL_ERROR, "Contract negotiation with id '%s' not found".formatted(negotiationId));
             }
+            return StatusResult.failure(ERROR_RETRY, negotiationResult.getFailureDetail());
+        }
 
-            var negotiation = negotiationResult.getContent();
-            if (ContractNegotiationStates.isFinal(negotiation.getState())) {
-                monitor.debug("Skipping contract negotiation with id '%s' is in final state '%s'".formatted(task.getProcessId(), from(negotiation.getState())));
-                return StatusResult.success();
-            }
+        var negotiation = negotiationResult.getContent();
+        if (shouldSkip(negotiation, task, handler)) {
+            store.breakLease(negotiation);
+            return StatusResult.success(null);
+        }
+        return StatusResult.success(negotiation);
+    }
 
-            if (negotiation.getState() != expectedState.code()) {
-                monitor.warning("Skipping contract negotiation with id '%s' is in state '%s', expected '%s'".formatted(negotiationId, from(negotiation.getState()), expectedState));
-                return StatusResult.success();
-            }
+    private boolean shouldSkip(ContractNegotiation negotiation, ContractNegotiationTaskPayload task, Handler handler) {
+        var expectedState = ContractNegotiationStates.from(task.getProcessState());
+        var negotiationId = negotiation.getId();
+        if (ContractNegotiationStates.isFinal(negotiation.getState())) {
+            monitor.debug("Skipping contract negotiation with id '%s' is in final state '%s'".formatted(negotiationId, from(negotiation.getState())));
+            return true;
+        }
 
-            var handler = handlers.get(task.getClass());
-            if (handler == null) {
-                monitor.debug("No handler for task '%s' in contract negotiation with id '%s'".formatted(task.getClass().getSimpleName(), negotiationId));
-                return StatusResult.success();
-            }
+        if (negotiation.getState() != expectedState.code()) {
+            monitor.warning("Skipping contract negotiation with id '%s' is in state '%s', expected '%s'".formatted(negotiationId, from(negotiation.getState()), expectedState));
+            return true;
+        }
 
-            if (handler.type != null && handler.type != negotiation.getType()) {
-                monitor.debug("Skipping '%s' for contract negotiation with id '%s' due to type mismatch: expected '%s', got '%s'".formatted(expectedState, negotiationId, handler.type, negotiation.getType()));
-                return StatusResult.success();
-            }
+        if (handler == null) {
+            monitor.debug("No handler for task '%s' in contract negotiation with id '%s'".formatted(task.getClass().getSimpleName(), negotiationId));
+            return true;
+        }
 
-            if (pendingGuard.test(negotiation)) {
-                monitor.debug("Skipping '%s' for contract negotiation with id '%s' due matched guard".formatted(expectedState, negotiationId));
-                return StatusResult.success();
-            }
-            return handler.function.apply(negotiation);
-        });
+        if (handler.type != null && handler.type != negotiation.getType()) {
+            monitor.debug("Skipping '%s' for contract negotiation with id '%s' due to type mismatch: expected '%s', got '%s'".formatted(expectedState, negotiationId, handler.type, negotiation.getType()));
+            return true;
+        }
 
+        if (pendingGuard.test(negotiation)) {
+            monitor.debug("Skipping '%s' for contract negotiation with id '%s' due matched guard".formatted(expectedState, negotiationId));
+            return true;
+        }
+        return false;
     }
 
     protected StatusResult<Void> handleSendAccept(ContractNegotiation negotiation) {
@@ -148,11 +204,8 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
     }
 
     private StatusResult<Void> handleFinalize(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processVerified).onSuccess(v -> {
-            var task = baseBuilder(SendFinalizeNegotiation.Builder.newInstance(), negotiation)
-                    .build();
-            storeTask(task);
-        });
+        return invokeProcessor(negotiation, negotiationProcessors::processVerified, new FollowUp(n ->
+                baseBuilder(SendFinalizeNegotiation.Builder.newInstance(), n).build()));
     }
 
     protected StatusResult<Void> handleSendVerification(ContractNegotiation negotiation) {
@@ -160,11 +213,8 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
     }
 
     private StatusResult<Void> handleAgree(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processRequested).onSuccess(v -> {
-            var task = baseBuilder(SendAgreement.Builder.newInstance(), negotiation)
-                    .build();
-            storeTask(task);
-        });
+        return invokeProcessor(negotiation, negotiationProcessors::processRequested, new FollowUp(n ->
+                baseBuilder(SendAgreement.Builder.newInstance(), n).build()));
     }
 
     protected StatusResult<Void> handleSendAgreement(ContractNegotiation negotiation) {
@@ -172,19 +222,13 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
     }
 
     private StatusResult<Void> handleVerify(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processAgreed).onSuccess(v -> {
-            var task = baseBuilder(SendVerificationNegotiation.Builder.newInstance(), negotiation)
-                    .build();
-            storeTask(task);
-        });
+        return invokeProcessor(negotiation, negotiationProcessors::processAgreed, new FollowUp(n ->
+                baseBuilder(SendVerificationNegotiation.Builder.newInstance(), n).build()));
     }
 
     private StatusResult<Void> handleRequest(ContractNegotiation negotiation) {
-        return invokeProcessor(negotiation, negotiationProcessors::processInitial).onSuccess(v -> {
-            var task = baseBuilder(SendRequestNegotiation.Builder.newInstance(), negotiation)
-                    .build();
-            storeTask(task);
-        });
+        return invokeProcessor(negotiation, negotiationProcessors::processInitial, new FollowUp(n ->
+                baseBuilder(SendRequestNegotiation.Builder.newInstance(), n).build()));
     }
 
     private StatusResult<Void> handleSendFinalize(ContractNegotiation negotiation) {
@@ -192,8 +236,10 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
     }
 
     private StatusResult<Void> invokeProcessorTerminatingOnFatalError(ContractNegotiation negotiation, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> processor) {
-        return invokeProcessor(negotiation, processor).onFailure(f -> {
-            if (f.isFatal()) {
+        var followUp = new FollowUp(n -> n.getState() == TERMINATING.code() ? baseBuilder(SendTerminateNegotiation.Builder.newInstance(), n).build() : null);
+        return invokeProcessor(negotiation, processor, followUp).onFailure(f -> {
+            if (f.isFatal() && !followUp.stored) {
+                // the processor did not save a transition to TERMINATING, there is no state change to store the task with
                 var task = baseBuilder(SendTerminateNegotiation.Builder.newInstance(), negotiation)
                         .build();
                 storeTask(task);
@@ -202,19 +248,29 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
     }
 
     private StatusResult<Void> invokeProcessor(ContractNegotiation negotiation, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> processor) {
+        return invokeProcessor(negotiation, processor, new FollowUp(n -> null));
+    }
+
+    /**
+     * Invokes the processor, registering the follow-up to be stored when the processor saves the state transition.
+     */
+    private StatusResult<Void> invokeProcessor(ContractNegotiation negotiation, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> processor,
+                                               FollowUp followUp) {
+        followUps.put(negotiation.getId(), followUp);
+        StatusResult<Void> result;
         try {
-            return processor.apply(negotiation).get();
+            result = processor.apply(negotiation).get();
         } catch (Exception e) {
-            return StatusResult.failure(FATAL_ERROR, "Failed to invoke processor: %s".formatted(e.getMessage()));
+            result = StatusResult.failure(FATAL_ERROR, "Failed to invoke processor: %s".formatted(e.getMessage()));
+        } finally {
+            followUps.remove(negotiation.getId());
         }
-    }
 
-    private StatusResult<ContractNegotiation> loadNegotiation(String negotiationId) {
-        var negotiation = store.findById(negotiationId);
-        if (negotiation == null) {
-            return StatusResult.failure(FATAL_ERROR, "Contract negotiation with id '%s' not found".formatted(negotiationId));
+        if (followUp.failure != null) {
+            // the state transition has been rolled back together with the follow-up task, the task has to be retried
+            return StatusResult.failure(ERROR_RETRY, "Failed to store follow-up task: %s".formatted(followUp.failure.getMessage()));
         }
-        return StatusResult.success(negotiation);
+        return result;
     }
 
     protected <T extends ProcessTaskPayload, B extends ProcessTaskPayload.Builder<T, B>> B baseBuilder(B builder, ContractNegotiation negotiation) {
@@ -227,6 +283,34 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
 
     }
 
+    /**
+     * Follow-up task of a processor invocation, created from the contract negotiation state saved by the processor.
+     */
+    private final class FollowUp {
+        private final Function<ContractNegotiation, ContractNegotiationTaskPayload> factory;
+        private volatile boolean stored;
+        private volatile RuntimeException failure;
+
+        private FollowUp(Function<ContractNegotiation, ContractNegotiationTaskPayload> factory) {
+            this.factory = factory;
+        }
+
+        private void store(ContractNegotiation negotiation) {
+            var payload = factory.apply(negotiation);
+            if (payload == null) {
+                return;
+            }
+            try {
+                storeTask(payload);
+                stored = true;
+            } catch (RuntimeException e) {
+                // rethrown to roll back the state transition
+                failure = e;
+                throw e;
+            }
+        }
+    }
+
     public static class Builder {
         private final ContractNegotiationTaskExecutorImpl manager;
 
@@ -273,7 +357,7 @@ public class ContractNegotiationTaskExecutorImpl implements ContractNegotiationT
             return this;
         }
 
-        public ContractNegotiationTaskExecutor build() {
+        public ContractNegotiationTaskExecutorImpl build() {
             requireNonNull(manager.negotiationProcessors, "negotiationProcessors must not be null");
             requireNonNull(manager.taskService, "taskStore must not be null");
             requireNonNull(manager.clock, "clock must not be null");
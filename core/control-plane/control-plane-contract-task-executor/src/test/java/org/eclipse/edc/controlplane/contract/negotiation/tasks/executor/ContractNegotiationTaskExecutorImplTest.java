@@ -15,8 +15,10 @@
 package org.eclipse.edc.controlplane.contract.negotiation.tasks.executor;
 
 import org.eclipse.edc.connector.controlplane.contract.negotiation.NegotiationProcessorsImpl;
+import org.eclipse.edc.connector.controlplane.contract.observe.ContractNegotiationObservableImpl;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.NegotiationProcessors;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
@@ -45,6 +47,7 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.spi.ProtocolWebhookResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
@@ -80,6 +83,7 @@ import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiat
 import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -97,7 +101,9 @@ class ContractNegotiationTaskExecutorImplTest {
     private final ParticipantIdentityResolver identityResolver = mock();
     private final ProtocolRemoteMessageDispatcher messageDispatcher = mock();
     private final EntityRetryProcessConfiguration retryConfig = new EntityRetryProcessConfiguration(1, () -> new ExponentialWaitStrategy(0L));
-    private final NegotiationProcessors negotiationProcessors = new NegotiationProcessorsImpl(monitor, protocolWebhookResolver, mock(), negotiationStore, identityResolver, clock, messageDispatcher, retryConfig);
+    private final ContractNegotiationObservable observable = new ContractNegotiationObservableImpl();
+    private final NegotiationProcessors negotiationProcessors = new NegotiationProcessorsImpl(monitor, protocolWebhookResolver, observable, negotiationStore,
+            identityResolver, clock, messageDispatcher, retryConfig, transactionContext);
     private final String protocolWebhookUrl = "http://protocol.webhook/url";
     private ContractNegotiationTaskExecutor executor;
 
@@ -109,9 +115,9 @@ class ContractNegotiationTaskExecutorImplTest {
         when(protocolWebhookResolver.getWebhook(any(), any())).thenReturn(() -> protocolWebhookUrl);
         var ack = ContractNegotiationAck.Builder.newInstance().providerPid("providerPid").build();
         when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.success(ack)));
+        when(taskService.create(any())).thenAnswer(i -> ServiceResult.success(i.getArgument(0)));
 
-
-        executor = ContractNegotiationTaskExecutorImpl.Builder.newInstance()
+        var executorImpl = ContractNegotiationTaskExecutorImpl.Builder.newInstance()
                 .store(negotiationStore)
                 .taskService(taskService)
                 .pendingGuard(pendingGuard)
@@ -120,6 +126,8 @@ class ContractNegotiationTaskExecutorImplTest {
                 .monitor(monitor)
                 .clock(clock)
                 .build();
+        observable.registerListener(executorImpl);
+        executor = executorImpl;
     }
 
     @ParameterizedTest
@@ -129,7 +137,7 @@ class ContractNegotiationTaskExecutorImplTest {
         var negotiation = createContractNegotiation(payload.getProcessId(), ContractNegotiationStates.from(payload.getProcessState()),
                 ContractNegotiation.Type.valueOf(payload.getProcessType()));
 
-        when(negotiationStore.findById(payload.getProcessId())).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease(payload.getProcessId())).thenReturn(StoreResult.success(negotiation));
 
 
         var result = executor.handle(payload);
@@ -150,7 +158,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(CONSUMER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(null);
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.notFound("not found"));
 
         var result = executor.handle(task);
 
@@ -158,6 +166,23 @@ class ContractNegotiationTaskExecutorImplTest {
         assertThat(result.getFailureDetail()).contains("not found");
     }
 
+    @Test
+    void handle_shouldRetry_whenNegotiationIsLeased() {
+        var task = RequestNegotiation.Builder.newInstance()
+                .processId("negotiation-123")
+                .processState(INITIAL.code())
+                .processType(CONSUMER.name())
+                .build();
+
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.alreadyLeased("leased"));
+
+        var result = executor.handle(task);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ERROR_RETRY);
+        verify(taskService, never()).create(any());
+    }
+
     @Test
     void handle_shouldSkipWhenNegotiationIsInFinalState() {
         var negotiation = createContractNegotiation("negotiation-123", ContractNegotiationStates.TERMINATED);
@@ -168,12 +193,13 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(CONSUMER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(negotiation));
 
         var result = executor.handle(task);
 
         assertThat(result.succeeded()).isTrue();
         verify(taskService, never()).create(any());
+        verify(negotiationStore).breakLease(negotiation);
     }
 
     @Test
@@ -186,7 +212,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(CONSUMER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(negotiation));
 
         var result = executor.handle(task);
 
@@ -204,7 +230,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(CONSUMER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(negotiation));
         when(pendingGuard.test(negotiation)).thenReturn(true);
 
         var result = executor.handle(task);
@@ -223,7 +249,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(CONSUMER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(negotiation));
 
         var result = executor.handle(task);
 
@@ -237,7 +263,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 ContractNegotiationStates.from(payload.getProcessState()),
                 ContractNegotiation.Type.valueOf(payload.getProcessType()));
 
-        when(negotiationStore.findById(payload.getProcessId())).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease(payload.getProcessId())).thenReturn(StoreResult.success(negotiation));
         // a fatal dispatch failure makes the processor return a fatal error
         when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.fatalError("boom")));
 
@@ -264,7 +290,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(PROVIDER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(negotiation));
         // a retryable dispatch failure yields a non-fatal error
         when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY, "temporary failure")));
 
@@ -275,6 +301,48 @@ class ContractNegotiationTaskExecutorImplTest {
         verify(taskService, never()).create(any());
     }
 
+    @Test
+    void handle_shouldStoreFollowUpTask_whenTransitionIsSaved() {
+        var negotiation = createContractNegotiation("negotiation-123", INITIAL);
+        var task = RequestNegotiation.Builder.newInstance()
+                .processId("negotiation-123")
+                .processState(INITIAL.code())
+                .processType(CONSUMER.name())
+                .build();
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(negotiation));
+
+        var result = executor.handle(task);
+
+        assertThat(result.succeeded()).isTrue();
+        var captor = ArgumentCaptor.forClass(Task.class);
+        var inOrder = inOrder(negotiationStore, taskService);
+        inOrder.verify(negotiationStore).save(any());
+        inOrder.verify(taskService).create(captor.capture());
+        assertThat(captor.getValue().getPayload())
+                .isInstanceOfSatisfying(SendRequestNegotiation.class, p -> {
+                    assertThat(p.getProcessId()).isEqualTo("negotiation-123");
+                    assertThat(p.getProcessState()).isEqualTo(REQUESTING.code());
+                });
+    }
+
+    @Test
+    void handle_shouldRetry_whenFollowUpTaskCannotBeStored() {
+        var negotiation = createContractNegotiation("negotiation-123", INITIAL);
+        var task = RequestNegotiation.Builder.newInstance()
+                .processId("negotiation-123")
+                .processState(INITIAL.code())
+                .processType(CONSUMER.name())
+                .build();
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(negotiation));
+        when(taskService.create(any())).thenReturn(ServiceResult.unexpected("database unavailable"));
+
+        var result = executor.handle(task);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ERROR_RETRY);
+        verify(negotiationStore).breakLease(negotiation);
+    }
+
     @Test
     void handle_shouldTransitionToTerminatedOnFatalError() {
         var negotiation = createContractNegotiation("negotiation-123", REQUESTING);
@@ -286,7 +354,7 @@ class ContractNegotiationTaskExecutorImplTest {
                 .processType(CONSUMER.name())
                 .build();
 
-        when(negotiationStore.findById("negotiation-123")).thenReturn(negotiation);
+        when(negotiationStore.findByIdAndLease("negotiation-123")).thenReturn(StoreResult.success(negotiation));
 
         var result = executor.handle(task);
 
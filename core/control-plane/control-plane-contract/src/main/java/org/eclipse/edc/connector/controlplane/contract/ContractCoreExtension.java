@@ -48,6 +48,7 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.StateMachineConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
 
@@ -92,6 +93,8 @@ public class ContractCoreExtension implements ServiceExtension {
     private ParticipantIdentityResolver identityResolver;
     @Inject
     private ProtocolRemoteMessageDispatcher messageDispatcher;
+    @Inject
+    private TransactionContext transactionContext;
 
     @Override
     public String name() {
@@ -110,8 +113,8 @@ public class ContractCoreExtension implements ServiceExtension {
     @Provider
     public NegotiationProcessors negotiationProcessors() {
         return new NegotiationProcessorsImpl(monitor, protocolWebhookResolver, observable, store,
-                identityResolver, clock, messageDispatcher, stateMachineConfiguration.entityRetryProcessConfiguration()
-        );
+                identityResolver, clock, messageDispatcher, stateMachineConfiguration.entityRetryProcessConfiguration(),
+                transactionContext);
     }
 
     private void registerServices(ServiceExtensionContext context) {
@@ -38,6 +38,7 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 import org.eclipse.edc.statemachine.retry.processor.RetryProcessor;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
 import java.util.Optional;
@@ -57,12 +58,14 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
     private final ParticipantIdentityResolver identityResolver;
     private final Clock clock;
     private final ProtocolRemoteMessageDispatcher messageDispatcher;
+    private final TransactionContext transactionContext;
 
     public NegotiationProcessorsImpl(Monitor monitor, ProtocolWebhookResolver protocolWebhookResolver,
                                      ContractNegotiationObservable observable, ContractNegotiationStore store,
                                      ParticipantIdentityResolver identityResolver, Clock clock,
                                      ProtocolRemoteMessageDispatcher messageDispatcher,
-                                     EntityRetryProcessConfiguration entityRetryProcessConfiguration) {
+                                     EntityRetryProcessConfiguration entityRetryProcessConfiguration,
+                                     TransactionContext transactionContext) {
         this.monitor = monitor;
         this.protocolWebhookResolver = protocolWebhookResolver;
         this.observable = observable;
@@ -70,6 +73,7 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
         this.identityResolver = identityResolver;
         this.clock = clock;
         this.messageDispatcher = messageDispatcher;
+        this.transactionContext = transactionContext;
         this.entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
     }
 
@@ -365,13 +369,15 @@ public class NegotiationProcessorsImpl implements NegotiationProcessors {
     }
 
     protected StoreResult<Void> update(ContractNegotiation entity) {
-        return store.save(entity)
+        entityRetryProcessFactory.scheduleRetry(entity);
+        return transactionContext.execute(() -> store.save(entity)
                 .onSuccess(ignored -> {
+                    observable.invokeForEach(l -> l.persisted(entity));
                     var error = entity.getErrorDetail() == null ? "" : ". errorDetail: " + entity.getErrorDetail();
 
                     monitor.debug(() -> "[%s] %s %s is now in state %s%s"
                             .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
                                     entity.getId(), entity.stateAsString(), error));
-                });
+                }));
     }
 }
@@ -35,6 +35,7 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -91,7 +92,7 @@ class NegotiationProcessorsImplTest {
         observable.registerListener(listener);
         processors = new NegotiationProcessorsImpl(mock(), protocolWebhookResolver, observable, store,
                 identityResolver, Clock.systemDefaultZone(), messageDispatcher,
-                new EntityRetryProcessConfiguration(RETRY_LIMIT, () -> new ExponentialWaitStrategy(0L)));
+                new EntityRetryProcessConfiguration(RETRY_LIMIT, () -> new ExponentialWaitStrategy(0L)), new NoopTransactionContext());
     }
 
     @Nested
@@ -104,6 +105,7 @@ class NegotiationProcessorsImplTest {
             processors.processInitial(negotiation).join();
 
             verify(store).save(argThat(n -> n.getState() == REQUESTING.code()));
+            verify(listener).persisted(negotiation);
         }
     }
 
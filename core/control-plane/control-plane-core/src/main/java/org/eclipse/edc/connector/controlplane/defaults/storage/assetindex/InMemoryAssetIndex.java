@@ -21,8 +21,11 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.store.KeysetComparator;
+import org.eclipse.edc.util.reflection.PropertyPath;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,13 +55,22 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         lock.readLock().lock();
         try {
-            Comparator<Asset> comparator = querySpec.getSortField() == null
-                    ? (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+            return page(filterBy(querySpec.getFilterExpression()), querySpec);
 
-            return filterBy(querySpec.getFilterExpression())
-                    .sorted(comparator)
-                    .skip(querySpec.getOffset()).limit(querySpec.getLimit());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stream<Asset> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        lock.readLock().lock();
+        try {
+            var anySelector = selectors.stream()
+                    .map(this::toPredicate)
+                    .reduce(x -> false, Predicate::or);
+
+            return page(filterBy(querySpec.getFilterExpression()).filter(anySelector), querySpec);
 
         } finally {
             lock.readLock().unlock();
@@ -138,13 +150,42 @@ public class InMemoryAssetIndex implements AssetIndex {
         }
     }
 
-    private Stream<Asset> filterBy(List<Criterion> criteria) {
-        var predicate = criteria.stream()
-                .map(criterionOperatorRegistry::toPredicate)
-                .reduce(x -> true, Predicate::and);
+    private Stream<Asset> page(Stream<Asset> assets, QuerySpec querySpec) {
+        var cursor = querySpec.getCursor();
+        if (cursor != null) {
+            var sortField = "id".equals(querySpec.getSortField()) ? null : querySpec.getSortField();
+            if (sortField != null && !cursor.isStart() && !sortField.equals(cursor.getSortField())) {
+                throw new InvalidRequestException(format("Cannot sort by %s because the cursor was issued for %s", sortField, cursor.getSortField()));
+            }
+            var comparator = new KeysetComparator<Asset>(sortField, querySpec.getSortOrder(), InMemoryAssetIndex::sortValue);
+            assets = assets.filter(asset -> comparator.isAfter(asset, cursor)).sorted(comparator);
+        } else if (querySpec.getSortField() != null) {
+            assets = assets.sorted(new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder()));
+        }
+        return assets.skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
+    /**
+     * Sorts by property or private property, as {@link AssetComparator} does, and by field if the asset has no such
+     * property. Assets that have neither come last, as in the SQL asset index.
+     */
+    private static Object sortValue(Asset asset, String sortField) {
+        var property = asset.getPropertyOrPrivate(sortField);
+        if (property != null || ReflectionUtil.getFieldRecursive(Asset.class, sortField) == null) {
+            return property;
+        }
+        return PropertyPath.of(sortField).getValue(asset);
+    }
 
+    private Stream<Asset> filterBy(List<Criterion> criteria) {
         return cache.values().stream()
-                .filter(predicate);
+                .filter(toPredicate(criteria));
+    }
+
+    private Predicate<Asset> toPredicate(List<Criterion> criteria) {
+        return criteria.stream()
+                .<Predicate<Asset>>map(criterionOperatorRegistry::toPredicate)
+                .reduce(x -> true, Predicate::and);
     }
 
 }
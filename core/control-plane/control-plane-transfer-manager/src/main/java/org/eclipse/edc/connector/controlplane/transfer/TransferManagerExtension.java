@@ -18,17 +18,20 @@ import org.eclipse.edc.connector.controlplane.transfer.process.TransferProcessMa
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessPendingGuard;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessors;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.controlplane.transfer.spi.retry.TransferWaitStrategy;
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.StateMachineConfiguration;
+import org.eclipse.edc.statemachine.StateMachineWakeUpSubscriber;
 
 import java.time.Clock;
 
@@ -56,6 +59,8 @@ public class TransferManagerExtension implements ServiceExtension {
     private ExecutorInstrumentation executorInstrumentation;
     @Inject
     private TransferProcessors transferProcessors;
+    @Inject
+    private EventRouter eventRouter;
 
     private TransferProcessManagerImpl processManager;
 
@@ -80,11 +85,15 @@ public class TransferManagerExtension implements ServiceExtension {
                 .clock(clock)
                 .store(transferProcessStore)
                 .batchSize(stateMachineConfiguration.batchSize())
+                .multiStateFetch(stateMachineConfiguration.multiStateFetch())
+                .workers(stateMachineConfiguration.workers())
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .pendingGuard(pendingGuard)
                 .transferProcessors(transferProcessors)
                 .build();
 
+        eventRouter.register(TransferProcessEvent.class, new StateMachineWakeUpSubscriber(processManager));
+
         context.registerService(TransferProcessManager.class, processManager);
     }
 
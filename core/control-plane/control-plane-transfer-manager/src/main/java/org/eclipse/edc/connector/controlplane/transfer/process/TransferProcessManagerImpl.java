@@ -23,17 +23,19 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessors;
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
-import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.statemachine.AbstractStateEntityManager;
-import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
+import org.eclipse.edc.statemachine.StateProcessor;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.CONSUMER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
@@ -49,8 +51,8 @@ import static org.eclipse.edc.connector.controlplane.transfer.spi.types.Transfer
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.SUSPENDING_REQUESTED;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATING;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATING_REQUESTED;
-import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * This transfer process manager receives a {@link TransferProcess} and transitions it through its internal state
@@ -83,43 +85,45 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
 
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
-        return builder
-                .processor(processConsumerTransfersInState(INITIAL, transferProcessors::processConsumerInitial))
-                .processor(processProviderTransfersInState(INITIAL, transferProcessors::processProviderInitial))
-                .processor(processConsumerTransfersInState(REQUESTING, transferProcessors::processRequesting))
-                .processor(processProviderTransfersInState(STARTING, transferProcessors::processStarting))
-                .processor(processConsumerTransfersInState(STARTUP_REQUESTED, transferProcessors::processStartupRequested))
-                .processor(processTransfersInState(SUSPENDING, transferProcessors::processSuspending))
-                .processor(processTransfersInState(SUSPENDING_REQUESTED, transferProcessors::processSuspending))
-                .processor(processTransfersInState(RESUMING, transferProcessors::processResuming))
-                .processor(processTransfersInState(RESUMING_REQUESTED, transferProcessors::processResuming))
-                .processor(processTransfersInState(COMPLETING, transferProcessors::processCompleting))
-                .processor(processTransfersInState(COMPLETING_REQUESTED, transferProcessors::processCompleting))
-                .processor(processTransfersInState(TERMINATING, transferProcessors::processTerminating))
-                .processor(processTransfersInState(TERMINATING_REQUESTED, transferProcessors::processTerminating));
+        return registerProcessors(builder, List.of(isNotPending()), List.of(
+                processConsumerTransfersInState(INITIAL, transferProcessors::processConsumerInitial),
+                processProviderTransfersInState(INITIAL, transferProcessors::processProviderInitial),
+                processConsumerTransfersInState(REQUESTING, transferProcessors::processRequesting),
+                processProviderTransfersInState(STARTING, transferProcessors::processStarting),
+                processConsumerTransfersInState(STARTUP_REQUESTED, transferProcessors::processStartupRequested),
+                processTransfersInState(SUSPENDING, transferProcessors::processSuspending),
+                processTransfersInState(SUSPENDING_REQUESTED, transferProcessors::processSuspending),
+                processTransfersInState(RESUMING, transferProcessors::processResuming),
+                processTransfersInState(RESUMING_REQUESTED, transferProcessors::processResuming),
+                processTransfersInState(COMPLETING, transferProcessors::processCompleting),
+                processTransfersInState(COMPLETING_REQUESTED, transferProcessors::processCompleting),
+                processTransfersInState(TERMINATING, transferProcessors::processTerminating),
+                processTransfersInState(TERMINATING_REQUESTED, transferProcessors::processTerminating)
+        ));
     }
 
-    private Processor processConsumerTransfersInState(TransferProcessStates state, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function) {
-        var filter = new Criterion[]{hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", CONSUMER.name())};
-        return createProcessor(function, filter);
+    @Override
+    protected ProcessorImpl<TransferProcess> createProcessor(Supplier<Collection<TransferProcess>> entities,
+                                                             Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function) {
+        return ProcessorImpl.Builder.newInstance(entities, entityRetryProcessConfiguration, clock, monitor)
+                .process(telemetry.contextPropagationMiddleware(function))
+                .guard(pendingGuard, this::setPending)
+                .onNotProcessed(this::breakLease)
+                .onDelayed(this::delay)
+                .executor(workerExecutor)
+                .build();
     }
 
-    private Processor processProviderTransfersInState(TransferProcessStates state, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function) {
-        var filter = new Criterion[]{hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", PROVIDER.name())};
-        return createProcessor(function, filter);
+    private StateProcessor<TransferProcess> processConsumerTransfersInState(TransferProcessStates state, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function) {
+        return new StateProcessor<>(state.code(), function, List.of(criterion("type", "=", CONSUMER.name())), tp -> tp.getType() == CONSUMER);
     }
 
-    private Processor processTransfersInState(TransferProcessStates state, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function) {
-        var filter = new Criterion[]{hasState(state.code()), isNotPending()};
-        return createProcessor(function, filter);
+    private StateProcessor<TransferProcess> processProviderTransfersInState(TransferProcessStates state, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function) {
+        return new StateProcessor<>(state.code(), function, List.of(criterion("type", "=", PROVIDER.name())), tp -> tp.getType() == PROVIDER);
     }
 
-    private ProcessorImpl<TransferProcess> createProcessor(Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function, Criterion[] filter) {
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter), entityRetryProcessConfiguration, clock, monitor)
-                .process(telemetry.contextPropagationMiddleware(function))
-                .guard(pendingGuard, this::setPending)
-                .onNotProcessed(this::breakLease)
-                .build();
+    private StateProcessor<TransferProcess> processTransfersInState(TransferProcessStates state, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function) {
+        return new StateProcessor<>(state.code(), function);
     }
 
     private CompletableFuture<StatusResult<Void>> setPending(TransferProcess transferProcess) {
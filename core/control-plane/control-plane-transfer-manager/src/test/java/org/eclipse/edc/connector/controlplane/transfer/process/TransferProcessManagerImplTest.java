@@ -30,23 +30,31 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static java.time.ZoneOffset.UTC;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.INITIAL;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTING;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isDue;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.response.StatusResult.success;
 import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,7 +64,7 @@ class TransferProcessManagerImplTest {
     private final TransferProcessStore transferProcessStore = mock();
     private final TransferProcessors transferProcessors = mock();
     private final TransferProcessPendingGuard pendingGuard = mock();
-    private final Clock clock = Clock.systemUTC();
+    private final Clock clock = Clock.fixed(Instant.now(), UTC);
 
     private TransferProcessManagerImpl manager;
 
@@ -94,8 +102,38 @@ class TransferProcessManagerImplTest {
         });
     }
 
+    @Test
+    void multiStateFetch_shouldFetchAllStatesWithSingleCallAndDispatchByStateAndType() {
+        manager = TransferProcessManagerImpl.Builder.newInstance()
+                .transferProcessors(transferProcessors)
+                .waitStrategy(() -> 10000L)
+                .batchSize(10)
+                .monitor(mock())
+                .clock(clock)
+                .store(transferProcessStore)
+                .entityRetryProcessConfiguration(new EntityRetryProcessConfiguration(RETRY_LIMIT, () -> new ExponentialWaitStrategy(0L)))
+                .pendingGuard(pendingGuard)
+                .multiStateFetch(true)
+                .build();
+        var starting = createTransferProcessBuilder(STARTING).build();
+        var providerInitial = createTransferProcessBuilder(INITIAL).build();
+        when(transferProcessStore.nextNotLeasedPerSelection(anyInt(), any())).thenReturn(List.of(starting, providerInitial)).thenReturn(emptyList());
+        when(transferProcessors.processStarting(any())).thenReturn(completedFuture(success()));
+        when(transferProcessors.processProviderInitial(any())).thenReturn(completedFuture(success()));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(transferProcessors).processStarting(starting);
+            verify(transferProcessors).processProviderInitial(providerInitial);
+            verify(transferProcessors, never()).processConsumerInitial(any());
+        });
+        verify(transferProcessStore, atLeastOnce()).nextNotLeasedPerSelection(eq(10), argThat(selections -> selections.size() == 13));
+        verify(transferProcessStore, never()).nextNotLeased(anyInt(), any(Criterion[].class));
+    }
+
     private Criterion[] providerStateIs(int state) {
-        return aryEq(new Criterion[]{hasState(state), isNotPending(), criterion("type", "=", PROVIDER.name())});
+        return aryEq(new Criterion[]{hasState(state), isNotPending(), criterion("type", "=", PROVIDER.name()), isDue(clock.millis())});
     }
 
     private TransferProcess.Builder createTransferProcessBuilder(org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates state) {
@@ -63,7 +63,7 @@ public class TransferProcessTaskExtension implements ServiceExtension {
 
     @Provider
     public TransferProcessTaskExecutor transferProcessTaskExecutor() {
-        return TransferProcessTaskExecutorImpl.Builder.newInstance()
+        var executor = TransferProcessTaskExecutorImpl.Builder.newInstance()
                 .store(store)
                 .transactionContext(transactionContext)
                 .monitor(monitor)
@@ -72,6 +72,9 @@ public class TransferProcessTaskExtension implements ServiceExtension {
                 .transferProcessors(transferProcessors)
                 .clock(clock)
                 .build();
+        // follow-up tasks are stored within the transaction in which the processors save the state transition
+        transferProcessObservable.registerListener(executor);
+        return executor;
     }
 
 }
@@ -16,6 +16,7 @@ package org.eclipse.edc.controlplane.transfer.process.tasks.executor;
 
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessPendingGuard;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessors;
+import org.eclipse.edc.connector.controlplane.transfer.spi.observe.TransferProcessListener;
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
@@ -32,8 +33,10 @@ import org.eclipse.edc.controlplane.transfer.spi.tasks.SignalDataflowStarted;
 import org.eclipse.edc.controlplane.transfer.spi.tasks.SuspendDataFlow;
 import org.eclipse.edc.controlplane.transfer.spi.tasks.TerminateDataFlow;
 import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.StoreFailure;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
@@ -41,18 +44,22 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.CONSUMER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.REQUESTING;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTING;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATING;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.from;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
-public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecutor {
+public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecutor, TransferProcessListener {
 
     private final Map<Class<? extends TransferProcessTaskPayload>, Handler> handlers = new HashMap<>();
+    private final Map<String, FollowUp> followUps = new ConcurrentHashMap<>();
     private TransferProcessStore store;
     private TaskService taskService;
     private TransactionContext transactionContext;
@@ -81,76 +88,122 @@ public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecu
         return handleTask(task);
     }
 
-    private void storeTask(TransferProcessTaskPayload payload) {
+    /**
+     * Stores the follow-up task of the transfer process being handled, if any. Invoked by the processors within the
+     * transaction that saves the state transition, so the follow-up task is committed together with it.
+     */
+    @Override
+    public void persisted(TransferProcess process) {
+        var followUp = followUps.get(process.getId());
+        if (followUp != null) {
+            followUp.store(process);
+        }
+    }
 
+    private void storeTask(TransferProcessTaskPayload payload) {
         var task = Task.Builder.newInstance().at(clock.millis())
                 .payload(payload)
                 .build();
-        taskService.create(task);
+        taskService.create(task)
+                .orElseThrow(f -> new EdcException("Failed to create task: " + f.getFailureDetail()));
     }
 
+    /**
+     * Handles the task in two phases, so that no transaction is open during the remote calls performed by the processors:
+     * the transfer process is loaded, validated and leased in a short transaction, then the processor is invoked outside
+     * any transaction. The processor saves the state transition in its own short transaction, which also breaks the
+     * lease and stores the follow-up task (see {@link #persisted(TransferProcess)}); the lease guarantees that no other
+     * runtime transitions the transfer process in the meantime.
+     */
     private StatusResult<Void> handleTask(TransferProcessTaskPayload task) {
+        var handler = handlers.get(task.getClass());
+        var leaseResult = transactionContext.execute(() -> leaseTransferProcess(task, handler));
+        if (leaseResult.failed() || leaseResult.getContent() == null) {
+            return leaseResult.mapEmpty();
+        }
+
+        var transferProcess = leaseResult.getContent();
+        var result = handler.function.apply(transferProcess);
+        if (result.failed()) {
+            // the processor might have failed before persisting the transfer process, release it for the next attempt
+            transactionContext.execute(() -> store.breakLease(transferProcess));
+        }
+        return result;
+    }
+
+    /**
+     * Loads and leases the transfer process, if the task has to be handled.
+     *
+     * @return the leased transfer process, a successful result with null content if the task has to be skipped, or a failure.
+     */
+    private StatusResult<TransferProcess> leaseTransferProcess(TransferProcessTaskPayload task, Handler handler) {
         var expectedState = TransferProcessStates.from(task.getProcessState());
         var transferId = task.getProcessId();
-        return transactionContext.execute(() -> {
-            var transferResult = loadTransferProcess(transferId);
-            if (transferResult.failed()) {
-                return StatusResult.failure(FATAL_ERROR, transferResult.getFailureDetail());
+        var transferResult = store.findByIdAndLease(transferId);
+        if (transferResult.failed()) {
+            if (transferResult.reason() == StoreFailure.Reason.NOT_FOUND) {
+                return StatusResult.failure(FATAL_ERROR, "Transfer process with id '%s' not found".formatted(transferId));
             }
+            return StatusResult.failure(ERROR_RETRY, transferResult.getFailureDetail());
+        }
 
-            var transferProcess = transferResult.getContent();
-            if (TransferProcessStates.isFinal(transferProcess.getState())) {
-                monitor.debug("Skipping transfer process with id '%s' is in final state '%s'".formatted(transferId, from(transferProcess.getState())));
-                return StatusResult.success();
-            }
+        var transferProcess = transferResult.getContent();
+        var skipReason = validate(transferProcess, expectedState, task, handler);
+        if (skipReason != null) {
+            store.breakLease(transferProcess);
+            return skipReason.succeeded() ? StatusResult.success(null) : StatusResult.failure(FATAL_ERROR, skipReason.getFailureDetail());
+        }
+        return StatusResult.success(transferProcess);
+    }
 
-            if (transferProcess.getState() != expectedState.code()) {
-                monitor.warning("Skipping transfer process with id '%s' is in state '%s', expected '%s'".formatted(transferId, from(transferProcess.getState()), expectedState));
-                return StatusResult.success();
-            }
+    /**
+     * Checks whether the transfer process has to be handled.
+     *
+     * @return null if it has to be handled, a successful result if it has to be skipped, a failure if it is invalid.
+     */
+    private StatusResult<Void> validate(TransferProcess transferProcess, TransferProcessStates expectedState, TransferProcessTaskPayload task, Handler handler) {
+        var transferId = transferProcess.getId();
+        if (TransferProcessStates.isFinal(transferProcess.getState())) {
+            monitor.debug("Skipping transfer process with id '%s' is in final state '%s'".formatted(transferId, from(transferProcess.getState())));
+            return StatusResult.success();
+        }
 
-            var handler = handlers.get(task.getClass());
-            if (handler == null) {
-                monitor.debug("No handler for task '%s' in transfer process with id '%s'".formatted(task.getClass().getSimpleName(), transferId));
-                return StatusResult.success();
-            }
+        if (transferProcess.getState() != expectedState.code()) {
+            monitor.warning("Skipping transfer process with id '%s' is in state '%s', expected '%s'".formatted(transferId, from(transferProcess.getState()), expectedState));
+            return StatusResult.success();
+        }
 
-            if (handler.type != null && handler.type != transferProcess.getType()) {
-                var msg = "Expected type '%s' for state '%s', but got '%s' for transfer process %s".formatted(handler.type, expectedState, transferProcess.getType(), transferId);
-                monitor.severe(msg);
-                return StatusResult.failure(FATAL_ERROR, msg);
-            }
+        if (handler == null) {
+            monitor.debug("No handler for task '%s' in transfer process with id '%s'".formatted(task.getClass().getSimpleName(), transferId));
+            return StatusResult.success();
+        }
 
-            if (transferProcess.isPending()) {
-                monitor.debug("Skipping transfer process with id '%s' is in pending state".formatted(transferId));
-                return StatusResult.success();
-            }
+        if (handler.type != null && handler.type != transferProcess.getType()) {
+            var msg = "Expected type '%s' for state '%s', but got '%s' for transfer process %s".formatted(handler.type, expectedState, transferProcess.getType(), transferId);
+            monitor.severe(msg);
+            return StatusResult.failure(FATAL_ERROR, msg);
+        }
 
-            if (pendingGuard.test(transferProcess)) {
-                monitor.debug("Skipping '%s' for transfer process with id '%s' due matched guard".formatted(expectedState, transferId));
-                return StatusResult.success();
-            }
+        if (transferProcess.isPending()) {
+            monitor.debug("Skipping transfer process with id '%s' is in pending state".formatted(transferId));
+            return StatusResult.success();
+        }
 
-            return handler.function.apply(transferProcess);
-        });
+        if (pendingGuard.test(transferProcess)) {
+            monitor.debug("Skipping '%s' for transfer process with id '%s' due matched guard".formatted(expectedState, transferId));
+            return StatusResult.success();
+        }
 
+        return null;
     }
 
     private StatusResult<Void> handlePrepareTransfer(TransferProcess process) {
         if (process.getType() == CONSUMER) {
-            return invokeProcessor(process, transferProcessors::processConsumerInitial).onSuccess(v -> {
-                if (process.getState() == REQUESTING.code()) {
-                    var task = baseBuilder(SendTransferRequest.Builder.newInstance(), process).build();
-                    storeTask(task);
-                }
-            });
+            return invokeProcessor(process, transferProcessors::processConsumerInitial, new FollowUp(p ->
+                    p.getState() == REQUESTING.code() ? baseBuilder(SendTransferRequest.Builder.newInstance(), p).build() : null));
         } else {
-            return terminateOnFatalError(process, invokeProcessor(process, transferProcessors::processProviderInitial).onSuccess(v -> {
-                if (process.getState() == STARTING.code()) {
-                    var task = baseBuilder(SendTransferStart.Builder.newInstance(), process).build();
-                    storeTask(task);
-                }
-            }));
+            return invokeProcessorTerminatingOnFatalError(process, transferProcessors::processProviderInitial, p ->
+                    p.getState() == STARTING.code() ? baseBuilder(SendTransferStart.Builder.newInstance(), p).build() : null);
         }
     }
 
@@ -182,29 +235,42 @@ public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecu
         return invokeProcessor(process, transferProcessors::processRequesting);
     }
 
-    private StatusResult<TransferProcess> loadTransferProcess(String transferProcessId) {
-        var transferProcess = store.findById(transferProcessId);
-        if (transferProcess == null) {
-            return StatusResult.failure(FATAL_ERROR, "Transfer process with id '%s' not found".formatted(transferProcessId));
-        }
-        return StatusResult.success(transferProcess);
+    private StatusResult<Void> invokeProcessor(TransferProcess transferProcess, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> processor) {
+        return invokeProcessor(transferProcess, processor, new FollowUp(p -> null));
     }
 
-    private StatusResult<Void> invokeProcessor(TransferProcess transferProcess, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> processor) {
+    /**
+     * Invokes the processor, registering the follow-up to be stored when the processor saves the state transition.
+     */
+    private StatusResult<Void> invokeProcessor(TransferProcess transferProcess, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> processor,
+                                               FollowUp followUp) {
+        followUps.put(transferProcess.getId(), followUp);
+        StatusResult<Void> result;
         try {
-            return processor.apply(transferProcess).get();
+            result = processor.apply(transferProcess).get();
         } catch (Exception e) {
-            return StatusResult.failure(FATAL_ERROR, "Failed to invoke processor: %s".formatted(e.getMessage()));
+            result = StatusResult.failure(FATAL_ERROR, "Failed to invoke processor: %s".formatted(e.getMessage()));
+        } finally {
+            followUps.remove(transferProcess.getId());
         }
+
+        if (followUp.failure != null) {
+            // the state transition has been rolled back together with the follow-up task, the task has to be retried
+            return StatusResult.failure(ERROR_RETRY, "Failed to store follow-up task: %s".formatted(followUp.failure.getMessage()));
+        }
+        return result;
     }
 
     private StatusResult<Void> invokeProcessorTerminatingOnFatalError(TransferProcess process, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> processor) {
-        return terminateOnFatalError(process, invokeProcessor(process, processor));
+        return invokeProcessorTerminatingOnFatalError(process, processor, p -> null);
     }
 
-    private StatusResult<Void> terminateOnFatalError(TransferProcess process, StatusResult<Void> result) {
-        return result.onFailure(f -> {
-            if (f.isFatal()) {
+    private StatusResult<Void> invokeProcessorTerminatingOnFatalError(TransferProcess process, Function<TransferProcess, CompletableFuture<StatusResult<Void>>> processor,
+                                                                      Function<TransferProcess, TransferProcessTaskPayload> followUpFactory) {
+        var followUp = new FollowUp(p -> p.getState() == TERMINATING.code() ? baseBuilder(TerminateDataFlow.Builder.newInstance(), p).build() : followUpFactory.apply(p));
+        return invokeProcessor(process, processor, followUp).onFailure(f -> {
+            if (f.isFatal() && !followUp.stored) {
+                // the processor did not save a transition to TERMINATING, there is no state change to store the task with
                 var task = baseBuilder(TerminateDataFlow.Builder.newInstance(), process).build();
                 storeTask(task);
             }
@@ -221,6 +287,34 @@ public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecu
 
     }
 
+    /**
+     * Follow-up task of a processor invocation, created from the transfer process state saved by the processor.
+     */
+    private final class FollowUp {
+        private final Function<TransferProcess, TransferProcessTaskPayload> factory;
+        private volatile boolean stored;
+        private volatile RuntimeException failure;
+
+        private FollowUp(Function<TransferProcess, TransferProcessTaskPayload> factory) {
+            this.factory = factory;
+        }
+
+        private void store(TransferProcess process) {
+            var payload = factory.apply(process);
+            if (payload == null) {
+                return;
+            }
+            try {
+                storeTask(payload);
+                stored = true;
+            } catch (RuntimeException e) {
+                // rethrown to roll back the state transition
+                failure = e;
+                throw e;
+            }
+        }
+    }
+
     public static class Builder {
 
         private final TransferProcessTaskExecutorImpl manager;
@@ -233,7 +327,7 @@ public class TransferProcessTaskExecutorImpl implements TransferProcessTaskExecu
             return new Builder();
         }
 
-        public TransferProcessTaskExecutor build() {
+        public TransferProcessTaskExecutorImpl build() {
             Objects.requireNonNull(manager.transferProcessors, "transferProcessors cannot be null");
             Objects.requireNonNull(manager.store, "store");
             Objects.requireNonNull(manager.taskService, "taskService");
@@ -17,6 +17,7 @@ package org.eclipse.edc.controlplane.transfer.process.tasks.executor;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.DataAddressResolver;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolRemoteMessageDispatcher;
+import org.eclipse.edc.connector.controlplane.transfer.observe.TransferProcessObservableImpl;
 import org.eclipse.edc.connector.controlplane.transfer.processors.TransferProcessorsImpl;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessPendingGuard;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessors;
@@ -44,7 +45,9 @@ import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayloa
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.spi.ProtocolWebhookResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.ResponseFailure;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -88,14 +91,16 @@ import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class TransferProcessTaskExecutorImplTest {
     
-    private final TransferProcessObservable observable = mock();
+    private final TransferProcessObservable observable = new TransferProcessObservableImpl();
     private final DataFlowController dataFlowController = mock();
     private final TransferProcessStore transferStore = mock();
     private final ProtocolRemoteMessageDispatcher messageDispatcher = mock();
@@ -113,7 +118,7 @@ class TransferProcessTaskExecutorImplTest {
     private final EntityRetryProcessFactory entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, retryConfig);
 
     private final TransferProcessors transferProcessors = new TransferProcessorsImpl(policyArchive, entityRetryProcessFactory, dataFlowController,
-            dataAddressStore, observable, transferStore, monitor, addressResolver, webhookResolver, messageDispatcher);
+            dataAddressStore, observable, transferStore, monitor, addressResolver, webhookResolver, messageDispatcher, transactionContext);
     private TransferProcessTaskExecutor executor;
 
     @BeforeEach
@@ -122,8 +127,9 @@ class TransferProcessTaskExecutorImplTest {
         when(pendingGuard.test(any())).thenReturn(false);
         when(transferStore.save(any())).thenReturn(StoreResult.success());
         when(policyArchive.getAgreementIdForContract(any())).thenReturn("agreementId");
+        when(taskService.create(any())).thenAnswer(i -> ServiceResult.success(i.getArgument(0)));
 
-        executor = TransferProcessTaskExecutorImpl.Builder.newInstance()
+        var executorImpl = TransferProcessTaskExecutorImpl.Builder.newInstance()
                 .store(transferStore)
                 .pendingGuard(pendingGuard)
                 .transactionContext(transactionContext)
@@ -132,6 +138,8 @@ class TransferProcessTaskExecutorImplTest {
                 .taskService(taskService)
                 .transferProcessors(transferProcessors)
                 .build();
+        observable.registerListener(executorImpl);
+        executor = executorImpl;
     }
 
 
@@ -163,7 +171,7 @@ class TransferProcessTaskExecutorImplTest {
                 .contractId(contractId)
                 .build();
 
-        when(transferStore.findById(payload.getProcessId())).thenReturn(transferProcess);
+        when(transferStore.findByIdAndLease(payload.getProcessId())).thenReturn(StoreResult.success(transferProcess));
         when(policyArchive.findPolicyForContract(any())).thenReturn(Policy.Builder.newInstance().build());
 
 
@@ -188,7 +196,7 @@ class TransferProcessTaskExecutorImplTest {
                 .processType(TransferProcess.Type.CONSUMER.name())
                 .build();
 
-        when(transferStore.findById("transfer-123")).thenReturn(null);
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.notFound("not found"));
 
         var result = executor.handle(task);
 
@@ -206,13 +214,29 @@ class TransferProcessTaskExecutorImplTest {
                 .processType(TransferProcess.Type.CONSUMER.name())
                 .build();
 
-        when(transferStore.findById("transfer-123")).thenReturn(transferProcess);
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(transferProcess));
 
         var result = executor.handle(task);
 
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void handle_shouldRetry_whenTransferProcessIsLeased() {
+        var task = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(INITIAL.code())
+                .processType(TransferProcess.Type.CONSUMER.name())
+                .build();
+
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.alreadyLeased("leased"));
+
+        var result = executor.handle(task);
+
+        assertThat(result).isFailed().extracting(ResponseFailure::status).isEqualTo(ERROR_RETRY);
+        verifyNoInteractions(dataFlowController, taskService);
+    }
+
     @Test
     void handle_shouldSkipWhenStateDoesNotMatch() {
         var transferProcess = createTransferProcess("transfer-123", TransferProcessStates.PREPARATION_REQUESTED);
@@ -223,13 +247,31 @@ class TransferProcessTaskExecutorImplTest {
                 .processType(TransferProcess.Type.CONSUMER.name())
                 .build();
 
-        when(transferStore.findById("transfer-123")).thenReturn(transferProcess);
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(transferProcess));
 
         var result = executor.handle(task);
 
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void handle_shouldBreakLease_whenSkipped() {
+        var transferProcess = createTransferProcess("transfer-123", TransferProcessStates.PREPARATION_REQUESTED);
+
+        var task = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(INITIAL.code())
+                .processType(TransferProcess.Type.CONSUMER.name())
+                .build();
+
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(transferProcess));
+
+        executor.handle(task);
+
+        verify(transferStore).breakLease(transferProcess);
+        verify(transferStore, never()).save(any());
+    }
+
     @Test
     void handle_shouldSkipWhenPendingGuardMatches() {
         var transferProcess = createTransferProcess("transfer-123", INITIAL);
@@ -240,7 +282,7 @@ class TransferProcessTaskExecutorImplTest {
                 .processType(TransferProcess.Type.CONSUMER.name())
                 .build();
 
-        when(transferStore.findById("transfer-123")).thenReturn(transferProcess);
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(transferProcess));
         when(pendingGuard.test(transferProcess)).thenReturn(true);
 
         var result = executor.handle(task);
@@ -258,7 +300,7 @@ class TransferProcessTaskExecutorImplTest {
                 .processType(TransferProcess.Type.CONSUMER.name())
                 .build();
 
-        when(transferStore.findById("transfer-123")).thenReturn(transferProcess);
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(transferProcess));
 
         var result = executor.handle(task);
 
@@ -282,7 +324,7 @@ class TransferProcessTaskExecutorImplTest {
                 .state(TransferProcessStates.from(payload.getProcessState()).code())
                 .contractId("contractId")
                 .build();
-        when(transferStore.findById(payload.getProcessId())).thenReturn(process);
+        when(transferStore.findByIdAndLease(payload.getProcessId())).thenReturn(StoreResult.success(process));
 
         var result = executor.handle(payload);
 
@@ -309,7 +351,7 @@ class TransferProcessTaskExecutorImplTest {
                 .state(REQUESTED.code())
                 .contractId("contractId")
                 .build();
-        when(transferStore.findById("transfer-123")).thenReturn(process);
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(process));
         // a retryable failure yields a non-fatal error
         when(dataFlowController.started(any())).thenReturn(StatusResult.failure(ERROR_RETRY, "temporary"));
 
@@ -320,6 +362,61 @@ class TransferProcessTaskExecutorImplTest {
         verify(taskService, never()).create(any());
     }
 
+    @Test
+    void handle_shouldStoreFollowUpTask_whenTransitionIsSaved() {
+        var process = TransferProcess.Builder.newInstance()
+                .id("transfer-123")
+                .type(CONSUMER)
+                .state(INITIAL.code())
+                .contractId("contractId")
+                .build();
+        var task = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(INITIAL.code())
+                .processType(CONSUMER.name())
+                .build();
+        when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(process));
+        when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
+
+        var result = executor.handle(task);
+
+        assertThat(result).isSucceeded();
+        var captor = ArgumentCaptor.forClass(Task.class);
+        var inOrder = inOrder(transferStore, taskService);
+        inOrder.verify(transferStore).save(any());
+        inOrder.verify(taskService).create(captor.capture());
+        assertThat(captor.getValue().getPayload())
+                .isInstanceOfSatisfying(SendTransferRequest.class, p -> {
+                    assertThat(p.getProcessId()).isEqualTo("transfer-123");
+                    assertThat(p.getProcessState()).isEqualTo(REQUESTING.code());
+                });
+    }
+
+    @Test
+    void handle_shouldRetry_whenFollowUpTaskCannotBeStored() {
+        var process = TransferProcess.Builder.newInstance()
+                .id("transfer-123")
+                .type(CONSUMER)
+                .state(INITIAL.code())
+                .contractId("contractId")
+                .build();
+        var task = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(INITIAL.code())
+                .processType(CONSUMER.name())
+                .build();
+        when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(process));
+        when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
+        when(taskService.create(any())).thenReturn(ServiceResult.unexpected("database unavailable"));
+
+        var result = executor.handle(task);
+
+        assertThat(result).isFailed().extracting(ResponseFailure::status).isEqualTo(ERROR_RETRY);
+        verify(transferStore).breakLease(process);
+    }
+
     @Test
     void handle_shouldTransitionWhenHandlerSucceeds() {
         var transferProcess = createTransferProcess("transfer-123", INITIAL);
@@ -336,7 +433,7 @@ class TransferProcessTaskExecutorImplTest {
                 .build();
 
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
-        when(transferStore.findById("transfer-123")).thenReturn(transferProcess);
+        when(transferStore.findByIdAndLease("transfer-123")).thenReturn(StoreResult.success(transferProcess));
         when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
 
         var result = executor.handle(task);
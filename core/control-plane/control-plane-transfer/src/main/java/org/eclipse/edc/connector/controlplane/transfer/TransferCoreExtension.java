@@ -38,6 +38,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.StateMachineConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.transform.transformer.edc.from.JsonObjectFromDataAddressTransformer;
 import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToDataAddressTransformer;
@@ -85,6 +86,8 @@ public class TransferCoreExtension implements ServiceExtension {
     private ProtocolRemoteMessageDispatcher messageDispatcher;
     @Inject
     private Clock clock;
+    @Inject
+    private TransactionContext transactionContext;
 
     @Override
     public String name() {
@@ -106,7 +109,8 @@ public class TransferCoreExtension implements ServiceExtension {
         var entityRetryProcessConfiguration = stateMachineConfiguration.entityRetryProcessConfiguration();
         var entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         return new TransferProcessorsImpl(policyArchive, entityRetryProcessFactory, dataFlowController, dataAddressStore,
-                observable, store, monitor.withPrefix("TransferProcessors"), addressResolver, protocolWebhookResolver, messageDispatcher);
+                observable, store, monitor.withPrefix("TransferProcessors"), addressResolver, protocolWebhookResolver, messageDispatcher,
+                transactionContext);
     }
 
 }
@@ -39,6 +39,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -66,13 +67,15 @@ public class TransferProcessorsImpl implements TransferProcessors {
     private final DataAddressResolver addressResolver;
     private final ProtocolWebhookResolver protocolWebhookResolver;
     private final ProtocolRemoteMessageDispatcher messageDispatcher;
+    private final TransactionContext transactionContext;
 
     public TransferProcessorsImpl(PolicyArchive policyArchive, EntityRetryProcessFactory entityRetryProcessFactory,
                                   DataFlowController dataFlowController, DataAddressStore dataAddressStore,
                                   TransferProcessObservable observable, TransferProcessStore store, Monitor monitor,
                                   DataAddressResolver addressResolver,
                                   ProtocolWebhookResolver protocolWebhookResolver,
-                                  ProtocolRemoteMessageDispatcher messageDispatcher) {
+                                  ProtocolRemoteMessageDispatcher messageDispatcher,
+                                  TransactionContext transactionContext) {
         this.policyArchive = policyArchive;
         this.entityRetryProcessFactory = entityRetryProcessFactory;
         this.dataFlowController = dataFlowController;
@@ -83,6 +86,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
         this.addressResolver = addressResolver;
         this.protocolWebhookResolver = protocolWebhookResolver;
         this.messageDispatcher = messageDispatcher;
+        this.transactionContext = transactionContext;
     }
 
     @WithSpan
@@ -502,14 +506,16 @@ public class TransferProcessorsImpl implements TransferProcessors {
     }
 
     private StoreResult<Void> update(TransferProcess entity) {
-        return store.save(entity)
+        entityRetryProcessFactory.scheduleRetry(entity);
+        return transactionContext.execute(() -> store.save(entity)
                 .onSuccess(ignored -> {
+                    observable.invokeForEach(l -> l.persisted(entity));
                     var error = entity.getErrorDetail() == null ? "" : ". errorDetail: " + entity.getErrorDetail();
 
                     monitor.debug(() -> "%s %s is now in state %s%s"
                             .formatted(entity.getClass().getSimpleName(),
                                     entity.getId(), entity.stateAsString(), error));
-                });
+                }));
     }
 
 
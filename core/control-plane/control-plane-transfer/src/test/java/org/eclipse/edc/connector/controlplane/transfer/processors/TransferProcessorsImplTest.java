@@ -38,6 +38,7 @@ import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -106,7 +107,8 @@ class TransferProcessorsImplTest {
         var entityRetryProcessConfiguration = new EntityRetryProcessConfiguration(RETRY_LIMIT, () -> new ExponentialWaitStrategy(0L));
         var entityRetryProcessFactory = new EntityRetryProcessFactory(mock(), Clock.systemUTC(), entityRetryProcessConfiguration);
         processors = new TransferProcessorsImpl(policyArchive, entityRetryProcessFactory, dataFlowController,
-                dataAddressStore, observable, store, mock(), addressResolver, protocolWebhookResolver, messageDispatcher);
+                dataAddressStore, observable, store, mock(), addressResolver, protocolWebhookResolver, messageDispatcher,
+                new NoopTransactionContext());
     }
 
     @Nested
@@ -162,6 +164,7 @@ class TransferProcessorsImplTest {
 
             verify(store).save(argThat(p -> p.getState() == REQUESTING.code()));
             verify(dataAddressStore, never()).store(any(), any());
+            verify(listener).persisted(process);
         }
 
         @Test
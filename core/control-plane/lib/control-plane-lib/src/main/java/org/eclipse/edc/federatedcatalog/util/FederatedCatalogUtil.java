@@ -19,12 +19,14 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
+import static org.eclipse.edc.catalog.spi.CatalogConstants.PROPERTY_ORIGINATOR;
 
 public class FederatedCatalogUtil {
     /**
@@ -85,6 +87,30 @@ public class FederatedCatalogUtil {
         return flattenedCatalog;
     }
 
+    /**
+     * Takes a catalog that may contain subcatalogs and returns all of its datasets, each of them carrying the originator
+     * of the catalog as property. Datasets with the same id are returned only once.
+     */
+    public static List<Dataset> datasets(Catalog catalog, String originator) {
+        var flattened = flatten(catalog);
+        if (flattened == null) {
+            return List.of();
+        }
+
+        var datasets = new LinkedHashMap<String, Dataset>();
+        for (var dataset : flattened.getDatasets()) {
+            var properties = new HashMap<>(ofNullable(dataset.getProperties()).orElseGet(HashMap::new));
+            properties.put(PROPERTY_ORIGINATOR, originator);
+            datasets.putIfAbsent(dataset.getId(), Dataset.Builder.newInstance()
+                    .id(dataset.getId())
+                    .offers(dataset.getOffers())
+                    .distributions(dataset.getDistributions())
+                    .properties(properties)
+                    .build());
+        }
+        return List.copyOf(datasets.values());
+    }
+
     @SuppressWarnings("unchecked")
     private static <T extends Dataset> List<T> getDatasets(Catalog catalog, Class<T> datasetType) {
         var partitions = catalog.getDatasets().stream().collect(Collectors.groupingBy(Dataset::getClass));
@@ -18,6 +18,8 @@ import org.eclipse.edc.spi.entity.StateEntityManager;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
@@ -28,7 +30,20 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isDue;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -40,17 +55,23 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     protected Monitor monitor;
     protected int batchSize = StateMachineConfiguration.DEFAULT_BATCH_SIZE;
+    protected boolean multiStateFetch = false;
+    protected int workers = StateMachineConfiguration.DEFAULT_WORKERS;
     protected WaitStrategy waitStrategy = () -> StateMachineConfiguration.DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected StateMachineManager stateMachineManager;
+    protected ExecutorService workerExecutor;
     protected Clock clock = Clock.systemUTC();
     protected S store;
 
     @Override
     public void start() {
+        if (workers > 1) {
+            workerExecutor = executorInstrumentation.instrument(createWorkerExecutor(), getClass().getSimpleName() + "-workers");
+        }
         var stateMachineManagerBuilder = StateMachineManager.Builder
                 .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
@@ -63,6 +84,18 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         if (stateMachineManager != null) {
             stateMachineManager.stop();
         }
+        if (workerExecutor != null) {
+            workerExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Signals that there are entities to be processed, so that the state machine does not wait for the next iteration.
+     */
+    public void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
     }
 
     /**
@@ -73,6 +106,60 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
      */
     protected abstract StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder);
 
+    /**
+     * Creates the processor that applies the process function to the supplied entities.
+     *
+     * The entities have to be processed on the {@link #workerExecutor}, when it is available.
+     *
+     * @param entities the entities supplier.
+     * @param process  the process function.
+     * @return the processor.
+     */
+    protected abstract ProcessorImpl<E> createProcessor(Supplier<Collection<E>> entities, Function<E, CompletableFuture<StatusResult<Void>>> process);
+
+    /**
+     * Registers the state processors on the State Machine Manager builder: a processor that fetches its own entities
+     * for each of them or, when multi-state fetch is enabled, a single {@link MultiStateProcessor} that fetches the
+     * entities of all of them at once. In both cases the entities whose retry is not due yet are not fetched.
+     *
+     * @param builder         the builder.
+     * @param criteria        the selection criteria shared by all the state processors.
+     * @param stateProcessors the state processors.
+     * @return the builder.
+     */
+    protected StateMachineManager.Builder registerProcessors(StateMachineManager.Builder builder, List<Criterion> criteria,
+                                                             List<StateProcessor<E>> stateProcessors) {
+        if (multiStateFetch) {
+            var multiStateProcessor = MultiStateProcessor.Builder.newInstance(store, batchSize)
+                    .criteria(criteria.toArray(Criterion[]::new))
+                    .criterion(() -> isDue(clock.millis()))
+                    .onNotProcessed(this::breakLease);
+            if (workerExecutor != null) {
+                multiStateProcessor.executor(workerExecutor, monitor);
+            }
+            stateProcessors.forEach(it -> multiStateProcessor.route(it.state(), it.criteria(), it.filter(), createProcessor(List::of, it.process())));
+            return builder.processor(multiStateProcessor.build());
+        }
+
+        for (var stateProcessor : stateProcessors) {
+            var filter = Stream.of(List.of(hasState(stateProcessor.state())), criteria, stateProcessor.criteria())
+                    .flatMap(List::stream)
+                    .toList();
+            Supplier<Collection<E>> entities = () -> store.nextNotLeased(batchSize, Stream.concat(filter.stream(), Stream.of(isDue(clock.millis()))).toArray(Criterion[]::new));
+            builder.processor(createProcessor(entities, stateProcessor.process()));
+        }
+        return builder;
+    }
+
+    private ExecutorService createWorkerExecutor() {
+        var counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(workers, r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("StateMachineManager-%s-worker-%d".formatted(getClass().getSimpleName(), counter.incrementAndGet()));
+            return thread;
+        });
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration defaultEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(
@@ -82,6 +169,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     }
 
     protected StoreResult<Void> update(E entity) {
+        entityRetryProcessFactory.scheduleRetry(entity);
         return store.save(entity)
                 .onSuccess(ignored -> {
                     var error = entity.getErrorDetail() == null ? "" : ". errorDetail: " + entity.getErrorDetail();
@@ -92,6 +180,19 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
                 });
     }
 
+    /**
+     * Persists the next attempt time of an entity whose retry is not due yet.
+     *
+     * @param entity the entity.
+     * @return the result of the save.
+     */
+    protected StoreResult<Void> delay(E entity) {
+        return store.save(entity)
+                .onSuccess(ignored -> monitor.debug(() -> "[%s] %s %s retry delayed until %s"
+                        .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
+                                entity.getId(), Instant.ofEpochMilli(entity.getNextAttemptAt()))));
+    }
+
     protected void breakLease(E entity) {
         store.breakLease(entity);
     }
@@ -116,6 +217,29 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        /**
+         * When enabled, the entities of all the states are fetched with a single query per iteration.
+         *
+         * @param multiStateFetch whether multi-state fetch is enabled.
+         * @return the builder.
+         */
+        public B multiStateFetch(boolean multiStateFetch) {
+            manager.multiStateFetch = multiStateFetch;
+            return self();
+        }
+
+        /**
+         * The number of threads that process the fetched entities concurrently. With a single worker the entities are
+         * processed sequentially on the state machine thread.
+         *
+         * @param workers the number of workers.
+         * @return the builder.
+         */
+        public B workers(int workers) {
+            manager.workers = workers;
+            return self();
+        }
+
         public B waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return self();
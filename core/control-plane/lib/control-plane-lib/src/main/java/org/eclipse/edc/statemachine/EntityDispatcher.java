@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static java.util.function.Predicate.isEqual;
+
+/**
+ * Runs the processing of a batch of fetched entities, sequentially on the calling thread or, when an executor is
+ * provided, concurrently on it. In the latter case the call returns only once every entity of the batch has been
+ * handled, so the state machine loop never fetches a new batch while the previous one is still in progress. Fetched
+ * entities are leased, so every one of them is processed by a single worker.
+ */
+class EntityDispatcher {
+
+    private final Executor executor;
+    private final Monitor monitor;
+
+    EntityDispatcher(@Nullable Executor executor, Monitor monitor) {
+        this.executor = executor;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Runs the tasks, each of them returning whether its entity has been processed.
+     *
+     * @param tasks the tasks.
+     * @return the number of processed entities.
+     */
+    long dispatch(List<Supplier<Boolean>> tasks) {
+        if (executor == null || tasks.size() < 2) {
+            return tasks.stream().map(Supplier::get).filter(isEqual(true)).count();
+        }
+
+        var futures = tasks.stream()
+                .map(task -> CompletableFuture.supplyAsync(task, executor)
+                        .exceptionally(throwable -> {
+                            monitor.severe("Error caught while processing entity", throwable);
+                            return false;
+                        }))
+                .toList();
+
+        return futures.stream().map(CompletableFuture::join).filter(isEqual(true)).count();
+    }
+}
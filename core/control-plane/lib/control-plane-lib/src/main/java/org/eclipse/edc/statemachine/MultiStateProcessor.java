@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+
+/**
+ * {@link Processor} that handles the entities of many states with a single fetch, instead of one fetch per state as
+ * done by a set of {@link ProcessorImpl}s: the entities are selected with
+ * {@link StateEntityStore#nextNotLeasedPerSelection(int, List)}, with one selection per route, and every one of them is
+ * dispatched to the route of its state. When all the states are empty, as it happens most of the time on an idle
+ * runtime, an iteration costs a single query.
+ * <p>
+ * The store applies the batch size to every selection, so every route processes at most batch size entities per
+ * iteration, as a {@link ProcessorImpl} would do, and a backlog in a state neither delays the processing of the others
+ * nor gets leased only to be released. The routes are expected to be disjoint: an entity that matches no route, e.g.
+ * because its route filter disagrees with its criteria, is released by the onNotProcessed listener. When an executor is
+ * set, the routed entities are processed concurrently on it.
+ *
+ * @param <E> the entity type.
+ */
+public class MultiStateProcessor<E extends StatefulEntity<E>> implements Processor {
+
+    private final StateEntityStore<E> store;
+    private final int batchSize;
+    private final List<Supplier<Criterion>> criteria = new ArrayList<>();
+    private final List<Route<E>> routes = new ArrayList<>();
+    private Consumer<E> onNotProcessed = e -> {};
+    private Executor executor;
+    private Monitor monitor;
+    private EntityDispatcher dispatcher;
+
+    private MultiStateProcessor(StateEntityStore<E> store, int batchSize) {
+        this.store = store;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Long process() {
+        var common = criteria.stream().map(Supplier::get).toList();
+        var selections = routes.stream()
+                .map(route -> Stream.of(List.of(hasState(route.state())), common, route.criteria()).flatMap(List::stream).toList())
+                .toList();
+
+        var tasks = new ArrayList<Supplier<Boolean>>();
+        for (var entity : store.nextNotLeasedPerSelection(batchSize, selections)) {
+            var route = routeOf(entity);
+            if (route == null) {
+                onNotProcessed.accept(entity);
+                continue;
+            }
+            var routeProcessor = route.processor();
+            tasks.add(() -> routeProcessor.process(entity));
+        }
+        return dispatcher.dispatch(tasks);
+    }
+
+    private Route<E> routeOf(E entity) {
+        return routes.stream()
+                .filter(route -> route.state() == entity.getState() && route.filter().test(entity))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private record Route<E extends StatefulEntity<E>>(int state, List<Criterion> criteria, Predicate<E> filter, ProcessorImpl<E> processor) {
+    }
+
+    public static class Builder<E extends StatefulEntity<E>> {
+
+        private final MultiStateProcessor<E> processor;
+
+        private Builder(StateEntityStore<E> store, int batchSize) {
+            processor = new MultiStateProcessor<>(store, batchSize);
+        }
+
+        public static <E extends StatefulEntity<E>> Builder<E> newInstance(StateEntityStore<E> store, int batchSize) {
+            return new Builder<>(store, batchSize);
+        }
+
+        /**
+         * Adds selection criteria that apply to the entities of all the states.
+         *
+         * @param criteria the criteria.
+         * @return the builder.
+         */
+        public Builder<E> criteria(Criterion... criteria) {
+            Stream.of(criteria).forEach(criterion -> processor.criteria.add(() -> criterion));
+            return this;
+        }
+
+        /**
+         * Adds a selection criterion that applies to the entities of all the states and that is evaluated on every
+         * fetch, e.g. because it depends on the current time.
+         *
+         * @param criterion the criterion supplier.
+         * @return the builder.
+         */
+        public Builder<E> criterion(Supplier<Criterion> criterion) {
+            processor.criteria.add(criterion);
+            return this;
+        }
+
+        /**
+         * Routes the entities in a state that satisfy the criteria to a processor. The filter tells whether a fetched
+         * entity satisfies the criteria. The entities supplier of the processor is not used.
+         *
+         * @param state     the state code.
+         * @param criteria  the additional selection criteria.
+         * @param filter    the filter equivalent to the criteria.
+         * @param processor the processor.
+         * @return the builder.
+         */
+        public Builder<E> route(int state, List<Criterion> criteria, Predicate<E> filter, ProcessorImpl<E> processor) {
+            this.processor.routes.add(new Route<>(state, criteria, filter, processor));
+            return this;
+        }
+
+        /**
+         * Defines a listener that will be invoked for every fetched entity that won't be processed by any route.
+         *
+         * @param onNotProcessed the listener.
+         * @return the builder.
+         */
+        public Builder<E> onNotProcessed(Consumer<E> onNotProcessed) {
+            processor.onNotProcessed = onNotProcessed;
+            return this;
+        }
+
+        /**
+         * Defines the executor on which the routed entities are processed concurrently, and the monitor that reports
+         * the errors raised by them. When not set, they are processed sequentially on the state machine thread.
+         *
+         * @param executor the executor.
+         * @param monitor  the monitor.
+         * @return the builder.
+         */
+        public Builder<E> executor(Executor executor, Monitor monitor) {
+            processor.executor = executor;
+            processor.monitor = monitor;
+            return this;
+        }
+
+        public MultiStateProcessor<E> build() {
+            Objects.requireNonNull(processor.store, "store");
+            if (processor.routes.isEmpty()) {
+                throw new IllegalStateException("At least one route must be registered");
+            }
+            processor.dispatcher = new EntityDispatcher(processor.executor, processor.monitor);
+            return processor;
+        }
+    }
+}
@@ -24,13 +24,12 @@ import java.time.Clock;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import static java.util.function.Predicate.isEqual;
-
 /**
  * Describes the processing flow applied by a state machine. The entities are provided by a supplier.
  * A process is a function that returns a boolean that indicates if the entity has been processed or not in
@@ -41,6 +40,10 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - A onDelayed listener can be registered, that will be called on every entity whose retry is not due yet, after its
+ * next attempt time has been set, so that it can be persisted and the entity not fetched again before then. When it is
+ * not registered, the onNotProcessed listener is called instead.
+ * - An executor can be registered, the fetched entities will then be processed concurrently on it.
  *
  * @param <E> the entity that is processed
  */
@@ -53,6 +56,9 @@ public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
     private Function<E, CompletableFuture<StatusResult<Void>>> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private Consumer<E> onDelayed;
+    private Executor executor;
+    private EntityDispatcher dispatcher;
 
     private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier, EntityRetryProcessConfiguration entityRetryProcessConfiguration, Clock clock, Monitor monitor) {
         entities = entitiesSupplier;
@@ -63,18 +69,25 @@ public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
 
     @Override
     public Long process() {
-        return entities.get().stream()
-                .map(this::process)
-                .filter(isEqual(true))
-                .count();
+        var tasks = entities.get().stream()
+                .<Supplier<Boolean>>map(entity -> () -> process(entity))
+                .toList();
+        return dispatcher.dispatch(tasks);
     }
 
-    private @NotNull Boolean process(E entity) {
+    /**
+     * Processes a single entity, already fetched and leased.
+     *
+     * @param entity the entity.
+     * @return true if the entity has been processed, false otherwise.
+     */
+    @NotNull Boolean process(E entity) {
         if (isRetry(entity)) {
             var delay = delayMillis(entity);
             if (delay > 0) {
                 monitor.debug(String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
-                onNotProcessed.accept(entity);
+                entity.setNextAttemptAt(clock.millis() + delay);
+                onDelayed.accept(entity);
                 return false;
             } else {
                 monitor.debug(String.format("Entity %s %s retry #%d of %d.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, configuration.retryLimit()));
@@ -91,16 +104,7 @@ public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
     }
 
     private long delayMillis(E entity) {
-        var delayStrategy = configuration.delayStrategySupplier().get();
-
-        // Set the WaitStrategy to have observed <retryCount> previous failures.
-        // This is relevant for stateful strategies such as exponential wait.
-        delayStrategy.failures(entity.getStateCount() - 1);
-
-        // Get the delay time following the number of failures.
-        var waitMillis = delayStrategy.retryInMillis();
-
-        return entity.getStateTimestamp() + waitMillis - clock.millis();
+        return configuration.nextAttemptAt(entity) - clock.millis();
     }
 
     public static class Builder<E extends StatefulEntity<E>> {
@@ -139,8 +143,35 @@ public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
             return this;
         }
 
+        /**
+         * Defines a listener that will invoke for every entity whose retry is not due yet.
+         *
+         * @param onDelayed the listener.
+         * @return the builder.
+         */
+        public Builder<E> onDelayed(Consumer<E> onDelayed) {
+            processor.onDelayed = onDelayed;
+            return this;
+        }
+
+        /**
+         * Defines the executor on which the fetched entities are processed concurrently. When not set, they are
+         * processed sequentially on the state machine thread.
+         *
+         * @param executor the executor.
+         * @return the builder.
+         */
+        public Builder<E> executor(Executor executor) {
+            processor.executor = executor;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
+            processor.dispatcher = new EntityDispatcher(processor.executor, processor.monitor);
+            if (processor.onDelayed == null) {
+                processor.onDelayed = processor.onNotProcessed;
+            }
 
             return processor;
         }
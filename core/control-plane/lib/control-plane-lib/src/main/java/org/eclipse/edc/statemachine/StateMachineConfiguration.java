@@ -51,7 +51,21 @@ public record StateMachineConfiguration(
                 key = "send.retry.base-delay.ms",
                 defaultValue = DEFAULT_SEND_RETRY_BASE_DELAY + ""
         )
-        int sendRetryBaseDelayMs
+        int sendRetryBaseDelayMs,
+
+        @Setting(
+                description = "If true, the entities of all the states are fetched with a single query on every iteration, instead of one query per state.",
+                key = "state-machine.multi-state-fetch",
+                defaultValue = DEFAULT_MULTI_STATE_FETCH + ""
+        )
+        boolean multiStateFetch,
+
+        @Setting(
+                description = "The number of threads that process the entities fetched on every iteration concurrently. With a single worker they are processed sequentially on the state machine thread.",
+                key = "state-machine.workers",
+                defaultValue = DEFAULT_WORKERS + ""
+        )
+        int workers
 
 ) {
 
@@ -59,6 +73,8 @@ public record StateMachineConfiguration(
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final boolean DEFAULT_MULTI_STATE_FETCH = false;
+    public static final int DEFAULT_WORKERS = 1;
 
     public ExponentialWaitStrategy baseDelayExponentialWaitStrategy() {
         return new ExponentialWaitStrategy(sendRetryBaseDelayMs);
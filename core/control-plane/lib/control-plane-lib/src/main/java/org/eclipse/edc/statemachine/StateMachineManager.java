@@ -25,6 +25,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
@@ -35,6 +36,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * The wait can be interrupted by a {@link #wakeUp()} call, that signals that new work is available.
  */
 public class StateMachineManager {
 
@@ -44,7 +46,11 @@ public class StateMachineManager {
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final Object lock = new Object();
     private int shutdownTimeout = 10;
+    private ScheduledFuture<?> nextIteration;
+    private boolean iterating;
+    private boolean wakeUpRequested;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
@@ -65,7 +71,28 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return scheduleNextIterationIn(0L);
+        synchronized (lock) {
+            return scheduleNextIterationIn(0L);
+        }
+    }
+
+    /**
+     * Signals that there is work available: if the loop is waiting for the next iteration, the iteration is run right
+     * away, if an iteration is running, the next one will start without waiting.
+     */
+    public void wakeUp() {
+        synchronized (lock) {
+            if (!isActive()) {
+                return;
+            }
+            if (iterating) {
+                wakeUpRequested = true;
+                return;
+            }
+            if (nextIteration != null && nextIteration.getDelay(MILLISECONDS) > 0 && nextIteration.cancel(false)) {
+                scheduleNextIterationIn(0L);
+            }
+        }
     }
 
     /**
@@ -109,6 +136,11 @@ public class StateMachineManager {
     }
 
     private void performLogic() {
+        synchronized (lock) {
+            iterating = true;
+            wakeUpRequested = false;
+        }
+
         var processed = processors.stream()
                 .mapToLong(processor -> {
                     try {
@@ -122,17 +154,21 @@ public class StateMachineManager {
 
         waitStrategy.success();
 
-        var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+        synchronized (lock) {
+            iterating = false;
+            var delay = processed == 0 && !wakeUpRequested ? waitStrategy.waitForMillis() : 0;
 
-        if (isActive()) {
-            scheduleNextIterationIn(delay);
+            if (isActive()) {
+                scheduleNextIterationIn(delay);
+            }
         }
 
     }
 
     @NotNull
     private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(this::logic, delayMillis, MILLISECONDS);
+        nextIteration = executor.schedule(this::logic, delayMillis, MILLISECONDS);
+        return nextIteration;
     }
 
     public static class Builder {
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.util.List;
+
+/**
+ * Wakes up the state machines of the managers on every event it receives, so that an entity created or transitioned
+ * on this runtime, e.g. through the management api or an inbound protocol message, is picked up right away instead of
+ * on the next polling iteration. Waking up is best effort: the polling iteration stays as fallback, e.g. when the event
+ * is received before the transaction that stored the entity has been committed.
+ */
+public class StateMachineWakeUpSubscriber implements EventSubscriber {
+
+    private final List<AbstractStateEntityManager<?, ?>> managers;
+
+    public StateMachineWakeUpSubscriber(AbstractStateEntityManager<?, ?>... managers) {
+        this.managers = List.of(managers);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        managers.forEach(AbstractStateEntityManager::wakeUp);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.response.StatusResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The processing of the entities in a state, optionally restricted to part of them. The same restriction is expressed
+ * both as criteria, used to select the entities in the store, and as a filter, used to tell whether an entity fetched
+ * together with the ones of other states belongs to it.
+ *
+ * @param state    the state code.
+ * @param process  the process.
+ * @param criteria the additional selection criteria.
+ * @param filter   the filter equivalent to the additional selection criteria.
+ * @param <E>      the entity type.
+ */
+public record StateProcessor<E>(int state, Function<E, CompletableFuture<StatusResult<Void>>> process,
+                                List<Criterion> criteria, Predicate<E> filter) {
+
+    public StateProcessor(int state, Function<E, CompletableFuture<StatusResult<Void>>> process) {
+        this(state, process, List.of(), e -> true);
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.statemachine.retry;
 
+import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.statemachine.retry.processor.RetryProcessor;
 
@@ -25,4 +26,20 @@ import java.util.function.Supplier;
  */
 public record EntityRetryProcessConfiguration(int retryLimit, Supplier<WaitStrategy> delayStrategySupplier) {
 
+    /**
+     * Returns the time at which the next retry of the entity is due, based on the number of previous attempts in its
+     * current state.
+     *
+     * @param entity the entity.
+     * @return the time in milliseconds.
+     */
+    public long nextAttemptAt(StatefulEntity<?> entity) {
+        var delayStrategy = delayStrategySupplier.get();
+
+        // Set the WaitStrategy to have observed <retryCount> previous failures.
+        // This is relevant for stateful strategies such as exponential wait.
+        delayStrategy.failures(entity.getStateCount() - 1);
+
+        return entity.getStateTimestamp() + delayStrategy.retryInMillis();
+    }
 }
@@ -44,4 +44,16 @@ public class EntityRetryProcessFactory {
         return new RetryProcessor<>(entity, monitor, clock, configuration);
     }
 
+    /**
+     * Sets the next attempt time of an entity that has been transitioned to its current state again to be retried, so
+     * that it gets persisted with the transition and the entity is not fetched before its retry is due.
+     *
+     * @param entity the entity.
+     */
+    public void scheduleRetry(StatefulEntity<?> entity) {
+        if (entity.getStateCount() > 1 && entity.getNextAttemptAt() == 0) {
+            entity.setNextAttemptAt(configuration.nextAttemptAt(entity));
+        }
+    }
+
 }
@@ -15,7 +15,7 @@
 package org.eclipse.edc.store;
 
 import org.eclipse.edc.spi.query.SortOrder;
-import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.eclipse.edc.util.reflection.PropertyPath;
 
 import java.util.Comparator;
 
@@ -26,16 +26,18 @@ public class FieldComparator<T> implements Comparator<T> {
 
     protected final String fieldName;
     protected final SortOrder sortOrder;
+    private final PropertyPath path;
 
     public FieldComparator(String fieldName, SortOrder sortOrder) {
         this.fieldName = fieldName;
         this.sortOrder = sortOrder;
+        this.path = PropertyPath.of(fieldName);
     }
 
     @Override
     public int compare(T obj1, T obj2) {
-        var o1 = ReflectionUtil.getFieldValue(fieldName, obj1);
-        var o2 = ReflectionUtil.getFieldValue(fieldName, obj2);
+        Object o1 = path.getValue(obj1);
+        Object o2 = path.getValue(obj2);
 
         if (o1 == null || o2 == null) {
             return 0;
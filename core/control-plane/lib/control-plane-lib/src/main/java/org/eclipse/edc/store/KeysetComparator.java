@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.store;
+
+import org.eclipse.edc.spi.query.KeysetCursor;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.util.reflection.PropertyPath;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.function.BiFunction;
+
+/**
+ * Orders objects by a sort field and then by id, as the SQL stores do for keyset pagination: {@code null} values come
+ * last in ascending and first in descending order.
+ * <p>
+ * Sort values are read from the fields of the objects, unless an accessor is passed, e.g. one that reads the
+ * properties of an asset.
+ */
+public class KeysetComparator<T> implements Comparator<T> {
+
+    private static final PropertyPath ID = PropertyPath.of("id");
+
+    private final String sortField;
+    private final SortOrder sortOrder;
+    private final BiFunction<T, String, Object> sortValueAccessor;
+
+    /**
+     * Constructor.
+     *
+     * @param sortField the sort field, null to order by id only.
+     * @param sortOrder the sort order.
+     */
+    public KeysetComparator(@Nullable String sortField, SortOrder sortOrder) {
+        this(sortField, sortOrder, (object, field) -> PropertyPath.of(field).getValue(object));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sortField         the sort field, null to order by id only.
+     * @param sortOrder         the sort order.
+     * @param sortValueAccessor returns the value of the sort field of an object.
+     */
+    public KeysetComparator(@Nullable String sortField, SortOrder sortOrder, BiFunction<T, String, Object> sortValueAccessor) {
+        this.sortField = sortField;
+        this.sortOrder = sortOrder;
+        this.sortValueAccessor = sortValueAccessor;
+    }
+
+    @Override
+    public int compare(T obj1, T obj2) {
+        return compareKeys(sortValue(obj1), id(obj1), sortValue(obj2), id(obj2));
+    }
+
+    /**
+     * Whether an object comes after the cursor in this order.
+     *
+     * @param object the object.
+     * @param cursor the cursor.
+     * @return true if the object comes after the cursor.
+     */
+    public boolean isAfter(T object, KeysetCursor cursor) {
+        return cursor.isStart() || compareKeys(sortValue(object), id(object), cursor.getSortValue(), cursor.getId()) > 0;
+    }
+
+    private int compareKeys(Object value1, Object id1, Object value2, Object id2) {
+        var result = compareValues(value1, value2);
+        if (result == 0) {
+            result = compareValues(id1, id2);
+        }
+        return sortOrder == SortOrder.ASC ? result : -result;
+    }
+
+    private Object sortValue(T object) {
+        return sortField == null ? null : sortValueAccessor.apply(object, sortField);
+    }
+
+    private Object id(T object) {
+        return ID.getValue(object);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private int compareValues(Object value1, Object value2) {
+        if (value1 == null || value2 == null) {
+            return value1 == value2 ? 0 : value1 == null ? 1 : -1;
+        }
+        if (value1 instanceof Number number1 && value2 instanceof Number number2) {
+            return new BigDecimal(number1.toString()).compareTo(new BigDecimal(number2.toString()));
+        }
+        if (value1.getClass() != value2.getClass()) {
+            // cursors carry non-scalar sort values in their string form
+            return value1.toString().compareTo(value2.toString());
+        }
+        if (!(value1 instanceof Comparable comparable)) {
+            throw new IllegalArgumentException("A property '" + sortField + "' is not comparable!");
+        }
+        return comparable.compareTo(value2);
+    }
+}
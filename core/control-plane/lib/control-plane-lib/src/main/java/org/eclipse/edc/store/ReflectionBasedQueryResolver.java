@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 
 import java.util.stream.Stream;
 
@@ -31,6 +32,8 @@ import static java.lang.String.format;
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String ID_FIELD = "id";
+
     private final Class<T> typeParameterClass;
     private final CriteriaToPredicate<T> criteriaToPredicate;
 
@@ -53,6 +56,7 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
+     * When the query carries a cursor, sorts by the sort field and id and skips the elements up to the cursor.
      * Applies offset and limit on the query result.
      *
      * @param stream      stream to be queried.
@@ -67,7 +71,9 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
         var sortField = spec.getSortField();
 
-        if (sortField != null) {
+        if (spec.getCursor() != null) {
+            filteredStream = seek(filteredStream, spec);
+        } else if (sortField != null) {
             if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
                 throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
             }
@@ -79,4 +85,23 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private Stream<T> seek(Stream<T> stream, QuerySpec spec) {
+        var cursor = spec.getCursor();
+        var sortField = ID_FIELD.equals(spec.getSortField()) ? null : spec.getSortField();
+        if (ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) == null) {
+            throw new IllegalArgumentException(format("Cannot paginate by cursor, the field %s does not exist in %s", ID_FIELD, typeParameterClass));
+        }
+        if (sortField != null) {
+            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+                throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
+            }
+            if (!cursor.isStart() && !sortField.equals(cursor.getSortField())) {
+                throw new InvalidRequestException(format("Cannot sort by %s because the cursor was issued for %s", sortField, cursor.getSortField()));
+            }
+        }
+
+        var comparator = new KeysetComparator<T>(sortField, spec.getSortOrder());
+        return stream.filter(it -> comparator.isAfter(it, cursor)).sorted(comparator);
+    }
+
 }
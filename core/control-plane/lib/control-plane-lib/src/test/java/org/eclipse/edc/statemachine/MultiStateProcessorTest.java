@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.statemachine.retry.TestEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MultiStateProcessorTest {
+
+    private final StateEntityStore<TestEntity> store = mock();
+    private final EntityRetryProcessConfiguration configuration = new EntityRetryProcessConfiguration(2, () -> () -> 0L);
+    private final Monitor monitor = mock();
+
+    @Test
+    void shouldFetchAllRoutesWithSingleCall_limitedPerRoute() {
+        var pending = new Criterion("pending", "=", false);
+        var due = new Criterion("nextAttemptAt", "<=", 1000L);
+        var type = new Criterion("type", "=", "CONSUMER");
+        var processor = MultiStateProcessor.Builder.newInstance(store, 5)
+                .criteria(pending)
+                .criterion(() -> due)
+                .route(100, List.of(type), e -> true, processor(e -> {}))
+                .route(200, List.of(), e -> true, processor(e -> {}))
+                .build();
+
+        processor.process();
+
+        verify(store).nextNotLeasedPerSelection(5, List.of(
+                List.of(hasState(100), pending, due, type),
+                List.of(hasState(200), pending, due)
+        ));
+        verify(store, never()).nextNotLeased(anyInt(), any(Criterion[].class));
+    }
+
+    @Test
+    void shouldDispatchEntitiesToTheRouteOfTheirState() {
+        Consumer<TestEntity> first = mock();
+        Consumer<TestEntity> second = mock();
+        var entityInFirstState = entity(100);
+        var entityInSecondState = entity(200);
+        when(store.nextNotLeasedPerSelection(anyInt(), any())).thenReturn(List.of(entityInFirstState, entityInSecondState));
+        var processor = MultiStateProcessor.Builder.newInstance(store, 5)
+                .route(100, List.of(), e -> true, processor(first))
+                .route(200, List.of(), e -> true, processor(second))
+                .build();
+
+        var count = processor.process();
+
+        assertThat(count).isEqualTo(2);
+        verify(first).accept(entityInFirstState);
+        verify(second).accept(entityInSecondState);
+    }
+
+    @Test
+    void shouldDispatchToTheRouteMatchingTheFilter() {
+        Consumer<TestEntity> pendingRoute = mock();
+        Consumer<TestEntity> otherRoute = mock();
+        var entity = entity(100);
+        when(store.nextNotLeasedPerSelection(anyInt(), any())).thenReturn(List.of(entity));
+        var processor = MultiStateProcessor.Builder.newInstance(store, 5)
+                .route(100, List.of(new Criterion("pending", "=", true)), TestEntity::isPending, processor(pendingRoute))
+                .route(100, List.of(new Criterion("pending", "=", false)), e -> !e.isPending(), processor(otherRoute))
+                .build();
+
+        processor.process();
+
+        verify(pendingRoute, never()).accept(any());
+        verify(otherRoute).accept(entity);
+    }
+
+    @Test
+    void shouldReleaseEntities_whenNotRouted() {
+        Consumer<TestEntity> route = mock();
+        Consumer<TestEntity> onNotProcessed = mock();
+        var first = entity(100);
+        var second = entity(100);
+        var notRouted = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).state(100).pending(true).build();
+        when(store.nextNotLeasedPerSelection(anyInt(), any())).thenReturn(List.of(first, second, notRouted));
+        var processor = MultiStateProcessor.Builder.newInstance(store, 2)
+                .route(100, List.of(new Criterion("pending", "=", false)), e -> !e.isPending(), processor(route))
+                .onNotProcessed(onNotProcessed)
+                .build();
+
+        var count = processor.process();
+
+        assertThat(count).isEqualTo(2);
+        verify(route, times(2)).accept(any());
+        verify(onNotProcessed).accept(notRouted);
+        verify(onNotProcessed, never()).accept(first);
+    }
+
+    @Test
+    void shouldThrow_whenNoRouteIsRegistered() {
+        assertThatThrownBy(() -> MultiStateProcessor.Builder.newInstance(store, 2).build()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private ProcessorImpl<TestEntity> processor(Consumer<TestEntity> consumer) {
+        Function<TestEntity, CompletableFuture<StatusResult<Void>>> process = e -> {
+            consumer.accept(e);
+            return CompletableFuture.completedFuture(StatusResult.success());
+        };
+        return ProcessorImpl.Builder.newInstance(List::<TestEntity>of, configuration, Clock.systemUTC(), monitor)
+                .process(process)
+                .build();
+    }
+
+    private TestEntity entity(int state) {
+        return TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).state(state).build();
+    }
+}
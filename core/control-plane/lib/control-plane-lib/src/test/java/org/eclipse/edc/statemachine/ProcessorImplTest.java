@@ -26,13 +26,17 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -94,6 +98,26 @@ class ProcessorImplTest {
         verify(onNotProcessed).accept(entity);
     }
 
+    @Test
+    void shouldSetNextAttemptAndCallOnDelayed_whenItShouldDelay() {
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateTimestamp(shouldDelayTime).stateCount(2).build();
+        Consumer<TestEntity> onNotProcessed = mock();
+        Consumer<TestEntity> onDelayed = mock();
+
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.of(entity), configuration, clock, monitor)
+                .process(e -> CompletableFuture.completedFuture(StatusResult.success()))
+                .onNotProcessed(onNotProcessed)
+                .onDelayed(onDelayed)
+                .build();
+
+        var count = processor.process();
+
+        assertThat(count).isEqualTo(0);
+        assertThat(entity.getNextAttemptAt()).isEqualTo(shouldDelayTime + DELAY);
+        verify(onDelayed).accept(entity);
+        verifyNoInteractions(onNotProcessed);
+    }
+
     @Test
     void shouldExecuteGuard_whenItsPredicateMatches() {
         var entity = TestEntity.Builder.newInstance().id("id").build();
@@ -144,4 +168,56 @@ class ProcessorImplTest {
         verifyNoInteractions(onNotProcessed);
     }
 
+    @Test
+    void shouldProcessEntitiesConcurrently_whenExecutorIsSet() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("1").build(), TestEntity.Builder.newInstance().id("2").build());
+        var bothStarted = new CountDownLatch(2);
+        var executor = Executors.newFixedThreadPool(2);
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities, configuration, clock, monitor)
+                .process(e -> {
+                    bothStarted.countDown();
+                    try {
+                        // would time out if the entities were processed one after the other
+                        assertThat(bothStarted.await(5, SECONDS)).isTrue();
+                    } catch (InterruptedException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                    return CompletableFuture.completedFuture(StatusResult.success());
+                })
+                .executor(executor)
+                .build();
+
+        try {
+            var count = processor.process();
+
+            assertThat(count).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotCountEntity_whenItsConcurrentProcessingFails() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("1").build(), TestEntity.Builder.newInstance().id("2").build());
+        var executor = Executors.newFixedThreadPool(2);
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities, configuration, clock, monitor)
+                .process(e -> {
+                    if (e.getId().equals("1")) {
+                        throw new IllegalStateException("failure");
+                    }
+                    return CompletableFuture.completedFuture(StatusResult.success());
+                })
+                .executor(executor)
+                .build();
+
+        try {
+            var count = processor.process();
+
+            assertThat(count).isEqualTo(1);
+            verify(monitor).severe(eq("Error caught while processing entity"), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
 }
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EntityRetryProcessFactoryTest {
+
+    private static final long DELAY = 1000L;
+    private final EntityRetryProcessFactory factory = new EntityRetryProcessFactory(mock(), Clock.systemUTC(),
+            new EntityRetryProcessConfiguration(3, () -> () -> DELAY));
+
+    @Test
+    void scheduleRetry_shouldSetNextAttempt_whenEntityIsRetried() {
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateTimestamp(5000L).stateCount(2).build();
+
+        factory.scheduleRetry(entity);
+
+        assertThat(entity.getNextAttemptAt()).isEqualTo(5000L + DELAY);
+    }
+
+    @Test
+    void scheduleRetry_shouldNotSetNextAttempt_whenEntityIsInItsFirstAttempt() {
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateTimestamp(5000L).stateCount(1).build();
+
+        factory.scheduleRetry(entity);
+
+        assertThat(entity.getNextAttemptAt()).isZero();
+    }
+
+    @Test
+    void scheduleRetry_shouldNotOverrideNextAttempt_whenAlreadySet() {
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateTimestamp(5000L).stateCount(2)
+                .nextAttemptAt(9000L).build();
+
+        factory.scheduleRetry(entity);
+
+        assertThat(entity.getNextAttemptAt()).isEqualTo(9000L);
+    }
+}
@@ -16,9 +16,11 @@ package org.eclipse.edc.store;
 
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
@@ -108,6 +110,34 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_cursor_shouldSeekById() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        var spec = QuerySpec.Builder.newInstance().cursor(KeysetCursor.after(null, null, "4")).limit(3).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(5, 6, 7);
+    }
+
+    @Test
+    void verifyQuery_cursor_shouldSeekBySortFieldAndId() {
+        var stream = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i == 9 ? null : i % 2 == 0 ? "Alice" : "Bob"));
+
+        var ascending = QuerySpec.Builder.newInstance().sortField("name").cursor(KeysetCursor.after("name", "Alice", "4")).build();
+        assertThat(queryResolver.query(stream, ascending)).extracting(FakeItem::getId).containsExactly(6, 8, 1, 3, 5, 7, 9);
+
+        var descending = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).cursor(KeysetCursor.after("name", "Bob", "5")).build();
+        assertThat(queryResolver.query(IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i == 9 ? null : i % 2 == 0 ? "Alice" : "Bob")), descending))
+                .extracting(FakeItem::getId).containsExactly(3, 1, 8, 6, 4, 2, 0);
+    }
+
+    @Test
+    void verifyQuery_cursor_shouldThrow_whenIssuedForAnotherSortField() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").cursor(KeysetCursor.after("id", null, "4")).build();
+        assertThatThrownBy(() -> queryResolver.query(stream, spec)).isInstanceOf(InvalidRequestException.class);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
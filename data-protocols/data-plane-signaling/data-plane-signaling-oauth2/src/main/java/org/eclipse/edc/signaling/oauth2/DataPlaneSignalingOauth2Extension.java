@@ -18,6 +18,7 @@ import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.jwt.validation.jti.JtiValidationStore;
 import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.signaling.oauth2.logic.Oauth2CredentialsSignalingAuthorization;
 import org.eclipse.edc.signaling.spi.authorization.SignalingAuthorizationRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -33,6 +34,11 @@ import java.time.Clock;
 public class DataPlaneSignalingOauth2Extension implements ServiceExtension {
 
     public static final String VALIDATION_RULES_CONTEXT = "signaling-api-oauth2";
+    private static final long FIVE_MINUTES = 1000 * 60 * 5;
+
+    @Setting(key = "edc.signaling.oauth2.jwks.cache.validity", description = "Time (in ms) that the JWKS fetched from the jwksUri of a data plane authorization profile are cached",
+            defaultValue = "" + FIVE_MINUTES)
+    private long jwksCacheValidityMs;
 
     @Inject
     private SignalingAuthorizationRegistry signalingAuthorizationRegistry;
@@ -55,6 +61,7 @@ public class DataPlaneSignalingOauth2Extension implements ServiceExtension {
         tokenValidationRulesRegistry.addRule(VALIDATION_RULES_CONTEXT, new JtiValidationRule(jtiValidationStore, context.getMonitor().withPrefix(VALIDATION_RULES_CONTEXT)));
         tokenValidationRulesRegistry.addRule(VALIDATION_RULES_CONTEXT, new ExpirationIssuedAtValidationRule(clock, 0, false));
 
-        signalingAuthorizationRegistry.register(new Oauth2CredentialsSignalingAuthorization(oauth2Client, tokenValidationService, tokenValidationRulesRegistry, keyParserRegistry, context.getMonitor()));
+        signalingAuthorizationRegistry.register(new Oauth2CredentialsSignalingAuthorization(oauth2Client, tokenValidationService, tokenValidationRulesRegistry,
+                keyParserRegistry, context.getMonitor(), jwksCacheValidityMs));
     }
 }
@@ -16,6 +16,7 @@ package org.eclipse.edc.signaling.oauth2.logic;
 
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.util.JSONObjectUtils;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.AuthorizationProfile;
 import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.iam.oauth2.spi.client.SharedSecretOauth2CredentialsRequest;
@@ -25,13 +26,21 @@ import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.signaling.oauth2.DataPlaneSignalingOauth2Extension;
 import org.eclipse.edc.signaling.spi.authorization.Header;
 import org.eclipse.edc.signaling.spi.authorization.SignalingAuthorization;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationRulesRegistry;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.eclipse.edc.util.collection.BoundedCache;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * {@link SignalingAuthorization} implementation for the OAuth2 Client Credentials grant type.
@@ -58,24 +67,35 @@ import java.util.function.Function;
  *   <li>{@code clientId} – client identifier</li>
  *   <li>{@code clientSecret} – shared secret for the client</li>
  * </ul>
+ *
+ * <p>The {@link PublicKeyResolver}s used for inbound authorization are cached per {@code jwksUri}, or per inline
+ * {@code jwks} content, so that the key set is not fetched and parsed for every signaling request. A key set fetched
+ * from a {@code jwksUri} is cached for the configured validity, and fetched again earlier when a token is signed with
+ * a key ID it does not contain.
  */
 public class Oauth2CredentialsSignalingAuthorization implements SignalingAuthorization {
 
     private static final String BEARER = "Bearer ";
+    private static final int RESOLVER_CACHE_CAPACITY = 256;
+    private static final PublicKeyResolver NO_SIGNATURE_VERIFICATION = keyId -> Result.success(null);
+
     private final Oauth2Client oauth2Client;
     private final TokenValidationService tokenValidationService;
     private final TokenValidationRulesRegistry tokenValidationRulesRegistry;
     private final KeyParserRegistry keyParserRegistry;
     private final Monitor monitor;
+    private final long jwksCacheValidityMs;
+    private final BoundedCache<String, PublicKeyResolver> publicKeyResolvers = new BoundedCache<>(RESOLVER_CACHE_CAPACITY);
 
     public Oauth2CredentialsSignalingAuthorization(Oauth2Client oauth2Client, TokenValidationService tokenValidationService,
                                                    TokenValidationRulesRegistry tokenValidationRulesRegistry,
-                                                   KeyParserRegistry keyParserRegistry, Monitor monitor) {
+                                                   KeyParserRegistry keyParserRegistry, Monitor monitor, long jwksCacheValidityMs) {
         this.oauth2Client = oauth2Client;
         this.tokenValidationService = tokenValidationService;
         this.tokenValidationRulesRegistry = tokenValidationRulesRegistry;
         this.keyParserRegistry = keyParserRegistry;
         this.monitor = monitor;
+        this.jwksCacheValidityMs = jwksCacheValidityMs;
     }
 
     /**
@@ -113,7 +133,7 @@ public class Oauth2CredentialsSignalingAuthorization implements SignalingAuthori
         var token = authorization.substring(BEARER.length());
         var rules = tokenValidationRulesRegistry.getRules(DataPlaneSignalingOauth2Extension.VALIDATION_RULES_CONTEXT);
 
-        var resolverResult = buildPublicKeyResolver(authorizationProfile.properties());
+        var resolverResult = getPublicKeyResolver(authorizationProfile.properties());
         if (resolverResult.failed()) {
             return resolverResult.mapFailure();
         }
@@ -157,24 +177,51 @@ public class Oauth2CredentialsSignalingAuthorization implements SignalingAuthori
                 .map(token -> new Header("Authorization", "Bearer " + token.getToken()));
     }
 
-    private Result<PublicKeyResolver> buildPublicKeyResolver(Map<String, Object> properties) {
+    private Result<PublicKeyResolver> getPublicKeyResolver(Map<String, Object> properties) {
         var jwksUri = (String) properties.get("jwksUri");
         if (jwksUri != null) {
-            try {
-                return Result.success(JwksPublicKeyResolver.create(keyParserRegistry, jwksUri, monitor));
-            } catch (Exception e) {
-                return Result.failure("Cannot create PublicKeyResolver for '" + jwksUri + "'. " + e.getMessage());
-            }
+            return cached("jwksUri:" + jwksUri, () -> createPublicKeyResolver(jwksUri));
         }
 
         var jwks = properties.get("jwks");
         if (jwks != null) {
-            return parseJwks(jwks)
+            return cached("jwks:" + digest(jwks), () -> parseJwks(jwks)
                     .map(ImmutableJWKSet::new)
-                    .map(jwkSource -> JwksPublicKeyResolver.create(keyParserRegistry, monitor, jwkSource));
+                    .map(jwkSource -> JwksPublicKeyResolver.create(keyParserRegistry, monitor, jwkSource)));
         }
 
-        return Result.success(keyId -> Result.success(null));
+        return Result.success(NO_SIGNATURE_VERIFICATION);
+    }
+
+    private Result<PublicKeyResolver> cached(String key, Supplier<Result<PublicKeyResolver>> factory) {
+        var resolver = publicKeyResolvers.get(key);
+        if (resolver != null) {
+            return Result.success(resolver);
+        }
+
+        var result = factory.get();
+        if (result.succeeded()) {
+            publicKeyResolvers.put(key, result.getContent());
+        }
+        return result;
+    }
+
+    private Result<PublicKeyResolver> createPublicKeyResolver(String jwksUri) {
+        try {
+            return Result.success(JwksPublicKeyResolver.create(keyParserRegistry, jwksUri, monitor, jwksCacheValidityMs));
+        } catch (Exception e) {
+            return Result.failure("Cannot create PublicKeyResolver for '" + jwksUri + "'. " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String digest(Object jwks) {
+        var content = jwks instanceof Map<?, ?> map ? JSONObjectUtils.toJSONString((Map<String, ?>) map) : String.valueOf(jwks);
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
     }
 
     private Result<JWKSet> parseJwks(Object jwks) {
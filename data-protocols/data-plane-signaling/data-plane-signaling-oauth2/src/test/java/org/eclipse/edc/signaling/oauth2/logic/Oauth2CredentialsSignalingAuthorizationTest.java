@@ -27,6 +27,7 @@ import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.AuthorizationProfile;
 import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.keys.spi.KeyParserRegistry;
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
@@ -38,6 +39,7 @@ import org.eclipse.edc.token.spi.TokenValidationService;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
 
 import java.security.PublicKey;
 import java.util.List;
@@ -54,6 +56,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -65,7 +68,7 @@ class Oauth2CredentialsSignalingAuthorizationTest {
     private final KeyParserRegistry keyParserRegistry = mock();
     private final Monitor monitor = mock();
     private final Oauth2CredentialsSignalingAuthorization authorization = new Oauth2CredentialsSignalingAuthorization(
-            oauth2Client, tokenValidationService, tokenValidationRulesRegistry, keyParserRegistry, monitor);
+            oauth2Client, tokenValidationService, tokenValidationRulesRegistry, keyParserRegistry, monitor, 60_000);
 
     @Test
     void getType_shouldReturnOauth2ClientCredentials() {
@@ -224,6 +227,42 @@ class Oauth2CredentialsSignalingAuthorizationTest {
             assertThat(result.getContent()).isEqualTo(callerId);
         }
 
+        @Test
+        void shouldReuseResolver_whenSameJwksUriIsConfigured() {
+            var claimToken = ClaimToken.Builder.newInstance().claim("sub", "caller").build();
+            when(tokenValidationService.validate(anyString(), any(), anyList())).thenReturn(Result.success(claimToken));
+            when(tokenValidationRulesRegistry.getRules(any())).thenReturn(List.of());
+            var profile = new AuthorizationProfile("oauth2_client_credentials", Map.of("jwksUri", "http://localhost/jwks.json"));
+            var otherProfile = new AuthorizationProfile("oauth2_client_credentials", Map.of("jwksUri", "http://localhost/other/jwks.json"));
+
+            authorization.isAuthorized(header -> "Bearer token", profile);
+            authorization.isAuthorized(header -> "Bearer token", profile);
+            authorization.isAuthorized(header -> "Bearer token", otherProfile);
+
+            var resolvers = ArgumentCaptor.forClass(PublicKeyResolver.class);
+            verify(tokenValidationService, times(3)).validate(anyString(), resolvers.capture(), anyList());
+            assertThat(resolvers.getAllValues().get(1)).isSameAs(resolvers.getAllValues().get(0));
+            assertThat(resolvers.getAllValues().get(2)).isNotSameAs(resolvers.getAllValues().get(0));
+        }
+
+        @Test
+        void shouldReuseResolver_whenSameInlineJwksIsConfigured() {
+            var claimToken = ClaimToken.Builder.newInstance().claim("sub", "caller").build();
+            when(tokenValidationService.validate(anyString(), any(), anyList())).thenReturn(Result.success(claimToken));
+            when(tokenValidationRulesRegistry.getRules(any())).thenReturn(List.of());
+            var jwks = jwksMap(generateKey("inline-key").toPublicJWK());
+            var otherJwks = jwksMap(generateKey("other-key").toPublicJWK());
+
+            authorization.isAuthorized(header -> "Bearer token", new AuthorizationProfile("oauth2_client_credentials", Map.of("jwks", jwks)));
+            authorization.isAuthorized(header -> "Bearer token", new AuthorizationProfile("oauth2_client_credentials", Map.of("jwks", jwks)));
+            authorization.isAuthorized(header -> "Bearer token", new AuthorizationProfile("oauth2_client_credentials", Map.of("jwks", otherJwks)));
+
+            var resolvers = ArgumentCaptor.forClass(PublicKeyResolver.class);
+            verify(tokenValidationService, times(3)).validate(anyString(), resolvers.capture(), anyList());
+            assertThat(resolvers.getAllValues().get(1)).isSameAs(resolvers.getAllValues().get(0));
+            assertThat(resolvers.getAllValues().get(2)).isNotSameAs(resolvers.getAllValues().get(0));
+        }
+
     }
 
     @Nested
@@ -45,6 +45,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusNot2xxOr4xx;
 import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
@@ -86,6 +87,11 @@ public class DspHttpRemoteMessageDispatcherImpl implements ProtocolRemoteMessage
 
         var request = handler.requestFactory.createRequest(message);
 
+        // the counterparty is failing: skip policy evaluation and token acquisition, the message will be retried
+        if (httpClient.isCircuitOpen(request.url())) {
+            return completedFuture(StatusResult.failure(ERROR_RETRY, "Circuit breaker open for counter party %s".formatted(request.url().host())));
+        }
+
         var tokenParametersBuilder = TokenParameters.Builder.newInstance();
 
         var policyScope = policyScopes.get(message.getClass());
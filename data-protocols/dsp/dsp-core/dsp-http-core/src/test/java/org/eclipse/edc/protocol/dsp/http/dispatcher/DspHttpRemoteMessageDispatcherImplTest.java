@@ -242,7 +242,7 @@ class DspHttpRemoteMessageDispatcherImplTest {
         assertThat(dispatcher.dispatch(participantContext.getParticipantContextId(), String.class, new TestMessage())).failsWithin(timeout)
                 .withThrowableThat().withCauseInstanceOf(EdcException.class).withMessageContaining("credentials");
 
-        verifyNoInteractions(httpClient);
+        verify(httpClient, never()).executeAsync(any(), any());
     }
 
     @Test
@@ -254,7 +254,22 @@ class DspHttpRemoteMessageDispatcherImplTest {
         assertThat(dispatcher.dispatch(participantContext.getParticipantContextId(), String.class, new TestMessage())).failsWithin(timeout)
                 .withThrowableThat().withCauseInstanceOf(EdcException.class).withMessageContaining("audience fetch failure");
 
-        verifyNoInteractions(httpClient);
+        verify(httpClient, never()).executeAsync(any(), any());
+    }
+
+    @Test
+    void dispatch_shouldFailWithRetry_whenCircuitIsOpen() {
+        dispatcher.registerMessage(TestMessage.class, requestFactory, mock());
+        when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
+        when(httpClient.isCircuitOpen(any())).thenReturn(true);
+
+        var result = dispatcher.dispatch(participantContext.getParticipantContextId(), String.class, new TestMessage());
+
+        assertThat(result).succeedsWithin(timeout).satisfies(statusResult -> {
+            assertThat(statusResult).isFailed().satisfies(failure -> assertThat(failure.status()).isEqualTo(ERROR_RETRY));
+        });
+        verify(httpClient, never()).executeAsync(any(), any());
+        verifyNoInteractions(identityService, audienceResolver);
     }
 
     @Test
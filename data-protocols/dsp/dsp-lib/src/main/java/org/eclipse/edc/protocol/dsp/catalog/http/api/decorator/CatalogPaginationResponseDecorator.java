@@ -20,11 +20,16 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenSerDes;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseDecorator;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 
 import java.net.URI;
 import java.util.function.IntBinaryOperator;
 
+/**
+ * Adds the {@code next} and {@code prev} links to a paginated catalog response. When the catalog request carries a
+ * keyset cursor, the {@code next} link points after the last dataset of the response, and there is no {@code prev} link.
+ */
 public class CatalogPaginationResponseDecorator implements ResponseDecorator<CatalogRequestMessage, Catalog> {
 
     private static final String NEXT = "next";
@@ -43,7 +48,16 @@ public class CatalogPaginationResponseDecorator implements ResponseDecorator<Cat
     @Override
     public Response.ResponseBuilder decorate(Response.ResponseBuilder responseBuilder, CatalogRequestMessage requestBody, Catalog responseBody) {
         var currentQuerySpec = requestBody.getQuerySpec();
-        if (responseBody.getDatasets().size() == currentQuerySpec.getLimit()) {
+        var datasets = responseBody.getDatasets();
+        if (currentQuerySpec.getCursor() != null) {
+            if (!datasets.isEmpty() && datasets.size() == currentQuerySpec.getLimit()) {
+                var cursor = KeysetCursor.after(null, null, datasets.get(datasets.size() - 1).getId());
+                addLink(NEXT, responseBuilder, currentQuerySpec.toBuilder().offset(0).cursor(cursor).build());
+            }
+            return responseBuilder;
+        }
+
+        if (datasets.size() == currentQuerySpec.getLimit()) {
             addLink(NEXT, responseBuilder, currentQuerySpec, (offset, limit) -> offset + limit);
         }
 
@@ -56,7 +70,11 @@ public class CatalogPaginationResponseDecorator implements ResponseDecorator<Cat
 
     private void addLink(String rel, Response.ResponseBuilder responseBuilder, QuerySpec currentQuerySpec, IntBinaryOperator newOffsetOperator) {
         var newOffset = newOffsetOperator.applyAsInt(currentQuerySpec.getOffset(), currentQuerySpec.getLimit());
-        continuationTokenSerDes.serialize(currentQuerySpec.toBuilder().offset(newOffset).build())
+        addLink(rel, responseBuilder, currentQuerySpec.toBuilder().offset(newOffset).build());
+    }
+
+    private void addLink(String rel, Response.ResponseBuilder responseBuilder, QuerySpec querySpec) {
+        continuationTokenSerDes.serialize(querySpec)
                 .onSuccess(token -> responseBuilder.link(URI.create(requestUrl + "?continuationToken=" + token), rel))
                 .onFailure(failure -> monitor.warning("Cannot serialize continuationToken for catalog pagination: " + failure.getFailureDetail()));
     }
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenSerDes;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.Nested;
@@ -115,4 +116,34 @@ class CatalogPaginationResponseDecoratorTest {
         }
     }
 
+    @Nested
+    class Cursor {
+        @Test
+        void shouldSetNextLinkAfterLastDataset_whenDatasetCountEqualsToLimit() {
+            var responseBuilder = Response.ok();
+            var querySpec = QuerySpec.Builder.newInstance().offset(3).limit(1).cursor(KeysetCursor.start()).build();
+            var message = CatalogRequestMessage.Builder.newInstance().querySpec(querySpec).build();
+            var catalog = Catalog.Builder.newInstance().dataset(Dataset.Builder.newInstance().id("last-dataset").build()).build();
+            when(continuationTokenSerDes.serialize(any())).thenReturn(Result.success("serializedToken"));
+
+            var response = decorator.decorate(responseBuilder, message, catalog).build();
+
+            assertThat(response.hasLink("next")).isTrue();
+            assertThat(response.hasLink("prev")).isFalse();
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 0 &&
+                    q.getCursor().equals(KeysetCursor.after(null, null, "last-dataset"))));
+        }
+
+        @Test
+        void shouldNotSetNextLink_whenDatasetSizeSmallerThanLimit() {
+            var responseBuilder = Response.ok();
+            var querySpec = QuerySpec.Builder.newInstance().limit(2).cursor(KeysetCursor.start()).build();
+            var message = CatalogRequestMessage.Builder.newInstance().querySpec(querySpec).build();
+            var catalog = Catalog.Builder.newInstance().dataset(Dataset.Builder.newInstance().build()).build();
+
+            var response = decorator.decorate(responseBuilder, message, catalog).build();
+
+            assertThat(response.hasLink("next")).isFalse();
+        }
+    }
 }
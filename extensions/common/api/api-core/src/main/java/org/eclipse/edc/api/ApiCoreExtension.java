@@ -15,6 +15,7 @@
 package org.eclipse.edc.api;
 
 import jakarta.json.Json;
+import org.eclipse.edc.api.transformer.JsonObjectFromBulkItemResultTransformer;
 import org.eclipse.edc.api.transformer.JsonObjectFromCallbackAddressTransformer;
 import org.eclipse.edc.api.transformer.JsonObjectFromIdResponseTransformer;
 import org.eclipse.edc.api.transformer.JsonObjectToCallbackAddressTransformer;
@@ -56,6 +57,7 @@ public class ApiCoreExtension implements ServiceExtension {
 
         transformerRegistry.register(new JsonObjectFromCallbackAddressTransformer(jsonFactory));
         transformerRegistry.register(new JsonObjectFromIdResponseTransformer(jsonFactory));
+        transformerRegistry.register(new JsonObjectFromBulkItemResultTransformer(jsonFactory));
         transformerRegistry.register(new JsonObjectToCallbackAddressTransformer());
 
         validatorRegistry.register(EDC_QUERY_SPEC_TYPE, QuerySpecValidator.instance(criterionOperatorRegistry));
@@ -47,6 +47,7 @@ import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToQuerySpecTransfo
 import org.eclipse.edc.transform.transformer.edc.to.JsonValueToGenericTypeTransformer;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectMessageBodyReader;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyReader;
 import org.eclipse.edc.web.jersey.providers.jsonld.ObjectMapperProvider;
 import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.ApiContext;
@@ -122,6 +123,7 @@ public class ManagementApiConfigurationExtension implements ServiceExtension {
 
         webService.registerResource(ApiContext.MANAGEMENT, new ObjectMapperProvider(typeManager, JSON_LD));
         webService.registerResource(ApiContext.MANAGEMENT, new JsonObjectMessageBodyReader(jsonLd, typeManager, JSON_LD, validatorRegistry));
+        webService.registerResource(ApiContext.MANAGEMENT, new JsonObjectStreamMessageBodyReader(jsonLd, typeManager, JSON_LD, validatorRegistry));
 
         var managementApiTransformerRegistry = transformerRegistry.forContext(MANAGEMENT_API_CONTEXT);
 
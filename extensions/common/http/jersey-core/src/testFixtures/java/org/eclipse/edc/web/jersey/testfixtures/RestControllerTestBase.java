@@ -26,6 +26,7 @@ import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.web.jersey.JerseyConfiguration;
 import org.eclipse.edc.web.jersey.JerseyRestService;
 import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectMessageBodyReader;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyReader;
 import org.eclipse.edc.web.jersey.providers.jsonld.ObjectMapperProvider;
 import org.eclipse.edc.web.jetty.JettyConfiguration;
 import org.eclipse.edc.web.jetty.JettyService;
@@ -65,6 +66,7 @@ public abstract class RestControllerTestBase {
         when(typeManager.getMapper("test")).thenReturn(objectMapper);
         jerseyService.registerResource("test", new ObjectMapperProvider(typeManager, "test"));
         jerseyService.registerResource("test", new JsonObjectMessageBodyReader(jsonLd, typeManager, "test", validatorRegistry));
+        jerseyService.registerResource("test", new JsonObjectStreamMessageBodyReader(jsonLd, typeManager, "test", validatorRegistry));
         jerseyService.registerResource("test", controller());
         var additionalResource = additionalResource();
         if (additionalResource != null) {
@@ -19,6 +19,7 @@ package org.eclipse.edc.iam.decentralizedclaims.core;
 import org.eclipse.edc.iam.decentralizedclaims.core.discovery.DidDiscoveryUrlResolver;
 import org.eclipse.edc.iam.decentralizedclaims.core.validation.SelfIssueIdTokenValidationAction;
 import org.eclipse.edc.iam.decentralizedclaims.service.DcpIdentityService;
+import org.eclipse.edc.iam.decentralizedclaims.service.VerifiedPresentationCache;
 import org.eclipse.edc.iam.decentralizedclaims.service.verification.MultiFormatPresentationVerifier;
 import org.eclipse.edc.iam.decentralizedclaims.spi.ClaimTokenCreatorFunction;
 import org.eclipse.edc.iam.decentralizedclaims.spi.DcpParticipantAgentServiceExtension;
@@ -44,6 +45,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.security.signature.jws2020.Jws2020SignatureSuite;
 import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -64,6 +66,7 @@ import org.eclipse.edc.verifiablecredentials.linkeddata.LdpVerifier;
 
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
@@ -79,6 +82,8 @@ public class DcpCoreExtension implements ServiceExtension {
     public static final String DCP_SELF_ISSUED_TOKEN_CONTEXT = "dcp-si";
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
     public static final long DEFAULT_CLEANUP_PERIOD_SECONDS = 60;
+    public static final long DEFAULT_PRESENTATION_CACHE_TTL_SECONDS = 300;
+    public static final int DEFAULT_PRESENTATION_CACHE_SIZE = 1000;
 
     @Setting(description = "DID of the participant, only needed if different from the value in edc.participant.id", required = false)
     public static final String PARTICIPANT_DID = "edc.participant.did";
@@ -99,6 +104,24 @@ public class DcpCoreExtension implements ServiceExtension {
             defaultValue = "true")
     private boolean activateJtiValidation;
 
+    @Setting(
+            key = "edc.iam.dcp.presentation.cache.enabled",
+            description = "Cache the claims of verified presentations, so that repeated requests of a counter-party for the same scopes do not trigger a new presentation request",
+            defaultValue = "false")
+    private boolean presentationCacheEnabled;
+
+    @Setting(
+            key = "edc.iam.dcp.presentation.cache.ttl",
+            description = "Maximum time in seconds a verified presentation is cached. Entries expire earlier if a credential or the self-issued token expires",
+            defaultValue = DEFAULT_PRESENTATION_CACHE_TTL_SECONDS + "")
+    private long presentationCacheTtl;
+
+    @Setting(
+            key = "edc.iam.dcp.presentation.cache.size",
+            description = "Maximum number of cached verified presentations",
+            defaultValue = DEFAULT_PRESENTATION_CACHE_SIZE + "")
+    private int presentationCacheSize;
+
     @Inject
     private SecureTokenService secureTokenService;
     @Inject
@@ -135,6 +158,8 @@ public class DcpCoreExtension implements ServiceExtension {
     private PresentationRequestService presentationRequestService;
     @Inject
     private DiscoveryService discoveryService;
+    @Inject
+    private CacheInstrumentation cacheInstrumentation;
 
     private PresentationVerifier presentationVerifier;
     private ScheduledFuture<?> jtiEntryReaperThread;
@@ -203,7 +228,18 @@ public class DcpCoreExtension implements ServiceExtension {
         var credentialValidationService = new VerifiableCredentialValidationServiceImpl(createPresentationVerifier(context), rules);
 
         return new DcpIdentityService(secureTokenService, didConfigProvider, validationAction,
-                presentationRequestService, claimTokenFunction, credentialValidationService);
+                presentationRequestService, claimTokenFunction, credentialValidationService, createPresentationCache());
+    }
+
+    private VerifiedPresentationCache createPresentationCache() {
+        if (!presentationCacheEnabled) {
+            return null;
+        }
+
+        var cache = new VerifiedPresentationCache(presentationCacheSize, Duration.ofSeconds(presentationCacheTtl),
+                revocationServiceRegistry::checkValidity, clock);
+        cacheInstrumentation.instrument(cache, "dcp-presentation");
+        return cache;
     }
 
     @Provider
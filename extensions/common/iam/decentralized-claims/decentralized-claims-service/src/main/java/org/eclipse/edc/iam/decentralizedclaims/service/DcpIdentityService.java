@@ -23,6 +23,7 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidat
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentation;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentationContainer;
+import org.eclipse.edc.protocol.spi.DataspaceProfileContext;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.TokenParameters;
@@ -30,15 +31,19 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.string.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 import static org.eclipse.edc.iam.decentralizedclaims.spi.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUER;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SCOPE;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SUBJECT;
@@ -65,6 +70,7 @@ public class DcpIdentityService implements IdentityService {
     private final PresentationRequestService presentationRequestService;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
     private final VerifiableCredentialValidationService verifiableCredentialValidationService;
+    private final VerifiedPresentationCache presentationCache;
 
     /**
      * Constructs a new instance of the {@link DcpIdentityService}.
@@ -77,12 +83,30 @@ public class DcpIdentityService implements IdentityService {
                               PresentationRequestService presentationRequestService,
                               ClaimTokenCreatorFunction claimTokenCreatorFunction,
                               VerifiableCredentialValidationService verifiableCredentialValidationService) {
+        this(secureTokenService, didResolver, tokenValidationAction, presentationRequestService, claimTokenCreatorFunction,
+                verifiableCredentialValidationService, null);
+    }
+
+    /**
+     * Constructs a new instance of the {@link DcpIdentityService} that caches verified presentations.
+     *
+     * @param secureTokenService Instance of an STS, which can create SI tokens
+     * @param didResolver        Function that resolves the DID for a given participant context id
+     * @param presentationCache  Cache for verified presentations, caching is disabled if null
+     */
+    public DcpIdentityService(SecureTokenService secureTokenService, Function<String, String> didResolver,
+                              TokenValidationAction tokenValidationAction,
+                              PresentationRequestService presentationRequestService,
+                              ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                              VerifiableCredentialValidationService verifiableCredentialValidationService,
+                              @Nullable VerifiedPresentationCache presentationCache) {
         this.secureTokenService = secureTokenService;
         this.didResolver = didResolver;
         this.tokenValidationAction = tokenValidationAction;
         this.presentationRequestService = presentationRequestService;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
         this.verifiableCredentialValidationService = verifiableCredentialValidationService;
+        this.presentationCache = presentationCache;
     }
 
     @Override
@@ -140,23 +164,35 @@ public class DcpIdentityService implements IdentityService {
         var myOwnDid = didResolver.apply(participantContextId);
         var requestedScopes = context.getScopes().stream().toList();
 
+        var cacheKey = new VerifiedPresentationCache.Key(participantContextId, issuer, Set.copyOf(requestedScopes),
+                Optional.ofNullable(context.getDataspaceProfileContext()).map(DataspaceProfileContext::name).orElse(null));
+        if (presentationCache != null) {
+            var cached = presentationCache.get(cacheKey);
+            if (cached != null) {
+                return success(cached);
+            }
+        }
+
         var vpResponse = presentationRequestService.requestPresentation(participantContextId, myOwnDid, issuer, accessToken, requestedScopes);
         if (vpResponse.failed()) {
             return vpResponse.mapEmpty();
         }
 
         var presentations = vpResponse.getContent();
+        var credentials = presentations.stream()
+                .flatMap(p -> p.presentation().getCredentials().stream())
+                .toList();
 
         var result = validateRequestedCredentials(presentations, requestedScopes)
                 .compose(unused -> verifiableCredentialValidationService.validate(presentations, myOwnDid, context.getDataspaceProfileContext()));
 
         return result
                 .compose(u -> verifyPresentationIssuer(issuer, presentations))
-                .compose(u -> {
-                    var credentials = presentations.stream()
-                            .flatMap(p -> p.presentation().getCredentials().stream())
-                            .toList();
-                    return claimTokenCreatorFunction.apply(credentials);
+                .compose(u -> claimTokenCreatorFunction.apply(credentials))
+                .onSuccess(verifiedClaims -> {
+                    if (presentationCache != null) {
+                        presentationCache.put(cacheKey, verifiedClaims, credentials, claimToken.getInstantClaim(EXPIRATION_TIME));
+                    }
                 });
     }
 
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.decentralizedclaims.service;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.CacheStatistics;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Caches the {@link ClaimToken} that results from a successful presentation request and verification, so that
+ * subsequent requests of the same counter-party for the same scopes do not need to query its credential service again.
+ * <p>
+ * Entries expire at the earliest of: the configured maximum time-to-live, the expiration date of any of the contained
+ * credentials and the expiration of the self-issued token that triggered the presentation request. On every hit, the
+ * revocation status of the contained credentials is checked again against the (locally cached) status lists, so
+ * a status list refresh that revokes or suspends a credential invalidates the entry.
+ * <p>
+ * Once the cache is full, the least recently used entry makes room for a new one.
+ */
+public class VerifiedPresentationCache implements CacheStatistics {
+
+    private final Map<Key, CacheEntry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maxSize;
+    private final Duration maxTimeToLive;
+    private final Function<VerifiableCredential, Result<Void>> revocationCheck;
+    private final Clock clock;
+
+    /**
+     * Constructs a new cache.
+     *
+     * @param maxSize         maximum number of entries
+     * @param maxTimeToLive   maximum time an entry is kept
+     * @param revocationCheck checks the revocation status of a credential, typically backed by the status list caches
+     * @param clock           the clock
+     */
+    public VerifiedPresentationCache(int maxSize, Duration maxTimeToLive, Function<VerifiableCredential, Result<Void>> revocationCheck, Clock clock) {
+        this.maxSize = maxSize;
+        this.maxTimeToLive = maxTimeToLive;
+        this.revocationCheck = revocationCheck;
+        this.clock = clock;
+        // access-ordered, so that the eldest entry is the least recently used one. Guarded by itself.
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CacheEntry> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached claim token for the key, if present, not expired and none of its credentials has been revoked
+     * in the meantime.
+     */
+    public @Nullable ClaimToken get(Key key) {
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        var revoked = entry.credentials().stream().map(revocationCheck).anyMatch(Result::failed);
+        if (revoked || !clock.instant().isBefore(entry.expiresAt())) {
+            remove(key, entry);
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.claimToken();
+    }
+
+    /**
+     * Caches a claim token.
+     *
+     * @param key            the key
+     * @param claimToken     the claim token that was created from the verified credentials
+     * @param credentials    the verified credentials
+     * @param tokenExpiresAt the expiration of the self-issued token, may be null
+     */
+    public void put(Key key, ClaimToken claimToken, List<VerifiableCredential> credentials, @Nullable Instant tokenExpiresAt) {
+        var expiresAt = Stream.concat(
+                        Stream.of(clock.instant().plus(maxTimeToLive), tokenExpiresAt),
+                        credentials.stream().map(VerifiableCredential::getExpirationDate))
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+
+        if (!clock.instant().isBefore(expiresAt)) {
+            return;
+        }
+
+        var entry = new CacheEntry(claimToken, List.copyOf(credentials), expiresAt);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            evictions.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void remove(Key key, CacheEntry entry) {
+        synchronized (entries) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Cache key of a verified presentation.
+     *
+     * @param participantContextId the participant context that verified the presentation
+     * @param issuer               the DID of the counter-party
+     * @param scopes               the requested scopes
+     * @param dataspaceProfile     name of the dataspace profile the credentials were validated against, may be null
+     */
+    public record Key(String participantContextId, String issuer, Set<String> scopes, @Nullable String dataspaceProfile) {
+    }
+
+    private record CacheEntry(ClaimToken claimToken, List<VerifiableCredential> credentials, Instant expiresAt) {
+    }
+}
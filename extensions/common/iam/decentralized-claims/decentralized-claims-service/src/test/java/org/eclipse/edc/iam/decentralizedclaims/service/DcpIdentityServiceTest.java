@@ -39,6 +39,8 @@ import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +60,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -399,5 +402,47 @@ class DcpIdentityServiceTest {
         }
     }
 
+    @Nested
+    class VerifyJwtTokenWithCache {
+
+        private final VerifiedPresentationCache cache = new VerifiedPresentationCache(10, Duration.ofMinutes(5), vc -> success(), Clock.systemUTC());
+        private final DcpIdentityService cachingService = new DcpIdentityService(mockedSts, (it) -> EXPECTED_OWN_DID, actionMock,
+                presentationRequestServiceMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                credentialValidationServiceMock, cache);
+
+        @Test
+        void shouldRequestPresentationOnce_whenSameIssuerAndScopes() {
+            var presentation = createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder().build()))
+                    .build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.VC1_0_LD, presentation);
+            when(presentationRequestServiceMock.requestPresentation(any(), any(), any(), any(), anyList())).thenReturn(success(List.of(vpContainer)));
+            var token = TestFunctions.createToken(CONSUMER_DID, EXPECTED_OWN_DID);
 
+            var first = cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+            var second = cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+
+            assertThat(first).isSucceeded();
+            assertThat(second).isSucceeded().isSameAs(first.getContent());
+            verify(actionMock, times(2)).validate(any(), any());
+            verify(presentationRequestServiceMock, times(1)).requestPresentation(any(), any(), any(), any(), anyList());
+            assertThat(cache.hitCount()).isEqualTo(1);
+            assertThat(cache.missCount()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotCache_whenVerificationFails() {
+            when(credentialValidationServiceMock.validate(anyList(), anyString(), any())).thenReturn(Result.failure("test error"));
+            when(presentationRequestServiceMock.requestPresentation(any(), any(), any(), any(), anyList())).thenReturn(success(List.of(createPresentationContainer())));
+            var token = TestFunctions.createToken();
+
+            cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+            cachingService.verifyJwtToken(PARTICIPANT_CONTEXT_ID, token, verificationContext());
+
+            verify(presentationRequestServiceMock, times(2)).requestPresentation(any(), any(), any(), any(), anyList());
+            assertThat(cache.size()).isZero();
+        }
+    }
 }
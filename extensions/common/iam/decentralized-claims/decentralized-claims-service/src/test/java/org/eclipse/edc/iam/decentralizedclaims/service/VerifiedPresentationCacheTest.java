@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.decentralizedclaims.service;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredentialBuilder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedPresentationCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration MAX_TTL = Duration.ofMinutes(5);
+
+    private final Clock clock = mock();
+    private final ClaimToken claimToken = ClaimToken.Builder.newInstance().claim("foo", "bar").build();
+    private final VerifiedPresentationCache.Key key = new VerifiedPresentationCache.Key("participantContextId", "did:web:issuer", Set.of("scope"), null);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+    }
+
+    @Test
+    void shouldReturnCachedClaimToken() {
+        var cache = cache(vc -> Result.success());
+
+        cache.put(key, claimToken, List.of(createCredentialBuilder().build()), null);
+
+        assertThat(cache.get(key)).isSameAs(claimToken);
+        assertThat(cache.get(new VerifiedPresentationCache.Key("participantContextId", "did:web:issuer", Set.of("other"), null))).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpire_afterMaxTimeToLive() {
+        var cache = cache(vc -> Result.success());
+        cache.put(key, claimToken, List.of(createCredentialBuilder().build()), null);
+
+        when(clock.instant()).thenReturn(NOW.plus(MAX_TTL));
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpire_whenCredentialExpires() {
+        var cache = cache(vc -> Result.success());
+        var credential = createCredentialBuilder().expirationDate(NOW.plusSeconds(10)).build();
+        cache.put(key, claimToken, List.of(credential), NOW.plusSeconds(60));
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void shouldExpire_whenTokenExpires() {
+        var cache = cache(vc -> Result.success());
+        cache.put(key, claimToken, List.of(createCredentialBuilder().build()), NOW.plusSeconds(30));
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(29));
+        assertThat(cache.get(key)).isSameAs(claimToken);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void shouldNotCache_whenAlreadyExpired() {
+        var cache = cache(vc -> Result.success());
+
+        cache.put(key, claimToken, List.of(createCredentialBuilder().build()), NOW);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldEvict_whenCredentialGetsRevoked() {
+        var revoked = new AtomicBoolean(false);
+        var cache = cache(vc -> revoked.get() ? Result.failure("revoked") : Result.success());
+        cache.put(key, claimToken, List.of(createCredentialBuilder().build()), null);
+
+        assertThat(cache.get(key)).isSameAs(claimToken);
+
+        revoked.set(true);
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed_whenFull() {
+        var cache = new VerifiedPresentationCache(2, MAX_TTL, vc -> Result.success(), clock);
+        var first = new VerifiedPresentationCache.Key("participantContextId", "did:web:first", Set.of("scope"), null);
+        var second = new VerifiedPresentationCache.Key("participantContextId", "did:web:second", Set.of("scope"), null);
+        var third = new VerifiedPresentationCache.Key("participantContextId", "did:web:third", Set.of("scope"), null);
+
+        cache.put(first, claimToken, List.of(), null);
+        cache.put(second, claimToken, List.of(), null);
+        cache.get(first);
+        cache.put(third, claimToken, List.of(), null);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(second)).isNull();
+        assertThat(cache.get(first)).isNotNull();
+        assertThat(cache.get(third)).isNotNull();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    private VerifiedPresentationCache cache(Function<VerifiableCredential, Result<Void>> revocationCheck) {
+        return new VerifiedPresentationCache(100, MAX_TTL, revocationCheck, clock);
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.edc.iam.did;
 
 import org.eclipse.edc.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.keys.spi.KeyParserRegistry;
@@ -23,8 +24,10 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.util.collection.BoundedCache;
 
 import java.time.Clock;
 
@@ -36,12 +39,17 @@ public class IdentityDidCoreExtension implements ServiceExtension {
     public static final String NAME = "Identity Did Core";
     @Setting(description = "Expiry time for caching DID Documents in milliseconds", key = "edc.did.resolver.cache.expiry", defaultValue = 1000 * 60 * 5 + "")
     private long didCacheExpiryMillis;
+    @Setting(description = "Maximum number of cached DID Documents. 0 disables the cache", key = "edc.did.resolver.cache.size", defaultValue = DidResolverRegistryImpl.DEFAULT_CACHE_SIZE + "")
+    private int didCacheSize;
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
     @Inject
     private Clock clock;
 
+    @Inject
+    private CacheInstrumentation cacheInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -49,7 +57,9 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl(clock, didCacheExpiryMillis);
+        var didCache = new BoundedCache<String, DidDocument>(didCacheSize, didCacheExpiryMillis, clock);
+        cacheInstrumentation.instrument(didCache, "did-resolver");
+        var didResolverRegistry = new DidResolverRegistryImpl(didCache);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
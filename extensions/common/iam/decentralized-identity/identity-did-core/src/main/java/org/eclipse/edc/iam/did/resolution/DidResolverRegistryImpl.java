@@ -19,8 +19,7 @@ import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.ConcurrentLruCache;
-import org.eclipse.edc.util.collection.TimestampedValue;
+import org.eclipse.edc.util.collection.BoundedCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -30,21 +29,20 @@ import java.util.Map;
 import java.util.Objects;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link BoundedCache}
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, TimestampedValue<DidDocument>> didCache;
+    public static final int DEFAULT_CACHE_SIZE = 50;
+    private final BoundedCache<String, DidDocument> didCache;
     private final Map<String, DidResolver> resolvers = new HashMap<>();
-    private final long cacheValidity; // clean up cache every 5 minutes
-    private final Clock clock;
 
 
     public DidResolverRegistryImpl(Clock clock, long cacheValidityMillis) {
-        this(50, cacheValidityMillis, clock);
+        this(DEFAULT_CACHE_SIZE, cacheValidityMillis, clock);
     }
 
     /**
@@ -55,9 +53,16 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
      * @param clock         the {@link Clock}
      */
     public DidResolverRegistryImpl(int cacheSize, long cacheValidity, Clock clock) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
-        this.cacheValidity = cacheValidity;
-        this.clock = clock;
+        this(new BoundedCache<>(cacheSize, cacheValidity, clock));
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object that caches resolved DID Documents in the given cache.
+     *
+     * @param didCache the cache
+     */
+    public DidResolverRegistryImpl(BoundedCache<String, DidDocument> didCache) {
+        this.didCache = didCache;
     }
 
 
@@ -99,16 +104,7 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @NotNull
     private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var cacheEntry = didCache.get(didKey);
-        DidDocument didDocument = null;
-
-        if (cacheEntry != null) {
-            if (cacheEntry.isExpired(clock)) { // lazy evict expired values
-                didCache.remove(didKey);
-            } else {
-                didDocument = cacheEntry.value();
-            }
-        }
+        var didDocument = didCache.get(didKey);
         if (didDocument == null) { //resolve the did document again, put in cache
 
             var resolveResult = resolver.resolve(didKey);
@@ -116,7 +112,7 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
                 return resolveResult;
             }
             didDocument = resolveResult.getContent();
-            didCache.put(didKey, new TimestampedValue<>(didDocument, cacheValidity));
+            didCache.put(didKey, didDocument);
         }
 
         return Result.success(didDocument);
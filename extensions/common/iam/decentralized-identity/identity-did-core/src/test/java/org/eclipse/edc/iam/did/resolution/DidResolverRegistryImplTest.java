@@ -24,7 +24,6 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
@@ -102,7 +101,9 @@ class DidResolverRegistryImplTest {
 
     @Test
     void resolve_whenCacheExpired() {
-        registry = new DidResolverRegistryImpl(Clock.fixed(Instant.now().plus(1, ChronoUnit.DAYS), ZoneId.systemDefault()), CACHE_VALIDITY);
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, Instant.EPOCH.plus(1, ChronoUnit.DAYS).toEpochMilli());
+        registry = new DidResolverRegistryImpl(clock, CACHE_VALIDITY);
         var resolver = mock(DidResolver.class);
         when(resolver.getMethod()).thenReturn(FOO_METHOD);
         when(resolver.resolve(any())).thenReturn(Result.success(DidDocument.Builder.newInstance().build()));
@@ -26,12 +26,15 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.iam.verifiablecredentials.RevocationServiceRegistryExtension.NAME;
 
@@ -40,17 +43,31 @@ public class RevocationServiceRegistryExtension implements ServiceExtension {
 
     public static final String NAME = "Revocation Service Registry";
     public static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
+    public static final long DEFAULT_REVOCATION_CACHE_STALE_GRACE_MILLIS = 0;
+    public static final int DEFAULT_REVOCATION_REFRESH_THREADS = 2;
 
     @Setting(
             key = "edc.iam.credential.revocation.cache.validity",
             description = "Validity period of cached StatusList2021 credential entries in milliseconds.",
             defaultValue = DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS + "")
     private long revocationCacheValidity;
+    @Setting(
+            key = "edc.iam.credential.revocation.cache.stale.grace",
+            description = "Time in milliseconds an expired status list credential is still used while it is re-downloaded in the background. " +
+                    "A revocation is only noticed after this period, so it is disabled (0) by default.",
+            defaultValue = DEFAULT_REVOCATION_CACHE_STALE_GRACE_MILLIS + "")
+    private long revocationCacheStaleGrace;
     @Setting(
             key = "edc.iam.credential.revocation.mimetype",
             description = "A comma-separated list of accepted content types of the revocation list credential.",
             defaultValue = "*/*")
     private String contentTypes;
+    @Setting(
+            key = "edc.iam.credential.revocation.refresh.threads",
+            description = "Number of threads that re-download expired status list credentials in the background, " +
+                    "only used when edc.iam.credential.revocation.cache.stale.grace is set.",
+            defaultValue = DEFAULT_REVOCATION_REFRESH_THREADS + "")
+    private int refreshThreads;
 
     @Inject
     private TypeManager typeManager;
@@ -60,20 +77,35 @@ public class RevocationServiceRegistryExtension implements ServiceExtension {
     private TokenValidationService tokenValidationService;
     @Inject
     private DidPublicKeyResolver didPublicKeyResolver;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService refreshExecutor;
 
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public RevocationServiceRegistry createRevocationListService(ServiceExtensionContext context) {
+        if (revocationCacheStaleGrace > 0) {
+            // status lists are downloaded with blocking HTTP calls, so they get their own pool instead of a shared one
+            refreshExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(refreshThreads), "StatusListRefresh");
+        }
         var revocationServiceRegistry = new RevocationServiceRegistryImpl(context.getMonitor());
         var acceptedContentTypes = List.of(contentTypes.split(","));
         revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(),
-                revocationCacheValidity, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver));
+                revocationCacheValidity, revocationCacheStaleGrace, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver, refreshExecutor));
         revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(),
-                revocationCacheValidity, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver));
+                revocationCacheValidity, revocationCacheStaleGrace, acceptedContentTypes, httpClient, tokenValidationService, didPublicKeyResolver, refreshExecutor));
         return revocationServiceRegistry;
     }
 
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
+import org.eclipse.edc.spi.system.CacheStatistics;
+
+/**
+ * {@link CacheInstrumentation} that reports hits, misses, evictions and size of a cache, using the meter names of the
+ * Micrometer cache binders ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}) tagged by cache name.
+ */
+public class MicrometerCacheInstrumentation implements CacheInstrumentation {
+    private final MeterRegistry registry;
+
+    public MicrometerCacheInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void instrument(CacheStatistics cache, String name) {
+        FunctionCounter.builder("cache.gets", cache, CacheStatistics::hitCount)
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, CacheStatistics::missCount)
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, CacheStatistics::evictionCount)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", cache, CacheStatistics::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
@@ -26,11 +26,13 @@ import okhttp3.EventListener;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.CacheInstrumentation;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionInstrumentation;
 
-@Provides({ EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class })
+@Provides({ CacheInstrumentation.class, EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class, TransactionInstrumentation.class })
 @Extension(value = MicrometerExtension.NAME)
 public class MicrometerExtension implements ServiceExtension {
 
@@ -42,6 +44,10 @@ public class MicrometerExtension implements ServiceExtension {
     public static final String ENABLE_OKHTTP_METRICS = "edc.metrics.okhttp.enabled";
     @Setting
     public static final String ENABLE_EXECUTOR_METRICS = "edc.metrics.executor.enabled";
+    @Setting
+    public static final String ENABLE_TRANSACTION_METRICS = "edc.metrics.transaction.enabled";
+    @Setting
+    public static final String ENABLE_CACHE_METRICS = "edc.metrics.cache.enabled";
     public static final String NAME = "Micrometer Metrics";
     private static final String OKHTTP_REQUESTS_METRIC_NAME = "okhttp.requests";
 
@@ -59,6 +65,8 @@ public class MicrometerExtension implements ServiceExtension {
         var enableSystemMetrics = context.getSetting(ENABLE_SYSTEM_METRICS, true);
         var enableOkHttpMetrics = context.getSetting(ENABLE_OKHTTP_METRICS, true);
         var enableExecutorMetrics = context.getSetting(ENABLE_EXECUTOR_METRICS, true);
+        var enableTransactionMetrics = context.getSetting(ENABLE_TRANSACTION_METRICS, true);
+        var enableCacheMetrics = context.getSetting(ENABLE_CACHE_METRICS, true);
 
         if (!enableMetrics) {
             return; // metrics disabled
@@ -75,6 +83,14 @@ public class MicrometerExtension implements ServiceExtension {
         if (enableExecutorMetrics) {
             enableExecutorMetrics(context, registry);
         }
+
+        if (enableTransactionMetrics) {
+            enableTransactionMetrics(context, registry);
+        }
+
+        if (enableCacheMetrics) {
+            enableCacheMetrics(context, registry);
+        }
     }
 
     private void enableSystemMetrics(MeterRegistry registry) {
@@ -86,11 +102,22 @@ public class MicrometerExtension implements ServiceExtension {
     }
 
     private void enableOkHttpMetrics(ServiceExtensionContext context, MeterRegistry registry) {
-        var listener = OkHttpMetricsEventListener.builder(registry, OKHTTP_REQUESTS_METRIC_NAME).build();
+        // the host tag breaks latency and errors down by counterparty, as done by the client bulkheads and circuit breakers
+        var listener = OkHttpMetricsEventListener.builder(registry, OKHTTP_REQUESTS_METRIC_NAME)
+                .includeHostTag(true)
+                .build();
         context.registerService(EventListener.class, listener);
     }
 
     private void enableExecutorMetrics(ServiceExtensionContext context, MeterRegistry registry) {
         context.registerService(ExecutorInstrumentation.class, new MicrometerExecutorInstrumentation(registry));
     }
+
+    private void enableTransactionMetrics(ServiceExtensionContext context, MeterRegistry registry) {
+        context.registerService(TransactionInstrumentation.class, new MicrometerTransactionInstrumentation(registry));
+    }
+
+    private void enableCacheMetrics(ServiceExtensionContext context, MeterRegistry registry) {
+        context.registerService(CacheInstrumentation.class, new MicrometerCacheInstrumentation(registry));
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionInstrumentation;
+
+/**
+ * {@link TransactionInstrumentation} that decorates transaction contexts with a {@link TimedTransactionContext}, to
+ * report the time spent in transactions under {@code edc.transaction.duration}, tagged by name.
+ */
+public class MicrometerTransactionInstrumentation implements TransactionInstrumentation {
+    private static final String TRANSACTION_DURATION_METRIC_NAME = "edc.transaction.duration";
+
+    private final MeterRegistry registry;
+
+    public MicrometerTransactionInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public TransactionContext instrument(TransactionContext target, String name) {
+        var timer = Timer.builder(TRANSACTION_DURATION_METRIC_NAME)
+                .description("Time spent in database transactions")
+                .tag("name", name)
+                .register(registry);
+        return new TimedTransactionContext(target, timer);
+    }
+}
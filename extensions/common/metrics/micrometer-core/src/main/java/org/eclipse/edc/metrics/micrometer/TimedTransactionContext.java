@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+/**
+ * {@link TransactionContext} that records how long every transaction block takes to execute, that is, approximately,
+ * how long a database connection is held.
+ */
+public class TimedTransactionContext implements TransactionContext {
+
+    private final TransactionContext delegate;
+    private final Timer timer;
+
+    public TimedTransactionContext(TransactionContext delegate, Timer timer) {
+        this.delegate = delegate;
+        this.timer = timer;
+    }
+
+    @Override
+    public void execute(TransactionBlock block) {
+        var sample = Timer.start();
+        try {
+            delegate.execute(block);
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    @Override
+    public <T> T execute(ResultTransactionBlock<T> block) {
+        var sample = Timer.start();
+        try {
+            return delegate.execute(block);
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    @Override
+    public void registerSynchronization(TransactionSynchronization sync) {
+        delegate.registerSynchronization(sync);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimedTransactionContextTest {
+
+    private final Timer timer = Timer.builder("test").register(new SimpleMeterRegistry());
+    private final TimedTransactionContext transactionContext = new TimedTransactionContext(new NoopTransactionContext(), timer);
+
+    @Test
+    void execute_shouldRecordDuration() {
+        var result = transactionContext.execute(() -> "result");
+        transactionContext.execute(() -> { });
+
+        assertThat(result).isEqualTo("result");
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_shouldRecordDuration_whenBlockThrows() {
+        assertThatThrownBy(() -> transactionContext.execute(() -> {
+            throw new IllegalStateException("failure");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
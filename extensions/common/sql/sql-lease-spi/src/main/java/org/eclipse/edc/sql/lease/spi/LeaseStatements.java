@@ -38,6 +38,29 @@ public interface LeaseStatements extends SqlStatements {
                 .upsertInto(getLeaseTableName(), format("%s, %s", getResourceIdColumn(), getResourceKindColumn()), "%s.%s + %s.%s < ?".formatted(getLeaseTableName(), getLeasedAtColumn(), getLeaseTableName(), getLeaseDurationColumn()));
     }
 
+    /**
+     * Acquires leases for an array of resource ids in a single statement. Only the ids for which the lease could be
+     * acquired (not leased, or lease expired) are returned.
+     * Parameters: leased by, resource kind, leased at, lease duration, resource ids array, current time.
+     */
+    default String getUpsertLeasesTemplate() {
+        return format("INSERT INTO %1$s (%2$s, %3$s, %4$s, %5$s, %6$s) SELECT id, ?, ?, ?, ? FROM unnest(?) AS id " +
+                        "ON CONFLICT (%2$s, %4$s) DO UPDATE SET %3$s = EXCLUDED.%3$s, %5$s = EXCLUDED.%5$s, %6$s = EXCLUDED.%6$s " +
+                        "WHERE %1$s.%5$s + %1$s.%6$s < ? RETURNING %2$s;",
+                getLeaseTableName(), getResourceIdColumn(), getLeasedByColumn(), getResourceKindColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Deletes the lease if held by the given holder, and reports in the same round trip whether a lease held by someone
+     * else exists. Returns a single row with the number of deleted leases and the holder of the lease (if any).
+     * Parameters: resource id, resource kind, leased by, resource id, resource kind.
+     */
+    default String getBreakLeaseTemplate() {
+        return format("WITH deleted AS (DELETE FROM %1$s WHERE %2$s = ? AND %3$s = ? AND %4$s = ? RETURNING %2$s) " +
+                        "SELECT (SELECT count(*) FROM deleted) AS deleted, (SELECT %4$s FROM %1$s WHERE %2$s = ? AND %3$s = ?) AS %4$s;",
+                getLeaseTableName(), getResourceIdColumn(), getResourceKindColumn(), getLeasedByColumn());
+    }
+
     default String getFindLeaseByEntityTemplate() {
         return "SELECT * FROM %s WHERE %s = ? and %s = ?".formatted(getLeaseTableName(), getResourceIdColumn(), getResourceKindColumn());
     }
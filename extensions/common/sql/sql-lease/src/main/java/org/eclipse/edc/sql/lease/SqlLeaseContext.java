@@ -28,12 +28,19 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
 
 /**
  * SQL-based implementation of the LeaseContext.
  * Acquiring a lease is implemented by adding an entry into the "lease" table in the database
  * Breaking a lease is implemented by deleting the respective entry
+ * <p>
+ * Multiple leases can be acquired at once with {@link #acquireLeases(Collection)}, and breaking a lease takes a single
+ * round trip, so that fetching a batch of entities costs a constant number of statements.
  */
 public class SqlLeaseContext implements LeaseContext {
     private static final long DEFAULT_LEASE_DURATION = 60_000;
@@ -61,16 +68,11 @@ public class SqlLeaseContext implements LeaseContext {
     @Override
     public StoreResult<Void> breakLease(String entityId) {
         return trxContext.execute(() -> {
+            var stmt = statements.getBreakLeaseTemplate();
+            var result = queryExecutor.single(connection, false, this::mapBreakLeaseResult, stmt, entityId, resourceKind, leaseHolder, entityId, resourceKind);
 
-            var l = getLease(entityId);
-
-            if (l != null) {
-                if (!Objects.equals(leaseHolder, l.getLeasedBy())) {
-                    return StoreResult.alreadyLeased("Current runtime does not hold the lease for Object (id [%s], kind [%s]), cannot break lease!".formatted(entityId, resourceKind));
-                }
-
-                var stmt = statements.getDeleteLeaseTemplate();
-                queryExecutor.execute(connection, stmt, l.getResourceId(), resourceKind);
+            if (result.deleted() == 0 && result.leasedBy() != null && !Objects.equals(leaseHolder, result.leasedBy())) {
+                return StoreResult.alreadyLeased("Current runtime does not hold the lease for Object (id [%s], kind [%s]), cannot break lease!".formatted(entityId, resourceKind));
             }
             return StoreResult.success();
         });
@@ -91,6 +93,22 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    @Override
+    public Set<String> acquireLeases(Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return Set.of();
+        }
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var ids = entityIds.stream().distinct().toArray(String[]::new);
+            var stmt = statements.getUpsertLeasesTemplate();
+            try (var stream = queryExecutor.query(connection, false, rs -> rs.getString(statements.getResourceIdColumn()), stmt, leaseHolder, resourceKind, now, duration, ids, now)) {
+                return stream.collect(toSet());
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -102,6 +120,10 @@ public class SqlLeaseContext implements LeaseContext {
         return queryExecutor.single(connection, false, this::mapLease, stmt, entityId, resourceKind);
     }
 
+    private BreakLeaseResult mapBreakLeaseResult(ResultSet resultSet) throws SQLException {
+        return new BreakLeaseResult(resultSet.getLong("deleted"), resultSet.getString(statements.getLeasedByColumn()));
+    }
+
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
         return new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
                 resultSet.getString(statements.getResourceIdColumn()),
@@ -109,4 +131,7 @@ public class SqlLeaseContext implements LeaseContext {
                 resultSet.getLong(statements.getLeasedAtColumn()),
                 resultSet.getLong(statements.getLeaseDurationColumn()));
     }
+
+    private record BreakLeaseResult(long deleted, @Nullable String leasedBy) {
+    }
 }
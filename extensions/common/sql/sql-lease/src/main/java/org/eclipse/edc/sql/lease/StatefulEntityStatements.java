@@ -45,4 +45,8 @@ public interface StatefulEntityStatements {
     default String getUpdatedAtColumn() {
         return "updated_at";
     }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
 }
@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.Executors;
@@ -148,6 +149,71 @@ class PostgresLeaseContextTest {
                 .isEqualTo(StoreFailure.Reason.ALREADY_LEASED);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(isLeased("id1")).isTrue();
+        assertThat(isLeased("id2")).isTrue();
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_shouldSkipEntitiesLeasedByOthers(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1").orElseThrow(f -> new AssertionError(f.getFailureDetail()));
+
+        var leased = builder.by(LEASE_HOLDER).withConnection(connection).acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void acquireLeases_shouldAcquireExpiredLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1").orElseThrow(f -> new AssertionError(f.getFailureDetail()));
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var leased = SqlLeaseContextBuilderImpl.with(transactionContext, LEASE_HOLDER, "TestTarget", dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection)
+                .acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_empty() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
+    @Test
+    void breakLease_shouldDeleteOwnLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.acquireLease("id1").orElseThrow(f -> new AssertionError(f.getFailureDetail()));
+
+        assertThat(leaseContext.breakLease("id1")).isSucceeded();
+
+        assertThat(isLeased("id1")).isFalse();
+    }
+
+    @Test
+    void breakLease_whenLeasedByOther_shouldFail(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1").orElseThrow(f -> new AssertionError(f.getFailureDetail()));
+
+        var result = builder.by(LEASE_HOLDER).withConnection(connection).breakLease("id1");
+
+        assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(StoreFailure.Reason.ALREADY_LEASED);
+        assertThat(isLeased("id1")).isTrue();
+    }
+
     @Test
     void getLease(Connection connection) {
         var id = "test-id";
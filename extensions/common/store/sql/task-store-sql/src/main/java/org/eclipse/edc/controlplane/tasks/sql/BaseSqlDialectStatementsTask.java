@@ -61,4 +61,15 @@ public class BaseSqlDialectStatementsTask implements TaskStatements {
     public String getDeleteStatement() {
         return executeStatement().delete(getTaskTable(), getIdColumn());
     }
+
+    @Override
+    public String getFetchUnpublishedTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ? AND %s = FALSE ORDER BY %s LIMIT ? FOR UPDATE SKIP LOCKED",
+                getTaskTable(), getGroupColumn(), getPublishedColumn(), getTimestampColumn());
+    }
+
+    @Override
+    public String getMarkPublishedTemplate() {
+        return format("UPDATE %s SET %s = TRUE WHERE %s = ?", getTaskTable(), getPublishedColumn(), getIdColumn());
+    }
 }
@@ -97,6 +97,31 @@ public class SqlTaskStore extends AbstractSqlStore implements TaskStore {
         });
     }
 
+    @Override
+    public List<Task> fetchUnpublished(String group, int max) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var stmt = statements.getFetchUnpublishedTemplate();
+                return queryExecutor.query(connection, true, this::mapResultSet, stmt, group, max).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> markPublished(List<String> ids) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var arguments = ids.stream().map(id -> new Object[]{id}).toList();
+                queryExecutor.executeBatch(connection, statements.getMarkPublishedTemplate(), arguments);
+                return StoreResult.success();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public Task findById(String id) {
         return transactionContext.execute(() -> {
@@ -52,6 +52,10 @@ public interface TaskStatements extends SqlStatements {
         return "task_group";
     }
 
+    default String getPublishedColumn() {
+        return "published";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
@@ -60,6 +64,10 @@ public interface TaskStatements extends SqlStatements {
 
     String getDeleteStatement();
 
+    String getFetchUnpublishedTemplate();
+
+    String getMarkPublishedTemplate();
+
     SqlQueryStatement createQuery(QuerySpec querySpec);
 
 }
@@ -20,6 +20,12 @@ CREATE TABLE IF NOT EXISTS edc_tasks
     task_group              VARCHAR             NOT NULL,
     payload                 JSON DEFAULT '{}',
     retry_count             INT                 NOT NULL,
-    timestamp               BIGINT              NOT NULL
+    timestamp               BIGINT              NOT NULL,
+    published               BOOLEAN DEFAULT FALSE NOT NULL
 );
 
+ALTER TABLE edc_tasks ADD COLUMN IF NOT EXISTS published BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- This will help the outbox relay to find the tasks still to be published without a table scan
+CREATE INDEX IF NOT EXISTS tasks_unpublished ON edc_tasks (task_group, timestamp) WHERE published = FALSE;
+
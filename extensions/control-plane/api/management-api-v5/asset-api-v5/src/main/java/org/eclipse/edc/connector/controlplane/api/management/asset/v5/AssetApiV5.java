@@ -25,9 +25,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStream;
 
 @OpenAPIDefinition(
         info = @Info(description = "This contains both the current and the new Asset API, which accepts JSON-LD and will " +
@@ -46,17 +48,28 @@ public interface AssetApiV5 {
     )
     JsonObject createAssetV5(String participantContextId, JsonObject asset, SecurityContext securityContext);
 
+    @Operation(description = "Creates many assets at once. The body is either a JSON array of assets or newline-delimited JSON, " +
+            "with one asset per line. Every asset is created independently: the response reports, for every asset in the body, " +
+            "whether it was created or why it was not.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.ASSET)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The outcome for every asset, in the same order as in the body",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.BulkItemResultSchema.class))))
+            }
+    )
+    JsonArray createAssetsV5(String participantContextId, JsonObjectStream assets, SecurityContext securityContext);
+
     @Operation(description = "Request all assets according to a particular query",
             requestBody = @RequestBody(
                     content = @Content(schema = @Schema(ref = ManagementApiJsonSchema.V4.QUERY_SPEC))
             ),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The assets matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.ASSET)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.ASSET)), mediaType = "application/json")),
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
             })
-    JsonArray queryAssetsV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
+    Response queryAssetsV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
 
     @Operation(description = "Gets an asset with the given ID",
             responses = {
@@ -25,10 +25,13 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
+import org.eclipse.edc.api.bulk.BulkCreation;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.query.PagedSearch;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
@@ -38,7 +41,11 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.util.reflection.PropertyPath;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonArrayStreamingOutput;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStream;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
@@ -52,6 +59,7 @@ import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_CATALOG_ASSET_TYPE_TERM;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE_TERM;
+import static org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyReader.APPLICATION_NDJSON;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
 @Consumes(APPLICATION_JSON)
@@ -102,13 +110,34 @@ public class AssetApiV5Controller implements AssetApiV5 {
                 .orElseThrow(f -> new EdcException(f.getFailureDetail()));
     }
 
+    @POST
+    @Path("/bulk")
+    @Consumes({ APPLICATION_JSON, APPLICATION_NDJSON })
+    @RequiredScope("management-api:assets:write")
+    @Override
+    public JsonArray createAssetsV5(@PathParam("participantContextId") String participantContextId,
+                                    @SchemaType(value = {EDC_ASSET_TYPE_TERM, EDC_CATALOG_ASSET_TYPE_TERM}, version = "v5") JsonObjectStream assets,
+                                    @Context SecurityContext securityContext) {
+
+        authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
+                .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
+
+        var results = BulkCreation.create(assets, json -> toAsset(json, participantContextId), assetService::createAll,
+                Asset::getId, Asset::getCreatedAt);
+
+        return results.stream()
+                .map(result -> typeTransformerRegistry.transform(result, JsonObject.class)
+                        .orElseThrow(f -> new EdcException(f.getFailureDetail())))
+                .collect(toJsonArray());
+    }
+
     @POST
     @Path("/request")
     @Override
     @RequiredScope("management-api:assets:read")
-    public JsonArray queryAssetsV5(@PathParam("participantContextId") String participantContextId,
-                                   @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
-                                   @Context SecurityContext securityContext) {
+    public Response queryAssetsV5(@PathParam("participantContextId") String participantContextId,
+                                  @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
+                                  @Context SecurityContext securityContext) {
         authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
                 .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
 
@@ -126,13 +155,13 @@ public class AssetApiV5Controller implements AssetApiV5 {
                 .filter(new Criterion("participantContextId", "=", participantContextId))
                 .build();
 
-        return assetService.search(query).orElseThrow(exceptionMapper(QuerySpec.class, null))
-                .stream()
+        var assets = PagedSearch.page(query, assetService::search, AssetApiV5Controller::sortValue).orElseThrow(exceptionMapper(QuerySpec.class, null));
+
+        return assets.toResponse(elements -> new JsonArrayStreamingOutput(elements
                 .map(it -> typeTransformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
-                .map(Result::getContent)
-                .collect(toJsonArray());
+                .map(Result::getContent), monitor));
     }
 
     @GET
@@ -186,4 +215,22 @@ public class AssetApiV5Controller implements AssetApiV5 {
 
     }
 
+    private Result<Asset> toAsset(JsonObject assetJson, String participantContextId) {
+        return validator.validate(EDC_ASSET_TYPE, assetJson).toResult()
+                .compose(v -> typeTransformerRegistry.transform(assetJson, Asset.class))
+                .map(asset -> asset.toBuilder().participantContextId(participantContextId).build());
+    }
+
+    /**
+     * Reads the sort value of the cursor as the asset index sorts: by property or private property, and by field if the
+     * asset has no such property.
+     */
+    private static Object sortValue(Asset asset, String sortField) {
+        var property = asset.getPropertyOrPrivate(sortField);
+        if (property != null || ReflectionUtil.getFieldRecursive(Asset.class, sortField) == null) {
+            return property;
+        }
+        return PropertyPath.of(sortField).getValue(asset);
+    }
+
 }
@@ -18,10 +18,12 @@ import io.restassured.specification.RequestSpecification;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
+import org.eclipse.edc.api.model.BulkItemResult;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -38,9 +40,11 @@ import java.util.List;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
+import static org.eclipse.edc.api.query.SearchPage.NEXT_CURSOR_HEADER;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE_TERM;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
@@ -51,6 +55,7 @@ import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_PREFIX;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE_TERM;
 import static org.eclipse.edc.validator.spi.Violation.violation;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
@@ -283,6 +288,72 @@ public abstract class AssetApiControllerTest extends RestControllerTestBase {
         }
     }
 
+    @Nested
+    class CreateBulk {
+        @Test
+        void createAssets_fromJsonArray() {
+            var asset = createAssetBuilder().build();
+            when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+            when(assetService.createAll(any())).thenReturn(List.of(ServiceResult.success(asset), ServiceResult.conflict("already exists")));
+            when(transformerRegistry.transform(isA(BulkItemResult.class), eq(JsonObject.class))).thenAnswer(a -> {
+                var result = (BulkItemResult) a.getArgument(0);
+                return Result.success(createObjectBuilder().add("status", result.getStatus()).build());
+            });
+
+            baseRequest(participantContextId)
+                    .contentType(JSON)
+                    .body(createArrayBuilder().add(createAssetJson()).add(createAssetJson()).build().toString())
+                    .post("/assets/bulk")
+                    .then()
+                    .statusCode(200)
+                    .contentType(JSON)
+                    .body("status", contains("CREATED", "CONFLICT"));
+
+            verify(assetService).createAll(argThat(assets -> assets.size() == 2 &&
+                    assets.stream().allMatch(it -> participantContextId.equals(it.getParticipantContextId()))));
+        }
+
+        @Test
+        void createAssets_fromNewlineDelimitedJson_shouldReportInvalidItems() {
+            var asset = createAssetBuilder().build();
+            when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(validator.validate(any(), argThat(json -> json.containsKey("invalid")))).thenReturn(ValidationResult.failure(violation("a failure", "a path")));
+            when(transformerRegistry.transform(any(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+            when(assetService.createAll(any())).thenReturn(List.of(ServiceResult.success(asset)));
+            when(transformerRegistry.transform(isA(BulkItemResult.class), eq(JsonObject.class))).thenAnswer(a -> {
+                var result = (BulkItemResult) a.getArgument(0);
+                return Result.success(createObjectBuilder().add("index", result.getIndex()).add("status", result.getStatus()).build());
+            });
+
+            baseRequest(participantContextId)
+                    .contentType("application/x-ndjson")
+                    .body(createAssetJson().add("invalid", true).build() + "\n" + createAssetJson().build() + "\n")
+                    .post("/assets/bulk")
+                    .then()
+                    .statusCode(200)
+                    .body("index", contains(0, 1))
+                    .body("status", contains("BAD_REQUEST", "CREATED"));
+
+            verify(assetService).createAll(argThat(assets -> assets.size() == 1));
+        }
+
+        @Test
+        void createAssets_authorizationFailed() {
+            when(authorizationService.authorize(any(), any(), any(), any()))
+                    .thenReturn(ServiceResult.unauthorized("unauthorized"));
+
+            baseRequest(participantContextId)
+                    .contentType(JSON)
+                    .body(createArrayBuilder().add(createAssetJson()).build().toString())
+                    .post("/assets/bulk")
+                    .then()
+                    .statusCode(403);
+
+            verifyNoInteractions(assetService);
+        }
+    }
+
     @Nested
     class Delete {
         @Test
@@ -450,6 +521,49 @@ public abstract class AssetApiControllerTest extends RestControllerTestBase {
             verify(transformerRegistry).transform(isA(JsonObject.class), eq(QuerySpec.class));
         }
 
+        @Test
+        void requestAsset_shouldReturnNextCursor_whenPaginatedByCursor() {
+            when(assetService.search(any()))
+                    .thenReturn(ServiceResult.success(List.of(Asset.Builder.newInstance().id("asset-id").build())));
+            when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                    .thenReturn(Result.success(createAssetJson().build()));
+            when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                    .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(1).cursor(KeysetCursor.start()).build()));
+            when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+            baseRequest(participantContextId)
+                    .contentType(JSON)
+                    .body(createObjectBuilder().add(TYPE, EDC_QUERY_SPEC_TYPE_TERM).build())
+                    .post("/assets/request")
+                    .then()
+                    .log().ifError()
+                    .statusCode(200)
+                    .header(NEXT_CURSOR_HEADER, KeysetCursor.after(null, null, "asset-id").encode())
+                    .body("size()", is(1));
+        }
+
+        @Test
+        void requestAsset_shouldReturnNextCursor_whenPaginatedByCursorAndSortedByProperty() {
+            var sortField = EDC_NAMESPACE + "name";
+            when(assetService.search(any()))
+                    .thenReturn(ServiceResult.success(List.of(Asset.Builder.newInstance().id("asset-id").property(sortField, "asset-name").build())));
+            when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                    .thenReturn(Result.success(createAssetJson().build()));
+            when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                    .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(1).sortField(sortField).cursor(KeysetCursor.start()).build()));
+            when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+            baseRequest(participantContextId)
+                    .contentType(JSON)
+                    .body(createObjectBuilder().add(TYPE, EDC_QUERY_SPEC_TYPE_TERM).build())
+                    .post("/assets/request")
+                    .then()
+                    .log().ifError()
+                    .statusCode(200)
+                    .header(NEXT_CURSOR_HEADER, KeysetCursor.after(sortField, "asset-name", "asset-id").encode())
+                    .body("size()", is(1));
+        }
+
         @Test
         void requestAsset_authorizationFailed() {
             when(authorizationService.authorize(any(), any(), any(), any()))
@@ -14,10 +14,11 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.contractagreement;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
+import org.eclipse.edc.api.query.PagedSearch;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
@@ -28,13 +29,13 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonArrayStreamingOutput;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
 import java.util.Optional;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.filterByParticipantContextId;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
@@ -55,7 +56,7 @@ public abstract class BaseContractAgreementApiV5Controller {
         this.validatorRegistry = validatorRegistry;
     }
 
-    public JsonArray queryAgreements(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext) {
+    public Response queryAgreements(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext) {
         authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
                 .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
 
@@ -73,12 +74,13 @@ public abstract class BaseContractAgreementApiV5Controller {
                 .filter(filterByParticipantContextId(participantContextId))
                 .build();
 
-        return service.search(query).orElseThrow(exceptionMapper(ContractDefinition.class, null)).stream()
+        var agreements = PagedSearch.page(query, service::search).orElseThrow(exceptionMapper(ContractDefinition.class, null));
+
+        return agreements.toResponse(elements -> new JsonArrayStreamingOutput(elements
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
-                .map(Result::getContent)
-                .collect(toJsonArray());
+                .map(Result::getContent), monitor));
     }
 
     public JsonObject getAgreementById(String participantContextId, String id, SecurityContext securityContext) {
@@ -27,6 +27,8 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
+import org.eclipse.edc.api.model.ApiCoreSchema;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStream;
 
 @OpenAPIDefinition(info = @Info(version = "v5beta"))
 @Tag(name = "Contract Definition v5beta")
@@ -67,6 +69,17 @@ public interface ContractDefinitionApiV5 {
     )
     JsonObject createContractDefinitionV5(String participantContextId, JsonObject createObject, SecurityContext securityContext);
 
+    @Operation(description = "Creates many contract definitions at once. The body is either a JSON array of contract definitions or " +
+            "newline-delimited JSON, with one contract definition per line. Every contract definition is created independently: the " +
+            "response reports, for every contract definition in the body, whether it was created or why it was not.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.CONTRACT_DEFINITION)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The outcome for every contract definition, in the same order as in the body",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.BulkItemResultSchema.class))))
+            }
+    )
+    JsonArray createContractDefinitionsV5(String participantContextId, JsonObjectStream contractDefinitions, SecurityContext securityContext);
+
     @Operation(description = "Removes a contract definition with the given ID if possible. " +
             "DANGER ZONE: Note that deleting contract definitions can have unexpected results, especially for contract offers that have been sent out or ongoing or contract negotiations.",
             responses = {
@@ -28,6 +28,7 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
+import org.eclipse.edc.api.bulk.BulkCreation;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.contractdefinition.ContractDefinitionService;
@@ -38,6 +39,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStream;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.validation.SchemaType;
@@ -47,6 +49,7 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition.CONTRACT_DEFINITION_TYPE_TERM;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE_TERM;
+import static org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyReader.APPLICATION_NDJSON;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
 @Consumes(APPLICATION_JSON)
@@ -140,6 +143,29 @@ public class ContractDefinitionApiV5Controller implements ContractDefinitionApiV
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
     }
 
+    @POST
+    @Path("/bulk")
+    @Consumes({ APPLICATION_JSON, APPLICATION_NDJSON })
+    @RequiredScope("management-api:contractdefinitions:write")
+    @Override
+    public JsonArray createContractDefinitionsV5(@PathParam("participantContextId") String participantContextId,
+                                                 @SchemaType(value = CONTRACT_DEFINITION_TYPE_TERM, version = "v4") JsonObjectStream contractDefinitions,
+                                                 @Context SecurityContext securityContext) {
+
+        authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
+                .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
+
+        var results = BulkCreation.create(contractDefinitions,
+                json -> typeTransformerRegistry.transform(json, ContractDefinition.class)
+                        .map(cd -> cd.toBuilder().participantContextId(participantContextId).build()),
+                contractDefinitionService::createAll, ContractDefinition::getId, ContractDefinition::getCreatedAt);
+
+        return results.stream()
+                .map(result -> typeTransformerRegistry.transform(result, JsonObject.class)
+                        .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail())))
+                .collect(toJsonArray());
+    }
+
     @DELETE
     @Path("{id}")
     @RequiredScope("management-api:contractdefinitions:write")
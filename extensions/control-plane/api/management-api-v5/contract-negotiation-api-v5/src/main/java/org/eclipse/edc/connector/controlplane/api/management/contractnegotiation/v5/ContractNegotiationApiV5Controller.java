@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.v5;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -24,10 +23,12 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.query.PagedSearch;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.command.TerminateNegotiationCommand;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractRequest;
@@ -43,6 +44,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonArrayStreamingOutput;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
@@ -51,7 +53,6 @@ import org.eclipse.edc.web.spi.validation.SchemaType;
 import java.util.List;
 import java.util.Optional;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractRequest.CONTRACT_REQUEST_TYPE_TERM;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.TerminateNegotiation.TERMINATE_NEGOTIATION_TYPE_TERM;
@@ -85,9 +86,9 @@ public class ContractNegotiationApiV5Controller implements ContractNegotiationAp
     @Path("/request")
     @RequiredScope("management-api:negotiations:read")
     @Override
-    public JsonArray queryNegotiationsV5(@PathParam("participantContextId") String participantContextId,
-                                         @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
-                                         @Context SecurityContext securityContext) {
+    public Response queryNegotiationsV5(@PathParam("participantContextId") String participantContextId,
+                                        @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
+                                        @Context SecurityContext securityContext) {
 
         authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
                 .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
@@ -104,12 +105,13 @@ public class ContractNegotiationApiV5Controller implements ContractNegotiationAp
                 .filter(filterByParticipantContextId(participantContextId))
                 .build();
 
-        return service.search(query).orElseThrow(exceptionMapper(ContractNegotiation.class, null)).stream()
+        var negotiations = PagedSearch.page(query, service::search).orElseThrow(exceptionMapper(ContractNegotiation.class, null));
+
+        return negotiations.toResponse(elements -> new JsonArrayStreamingOutput(elements
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(this::logIfError)
                 .filter(Result::succeeded)
-                .map(Result::getContent)
-                .collect(toJsonArray());
+                .map(Result::getContent), monitor));
     }
 
     @GET
@@ -25,8 +25,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
+import org.eclipse.edc.api.model.ApiCoreSchema;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStream;
 
 @OpenAPIDefinition(info = @Info(version = "v5beta"))
 @Tag(name = "Policy Definition v5beta")
@@ -36,11 +39,11 @@ public interface PolicyDefinitionApiV5 {
             requestBody = @RequestBody(content = @Content(schema = @Schema(ref = ManagementApiJsonSchema.V4.QUERY_SPEC))),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The policy definitions matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.POLICY_DEFINITION)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.POLICY_DEFINITION)), mediaType = "application/json")),
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.API_ERROR))))}
     )
-    JsonArray queryPolicyDefinitionsV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
+    Response queryPolicyDefinitionsV5(String participantContextId, JsonObject querySpecJson, SecurityContext securityContext);
 
     @Operation(description = "Gets a policy definition with the given ID",
             responses = {
@@ -66,6 +69,17 @@ public interface PolicyDefinitionApiV5 {
     )
     JsonObject createPolicyDefinitionV5(String participantContextId, JsonObject policyDefinition, SecurityContext securityContext);
 
+    @Operation(description = "Creates many policy definitions at once. The body is either a JSON array of policy definitions or " +
+            "newline-delimited JSON, with one policy definition per line. Every policy definition is created independently: the " +
+            "response reports, for every policy definition in the body, whether it was created or why it was not.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.POLICY_DEFINITION)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The outcome for every policy definition, in the same order as in the body",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.BulkItemResultSchema.class))))
+            }
+    )
+    JsonArray createPolicyDefinitionsV5(String participantContextId, JsonObjectStream policyDefinitions, SecurityContext securityContext);
+
     @Operation(description = "Removes a policy definition with the given ID if possible. Deleting a policy definition is " +
             "only possible if that policy definition is not yet referenced by a contract definition, in which case an error is returned. " +
             "DANGER ZONE: Note that deleting policy definitions can have unexpected results, do this at your own risk!",
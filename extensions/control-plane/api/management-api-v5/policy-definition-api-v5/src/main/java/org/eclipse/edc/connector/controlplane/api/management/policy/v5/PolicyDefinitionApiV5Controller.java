@@ -25,10 +25,14 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
+import org.eclipse.edc.api.bulk.BulkCreation;
+import org.eclipse.edc.api.model.BulkItemResult;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.query.PagedSearch;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyEvaluationPlanRequest;
@@ -41,6 +45,8 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonArrayStreamingOutput;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStream;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.validation.SchemaType;
@@ -52,6 +58,7 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition.EDC_POLICY_DEFINITION_TYPE_TERM;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE_TERM;
+import static org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectStreamMessageBodyReader.APPLICATION_NDJSON;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
 @Consumes(APPLICATION_JSON)
@@ -75,9 +82,9 @@ public class PolicyDefinitionApiV5Controller implements PolicyDefinitionApiV5 {
     @Path("request")
     @RequiredScope("management-api:policies:read")
     @Override
-    public JsonArray queryPolicyDefinitionsV5(@PathParam("participantContextId") String participantContextId,
-                                              @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
-                                              @Context SecurityContext securityContext) {
+    public Response queryPolicyDefinitionsV5(@PathParam("participantContextId") String participantContextId,
+                                             @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
+                                             @Context SecurityContext securityContext) {
 
         authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
                 .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
@@ -93,13 +100,13 @@ public class PolicyDefinitionApiV5Controller implements PolicyDefinitionApiV5 {
                 .filter(new Criterion("participantContextId", "=", participantContextId))
                 .build();
 
-        return policyDefinitionService.search(query).orElseThrow(exceptionMapper(QuerySpec.class, null))
-                .stream()
+        var policyDefinitions = PagedSearch.page(query, policyDefinitionService::search).orElseThrow(exceptionMapper(QuerySpec.class, null));
+
+        return policyDefinitions.toResponse(elements -> new JsonArrayStreamingOutput(elements
                 .map(it -> typeTransformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
-                .map(Result::getContent)
-                .collect(toJsonArray());
+                .map(Result::getContent), monitor));
     }
 
     @GET
@@ -151,6 +158,31 @@ public class PolicyDefinitionApiV5Controller implements PolicyDefinitionApiV5 {
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
     }
 
+    @POST
+    @Path("bulk")
+    @Consumes({ APPLICATION_JSON, APPLICATION_NDJSON })
+    @RequiredScope("management-api:policies:write")
+    @Override
+    public JsonArray createPolicyDefinitionsV5(@PathParam("participantContextId") String participantContextId,
+                                               @SchemaType(value = EDC_POLICY_DEFINITION_TYPE_TERM, version = "v4") JsonObjectStream policyDefinitions,
+                                               @Context SecurityContext securityContext) {
+
+        authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
+                .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
+
+        var results = BulkCreation.create(policyDefinitions,
+                json -> typeTransformerRegistry.transform(json, PolicyDefinition.class)
+                        .map(definition -> definition.toBuilder().participantContextId(participantContextId).build()),
+                policyDefinitionService::createAll, PolicyDefinition::getId, PolicyDefinition::getCreatedAt);
+
+        monitor.debug(format("Policy Definitions created %d", results.stream().filter(BulkItemResult::isCreated).count()));
+
+        return results.stream()
+                .map(result -> typeTransformerRegistry.transform(result, JsonObject.class)
+                        .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail())))
+                .collect(toJsonArray());
+    }
+
     @DELETE
     @Path("{id}")
     @RequiredScope("management-api:policies:write")
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v5;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -23,10 +22,12 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import org.eclipse.edc.api.auth.spi.AuthorizationService;
 import org.eclipse.edc.api.auth.spi.RequiredScope;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.query.PagedSearch;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.SuspendTransfer;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TerminateTransfer;
@@ -44,6 +45,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonArrayStreamingOutput;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
@@ -52,7 +54,6 @@ import org.eclipse.edc.web.spi.validation.SchemaType;
 import java.util.List;
 import java.util.Optional;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.SuspendTransfer.SUSPEND_TRANSFER_TYPE_TERM;
@@ -90,9 +91,9 @@ public class TransferProcessApiV5Controller implements TransferProcessApiV5 {
     @Path("request")
     @RequiredScope("management-api:transfers:read")
     @Override
-    public JsonArray queryTransferProcessesV5(@PathParam("participantContextId") String participantContextId,
-                                              @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
-                                              @Context SecurityContext securityContext) {
+    public Response queryTransferProcessesV5(@PathParam("participantContextId") String participantContextId,
+                                             @SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson,
+                                             @Context SecurityContext securityContext) {
 
         authorizationService.authorize(securityContext, participantContextId, participantContextId, ParticipantContext.class)
                 .orElseThrow(exceptionMapper(ParticipantContext.class, participantContextId));
@@ -109,12 +110,13 @@ public class TransferProcessApiV5Controller implements TransferProcessApiV5 {
                 .filter(filterByParticipantContextId(participantContextId))
                 .build();
 
-        return service.search(query).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
+        var transferProcesses = PagedSearch.page(query, service::search).orElseThrow(exceptionMapper(TransferProcess.class));
+
+        return transferProcesses.toResponse(elements -> new JsonArrayStreamingOutput(elements
                 .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
                         .onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
-                .map(Result::getContent)
-                .collect(toJsonArray());
+                .map(Result::getContent), monitor));
     }
 
     @GET
@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
@@ -35,10 +36,12 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -68,6 +71,28 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
+    @Override
+    public @Nullable Stream<Asset> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        Objects.requireNonNull(querySpec);
+        Objects.requireNonNull(selectors);
+
+        SqlQueryStatement statement;
+        try {
+            statement = assetStatements.createQuery(querySpec, selectors);
+        } catch (IllegalArgumentException e) {
+            // not all selectors are translatable into SQL, the caller has to evaluate them
+            return null;
+        }
+
+        return transactionContext.execute(() -> {
+            try {
+                return queryExecutor.query(getConnection(), true, this::mapAsset, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @Nullable Asset findById(String assetId) {
         Objects.requireNonNull(assetId);
@@ -94,15 +119,7 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                     return StoreResult.alreadyExists(msg);
                 }
 
-                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(),
-                        assetId,
-                        asset.getCreatedAt(),
-                        toJson(asset.getProperties()),
-                        toJson(asset.getPrivateProperties()),
-                        toJson(Optional.ofNullable(asset.getDataAddress()).map(DataAddress::getProperties).orElse(null)),
-                        asset.getParticipantContextId(),
-                        toJson(asset.getDataplaneMetadata())
-                );
+                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(), insertArguments(asset));
 
                 return StoreResult.success();
             } catch (Exception e) {
@@ -111,6 +128,23 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
+    @Override
+    public List<StoreResult<Void>> createAll(List<Asset> assets) {
+        Objects.requireNonNull(assets);
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var inserted = insertAll(connection, assets, assetStatements.getAssetIdColumn(), assetStatements.getInsertAssetTemplate(), this::insertArguments);
+
+                return IntStream.range(0, assets.size())
+                        .mapToObj(i -> inserted.get(i) ? StoreResult.<Void>success() : StoreResult.<Void>alreadyExists(format(ASSET_EXISTS_TEMPLATE, assets.get(i).getId())))
+                        .toList();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public StoreResult<Asset> deleteById(String assetId) {
         Objects.requireNonNull(assetId);
@@ -174,6 +208,33 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         return Optional.ofNullable(findById(assetId)).map(Asset::getDataAddress).orElse(null);
     }
 
+    /**
+     * Creates an expression index on the value of each of the given asset properties, if it does not exist yet.
+     *
+     * @param propertyKeys the property keys.
+     */
+    public void createPropertyIndexes(Collection<String> propertyKeys) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                propertyKeys.forEach(key -> queryExecutor.execute(connection, assetStatements.getCreatePropertyIndexStatement(key)));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private Object[] insertArguments(Asset asset) {
+        return new Object[]{
+                asset.getId(),
+                asset.getCreatedAt(),
+                toJson(asset.getProperties()),
+                toJson(asset.getPrivateProperties()),
+                toJson(Optional.ofNullable(asset.getDataAddress()).map(DataAddress::getProperties).orElse(null)),
+                asset.getParticipantContextId(),
+                toJson(asset.getDataplaneMetadata())
+        };
+    }
+
     private int mapRowCount(ResultSet resultSet) throws SQLException {
         return resultSet.getInt(assetStatements.getCountVariableName());
     }
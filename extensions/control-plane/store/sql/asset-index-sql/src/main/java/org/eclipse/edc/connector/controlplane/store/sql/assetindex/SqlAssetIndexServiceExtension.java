@@ -23,6 +23,8 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -31,6 +33,8 @@ import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.Arrays;
+
 @Provides({ AssetIndex.class, DataAddressResolver.class })
 @Extension(value = "SQL asset index")
 public class SqlAssetIndexServiceExtension implements ServiceExtension {
@@ -38,6 +42,11 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.asset.datasource")
     private String dataSourceName;
 
+    @Setting(description = "Comma-separated list of asset property keys, e.g. 'https://w3id.org/edc/v0.0.1/ns/name', " +
+            "for which an expression index is created on startup. Useful for properties frequently used in non-equality filters or for sorting",
+            key = "edc.sql.store.asset.index.properties", required = false)
+    private String indexedProperties;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -56,16 +65,35 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     @Inject
     private SqlSchemaBootstrapper sqlSchemaBootstrapper;
 
+    @Inject
+    private Monitor monitor;
+
+    private SqlAssetIndex sqlAssetIndex;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+        sqlAssetIndex = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
 
-        context.registerService(AssetIndex.class, sqlAssetLoader);
-        context.registerService(DataAddressResolver.class, sqlAssetLoader);
+        context.registerService(AssetIndex.class, sqlAssetIndex);
+        context.registerService(DataAddressResolver.class, sqlAssetIndex);
 
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "asset-index-schema.sql");
     }
 
+    @Override
+    public void start() {
+        if (indexedProperties == null) {
+            return;
+        }
+
+        var propertyKeys = Arrays.stream(indexedProperties.split(",")).map(String::trim).filter(key -> !key.isEmpty()).toList();
+        try {
+            sqlAssetIndex.createPropertyIndexes(propertyKeys);
+        } catch (EdcPersistenceException e) {
+            monitor.warning("Failed to create the asset property indexes %s".formatted(propertyKeys), e);
+        }
+    }
+
     private AssetStatements getDialect() {
         return dialect != null ? dialect : new PostgresDialectStatements();
     }
@@ -92,6 +92,14 @@ public interface AssetStatements extends SqlStatements {
      */
     String getDeleteAssetByIdTemplate();
 
+    /**
+     * CREATE INDEX statement for an expression index on the value of an asset property, used when filtering or sorting
+     * assets on that property. It must be idempotent.
+     *
+     * @param propertyKey the property key, e.g. {@code https://w3id.org/edc/v0.0.1/ns/name}.
+     */
+    String getCreatePropertyIndexStatement(String propertyKey);
+
     /**
      * The COUNT variable used in SELECT COUNT queries.
      */
@@ -111,4 +119,12 @@ public interface AssetStatements extends SqlStatements {
      */
     SqlQueryStatement createQuery(List<Criterion> query);
 
+    /**
+     * Generates a SQL query out of the query spec, that additionally requires at least one of the selectors to match.
+     *
+     * @return A {@link SqlQueryStatement} that contains the SQL and statement parameters
+     * @throws IllegalArgumentException if a selector criterion cannot be translated into SQL
+     */
+    SqlQueryStatement createQuery(QuerySpec query, List<List<Criterion>> selectors);
+
 }
@@ -19,12 +19,18 @@ package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.AssetMapping;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.CriterionToWhereClauseConverterImpl;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.sql.translation.WhereClause;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
 
 public class BaseSqlDialectStatements implements AssetStatements {
 
@@ -76,6 +82,16 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 .delete(getAssetTable(), getAssetIdColumn());
     }
 
+    @Override
+    public String getCreatePropertyIndexStatement(String propertyKey) {
+        var indexName = "%s_property_%s".formatted(getAssetTable(), UUID.nameUUIDFromBytes(propertyKey.getBytes(UTF_8)).toString().replace("-", ""));
+        return format("CREATE INDEX IF NOT EXISTS %s ON %s ((%s ->> '%s'))",
+                indexName,
+                getAssetTable(),
+                getPropertiesColumn(),
+                propertyKey.replace("'", "''"));
+    }
+
     @Override
     public String getCountVariableName() {
         return "COUNT";
@@ -95,4 +111,25 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 .build());
     }
 
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        // the catalog pages through this query with increasing offsets, the order has to be stable
+        var statement = createQuery(querySpec).tiebreak(getAssetIdColumn());
+        if (selectors.stream().anyMatch(List::isEmpty)) {
+            return statement;
+        }
+
+        var converter = new CriterionToWhereClauseConverterImpl(new AssetMapping(this), operatorTranslator);
+        var clauses = new ArrayList<String>();
+        var parameters = new ArrayList<>();
+        for (var selector : selectors) {
+            var conditions = selector.stream().map(converter::convert).toList();
+            clauses.add(conditions.stream().map(WhereClause::sql).collect(joining(" AND ", "(", ")")));
+            conditions.forEach(condition -> parameters.addAll(condition.parameters()));
+        }
+
+        var anySelector = clauses.isEmpty() ? "1 = 0" : clauses.stream().collect(joining(" OR ", "(", ")"));
+        return statement.addWhereClause(anySelector, parameters.toArray());
+    }
+
 }
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postg
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.sql.translation.JsonContainmentFieldTranslator;
 import org.eclipse.edc.sql.translation.JsonFieldTranslator;
 import org.eclipse.edc.sql.translation.SqlOperator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
@@ -28,15 +29,17 @@ import static java.util.Objects.requireNonNullElse;
 
 /**
  * Maps fields of a {@link Asset} onto the
- * corresponding SQL schema (= column names) enabling access through Postgres JSON operators where applicable
+ * corresponding SQL schema (= column names) enabling access through Postgres JSON operators where applicable.
+ * Equality filters on properties and private properties are translated into JSONB containment, so that they can use
+ * the GIN indexes defined on those columns.
  */
 public class AssetMapping extends TranslationMapping {
 
     public AssetMapping(AssetStatements statements) {
         add("id", statements.getAssetIdColumn());
         add("createdAt", statements.getCreatedAtColumn());
-        add("properties", new JsonFieldTranslator(statements.getPropertiesColumn()));
-        add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
+        add("properties", new JsonContainmentFieldTranslator(statements.getPropertiesColumn()));
+        add("privateProperties", new JsonContainmentFieldTranslator(statements.getPrivatePropertiesColumn()));
         add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn()));
         add("participantContextId", statements.getParticipantContextIdColumn());
     }
@@ -19,14 +19,39 @@ CREATE TABLE IF NOT EXISTS edc_asset
 (
     asset_id                VARCHAR PRIMARY KEY,
     created_at              BIGINT  NOT NULL,
-    properties              JSON    DEFAULT '{}',
-    private_properties      JSON    DEFAULT '{}',
-    data_address            JSON    DEFAULT '{}',
+    properties              JSONB   DEFAULT '{}',
+    private_properties      JSONB   DEFAULT '{}',
+    data_address            JSONB   DEFAULT '{}',
     participant_context_id  VARCHAR NOT NULL,
-    dataplane_metadata      JSON
+    dataplane_metadata      JSONB
 );
 
+-- migrates the JSON columns of tables created by previous versions to JSONB, which can be indexed
+DO
+$$
+    BEGIN
+        IF EXISTS(SELECT 1
+                  FROM information_schema.columns
+                  WHERE table_schema = current_schema()
+                    AND table_name = 'edc_asset'
+                    AND column_name = 'properties'
+                    AND data_type = 'json') THEN
+            ALTER TABLE edc_asset
+                ALTER COLUMN properties TYPE JSONB USING properties::jsonb,
+                ALTER COLUMN private_properties TYPE JSONB USING private_properties::jsonb,
+                ALTER COLUMN data_address TYPE JSONB USING data_address::jsonb,
+                ALTER COLUMN dataplane_metadata TYPE JSONB USING dataplane_metadata::jsonb;
+        END IF;
+    END
+$$;
+
 COMMENT ON COLUMN edc_asset.properties IS 'Asset properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.private_properties IS 'Asset private properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.data_address IS 'Asset DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_asset.dataplane_metadata IS 'Asset Dataplane Metadata serialized as JSON';
+
+CREATE INDEX IF NOT EXISTS asset_participant_context_id ON edc_asset (participant_context_id);
+
+-- These will make property filters, translated into containment (@>) queries, avoid a table scan when the entries grow
+CREATE INDEX IF NOT EXISTS asset_properties ON edc_asset USING GIN (properties jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS asset_private_properties ON edc_asset USING GIN (private_properties jsonb_path_ops);
@@ -16,6 +16,7 @@
 package org.eclipse.edc.connector.controlplane.store.sql.assetindex;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.testfixtures.AssetIndexTestBase;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.BaseSqlDialectStatements;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
@@ -23,12 +24,21 @@ import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresAssetIndexTest extends AssetIndexTestBase {
@@ -54,6 +64,38 @@ class PostgresAssetIndexTest extends AssetIndexTestBase {
         setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetTable() + " CASCADE");
     }
 
+    @Test
+    void createPropertyIndexes_shouldCreateExpressionIndexes(PostgresqlStoreSetupExtension setupExtension, QueryExecutor queryExecutor) throws SQLException {
+        sqlAssetIndex.createPropertyIndexes(List.of("https://w3id.org/edc/v0.0.1/ns/name", "key'with'quotes"));
+        sqlAssetIndex.createPropertyIndexes(List.of("https://w3id.org/edc/v0.0.1/ns/name"));
+
+        try (var connection = setupExtension.getConnection()) {
+            var indexes = queryExecutor.single(connection, false, r -> r.getLong(1),
+                    "SELECT COUNT(*) FROM pg_indexes WHERE tablename = ? AND indexname LIKE ?",
+                    sqlStatements.getAssetTable(), sqlStatements.getAssetTable() + "_property_%");
+            assertThat(indexes).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void queryAssets_shouldMatchNumbersAndBooleans_whenFilteringByTheirTextualRepresentation() {
+        var asset = Asset.Builder.newInstance().id("id1")
+                .property("version", 42)
+                .property("active", true)
+                .dataAddress(DataAddress.Builder.newInstance().type("test").build())
+                .participantContextId("participantContextId")
+                .build();
+        sqlAssetIndex.create(asset);
+
+        var byNumber = QuerySpec.Builder.newInstance().filter(criterion("version", "=", "42")).build();
+        var byBoolean = QuerySpec.Builder.newInstance().filter(criterion("active", "in", List.of("true", "false"))).build();
+        var byString = QuerySpec.Builder.newInstance().filter(criterion("version", "=", "43")).build();
+
+        assertThat(sqlAssetIndex.queryAssets(byNumber)).extracting(Asset::getId).containsExactly("id1");
+        assertThat(sqlAssetIndex.queryAssets(byBoolean)).extracting(Asset::getId).containsExactly("id1");
+        assertThat(sqlAssetIndex.queryAssets(byString)).isEmpty();
+    }
+
     @Override
     protected SqlAssetIndex getAssetIndex() {
         return sqlAssetIndex;
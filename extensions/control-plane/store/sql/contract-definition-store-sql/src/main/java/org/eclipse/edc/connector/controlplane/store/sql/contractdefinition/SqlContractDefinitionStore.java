@@ -40,6 +40,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -103,6 +104,22 @@ public class SqlContractDefinitionStore extends AbstractSqlStore implements Cont
         });
     }
 
+    @Override
+    public List<StoreResult<Void>> saveAll(List<ContractDefinition> definitions) {
+        Objects.requireNonNull(definitions);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var inserted = insertAll(connection, definitions, statements.getIdColumn(), statements.getInsertTemplate(), this::insertArguments);
+
+                return IntStream.range(0, definitions.size())
+                        .mapToObj(i -> inserted.get(i) ? StoreResult.<Void>success() : StoreResult.<Void>alreadyExists(format(CONTRACT_DEFINITION_EXISTS, definitions.get(i).getId())))
+                        .toList();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public StoreResult<Void> update(ContractDefinition definition) {
         return transactionContext.execute(() -> {
@@ -153,17 +170,22 @@ public class SqlContractDefinitionStore extends AbstractSqlStore implements Cont
 
     private void insertInternal(Connection connection, ContractDefinition definition) {
         transactionContext.execute(() -> {
-            queryExecutor.execute(connection, statements.getInsertTemplate(),
-                    definition.getId(),
-                    definition.getAccessPolicyId(),
-                    definition.getContractPolicyId(),
-                    toJson(definition.getAssetsSelector()),
-                    definition.getCreatedAt(),
-                    toJson(definition.getPrivateProperties()),
-                    definition.getParticipantContextId());
+            queryExecutor.execute(connection, statements.getInsertTemplate(), insertArguments(definition));
         });
     }
 
+    private Object[] insertArguments(ContractDefinition definition) {
+        return new Object[]{
+                definition.getId(),
+                definition.getAccessPolicyId(),
+                definition.getContractPolicyId(),
+                toJson(definition.getAssetsSelector()),
+                definition.getCreatedAt(),
+                toJson(definition.getPrivateProperties()),
+                definition.getParticipantContextId()
+        };
+    }
+
     private void updateInternal(Connection connection, ContractDefinition definition) {
         Objects.requireNonNull(definition);
         queryExecutor.execute(connection, statements.getUpdateTemplate(),
@@ -31,6 +31,7 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
 import org.eclipse.edc.sql.lease.spi.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.translation.SqlUnionAllStatement;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -85,15 +86,37 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     var connection = getConnection();
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
-                return stream.filter(n -> lease(connection, n)).collect(toList());
+                return lease(connection, stream.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, ContractNegotiation entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
+    @Override
+    public @NotNull List<ContractNegotiation> nextNotLeasedPerSelection(int max, List<List<Criterion>> selections) {
+        if (selections.isEmpty()) {
+            return List.of();
+        }
+        return transactionContext.execute(() -> {
+            var statement = new SqlUnionAllStatement(selections.stream()
+                    .map(selection -> QuerySpec.Builder.newInstance().filter(selection).sortField("stateTimestamp").limit(max).build())
+                    .map(statements::createNegotiationNextNotLeaseQuery)
+                    .toList());
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
+            ) {
+                return lease(connection, stream.toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private List<ContractNegotiation> lease(Connection connection, List<ContractNegotiation> entries) {
+        var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(ContractNegotiation::getId).toList());
+        return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(toList());
     }
 
     @Override
@@ -154,7 +177,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                         negotiation.getUpdatedAt(),
                         negotiation.isPending(),
                         toJson(negotiation.getProtocolMessages()),
-                        negotiation.getParticipantContextId());
+                        negotiation.getParticipantContextId(),
+                        negotiation.getNextAttemptAt());
 
                 return leaseContext.withConnection(connection).breakLease(negotiation.getId());
             } catch (SQLException e) {
@@ -303,6 +327,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
                 .participantContextId(resultSet.getString(statements.getParticipantContextIdColumn()))
                 .build();
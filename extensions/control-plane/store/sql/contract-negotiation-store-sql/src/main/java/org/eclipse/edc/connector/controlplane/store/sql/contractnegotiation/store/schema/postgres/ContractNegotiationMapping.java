@@ -33,6 +33,7 @@ public class ContractNegotiationMapping extends StatefulEntityMapping {
     private static final String FIELD_CONTRACT_AGREEMENT = "contractAgreement";
     private static final String FIELD_TRACECONTEXT = "traceContext";
     private static final String FIELD_PENDING = "pending";
+    private static final String FIELD_NEXT_ATTEMPT_AT = "nextAttemptAt";
 
     public ContractNegotiationMapping(ContractNegotiationStatements statements) {
         super(statements, state -> ContractNegotiationStates.valueOf(state).code());
@@ -42,6 +43,7 @@ public class ContractNegotiationMapping extends StatefulEntityMapping {
         add(FIELD_PROTOCOL, statements.getProtocolColumn());
         add(FIELD_TYPE, statements.getTypeColumn());
         add(FIELD_PENDING, statements.getPendingColumn());
+        add(FIELD_NEXT_ATTEMPT_AT, statements.getNextAttemptAtColumn());
         add(FIELD_CONTRACT_AGREEMENT, new ContractAgreementMapping(statements));
         add(FIELD_TRACECONTEXT, statements.getTraceContextColumn());
         add(FIELD_PARTICIPANT_CONTEXT_ID, statements.getParticipantContextIdColumn());
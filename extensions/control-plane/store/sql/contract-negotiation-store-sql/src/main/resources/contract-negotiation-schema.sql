@@ -55,9 +55,12 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
     trace_context        JSON,
     pending              BOOLEAN DEFAULT FALSE,
     protocol_messages    JSON,
-    participant_context_id VARCHAR NOT NULL
+    participant_context_id VARCHAR NOT NULL,
+    next_attempt_at      BIGINT DEFAULT 0  NOT NULL
 );
 
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS next_attempt_at BIGINT DEFAULT 0 NOT NULL;
+
 COMMENT ON COLUMN edc_contract_negotiation.agreement_id IS 'ContractAgreement serialized as JSON';
 COMMENT ON COLUMN edc_contract_negotiation.contract_offers IS 'List<ContractOffer> serialized as JSON';
 COMMENT ON COLUMN edc_contract_negotiation.trace_context IS 'Map<String,String> serialized as JSON';
@@ -75,4 +78,7 @@ CREATE INDEX IF NOT EXISTS contract_negotiation_agreement_id_index
     ON edc_contract_negotiation (agreement_id);
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
+
+-- Lets the state machine skip the entries whose retry is not due yet without loading them
+CREATE INDEX IF NOT EXISTS contract_negotiation_state_next_attempt ON edc_contract_negotiation (state,next_attempt_at);
\ No newline at end of file
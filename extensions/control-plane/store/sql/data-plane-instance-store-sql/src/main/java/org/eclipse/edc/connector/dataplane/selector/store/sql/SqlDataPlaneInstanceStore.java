@@ -99,16 +99,16 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapResultSet, statement.getQueryAsString(), statement.getParameters())
             ) {
-                return stream.filter(entry -> lease(connection, entry))
-                        .collect(Collectors.toList());
+                return lease(connection, stream.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, DataPlaneInstance entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
+    private List<DataPlaneInstance> lease(Connection connection, List<DataPlaneInstance> entries) {
+        var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(DataPlaneInstance::getId).toList());
+        return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(toList());
     }
 
     @Override
@@ -40,6 +40,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -109,6 +110,22 @@ public class SqlPolicyDefinitionStore extends AbstractSqlStore implements Policy
         });
     }
 
+    @Override
+    public List<StoreResult<PolicyDefinition>> createAll(List<PolicyDefinition> policies) {
+        Objects.requireNonNull(policies);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var inserted = insertAll(connection, policies, statements.getPolicyIdColumn(), statements.getInsertTemplate(), this::insertArguments);
+
+                return IntStream.range(0, policies.size())
+                        .mapToObj(i -> inserted.get(i) ? StoreResult.success(policies.get(i)) : StoreResult.<PolicyDefinition>alreadyExists(format(POLICY_ALREADY_EXISTS, policies.get(i).getId())))
+                        .toList();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public StoreResult<PolicyDefinition> update(PolicyDefinition policyDefinition) {
         var policyId = policyDefinition.getId();
@@ -141,29 +158,33 @@ public class SqlPolicyDefinitionStore extends AbstractSqlStore implements Policy
     private void insert(PolicyDefinition def) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var policy = def.getPolicy();
-                var id = def.getId();
-                queryExecutor.execute(connection, statements.getInsertTemplate(),
-                        id,
-                        toJson(policy.getPermissions(), permissionListType),
-                        toJson(policy.getProhibitions(), prohibitionListType),
-                        toJson(policy.getObligations(), dutyListType),
-                        toJson(policy.getProfiles(), profileListType),
-                        toJson(policy.getExtensibleProperties()),
-                        policy.getInheritsFrom(),
-                        policy.getAssigner(),
-                        policy.getAssignee(),
-                        policy.getTarget(),
-                        toJson(policy.getType(), policyType),
-                        def.getCreatedAt(),
-                        toJson(def.getPrivateProperties()),
-                        def.getParticipantContextId());
+                queryExecutor.execute(connection, statements.getInsertTemplate(), insertArguments(def));
             } catch (Exception e) {
                 throw new EdcPersistenceException(e.getMessage(), e);
             }
         });
     }
 
+    private Object[] insertArguments(PolicyDefinition def) {
+        var policy = def.getPolicy();
+        return new Object[]{
+                def.getId(),
+                toJson(policy.getPermissions(), permissionListType),
+                toJson(policy.getProhibitions(), prohibitionListType),
+                toJson(policy.getObligations(), dutyListType),
+                toJson(policy.getProfiles(), profileListType),
+                toJson(policy.getExtensibleProperties()),
+                policy.getInheritsFrom(),
+                policy.getAssigner(),
+                policy.getAssignee(),
+                policy.getTarget(),
+                toJson(policy.getType(), policyType),
+                def.getCreatedAt(),
+                toJson(def.getPrivateProperties()),
+                def.getParticipantContextId()
+        };
+    }
+
     private void updateInternal(PolicyDefinition def) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
@@ -30,6 +30,7 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.spi.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.translation.SqlUnionAllStatement;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -85,15 +86,37 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
-                return stream.filter(tp -> lease(connection, tp)).collect(Collectors.toList());
+                return lease(connection, stream.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, TransferProcess entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
+    @Override
+    public @NotNull List<TransferProcess> nextNotLeasedPerSelection(int max, List<List<Criterion>> selections) {
+        if (selections.isEmpty()) {
+            return List.of();
+        }
+        return transactionContext.execute(() -> {
+            var statement = new SqlUnionAllStatement(selections.stream()
+                    .map(selection -> QuerySpec.Builder.newInstance().filter(selection).sortField("stateTimestamp").limit(max).build())
+                    .map(statements::createNextNotLeaseQuery)
+                    .toList());
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
+            ) {
+                return lease(connection, stream.toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private List<TransferProcess> lease(Connection connection, List<TransferProcess> entries) {
+        var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(TransferProcess::getId).toList());
+        return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(toList());
     }
 
     @Override
@@ -144,7 +167,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                         toJson(entity.getDataplaneMetadata()),
                         entity.getDataAddressAlias(),
                         toJson(entity.getClaims()),
-                        entity.isDataAddressOwner());
+                        entity.isDataAddressOwner(),
+                        entity.getNextAttemptAt());
 
                 return leaseContext.withConnection(conn).breakLease(entity.getId());
             } catch (SQLException e) {
@@ -261,6 +285,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 }))
                 .privateProperties(fromJson(resultSet.getString(statements.getPrivatePropertiesColumn()), getTypeRef()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .transferType(resultSet.getString(statements.getTransferTypeColumn()))
                 .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
                 .dataPlaneId(resultSet.getString(statements.getDataPlaneIdColumn()))
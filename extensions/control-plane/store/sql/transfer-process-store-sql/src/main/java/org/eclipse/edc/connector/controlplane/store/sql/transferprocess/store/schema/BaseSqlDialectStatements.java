@@ -70,6 +70,7 @@ public class BaseSqlDialectStatements implements TransferProcessStoreStatements
                 .column(getDataAddressAliasColumn())
                 .jsonColumn(getClaimsColumn())
                 .column(getDataAddressOwnerColumn())
+                .column(getNextAttemptAtColumn())
                 .upsertInto(getTransferProcessTableName(), getIdColumn());
     }
 
@@ -39,6 +39,7 @@ public class TransferProcessMapping extends StatefulEntityMapping {
         add("contentDataAddress", new JsonFieldTranslator(statements.getContentDataAddressColumn()));
         add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
         add("pending", statements.getPendingColumn());
+        add("nextAttemptAt", statements.getNextAttemptAtColumn());
         add("transferType", statements.getTransferTypeColumn());
         add("dataPlaneId", statements.getDataPlaneIdColumn());
         add("participantContextId", statements.getParticipantContextIdColumn());
@@ -42,12 +42,18 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     dataplane_metadata         JSON,
     data_address_alias         TEXT,
     claims                     JSON,
-    data_address_owner         BOOLEAN DEFAULT FALSE
+    data_address_owner         BOOLEAN DEFAULT FALSE,
+    next_attempt_at            BIGINT DEFAULT 0 NOT NULL
 );
 
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS next_attempt_at BIGINT DEFAULT 0 NOT NULL;
+
 COMMENT ON COLUMN edc_transfer_process.trace_context IS 'Java Map serialized as JSON';
 COMMENT ON COLUMN edc_transfer_process.content_data_address IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_transfer_process.dataplane_metadata IS 'Dataplane Metadata serialized as JSON';
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
 CREATE INDEX IF NOT EXISTS transfer_process_state ON edc_transfer_process (state,state_time_stamp);
+
+-- Lets the state machine skip the entries whose retry is not due yet without loading them
+CREATE INDEX IF NOT EXISTS transfer_process_state_next_attempt ON edc_transfer_process (state,next_attempt_at);
@@ -20,6 +20,7 @@ dependencies {
     api(project(":spi:core-spi"))
     api(project(":spi:control-plane-spi"))
     implementation(project(":core:common:lib:core-lib"))
+    implementation(project(":core:control-plane:lib:control-plane-lib"))
     implementation(libs.nats.client)
 }
 
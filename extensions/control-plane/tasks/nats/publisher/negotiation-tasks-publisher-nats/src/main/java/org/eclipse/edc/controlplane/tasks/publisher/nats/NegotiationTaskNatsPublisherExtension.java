@@ -18,17 +18,24 @@ import io.nats.client.Nats;
 import io.nats.client.Options;
 import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.ContractNegotiationTaskPayload;
 import org.eclipse.edc.controlplane.tasks.TaskObservable;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.nats.tasks.publisher.NatsTaskOutboxRelay;
 import org.eclipse.edc.nats.tasks.publisher.NatsTaskPublisher;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.runtime.metamodel.annotation.Settings;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.StateMachineManager;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 
 public class NegotiationTaskNatsPublisherExtension implements ServiceExtension {
 
@@ -47,28 +54,62 @@ public class NegotiationTaskNatsPublisherExtension implements ServiceExtension {
     @Inject
     private TaskObservable taskObservable;
 
+    @Inject
+    private TaskStore taskStore;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     // authentication options can be contributed from the outside (e.g. the NKey auth extension).
     // Note that the 'server' will be overwritten!
     @Inject(required = false)
     private Options authenticationOptions;
 
+    private StateMachineManager outboxRelay;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         try {
-            registerPublisher(natsCnPublisherConfig.url(), natsCnPublisherConfig.subjectPrefix());
+            registerPublisher(natsCnPublisherConfig);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    private void registerPublisher(String natsUrl, String subjectPrefix) {
+    @Override
+    public void start() {
+        if (outboxRelay != null) {
+            outboxRelay.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (outboxRelay != null) {
+            outboxRelay.stop();
+        }
+    }
+
+    private void registerPublisher(NatsCnPublisherConfig config) {
         try {
             var builder = authenticationOptions != null ? new Options.Builder(authenticationOptions) : new Options.Builder();
-            var connection = Nats.connect(builder.server(natsUrl).build());
+            var connection = Nats.connect(builder.server(config.url()).build());
             var js = connection.jetStream();
-            var publisher = new NatsTaskPublisher(subjectPrefix, ContractNegotiationTaskPayload.class, js, monitor, () -> typeManager.getMapper());
+            var publisher = new NatsTaskPublisher(config.subjectPrefix(), ContractNegotiationTaskPayload.class, js, monitor, () -> typeManager.getMapper());
 
-            taskObservable.registerListener(publisher);
+            if (config.outboxEnabled()) {
+                var relay = new NatsTaskOutboxRelay(ContractNegotiationTaskPayload.GROUP, publisher, taskStore, transactionContext,
+                        config.outboxBatchSize(), Duration.ofMillis(config.outboxAckTimeout()), monitor);
+                outboxRelay = StateMachineManager.Builder.newInstance("negotiation-tasks-outbox-relay", monitor, executorInstrumentation,
+                                new ExponentialWaitStrategy(config.outboxPollInterval()))
+                        .processor(relay::publishPending)
+                        .build();
+            } else {
+                taskObservable.registerListener(publisher);
+            }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -79,7 +120,18 @@ public class NegotiationTaskNatsPublisherExtension implements ServiceExtension {
             @Setting(key = "edc.nats.cn.publisher.url", description = "The URL of the NATS server to connect to for publishing contract negotiation tasks.", defaultValue = "nats://localhost:4222")
             String url,
             @Setting(key = "edc.nats.cn.publisher.subject-prefix", description = "The prefix for the subjects", defaultValue = "negotiations")
-            String subjectPrefix
+            String subjectPrefix,
+            @Setting(key = "edc.nats.cn.publisher.outbox.enabled",
+                    description = "When true, contract negotiation tasks are published by a relay that polls the task store once their transaction has committed, " +
+                            "instead of being published when they are created",
+                    defaultValue = "false")
+            Boolean outboxEnabled,
+            @Setting(key = "edc.nats.cn.publisher.outbox.batch-size", description = "Max number of tasks published by the outbox relay in a single iteration", defaultValue = "100")
+            Integer outboxBatchSize,
+            @Setting(key = "edc.nats.cn.publisher.outbox.poll-interval", description = "The interval at which the outbox relay polls the task store when there are no tasks to publish (ms)", defaultValue = "100")
+            Long outboxPollInterval,
+            @Setting(key = "edc.nats.cn.publisher.outbox.ack-timeout", description = "The max waiting time for the acknowledgements of a batch of published tasks (ms)", defaultValue = "5000")
+            Long outboxAckTimeout
     ) {
     }
 
@@ -80,6 +80,8 @@ public class NatsTransferProcessTaskSubscriberExtension implements ServiceExtens
                 .executorInstrumentation(executorInstrumentation)
                 .batchSize(subscriberConfig.batchSize)
                 .maxWait(subscriberConfig.maxWait)
+                .concurrency(subscriberConfig.concurrency)
+                .maxInFlight(subscriberConfig.maxInFlight)
                 .taskService(taskService)
                 .transactionContext(transactionContext)
                 .maxRetries(subscriberConfig.maxRetries)
@@ -129,6 +131,14 @@ public class NatsTransferProcessTaskSubscriberExtension implements ServiceExtens
             Integer batchSize,
             @Setting(key = "edc.nats.tp.subscriber.max-wait", description = "The max waiting time for messages (ms)", defaultValue = "100")
             Integer maxWait,
+            @Setting(key = "edc.nats.tp.subscriber.concurrency",
+                    description = "Number of workers handling transfer process tasks in parallel. Tasks of the same transfer process are always handled in order by the same worker. 1 handles tasks serially",
+                    defaultValue = "1")
+            Integer concurrency,
+            @Setting(key = "edc.nats.tp.subscriber.max-in-flight",
+                    description = "Max number of fetched but not yet acknowledged messages when concurrency is greater than 1. Capped to the consumer's max ack pending. Defaults to the batch size",
+                    required = false)
+            Integer maxInFlight,
             @Setting(key = "edc.nats.tp.subscriber.max-retries",
                     description = "Max number of message deliveries while the referenced task is not yet visible in the store " +
                             "(e.g. published before its transaction committed), after which the message is dropped. It does not cap " +
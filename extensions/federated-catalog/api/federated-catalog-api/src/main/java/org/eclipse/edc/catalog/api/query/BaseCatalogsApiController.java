@@ -18,6 +18,7 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.catalog.spi.QueryService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.AbstractResult;
@@ -39,10 +40,7 @@ public abstract class BaseCatalogsApiController {
     }
 
     public JsonArray requestCatalogs(JsonObject querySpecJson, boolean flatten) {
-        var querySpec = querySpecJson == null
-                ? QuerySpec.none()
-                : transformerRegistry.transform(querySpecJson, QuerySpec.class)
-                        .orElseThrow(InvalidRequestException::new);
+        var querySpec = toQuerySpec(querySpecJson);
 
         return queryService.getCatalog(querySpec)
                 .orElseThrow(exceptionMapper(Catalog.class))
@@ -53,4 +51,23 @@ public abstract class BaseCatalogsApiController {
                 .map(AbstractResult::getContent)
                 .collect(toJsonArray());
     }
+
+    public JsonArray requestDatasets(JsonObject querySpecJson) {
+        var querySpec = toQuerySpec(querySpecJson);
+
+        return queryService.getDatasets(querySpec)
+                .orElseThrow(exceptionMapper(Dataset.class))
+                .stream()
+                .map(dataset -> transformerRegistry.transform(dataset, JsonObject.class))
+                .filter(Result::succeeded)
+                .map(AbstractResult::getContent)
+                .collect(toJsonArray());
+    }
+
+    private QuerySpec toQuerySpec(JsonObject querySpecJson) {
+        return querySpecJson == null
+                ? QuerySpec.none()
+                : transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                        .orElseThrow(InvalidRequestException::new);
+    }
 }
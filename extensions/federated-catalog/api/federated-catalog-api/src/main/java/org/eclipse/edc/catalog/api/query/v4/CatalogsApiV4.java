@@ -44,4 +44,16 @@ public interface CatalogsApiV4 {
 
     )
     JsonArray requestCatalogsV4(JsonObject querySpec, boolean flatten);
+
+    @Operation(description = "Obtains the datasets of all catalogs currently held by this cache instance, sub-catalogs included, as a flat list. " +
+            "Filters, sorting and pagination apply to the datasets, the originator of every dataset is returned as one of its properties",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(ref = ManagementApiJsonSchema.V4.QUERY_SPEC))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "A list of datasets is returned, potentially empty",
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = "https://w3id.org/dspace/2025/1/catalog/dataset-schema.json")))),
+                    @ApiResponse(responseCode = "500", description = "A query could not be completed due to an internal error")
+            }
+
+    )
+    JsonArray requestDatasetsV4(JsonObject querySpec);
 }
@@ -45,4 +45,11 @@ public class CatalogsApiV4Controller extends BaseCatalogsApiController implement
     public JsonArray requestCatalogsV4(@SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson, @DefaultValue("false") @QueryParam("flatten") boolean flatten) {
         return requestCatalogs(querySpecJson, flatten);
     }
+
+    @Override
+    @POST
+    @Path("/datasets/request")
+    public JsonArray requestDatasetsV4(@SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson) {
+        return requestDatasets(querySpecJson);
+    }
 }
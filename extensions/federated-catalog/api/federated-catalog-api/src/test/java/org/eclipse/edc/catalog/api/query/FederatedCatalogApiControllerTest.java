@@ -149,6 +149,35 @@ class FederatedCatalogApiControllerTest extends RestControllerTestBase {
         verify(queryService).getCatalog(QuerySpec.none());
     }
 
+    @Test
+    void queryDatasets_whenResultsReturned() {
+        var datasets = range(0, 3).mapToObj(i -> Dataset.Builder.newInstance().id("dataset-" + i).build()).toList();
+        when(queryService.getDatasets(any())).thenReturn(ServiceResult.success(datasets));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(Json.createObjectBuilder().add(TYPE, "QuerySpec").build())
+                .post("/v4/catalogs/datasets/request")
+                .then()
+                .log().ifValidationFails()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(3))
+                .body("[0].'@id'", is("dataset-0"));
+    }
+
+    @Test
+    void queryDatasets_whenQueryUnsuccessful() {
+        when(queryService.getDatasets(any())).thenThrow(new RuntimeException("test exception"));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(Json.createObjectBuilder().add(TYPE, "QuerySpec").build())
+                .post("/v4/catalogs/datasets/request")
+                .then()
+                .statusCode(500);
+    }
+
     @Override
     protected Object controller() {
         var typeTransformerRegistry = new TypeTransformerRegistryImpl();
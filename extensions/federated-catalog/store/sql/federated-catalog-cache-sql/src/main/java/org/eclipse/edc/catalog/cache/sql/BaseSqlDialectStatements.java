@@ -15,6 +15,7 @@
 package org.eclipse.edc.catalog.cache.sql;
 
 import org.eclipse.edc.catalog.cache.sql.schema.postgres.FederatedCatalogMapping;
+import org.eclipse.edc.catalog.cache.sql.schema.postgres.FederatedDatasetMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
@@ -62,12 +63,36 @@ public abstract class BaseSqlDialectStatements implements FederatedCatalogCacheS
                 .update(getFederatedCatalogTable(), getIdColumn());
     }
 
+    @Override
+    public String getInsertDatasetTemplate() {
+        return executeStatement()
+                .column(getDatasetOriginatorColumn())
+                .column(getDatasetIdColumn())
+                .jsonColumn(getDatasetPropertiesColumn())
+                .jsonColumn(getDatasetOffersColumn())
+                .jsonColumn(getDatasetDistributionsColumn())
+                .insertInto(getFederatedDatasetTable());
+    }
+
+    @Override
+    public String getDeleteDatasetsByOriginatorTemplate() {
+        return executeStatement()
+                .delete(getFederatedDatasetTable(), getDatasetOriginatorColumn());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         var select = getSelectStatement();
         return new SqlQueryStatement(select, querySpec, new FederatedCatalogMapping(this), operatorTranslator);
     }
 
+    @Override
+    public SqlQueryStatement createDatasetQuery(QuerySpec querySpec) {
+        var select = format("SELECT * FROM %s", getFederatedDatasetTable());
+        return new SqlQueryStatement(select, querySpec, new FederatedDatasetMapping(this), operatorTranslator)
+                .tiebreak(getDatasetOriginatorColumn(), getDatasetIdColumn());
+    }
+
     @Override
     public String getSelectStatement() {
         return format("SELECT * FROM %s", getFederatedCatalogTable());
@@ -36,6 +36,30 @@ public interface FederatedCatalogCacheStatements extends SqlStatements {
         return "marked";
     }
 
+    default String getFederatedDatasetTable() {
+        return "edc_federated_dataset";
+    }
+
+    default String getDatasetOriginatorColumn() {
+        return "originator";
+    }
+
+    default String getDatasetIdColumn() {
+        return "dataset_id";
+    }
+
+    default String getDatasetPropertiesColumn() {
+        return "properties";
+    }
+
+    default String getDatasetOffersColumn() {
+        return "offers";
+    }
+
+    default String getDatasetDistributionsColumn() {
+        return "distributions";
+    }
+
     String getFindByIdTemplate();
 
     String getUpdateAsMarkedTemplate();
@@ -47,7 +71,13 @@ public interface FederatedCatalogCacheStatements extends SqlStatements {
 
     String getUpdateTemplate();
 
+    String getInsertDatasetTemplate();
+
+    String getDeleteDatasetsByOriginatorTemplate();
+
     SqlQueryStatement createQuery(QuerySpec query);
 
+    SqlQueryStatement createDatasetQuery(QuerySpec query);
+
     String getSelectStatement();
 }
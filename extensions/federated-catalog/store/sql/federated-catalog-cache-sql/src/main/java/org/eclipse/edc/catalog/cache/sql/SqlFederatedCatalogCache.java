@@ -14,10 +14,15 @@
 
 package org.eclipse.edc.catalog.cache.sql;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.catalog.spi.CatalogConstants;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
@@ -29,11 +34,17 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Map;
 
 import static java.util.Optional.ofNullable;
 
 public class SqlFederatedCatalogCache extends AbstractSqlStore implements FederatedCatalogCache {
 
+    private static final TypeReference<Map<String, Object>> PROPERTIES_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, Policy>> OFFERS_TYPE = new TypeReference<>() {
+    };
+
     private final FederatedCatalogCacheStatements statements;
 
     public SqlFederatedCatalogCache(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
@@ -56,6 +67,7 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
                 } else {
                     updateInternal(connection, id, catalog);
                 }
+                replaceDatasetsInternal(connection, id, catalog);
 
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -75,6 +87,18 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
         });
     }
 
+    @Override
+    public Collection<Dataset> queryDatasets(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var query = statements.createDatasetQuery(querySpec);
+                return queryExecutor.query(connection, true, this::mapDataset, query.getQueryAsString(), query.getParameters()).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public void deleteExpired() {
         transactionContext.execute(() -> {
@@ -115,6 +139,34 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
         queryExecutor.execute(connection, stmt, toJson(catalog), false, id);
     }
 
+    private void replaceDatasetsInternal(Connection connection, String id, Catalog catalog) {
+        queryExecutor.execute(connection, statements.getDeleteDatasetsByOriginatorTemplate(), id);
+
+        var arguments = FederatedCatalogUtil.datasets(catalog, id).stream()
+                .map(dataset -> insertDatasetArguments(id, dataset))
+                .toList();
+        queryExecutor.executeBatch(connection, statements.getInsertDatasetTemplate(), arguments);
+    }
+
+    private Object[] insertDatasetArguments(String originator, Dataset dataset) {
+        return new Object[]{
+                originator,
+                dataset.getId(),
+                toJson(dataset.getProperties()),
+                toJson(dataset.getOffers()),
+                toJson(dataset.getDistributions())
+        };
+    }
+
+    private Dataset mapDataset(ResultSet resultSet) throws Exception {
+        return Dataset.Builder.newInstance()
+                .id(resultSet.getString(statements.getDatasetIdColumn()))
+                .properties(fromJson(resultSet.getString(statements.getDatasetPropertiesColumn()), PROPERTIES_TYPE))
+                .offers(fromJson(resultSet.getString(statements.getDatasetOffersColumn()), OFFERS_TYPE))
+                .distributions(fromJson(resultSet.getString(statements.getDatasetDistributionsColumn()), listOf(Distribution.class)))
+                .build();
+    }
+
     private Catalog mapResultSet(ResultSet resultSet) throws Exception {
         var json = resultSet.getString(statements.getCatalogColumn());
         return fromJson(json, Catalog.class);
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.sql.schema.postgres;
+
+import org.eclipse.edc.catalog.cache.sql.FederatedCatalogCacheStatements;
+import org.eclipse.edc.sql.translation.JsonContainmentFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.TranslationMapping;
+
+/**
+ * Maps the fields of a {@link org.eclipse.edc.connector.controlplane.catalog.spi.Dataset} onto the columns of the
+ * federated dataset table.
+ */
+public class FederatedDatasetMapping extends TranslationMapping {
+
+    public FederatedDatasetMapping(FederatedCatalogCacheStatements statements) {
+        add("id", statements.getDatasetIdColumn());
+        add("properties", new JsonContainmentFieldTranslator(statements.getDatasetPropertiesColumn()));
+        add("offers", new JsonFieldTranslator(statements.getDatasetOffersColumn()));
+        add("distributions", new JsonFieldTranslator(statements.getDatasetDistributionsColumn()));
+    }
+}
@@ -19,3 +19,22 @@ CREATE TABLE IF NOT EXISTS edc_federated_catalog
     catalog               JSON,
     marked                BOOLEAN DEFAULT FALSE
 );
+
+-- one row per dataset of the cached catalogs, sub-catalogs included, kept in sync with edc_federated_catalog
+CREATE TABLE IF NOT EXISTS edc_federated_dataset
+(
+    originator            VARCHAR NOT NULL
+        REFERENCES edc_federated_catalog (id) ON DELETE CASCADE,
+    dataset_id            VARCHAR NOT NULL,
+    properties            JSONB   DEFAULT '{}',
+    offers                JSON,
+    distributions         JSON,
+    PRIMARY KEY (originator, dataset_id)
+);
+
+COMMENT ON COLUMN edc_federated_dataset.properties IS 'Dataset properties serialized as JSON, originator included';
+COMMENT ON COLUMN edc_federated_dataset.offers IS 'Map<String,Policy> serialized as JSON';
+COMMENT ON COLUMN edc_federated_dataset.distributions IS 'List<Distribution> serialized as JSON';
+
+-- This will make property filters, translated into containment (@>) queries, avoid a table scan when the entries grow
+CREATE INDEX IF NOT EXISTS federated_dataset_properties ON edc_federated_dataset USING GIN (properties jsonb_path_ops);
@@ -51,6 +51,7 @@ public class SqlFederatedCatalogCacheTest extends FederatedCatalogCacheTestBase
 
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getFederatedDatasetTable());
         extension.runQuery("DROP TABLE " + statements.getFederatedCatalogTable());
     }
 
@@ -77,16 +77,16 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
-                return stream.filter(entry -> lease(connection, entry))
-                        .collect(Collectors.toList());
+                return lease(connection, stream.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, PolicyMonitorEntry entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
+    private List<PolicyMonitorEntry> lease(Connection connection, List<PolicyMonitorEntry> entries) {
+        var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(PolicyMonitorEntry::getId).toList());
+        return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(toList());
     }
 
     @Override
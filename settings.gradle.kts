@@ -234,6 +234,7 @@ include(":core:common:junit-base")
 
 
 // modules for system tests ------------------------------------------------------------------------
+include(":system-tests:benchmarks")
 include(":system-tests:bom-tests")
 include(":system-tests:nats-events-tests")
 include(":system-tests:e2e-transfer-test:control-plane")
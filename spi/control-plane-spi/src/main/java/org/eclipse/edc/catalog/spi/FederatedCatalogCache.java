@@ -15,6 +15,7 @@
 package org.eclipse.edc.catalog.spi;
 
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.query.QuerySpec;
 
@@ -39,6 +40,16 @@ public interface FederatedCatalogCache {
      */
     Collection<Catalog> query(QuerySpec query);
 
+    /**
+     * Queries the datasets of all the cached catalogs, the ones of their sub-catalogs included, without materializing
+     * the catalogs. Filters, sorting and pagination apply to the datasets, every returned dataset carries the originator
+     * of its catalog in the {@link CatalogConstants#PROPERTY_ORIGINATOR} property.
+     *
+     * @param query the query.
+     * @return the datasets that satisfy the query.
+     */
+    Collection<Dataset> queryDatasets(QuerySpec query);
+
     /**
      * Deletes all entries from the cache that are marked as "expired"
      */
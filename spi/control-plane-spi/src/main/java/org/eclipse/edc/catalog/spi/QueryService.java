@@ -16,6 +16,7 @@ package org.eclipse.edc.catalog.spi;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 
@@ -24,8 +25,15 @@ import java.util.Collection;
 /**
  * Accepts a {@link QuerySpec} and fetches a collection of {@link Asset} that conform to that query.
  */
-@FunctionalInterface
 public interface QueryService {
 
     ServiceResult<Collection<Catalog>> getCatalog(QuerySpec query);
+
+    /**
+     * Fetches the datasets of all the cached catalogs that conform to the query, as a flat list.
+     *
+     * @param query the query.
+     * @return the datasets.
+     */
+    ServiceResult<Collection<Dataset>> getDatasets(QuerySpec query);
 }
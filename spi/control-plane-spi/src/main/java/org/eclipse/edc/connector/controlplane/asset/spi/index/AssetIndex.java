@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -52,6 +53,23 @@ public interface AssetIndex extends DataAddressResolver {
      */
     Stream<Asset> queryAssets(QuerySpec querySpec);
 
+    /**
+     * Finds all assets that are covered by a specific {@link QuerySpec} and that additionally match at least one of the
+     * given selectors. Every selector is a list of criteria that are AND-ed, the selectors themselves are OR-ed. Offset and
+     * limit of the {@link QuerySpec} are applied to the assets that match the selectors.
+     * <p>
+     * Implementations that cannot evaluate the selectors natively return {@code null}, in which case the caller is expected
+     * to query with {@link #queryAssets(QuerySpec)} and to apply the selectors itself.
+     *
+     * @param querySpec The query spec, e.g. paging, filtering, etc.
+     * @param selectors The selectors, at least one of which must match.
+     * @return A potentially empty collection of {@link Asset}, or null if the selectors cannot be evaluated by this index.
+     */
+    @Nullable
+    default Stream<Asset> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        return null;
+    }
+
     /**
      * Fetches the {@link Asset} with the given ID from the metadata backend.
      *
@@ -70,6 +88,17 @@ public interface AssetIndex extends DataAddressResolver {
      */
     StoreResult<Void> create(Asset asset);
 
+    /**
+     * Stores every {@link Asset} of the list for which no asset with the same ID already exists. Implementations should
+     * override this to write the assets in batches, the default stores them one by one.
+     *
+     * @param assets The assets to store.
+     * @return a {@link StoreResult} for every asset, in the same order, as returned by {@link #create(Asset)}.
+     */
+    default List<StoreResult<Void>> createAll(List<Asset> assets) {
+        return assets.stream().map(this::create).toList();
+    }
+
     /**
      * Deletes an asset if it exists.
      *
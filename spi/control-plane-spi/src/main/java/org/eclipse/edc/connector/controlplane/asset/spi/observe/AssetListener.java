@@ -17,6 +17,8 @@ package org.eclipse.edc.connector.controlplane.asset.spi.observe;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.spi.observe.Observable;
 
+import java.util.List;
+
 /**
  * Interface implemented by listeners registered to observe asset state changes via {@link Observable#registerListener}.
  * The listener must be called after the state changes are persisted.
@@ -32,6 +34,16 @@ public interface AssetListener {
 
     }
 
+    /**
+     * Called once after a batch of {@link Asset}s was created, e.g. by a bulk creation. By default, calls
+     * {@link #created(Asset)} for every one of them.
+     *
+     * @param assets the assets that have been created.
+     */
+    default void createdAll(List<Asset> assets) {
+        assets.forEach(this::created);
+    }
+
     /**
      * Called after a {@link Asset} was deleted.
      *
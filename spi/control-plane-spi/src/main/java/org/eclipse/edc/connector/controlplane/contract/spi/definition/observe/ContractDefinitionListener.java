@@ -18,6 +18,8 @@ package org.eclipse.edc.connector.controlplane.contract.spi.definition.observe;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.spi.observe.Observable;
 
+import java.util.List;
+
 /**
  * Interface implemented by listeners registered to observe contract definition state changes via {@link Observable#registerListener}.
  * The listener must be called after the state changes are persisted.
@@ -33,6 +35,16 @@ public interface ContractDefinitionListener {
 
     }
 
+    /**
+     * Called once after a batch of {@link ContractDefinition}s was created, e.g. by a bulk creation. By default, calls
+     * {@link #created(ContractDefinition)} for every one of them.
+     *
+     * @param contractDefinitions the contractDefinitions that have been created.
+     */
+    default void createdAll(List<ContractDefinition> contractDefinitions) {
+        contractDefinitions.forEach(this::created);
+    }
+
     /**
      * Called after a {@link ContractDefinition} was deleted.
      *
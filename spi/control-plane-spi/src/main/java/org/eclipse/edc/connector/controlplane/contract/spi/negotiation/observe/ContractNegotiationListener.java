@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.contract.spi.negotiation.observe;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.NegotiationProcessors;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.spi.observe.Observable;
 
@@ -107,4 +108,15 @@ public interface ContractNegotiationListener {
     default void finalized(ContractNegotiation negotiation) {
 
     }
+
+    /**
+     * Called when a state transition performed by the {@link NegotiationProcessors} has been saved, within the
+     * transaction of the store update. Store writes performed by the listener are committed, or rolled back, together
+     * with the transition.
+     *
+     * @param negotiation the contract negotiation that has been saved.
+     */
+    default void persisted(ContractNegotiation negotiation) {
+
+    }
 }
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -60,6 +61,17 @@ public interface ContractDefinitionStore {
      */
     StoreResult<Void> save(ContractDefinition definition);
 
+    /**
+     * Stores every contract definition of the list for which no contract definition with the same ID already exists.
+     * Implementations should override this to write the definitions in batches, the default stores them one by one.
+     *
+     * @param definitions the {@link ContractDefinition}s to store.
+     * @return a {@link StoreResult} for every contract definition, in the same order, as returned by {@link #save(ContractDefinition)}.
+     */
+    default List<StoreResult<Void>> saveAll(List<ContractDefinition> definitions) {
+        return definitions.stream().map(this::save).toList();
+    }
+
     /**
      * Update the contract definition if a contract definition with the same ID exists.
      *
@@ -18,6 +18,8 @@ package org.eclipse.edc.connector.controlplane.policy.spi.observe;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
 import org.eclipse.edc.spi.observe.Observable;
 
+import java.util.List;
+
 /**
  * Interface implemented by listeners registered to observe policy definition state changes via {@link Observable#registerListener}.
  * The listener must be called after the state changes are persisted.
@@ -33,6 +35,16 @@ public interface PolicyDefinitionListener {
 
     }
 
+    /**
+     * Called once after a batch of {@link PolicyDefinition}s was created, e.g. by a bulk creation. By default, calls
+     * {@link #created(PolicyDefinition)} for every one of them.
+     *
+     * @param policyDefinitions the policyDefinitions that have been created.
+     */
+    default void createdAll(List<PolicyDefinition> policyDefinitions) {
+        policyDefinitions.forEach(this::created);
+    }
+
     /**
      * Called after a {@link PolicyDefinition} was deleted.
      *
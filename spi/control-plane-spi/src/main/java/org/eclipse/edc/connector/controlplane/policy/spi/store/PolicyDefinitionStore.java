@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -59,6 +60,18 @@ public interface PolicyDefinitionStore {
      */
     StoreResult<PolicyDefinition> create(PolicyDefinition policy);
 
+    /**
+     * Persists every policy of the list that does not yet exist. Implementations should override this to write the
+     * policies in batches, the default persists them one by one.
+     *
+     * @param policies to be saved.
+     * @return a {@link StoreResult} for every policy, in the same order, as returned by {@link #create(PolicyDefinition)}.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    default List<StoreResult<PolicyDefinition>> createAll(List<PolicyDefinition> policies) {
+        return policies.stream().map(this::create).toList();
+    }
+
     /**
      * Updates the policy.
      *
@@ -46,6 +46,17 @@ public interface AssetService {
      */
     ServiceResult<Asset> create(Asset asset);
 
+    /**
+     * Create a list of assets. Every asset is validated and stored as with {@link #create(Asset)}, a failure does not
+     * prevent the other assets from being created.
+     *
+     * @param assets the assets
+     * @return a result for every asset, in the same order
+     */
+    default List<ServiceResult<Asset>> createAll(List<Asset> assets) {
+        return assets.stream().map(this::create).toList();
+    }
+
     /**
      * Delete an asset
      *
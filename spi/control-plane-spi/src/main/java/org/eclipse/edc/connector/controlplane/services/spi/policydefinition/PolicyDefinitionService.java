@@ -66,6 +66,18 @@ public interface PolicyDefinitionService {
     @NotNull
     ServiceResult<PolicyDefinition> create(PolicyDefinition policy);
 
+    /**
+     * Create a list of policies. Every policy is validated and stored as with {@link #create(PolicyDefinition)}, a
+     * failure does not prevent the other policies from being created.
+     *
+     * @param policies the policies
+     * @return a result for every policy, in the same order
+     */
+    @NotNull
+    default List<ServiceResult<PolicyDefinition>> createAll(List<PolicyDefinition> policies) {
+        return policies.stream().map(this::create).toList();
+    }
+
     /**
      * Updates a policy. If the policy does not yet exist, {@link ServiceResult#notFound(String)} will be returned.
      *
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.transfer.spi.observe;
 
+import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessors;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.observe.Observable;
 
@@ -219,4 +220,15 @@ public interface TransferProcessListener {
 
     }
 
+    /**
+     * Called when a state transition performed by the {@link TransferProcessors} has been saved, within the transaction
+     * of the store update. Store writes performed by the listener are committed, or rolled back, together with the
+     * transition.
+     *
+     * @param process the transfer process that has been saved.
+     */
+    default void persisted(TransferProcess process) {
+
+    }
+
 }
@@ -18,8 +18,10 @@ import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
 
 public abstract class ContractNegotiationTaskPayload extends ProcessTaskPayload {
 
+    public static final String GROUP = "contract.negotiation";
+
     @Override
     public String group() {
-        return "contract.negotiation";
+        return GROUP;
     }
 }
\ No newline at end of file
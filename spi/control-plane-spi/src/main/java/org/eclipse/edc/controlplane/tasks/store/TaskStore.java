@@ -40,6 +40,24 @@ public interface TaskStore {
      */
     List<Task> fetchForUpdate(QuerySpec querySpec);
 
+    /**
+     * Fetches, oldest first, up to {@code max} tasks of the given group that have not been marked as published yet, and
+     * locks them for update. Tasks locked by other transactions are skipped, so that concurrent callers fetch
+     * distinct tasks. The tasks will be automatically unlocked when the transaction completes.
+     *
+     * @param group the group of the tasks
+     * @param max   the maximum number of tasks to fetch
+     * @return the unpublished tasks
+     */
+    List<Task> fetchUnpublished(String group, int max);
+
+    /**
+     * Marks the tasks with the given ids as published, so that they are not returned by {@link #fetchUnpublished} anymore.
+     *
+     * @param ids the ids of the tasks
+     */
+    StoreResult<Void> markPublished(List<String> ids);
+
     /**
      * Deletes the task with the given id.
      *
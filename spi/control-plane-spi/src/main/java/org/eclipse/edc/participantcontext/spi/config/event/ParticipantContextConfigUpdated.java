@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.participantcontext.spi.config.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.edc.spi.event.Event;
+
+import java.util.Objects;
+
+/**
+ * Emitted after the configuration of a participant context has been saved or merged. Components that keep a copy of
+ * the configuration, e.g. caches, must discard it when receiving this event.
+ */
+@JsonDeserialize(builder = ParticipantContextConfigUpdated.Builder.class)
+public class ParticipantContextConfigUpdated extends Event {
+
+    private String participantContextId;
+
+    private ParticipantContextConfigUpdated() {
+    }
+
+    public String getParticipantContextId() {
+        return participantContextId;
+    }
+
+    @Override
+    public String name() {
+        return "participantcontext.config.updated";
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class Builder {
+
+        private final ParticipantContextConfigUpdated event;
+
+        private Builder() {
+            event = new ParticipantContextConfigUpdated();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder participantContextId(String participantContextId) {
+            event.participantContextId = participantContextId;
+            return this;
+        }
+
+        public ParticipantContextConfigUpdated build() {
+            Objects.requireNonNull(event.participantContextId, "'participantContextId' is missing");
+            return event;
+        }
+    }
+}
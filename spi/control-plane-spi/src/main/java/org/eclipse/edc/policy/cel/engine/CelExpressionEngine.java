@@ -72,4 +72,12 @@ public interface CelExpressionEngine {
      * @return a service result containing the boolean result of the evaluation or an error
      */
     ServiceResult<Boolean> evaluateExpression(Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params);
+
+    /**
+     * Discards any state the engine derived from the stored expressions (e.g. compiled programs), so that subsequent
+     * evaluations reflect the current content of the store. Must be called after an expression has been created,
+     * updated or deleted.
+     */
+    default void invalidate() {
+    }
 }
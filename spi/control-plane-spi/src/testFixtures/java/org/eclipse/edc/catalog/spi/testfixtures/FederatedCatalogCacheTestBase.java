@@ -28,6 +28,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -213,6 +215,92 @@ public abstract class FederatedCatalogCacheTestBase {
         }
     }
 
+    @Nested
+    class QueryDatasets {
+
+        @Test
+        void shouldReturnDatasetsOfAllCatalogs_withOriginator() {
+            var assetId1 = UUID.randomUUID().toString();
+            var assetId2 = UUID.randomUUID().toString();
+            var entry1 = createCatalog(UUID.randomUUID().toString(), createAsset(assetId1));
+            var entry2 = createCatalog(UUID.randomUUID().toString(), createAsset(assetId2));
+
+            getStore().save(entry1);
+            getStore().save(entry2);
+
+            var result = getStore().queryDatasets(QuerySpec.none());
+
+            assertThat(result).hasSize(2)
+                    .anySatisfy(dataset -> {
+                        assertThat(dataset.getId()).isEqualTo(assetId1);
+                        assertThat(dataset.getProperty(CatalogConstants.PROPERTY_ORIGINATOR)).isEqualTo(entry1.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR));
+                        assertThat(dataset.getDistributions()).hasSize(1).first().extracting(Distribution::getFormat).isEqualTo("test-format");
+                    })
+                    .anySatisfy(dataset -> assertThat(dataset.getId()).isEqualTo(assetId2));
+        }
+
+        @Test
+        void shouldFilterByProperty() {
+            var assetId1 = UUID.randomUUID().toString();
+            var assetId2 = UUID.randomUUID().toString();
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAssetBuilder(assetId1).property("name", "value").build()));
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAssetBuilder(assetId2).property("name", "other").build()));
+
+            var query = QuerySpec.Builder.newInstance().filter(Criterion.criterion("properties.name", "=", "value")).build();
+            var result = getStore().queryDatasets(query);
+
+            assertThat(result).hasSize(1).first().extracting(Dataset::getId).isEqualTo(assetId1);
+        }
+
+        @Test
+        void shouldSortAndPaginate() {
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset("dataset-3")));
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset("dataset-1")));
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset("dataset-2")));
+
+            var query = QuerySpec.Builder.newInstance().sortField("id").offset(1).limit(1).build();
+            var result = getStore().queryDatasets(query);
+
+            assertThat(result).extracting(Dataset::getId).containsExactly("dataset-2");
+        }
+
+        @Test
+        void shouldPaginateDeterministically_whenNoSortFieldIsRequested() {
+            var ids = IntStream.range(0, 5).mapToObj(i -> UUID.randomUUID().toString()).toList();
+            ids.forEach(id -> getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset(id))));
+
+            var firstPage = getStore().queryDatasets(QuerySpec.Builder.newInstance().limit(3).build());
+            var secondPage = getStore().queryDatasets(QuerySpec.Builder.newInstance().offset(3).limit(3).build());
+
+            assertThat(Stream.concat(firstPage.stream(), secondPage.stream())).extracting(Dataset::getId)
+                    .containsExactlyInAnyOrderElementsOf(ids);
+        }
+
+        @Test
+        void shouldReturnDatasetsOfLastSavedCatalogOnly() {
+            var catalogId = UUID.randomUUID().toString();
+            var assetId2 = UUID.randomUUID().toString();
+            getStore().save(createCatalog(catalogId, createAsset(UUID.randomUUID().toString())));
+            getStore().save(createCatalog(catalogId, createAsset(assetId2)));
+
+            var result = getStore().queryDatasets(QuerySpec.none());
+
+            assertThat(result).extracting(Dataset::getId).containsExactly(assetId2);
+        }
+
+        @Test
+        void shouldNotReturnDatasetsOfDeletedCatalogs() {
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString())));
+            getStore().expireAll();
+            var assetId = UUID.randomUUID().toString();
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset(assetId)));
+
+            getStore().deleteExpired();
+
+            assertThat(getStore().queryDatasets(QuerySpec.none())).extracting(Dataset::getId).containsExactly(assetId);
+        }
+    }
+
     @Nested
     class Delete {
 
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.DataplaneMetadata;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.KeysetCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -134,6 +135,35 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class CreateAll {
+        @Test
+        void shouldStoreAssets() {
+            var assets = range(0, 3).mapToObj(i -> createAsset("id" + i)).toList();
+
+            var results = getAssetIndex().createAll(assets);
+
+            assertThat(results).hasSize(3).allSatisfy(result -> assertThat(result.succeeded()).isTrue());
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none()))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(assets);
+        }
+
+        @Test
+        void shouldFailOnlyExistingAndDuplicatedAssets() {
+            getAssetIndex().create(createAsset("existing"));
+            var assets = List.of(createAsset("new"), createAsset("existing"), createAsset("new"));
+
+            var results = getAssetIndex().createAll(assets);
+
+            assertThat(results).hasSize(3);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(results.get(2).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none())).hasSize(2);
+        }
+    }
+
     @Nested
     class DeleteById {
 
@@ -460,6 +490,24 @@ public abstract class AssetIndexTestBase {
             assertThat(result).usingRecursiveFieldByFieldElementComparator().containsAll(assets);
         }
 
+        @Test
+        void shouldSeekAfterCursor_whenSortedByProperty() {
+            var name = EDC_NAMESPACE + "name";
+            IntStream.range(0, 5)
+                    .mapToObj(i -> createAssetBuilder("id" + i).property(name, "name" + (4 - i)).build())
+                    .forEach(a -> getAssetIndex().create(a));
+            var spec = QuerySpec.Builder.newInstance()
+                    .sortField(name)
+                    .sortOrder(SortOrder.ASC)
+                    .limit(2)
+                    .cursor(KeysetCursor.after(name, "name1", "id3"))
+                    .build();
+
+            var result = getAssetIndex().queryAssets(spec);
+
+            assertThat(result).extracting(Asset::getId).containsExactly("id2", "id1");
+        }
+
         @Test
         void shouldSortByCreatedAt() {
             var assets = IntStream.range(0, 10)
@@ -530,6 +578,80 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class QueryAssetsWithSelectors {
+
+        @Test
+        void shouldReturnAssetsMatchingAnySelector() {
+            getAssetIndex().create(createAssetBuilder("id1").property("category", "a").build());
+            getAssetIndex().create(createAssetBuilder("id2").property("category", "b").build());
+            getAssetIndex().create(createAssetBuilder("id3").property("category", "c").build());
+            var selectors = List.of(
+                    List.of(criterion("category", "=", "a")),
+                    List.of(criterion("category", "=", "c"), criterion("keyid3", "=", "valueid3"))
+            );
+
+            var assets = getAssetIndex().queryAssets(QuerySpec.none(), selectors);
+
+            assertThat(assets).isNotNull().map(Asset::getId).containsExactlyInAnyOrder("id1", "id3");
+        }
+
+        @Test
+        void shouldReturnAllAssets_whenOneSelectorIsEmpty() {
+            range(0, 3).mapToObj(it -> createAsset("id" + it)).forEach(asset -> getAssetIndex().create(asset));
+            var selectors = List.of(List.of(criterion("category", "=", "a")), List.<Criterion>of());
+
+            var assets = getAssetIndex().queryAssets(QuerySpec.none(), selectors);
+
+            assertThat(assets).isNotNull().hasSize(3);
+        }
+
+        @Test
+        void shouldApplyFilterAndRange_afterSelectors() {
+            range(0, 10).mapToObj(it -> createAssetBuilder("id" + it).property("even", it % 2 == 0 ? "yes" : "no").build())
+                    .forEach(asset -> getAssetIndex().create(asset));
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(filterByParticipantContextId("participantContextId"))
+                    .sortField(Asset.PROPERTY_ID).sortOrder(SortOrder.ASC)
+                    .offset(1).limit(2)
+                    .build();
+            var selectors = List.of(List.of(criterion("even", "=", "yes")));
+
+            var assets = getAssetIndex().queryAssets(querySpec, selectors);
+
+            assertThat(assets).isNotNull().map(Asset::getId).containsExactly("id2", "id4");
+        }
+
+        @Test
+        void shouldPaginateDeterministically_whenNoSortFieldIsRequested() {
+            var ids = range(0, 6).mapToObj(it -> UUID.randomUUID().toString()).toList();
+            ids.forEach(id -> getAssetIndex().create(createAssetBuilder(id).property("category", "a").build()));
+            var selectors = List.of(List.of(criterion("category", "=", "a")));
+
+            var pages = range(0, 3)
+                    .mapToObj(page -> getAssetIndex().queryAssets(QuerySpec.Builder.newInstance().offset(page * 2).limit(2).build(), selectors))
+                    .flatMap(assets -> assets.map(Asset::getId))
+                    .toList();
+
+            assertThat(pages).containsExactlyInAnyOrderElementsOf(ids);
+        }
+
+        @Test
+        void shouldPaginateDeterministically_whenSortKeysAreEqual() {
+            var ids = range(0, 6).mapToObj(it -> UUID.randomUUID().toString()).toList();
+            ids.forEach(id -> getAssetIndex().create(createAssetBuilder(id).property("category", "a").build()));
+            var selectors = List.of(List.of(criterion("category", "=", "a")));
+
+            var pages = range(0, 3)
+                    .mapToObj(page -> getAssetIndex().queryAssets(QuerySpec.Builder.newInstance().sortField("category")
+                            .offset(page * 2).limit(2).build(), selectors))
+                    .flatMap(assets -> assets.map(Asset::getId))
+                    .toList();
+
+            assertThat(pages).containsExactlyInAnyOrderElementsOf(ids);
+        }
+    }
+
     @Nested
     class FindById {
         @Test
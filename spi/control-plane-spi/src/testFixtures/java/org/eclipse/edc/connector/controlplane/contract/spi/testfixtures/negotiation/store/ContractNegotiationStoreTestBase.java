@@ -59,6 +59,7 @@ import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiat
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.filterByParticipantContextId;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isDue;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
@@ -794,6 +795,16 @@ public abstract class ContractNegotiationStoreTestBase {
             assertThat(batch).hasSize(5).isSubsetOf(negotiations);
         }
 
+        @Test
+        void shouldNotReturnItemsWhoseRetryIsNotDue() {
+            getContractNegotiationStore().save(createNegotiationBuilder("due").state(REQUESTED.code()).nextAttemptAt(1000L).build());
+            getContractNegotiationStore().save(createNegotiationBuilder("not-due").state(REQUESTED.code()).nextAttemptAt(3000L).build());
+
+            var batch = getContractNegotiationStore().nextNotLeased(10, hasState(REQUESTED.code()), isDue(2000L));
+
+            assertThat(batch).extracting(ContractNegotiation::getId).containsExactly("due");
+        }
+
         @Test
         void typeFilter() {
             range(0, 5).mapToObj(it -> createNegotiationBuilder("1" + it)
@@ -155,6 +155,39 @@ public abstract class ContractDefinitionStoreTestBase {
         }
     }
 
+    @Nested
+    class SaveAll {
+
+        @Test
+        void noneExist() {
+            var definitions = createContractDefinitions(10);
+
+            var results = getContractDefinitionStore().saveAll(definitions);
+
+            assertThat(results).hasSize(10).allSatisfy(result -> assertThat(result).isSucceeded());
+            assertThat(getContractDefinitionStore().findAll(QuerySpec.max()))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(definitions);
+        }
+
+        @Test
+        void someExist_shouldNotUpdate() {
+            getContractDefinitionStore().save(createContractDefinition("existing", "policy", "contract"));
+            var definitions = List.of(
+                    createContractDefinition("new"),
+                    createContractDefinition("existing", "updatedAccess", "updatedContract"),
+                    createContractDefinition("new"));
+
+            var results = getContractDefinitionStore().saveAll(definitions);
+
+            assertThat(results).hasSize(3);
+            assertThat(results.get(0)).isSucceeded();
+            assertThat(results.get(1)).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_EXISTS);
+            assertThat(results.get(2)).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_EXISTS);
+            assertThat(getContractDefinitionStore().findById("existing")).isEqualTo(createContractDefinition("existing", "policy", "contract"));
+        }
+    }
+
     @Nested
     class Update {
         @Test
@@ -142,6 +142,37 @@ public abstract class PolicyDefinitionStoreTestBase {
 
     }
 
+    @Nested
+    class CreateAll {
+
+        @Test
+        void notExisting() {
+            var policies = IntStream.range(0, 3).mapToObj(i -> TestFunctions.createPolicy(getRandomId())).toList();
+
+            var results = getPolicyDefinitionStore().createAll(policies);
+
+            assertThat(results).hasSize(3).allSatisfy(result -> assertThat(result.succeeded()).isTrue());
+            assertThat(getPolicyDefinitionStore().findAll(QuerySpec.none()))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(policies);
+        }
+
+        @Test
+        void existingAndDuplicated() {
+            var existing = TestFunctions.createPolicy(getRandomId());
+            getPolicyDefinitionStore().create(existing);
+            var policy = TestFunctions.createPolicy(getRandomId());
+
+            var results = getPolicyDefinitionStore().createAll(List.of(policy, existing, policy));
+
+            assertThat(results).hasSize(3);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(results.get(2).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(getPolicyDefinitionStore().findAll(QuerySpec.none())).hasSize(2);
+        }
+    }
+
     @Nested
     class Update {
         @Test
@@ -50,6 +50,7 @@ import static org.eclipse.edc.connector.controlplane.transfer.spi.types.Transfer
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.filterByParticipantContextId;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isDue;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
@@ -191,6 +192,18 @@ public abstract class TransferProcessStoreTestBase {
             assertThat(result).hasSize(3);
         }
 
+        @Test
+        void shouldNotReturnItemsWhoseRetryIsNotDue() {
+            var due = TestFunctions.createTransferProcessBuilder("due").state(STARTED.code()).nextAttemptAt(1000L).build();
+            var notDue = TestFunctions.createTransferProcessBuilder("not-due").state(STARTED.code()).nextAttemptAt(3000L).build();
+            getTransferProcessStore().save(due);
+            getTransferProcessStore().save(notDue);
+
+            var result = getTransferProcessStore().nextNotLeased(10, hasState(STARTED.code()), isDue(2000L));
+
+            assertThat(result).extracting(TransferProcess::getId).containsExactly("due");
+        }
+
         @Test
         void verifyTemporalOrdering() {
             var state = STARTED;
@@ -297,6 +310,21 @@ public abstract class TransferProcessStoreTestBase {
             assertThat(elements).hasSize(10).extracting(TransferProcess::getStateTimestamp).isSorted();
         }
 
+        @Test
+        void perSelection_shouldLimitEverySelection() {
+            range(0, 10).mapToObj(i -> createTransferProcess("started-" + i, STARTED)).forEach(getTransferProcessStore()::save);
+            range(0, 2).mapToObj(i -> createTransferProcess("requesting-" + i, REQUESTING)).forEach(getTransferProcessStore()::save);
+
+            var result = getTransferProcessStore().nextNotLeasedPerSelection(3, List.of(
+                    List.of(hasState(STARTED.code())),
+                    List.of(hasState(REQUESTING.code()))
+            ));
+
+            assertThat(result).hasSize(5).extracting(TransferProcess::getId).allMatch(id -> isLeasedBy(id, CONNECTOR_NAME));
+            assertThat(result).filteredOn(tp -> tp.getState() == STARTED.code()).hasSize(3);
+            assertThat(result).filteredOn(tp -> tp.getState() == REQUESTING.code()).hasSize(2);
+        }
+
         private void delayByTenMillis(TransferProcess t) {
             try {
                 Thread.sleep(10);
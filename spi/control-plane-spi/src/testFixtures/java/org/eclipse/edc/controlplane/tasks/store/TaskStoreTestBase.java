@@ -24,6 +24,8 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 
@@ -220,6 +222,41 @@ public abstract class TaskStoreTestBase {
         }
     }
 
+    @Nested
+    class FetchUnpublished {
+        @Test
+        void shouldReturnOldestTasksOfGroup() {
+            var task1 = Task.Builder.newInstance().at(3000L).payload(createTestPayload("process-1")).build();
+            var task2 = Task.Builder.newInstance().at(1000L).payload(createTestPayload("process-2")).build();
+            var task3 = Task.Builder.newInstance().at(2000L).payload(createTestPayload("process-3")).build();
+            var otherGroup = Task.Builder.newInstance().at(500L)
+                    .payload(createTestPayload("process-4", "transfer.complete", "other-group")).build();
+            getStore().create(task1);
+            getStore().create(task2);
+            getStore().create(task3);
+            getStore().create(otherGroup);
+
+            var results = getStore().fetchUnpublished("transfer.process", 2);
+
+            assertThat(results).usingRecursiveFieldByFieldElementComparator().containsExactly(task2, task3);
+        }
+
+        @Test
+        void shouldNotReturnPublishedTasks() {
+            var task1 = Task.Builder.newInstance().at(1000L).payload(createTestPayload("process-1")).build();
+            var task2 = Task.Builder.newInstance().at(2000L).payload(createTestPayload("process-2")).build();
+            getStore().create(task1);
+            getStore().create(task2);
+
+            var result = getStore().markPublished(List.of(task1.getId()));
+
+            assertThat(result).isSucceeded();
+            assertThat(getStore().fetchUnpublished("transfer.process", 10))
+                    .usingRecursiveFieldByFieldElementComparator().containsExactly(task2);
+            assertThat(getStore().findById(task1.getId())).usingRecursiveComparison().isEqualTo(task1);
+        }
+    }
+
     @Nested
     class Update {
         @Test
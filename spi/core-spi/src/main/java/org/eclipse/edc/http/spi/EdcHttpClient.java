@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.http.spi;
 
+import okhttp3.HttpUrl;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.eclipse.edc.spi.result.Result;
@@ -87,4 +88,15 @@ public interface EdcHttpClient {
      */
     EdcHttpClient withDns(String dnsServer);
 
+    /**
+     * Tells whether the calls to the counterparty at the specified url are currently rejected because its circuit
+     * breaker is open, so that callers can fail fast without preparing the request.
+     *
+     * @param url the url of the counterparty.
+     * @return true if the calls are rejected, false otherwise.
+     */
+    default boolean isCircuitOpen(HttpUrl url) {
+        return false;
+    }
+
 }
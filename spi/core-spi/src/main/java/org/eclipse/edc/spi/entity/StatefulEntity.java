@@ -37,6 +37,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Entity
     protected String errorDetail;
     protected boolean pending = false;
     protected long updatedAt;
+    protected long nextAttemptAt;
 
     protected StatefulEntity() {
     }
@@ -74,6 +75,20 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Entity
         this.pending = pending;
     }
 
+    /**
+     * Returns the epoch in milliseconds before which the entity must not be processed again, because a retry of its
+     * current state has been scheduled. Zero means that the entity can be processed right away.
+     *
+     * @return the next attempt epoch in milliseconds.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(long nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     /**
      * Sets the state timestamp to the clock time.
      *
@@ -111,6 +126,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Entity
     protected void transitionTo(int targetState) {
         stateCount = state == targetState ? stateCount + 1 : 1;
         state = targetState;
+        nextAttemptAt = 0;
         updateStateTimestamp();
         setModified();
     }
@@ -127,6 +143,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Entity
                 .errorDetail(errorDetail)
                 .clock(clock)
                 .pending(pending)
+                .nextAttemptAt(nextAttemptAt)
                 .build();
     }
 
@@ -178,6 +195,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Entity
             return self();
         }
 
+        public B nextAttemptAt(long time) {
+            entity.nextAttemptAt = time;
+            return self();
+        }
+
         protected T build() {
             super.build();
             if (entity.id == null) {
@@ -40,6 +40,16 @@ public interface StateEntityStore<T> {
         return new Criterion("pending", "=", false);
     }
 
+    /**
+     * Returns a {@link Criterion} that excludes the entities whose next attempt is scheduled after the passed time.
+     *
+     * @param now the current epoch in milliseconds.
+     * @return a criterion.
+     */
+    static Criterion isDue(long now) {
+        return new Criterion("nextAttemptAt", "<=", now);
+    }
+
     /**
      * Finds the entity for the id or null.
      *
@@ -72,6 +82,25 @@ public interface StateEntityStore<T> {
     @NotNull
     List<T> nextNotLeased(int max, Criterion... criteria);
 
+    /**
+     * Returns not leased entities for each of the selections, at most _max_ per selection, as
+     * {@link #nextNotLeased(int, Criterion...)} does for a single one, so that a backlog in a selection does not crowd out
+     * the others. The selections are expected to be disjoint.
+     * <p>
+     * The default implementation fetches every selection separately. Implementors should override it to fetch them all
+     * with a single query.
+     *
+     * @param max        The maximum amount of result items per selection.
+     * @param selections The selection criteria of every selection.
+     * @return A list of entities (at most _max_ per selection) that satisfy the criteria of one of the selections.
+     */
+    @NotNull
+    default List<T> nextNotLeasedPerSelection(int max, List<List<Criterion>> selections) {
+        return selections.stream()
+                .flatMap(selection -> nextNotLeased(max, selection.toArray(Criterion[]::new)).stream())
+                .toList();
+    }
+
     /**
      * Find the entity by the passed id and lease it.
      * If the entity is already leased, will return a failure.
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import jakarta.json.Json;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a query result for keyset (seek) pagination. When a {@link QuerySpec} carries a cursor, the result is
+ * ordered by the sort field and then by {@code id}, and only contains the elements that come after the cursor, i.e.
+ * after the element with the given sort value and id. Unlike an offset, this does not get slower for deep pages, and
+ * does not skip or repeat elements when other elements are inserted meanwhile.
+ * <p>
+ * The {@link #start()} cursor opts a query into keyset ordering without skipping anything. Cursors are handed to API
+ * clients in their opaque {@link #encode() encoded} form.
+ */
+public final class KeysetCursor {
+
+    private static final KeysetCursor START = new KeysetCursor(null, null, null);
+    private static final String SORT_FIELD = "f";
+    private static final String SORT_VALUE = "v";
+    private static final String ID = "i";
+
+    private final String sortField;
+    private final Object sortValue;
+    private final String id;
+
+    private KeysetCursor(String sortField, Object sortValue, String id) {
+        this.sortField = sortField;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * The cursor of the first page.
+     */
+    public static KeysetCursor start() {
+        return START;
+    }
+
+    /**
+     * The cursor that follows an element.
+     *
+     * @param sortField the sort field of the query, null if it is sorted by id only.
+     * @param sortValue the value of the sort field of the element.
+     * @param id        the id of the element.
+     * @return the cursor.
+     */
+    public static KeysetCursor after(@Nullable String sortField, @Nullable Object sortValue, String id) {
+        Objects.requireNonNull(id, "id");
+        if (sortValue instanceof Integer || sortValue instanceof Short || sortValue instanceof Byte) {
+            sortValue = ((Number) sortValue).longValue();
+        } else if (sortValue != null && !(sortValue instanceof String || sortValue instanceof Number || sortValue instanceof Boolean)) {
+            sortValue = sortValue.toString();
+        }
+        return new KeysetCursor(sortField, sortValue, id);
+    }
+
+    /**
+     * Decodes a cursor previously obtained with {@link #encode()}.
+     *
+     * @param encoded the encoded cursor.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the cursor is not valid.
+     */
+    public static KeysetCursor decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return START;
+        }
+        try {
+            var json = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            try (var reader = Json.createReader(new StringReader(json))) {
+                var object = reader.readObject();
+                var sortField = object.isNull(SORT_FIELD) ? null : object.getString(SORT_FIELD);
+                return after(sortField, toSortValue(object.get(SORT_VALUE)), object.getString(ID));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded, e);
+        }
+    }
+
+    public boolean isStart() {
+        return id == null;
+    }
+
+    @Nullable
+    public String getSortField() {
+        return sortField;
+    }
+
+    @Nullable
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Encodes the cursor into an opaque, URL-safe string.
+     */
+    public String encode() {
+        if (isStart()) {
+            return "";
+        }
+        var builder = Json.createObjectBuilder()
+                .add(SORT_FIELD, sortField == null ? JsonValue.NULL : Json.createValue(sortField))
+                .add(SORT_VALUE, toJsonValue(sortValue))
+                .add(ID, id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.build().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (KeysetCursor) o;
+        return Objects.equals(sortField, that.sortField) && Objects.equals(sortValue, that.sortValue) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, sortValue, id);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor{" +
+                "sortField=" + sortField +
+                ", sortValue=" + sortValue +
+                ", id=" + id +
+                '}';
+    }
+
+    private static JsonValue toJsonValue(Object value) {
+        if (value == null) {
+            return JsonValue.NULL;
+        } else if (value instanceof Boolean bool) {
+            return bool ? JsonValue.TRUE : JsonValue.FALSE;
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Json.createValue(((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            return Json.createValue(new BigDecimal(number.toString()));
+        } else {
+            return Json.createValue(value.toString());
+        }
+    }
+
+    private static Object toSortValue(JsonValue value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.getValueType()) {
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> toNumber((JsonNumber) value);
+            case TRUE -> true;
+            case FALSE -> false;
+            case NULL -> null;
+            default -> throw new IllegalArgumentException("Unsupported sort value: " + value);
+        };
+    }
+
+    private static Number toNumber(JsonNumber number) {
+        if (!number.isIntegral()) {
+            return number.bigDecimalValue();
+        }
+        var value = number.bigIntegerValue();
+        return value.bitLength() < Long.SIZE ? (Number) value.longValue() : value;
+    }
+}
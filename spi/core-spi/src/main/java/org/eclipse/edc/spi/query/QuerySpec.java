@@ -36,11 +36,13 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CURSOR = EDC_NAMESPACE + "cursor";
     private final List<Criterion> filterExpression = new ArrayList<>();
     private int offset = 0;
     private int limit = 50;
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private KeysetCursor cursor;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -57,6 +59,16 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * The keyset cursor, if the query is paginated by keyset rather than (only) by offset.
+     *
+     * @see KeysetCursor
+     */
+    @JsonIgnore
+    public KeysetCursor getCursor() {
+        return cursor;
+    }
+
     public int getOffset() {
         return offset;
     }
@@ -91,12 +103,13 @@ public class QuerySpec {
                 .limit(limit)
                 .filter(filterExpression)
                 .sortOrder(sortOrder)
-                .sortField(sortField);
+                .sortField(sortField)
+                .cursor(cursor);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, cursor);
     }
 
     @Override
@@ -108,7 +121,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(cursor, querySpec.cursor);
     }
 
     @Override
@@ -119,6 +132,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", cursor=" + cursor +
                 '}';
     }
 
@@ -164,6 +178,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder cursor(KeysetCursor cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.system;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Services for exposing the {@link CacheStatistics} of in-memory caches, to collect cache metrics when available.
+ * <p>
+ * The default implementation does not provide any instrumentation. Extension modules can provide implementations,
+ * such as for collecting metrics.
+ */
+@ExtensionPoint
+public interface CacheInstrumentation {
+    /**
+     * Default implementation that does not provide any instrumentation.
+     *
+     * @return a default {@link CacheInstrumentation} implementation.
+     */
+    static CacheInstrumentation noop() {
+        return new CacheInstrumentation() {
+        };
+    }
+
+    /**
+     * Instrument a cache.
+     *
+     * @param cache statistics of the cache to instrument.
+     * @param name  name used to tag metrics.
+     */
+    default void instrument(CacheStatistics cache, String name) {
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.system;
+
+/**
+ * Statistics of an in-memory cache, exposed to a {@link CacheInstrumentation}.
+ */
+public interface CacheStatistics {
+
+    /**
+     * Number of lookups that returned a cached value.
+     */
+    long hitCount();
+
+    /**
+     * Number of lookups that did not return a cached value.
+     */
+    long missCount();
+
+    /**
+     * Number of entries that were removed because they expired, were invalidated or made room for new ones.
+     */
+    long evictionCount();
+
+    /**
+     * Current number of entries.
+     */
+    int size();
+}
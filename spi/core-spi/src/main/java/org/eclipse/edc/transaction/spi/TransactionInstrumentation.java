@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.transaction.spi;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Services for creating instrumented {@link TransactionContext}s, to collect transaction metrics (e.g. how long a
+ * database connection is held) when available.
+ * <p>
+ * The default implementation does not provide any instrumentation. Extension modules can provide implementations,
+ * such as for collecting metrics.
+ */
+@ExtensionPoint
+public interface TransactionInstrumentation {
+    /**
+     * Default implementation that does not provide any instrumentation.
+     *
+     * @return a default {@link TransactionInstrumentation} implementation.
+     */
+    static TransactionInstrumentation noop() {
+        return new TransactionInstrumentation() {
+        };
+    }
+
+    /**
+     * Instrument a {@link TransactionContext}.
+     *
+     * @param target context to instrument.
+     * @param name   name used to tag metrics.
+     * @return instrumented context.
+     */
+    default TransactionContext instrument(TransactionContext target, String name) {
+        return target;
+    }
+}
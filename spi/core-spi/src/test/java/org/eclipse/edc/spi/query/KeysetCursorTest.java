@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @ParameterizedTest
+    @ArgumentsSource(Cursors.class)
+    void encode_shouldRoundTrip(KeysetCursor cursor) {
+        var encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void start_shouldEncodeToEmptyString() {
+        assertThat(KeysetCursor.start().encode()).isEmpty();
+        assertThat(KeysetCursor.decode("")).isSameAs(KeysetCursor.start());
+        assertThat(KeysetCursor.decode(null)).isSameAs(KeysetCursor.start());
+        assertThat(KeysetCursor.start().isStart()).isTrue();
+    }
+
+    @Test
+    void after_shouldNormalizeIntegralNumbers() {
+        assertThat(KeysetCursor.after("field", 42, "id").getSortValue()).isEqualTo(42L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not-base64!", "bm90LWpzb24", "e30" })
+    void decode_shouldThrow_whenInvalid(String encoded) {
+        assertThatThrownBy(() -> KeysetCursor.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class Cursors implements ArgumentsProvider {
+        @Override
+        public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+            return Stream.of(
+                    Arguments.of(KeysetCursor.after(null, null, "id")),
+                    Arguments.of(KeysetCursor.after("name", "a name", "id")),
+                    Arguments.of(KeysetCursor.after("name", null, "id")),
+                    Arguments.of(KeysetCursor.after("createdAt", 1760000000000L, "id")),
+                    Arguments.of(KeysetCursor.after("score", new BigDecimal("1.5"), "id")),
+                    Arguments.of(KeysetCursor.after("enabled", true, "id"))
+            );
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+plugins {
+    java
+}
+
+dependencies {
+    implementation(project(":core:common:cel-core"))
+    implementation(project(":core:common:lib:core-lib"))
+    implementation(project(":core:common:lib:jsonld-lib"))
+    implementation(project(":core:control-plane:lib:control-plane-lib"))
+    implementation(project(":core:control-plane:control-plane-transform"))
+    implementation(project(":data-protocols:dsp:dsp-lib"))
+    implementation(project(":data-protocols:dsp:dsp-2025:dsp-spi-2025"))
+    implementation(project(":data-protocols:dsp:dsp-2025:dsp-catalog-2025:dsp-catalog-transform-2025"))
+
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.annprocess)
+}
+
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+
+// runs all the benchmarks (or the ones matching -Pjmh.includes=<regex>) and writes the results as JSON
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks and writes the results to build/reports/jmh/results.json"
+    dependsOn(tasks.classes)
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    outputs.file(jmhResults)
+    outputs.upToDateWhen { false }
+    doFirst {
+        jmhResults.get().asFile.parentFile.mkdirs()
+    }
+    args = listOfNotNull(
+        project.findProperty("jmh.includes")?.toString(),
+        "-rf", "json",
+        "-rff", jmhResults.get().asFile.absolutePath
+    )
+}
+
+edcBuild {
+    publish.set(false)
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.cel;
+
+import org.eclipse.edc.policy.cel.engine.CelExpressionEngineImpl;
+import org.eclipse.edc.policy.cel.function.CelFunctionRegistryImpl;
+import org.eclipse.edc.policy.cel.model.CelExpression;
+import org.eclipse.edc.policy.cel.store.InMemoryCelExpressionStore;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CelExpressionEngineImpl#evaluateExpression} with the compiled-program cache disabled (every call
+ * queries the store and compiles the expression) and enabled (only the first call does).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CelExpressionEngineBenchmark {
+
+    private static final String LEFT_OPERAND = "membership";
+    private static final String EXPRESSION = """
+            ctx.agent.claims.vc
+                 .filter(c, c.type.exists(t, t == 'MembershipCredential'))
+                 .exists(c, c.credentialSubject.exists(cs, timestamp(cs.membershipStartDate) < now && cs.membershipType == 'gold'))
+            """;
+
+    private final Map<String, Object> params = Map.of("agent", Map.of(
+            "id", "agent-123",
+            "claims", Map.of("vc", List.of(Map.of(
+                    "id", "credential-456",
+                    "type", List.of("VerifiableCredential", "MembershipCredential"),
+                    "credentialSubject", List.of(Map.of(
+                            "id", "subject-789",
+                            "membershipStartDate", "2023-01-01T00:00:00Z",
+                            "membershipType", "gold")))))));
+
+    private CelExpressionEngineImpl cold;
+    private CelExpressionEngineImpl warm;
+
+    @Setup
+    public void setup() {
+        var store = new InMemoryCelExpressionStore(CriterionOperatorRegistryImpl.ofDefaults());
+        store.create(CelExpression.Builder.newInstance()
+                .leftOperand(LEFT_OPERAND)
+                .expression(EXPRESSION)
+                .description("benchmark expression")
+                .build());
+
+        var transactionContext = new NoopTransactionContext();
+        var monitor = new ConsoleMonitor();
+        cold = new CelExpressionEngineImpl(transactionContext, store, monitor, new CelFunctionRegistryImpl(), 0, 0, Clock.systemUTC());
+        warm = new CelExpressionEngineImpl(transactionContext, store, monitor, new CelFunctionRegistryImpl(),
+                CelExpressionEngineImpl.DEFAULT_CACHE_SIZE, TimeUnit.HOURS.toMillis(1), Clock.systemUTC());
+    }
+
+    @Benchmark
+    public ServiceResult<Boolean> evaluateCold() {
+        return cold.evaluateExpression(LEFT_OPERAND, Operator.EQ, "gold", params);
+    }
+
+    @Benchmark
+    public ServiceResult<Boolean> evaluateWarm() {
+        return warm.evaluateExpression(LEFT_OPERAND, Operator.EQ, "gold", params);
+    }
+}
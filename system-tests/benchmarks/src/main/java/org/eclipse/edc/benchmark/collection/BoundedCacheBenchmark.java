@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.collection;
+
+import org.eclipse.edc.util.collection.BoundedCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares concurrent, read-mostly access of the {@link BoundedCache} with the deprecated
+ * {@link org.eclipse.edc.util.collection.ConcurrentLruCache} it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class BoundedCacheBenchmark {
+
+    private static final int CAPACITY = 1000;
+    private static final int KEYS = 2 * CAPACITY;
+
+    private BoundedCache<Integer, Integer> boundedCache;
+    private org.eclipse.edc.util.collection.ConcurrentLruCache<Integer, Integer> lruCache;
+
+    @Setup
+    public void setup() {
+        boundedCache = new BoundedCache<>(CAPACITY, TimeUnit.MINUTES.toMillis(5), Clock.systemUTC());
+        lruCache = new org.eclipse.edc.util.collection.ConcurrentLruCache<>(CAPACITY);
+    }
+
+    @Benchmark
+    public Integer boundedCache() {
+        var key = ThreadLocalRandom.current().nextInt(KEYS);
+        var value = boundedCache.get(key);
+        if (value == null) {
+            boundedCache.put(key, key);
+            return key;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Integer concurrentLruCache() {
+        var key = ThreadLocalRandom.current().nextInt(KEYS);
+        var value = lruCache.get(key);
+        if (value == null) {
+            lruCache.put(key, key);
+            return key;
+        }
+        return value;
+    }
+}
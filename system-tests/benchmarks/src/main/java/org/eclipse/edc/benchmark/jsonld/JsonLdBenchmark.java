@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.jsonld;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_PREFIX;
+
+/**
+ * Measures {@link TitaniumJsonLd#expand} and {@link TitaniumJsonLd#compact} of an asset-like document, as it is
+ * received and returned by the management API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonLdBenchmark {
+
+    private TitaniumJsonLd jsonLd;
+    private JsonObject compacted;
+    private JsonObject expanded;
+
+    @Setup
+    public void setup() {
+        jsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+        jsonLd.registerNamespace(EDC_PREFIX, EDC_NAMESPACE);
+
+        var properties = Json.createObjectBuilder();
+        IntStream.range(0, 10).forEach(i -> properties.add("property" + i, "value" + i));
+
+        compacted = Json.createObjectBuilder()
+                .add(CONTEXT, Json.createObjectBuilder().add(VOCAB, EDC_NAMESPACE).add(EDC_PREFIX, EDC_NAMESPACE))
+                .add(ID, "asset-id")
+                .add(TYPE, "Asset")
+                .add("properties", properties.add("nested", Json.createObjectBuilder()
+                        .add("description", "a nested object")
+                        .add("tags", Json.createArrayBuilder().add("foo").add("bar").add("baz"))))
+                .add("dataAddress", Json.createObjectBuilder()
+                        .add(TYPE, "DataAddress")
+                        .add("type", "HttpData")
+                        .add("baseUrl", "https://example.com/data"))
+                .build();
+        expanded = jsonLd.expand(compacted).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> expand() {
+        return jsonLd.expand(compacted);
+    }
+
+    @Benchmark
+    public Result<JsonObject> compact() {
+        return jsonLd.compact(expanded);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.policy;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.validation.RuleValidator;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Prohibition;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.policy.engine.spi.PolicyEngine.ALL_SCOPES;
+
+/**
+ * Measures {@link PolicyEngineImpl#evaluate} of a policy made of a number of permissions, each one constrained by all
+ * the registered constraint functions, plus a prohibition that is never triggered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "benchmark";
+    private static final String ACTION = "use";
+    private static final int CONSTRAINT_FUNCTIONS = 5;
+
+    @Param({ "1", "10" })
+    private int permissions;
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+
+    @Setup
+    public void setup() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry), new RuleValidator(bindingRegistry));
+        policyEngine.registerScope(SCOPE, BenchmarkContext.class);
+
+        bindingRegistry.bind(ACTION, ALL_SCOPES);
+        for (var i = 0; i < CONSTRAINT_FUNCTIONS; i++) {
+            var key = "key" + i;
+            bindingRegistry.bind(key, ALL_SCOPES);
+            policyEngine.registerFunction(BenchmarkContext.class, Permission.class, key, (operator, rightValue, permission, context) -> "granted".equals(rightValue));
+            policyEngine.registerFunction(BenchmarkContext.class, Prohibition.class, key, (operator, rightValue, prohibition, context) -> false);
+        }
+
+        var builder = Policy.Builder.newInstance();
+        IntStream.range(0, permissions).forEach(i -> builder.permission(permission("granted")));
+        policy = builder.prohibition(prohibition()).build();
+    }
+
+    @Benchmark
+    public Result<Void> evaluate() {
+        return policyEngine.evaluate(policy, new BenchmarkContext());
+    }
+
+    private Permission permission(String value) {
+        var builder = Permission.Builder.newInstance().action(Action.Builder.newInstance().type(ACTION).build());
+        for (var i = 0; i < CONSTRAINT_FUNCTIONS; i++) {
+            builder.constraint(constraint("key" + i, value));
+        }
+        return builder.build();
+    }
+
+    private Prohibition prohibition() {
+        return Prohibition.Builder.newInstance()
+                .action(Action.Builder.newInstance().type(ACTION).build())
+                .constraint(constraint("key0", "forbidden"))
+                .build();
+    }
+
+    private AtomicConstraint constraint(String key, String value) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(key))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(value))
+                .build();
+    }
+
+    public static class BenchmarkContext extends PolicyContextImpl {
+        @Override
+        public String scope() {
+            return SCOPE;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.query;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures {@link ReflectionBasedQueryResolver#query} over the entities of an in-memory store, filtering on plain
+ * and nested fields, sorting and paging the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReflectionBasedQueryResolverBenchmark {
+
+    @Param({ "100", "10000", "100000" })
+    private int entities;
+
+    private QueryResolver<ContractDefinition> queryResolver;
+    private List<ContractDefinition> contractDefinitions;
+    private QuerySpec filterByField;
+    private QuerySpec filterByNestedFieldAndSort;
+
+    @Setup
+    public void setup() {
+        queryResolver = new ReflectionBasedQueryResolver<>(ContractDefinition.class, CriterionOperatorRegistryImpl.ofDefaults());
+        contractDefinitions = IntStream.range(0, entities)
+                .mapToObj(i -> ContractDefinition.Builder.newInstance()
+                        .id("definition-" + i)
+                        .participantContextId("participant-" + (i % 10))
+                        .accessPolicyId("access-policy-" + (i % 10))
+                        .contractPolicyId("contract-policy-" + i)
+                        .assetsSelectorCriterion(criterion("id", "=", "asset-" + (i % 100)))
+                        .privateProperty("tier", i % 3 == 0 ? "gold" : "silver")
+                        .build())
+                .toList();
+
+        filterByField = QuerySpec.Builder.newInstance()
+                .filter(criterion("accessPolicyId", "=", "access-policy-3"))
+                .limit(50)
+                .build();
+        filterByNestedFieldAndSort = QuerySpec.Builder.newInstance()
+                .filter(criterion("participantContextId", "in", List.of("participant-1", "participant-2")))
+                .filter(criterion("privateProperties.tier", "=", "gold"))
+                .sortField("contractPolicyId")
+                .sortOrder(SortOrder.DESC)
+                .offset(10)
+                .limit(50)
+                .build();
+    }
+
+    @Benchmark
+    public List<ContractDefinition> filterByField() {
+        return queryResolver.query(contractDefinitions.stream(), filterByField).toList();
+    }
+
+    @Benchmark
+    public List<ContractDefinition> filterByNestedFieldAndSort() {
+        return queryResolver.query(contractDefinitions.stream(), filterByNestedFieldAndSort).toList();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.reflection;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.util.reflection.PathItem;
+import org.eclipse.edc.util.reflection.PropertyPath;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures the evaluation of a nested property path on an entity: with a {@link PropertyPath} compiled upfront, through
+ * {@link ReflectionUtil#getFieldValue(String, Object)}, with the parse-and-reflect-per-call approach that preceded
+ * {@link PropertyPath}, and, as a baseline, through direct getter calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyPathBenchmark {
+
+    private static final String PROPERTY_NAME = "privateProperties.tier";
+
+    private final PropertyPath compiledPath = PropertyPath.of(PROPERTY_NAME);
+    private ContractDefinition contractDefinition;
+
+    @Setup
+    public void setup() {
+        contractDefinition = ContractDefinition.Builder.newInstance()
+                .id("definition")
+                .accessPolicyId("access-policy")
+                .contractPolicyId("contract-policy")
+                .assetsSelectorCriterion(criterion("id", "=", "asset"))
+                .privateProperty("tier", "gold")
+                .build();
+    }
+
+    @Benchmark
+    public Object compiledPath() {
+        return compiledPath.getValue(contractDefinition);
+    }
+
+    @Benchmark
+    public Object reflectionUtil() {
+        return ReflectionUtil.getFieldValue(PROPERTY_NAME, contractDefinition);
+    }
+
+    @Benchmark
+    public Object uncompiledPath() throws IllegalAccessException {
+        Object current = contractDefinition;
+        for (var item : PathItem.parse(PROPERTY_NAME)) {
+            var name = item.toString();
+            if (name.matches(".*\\[([0-9])+\\]")) {
+                throw new IllegalStateException("Indexers are not exercised by this benchmark");
+            }
+            if (current instanceof Map<?, ?> map) {
+                current = map.get(name);
+            } else {
+                var field = ReflectionUtil.getFieldRecursive(current.getClass(), name);
+                field.setAccessible(true);
+                current = field.get(current);
+            }
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Object directAccess() {
+        return contractDefinition.getPrivateProperties().get("tier");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.sql;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.sql.translation.TranslationMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures the construction of a {@link SqlQueryStatement} from a {@link QuerySpec} that filters on plain columns and
+ * on JSON properties, including the rendering of the SQL string and of its parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlQueryStatementBenchmark {
+
+    private static final String SELECT_STATEMENT = "SELECT * FROM edc_transfer_process";
+
+    private final SqlOperatorTranslator operatorTranslator = new PostgresqlOperatorTranslator();
+    private final TranslationMapping mapping = new BenchmarkMapping();
+    private QuerySpec querySpec;
+
+    @Setup
+    public void setup() {
+        querySpec = QuerySpec.Builder.newInstance()
+                .filter(criterion("state", "in", List.of(400, 500, 600)))
+                .filter(criterion("participantContextId", "=", "participant"))
+                .filter(criterion("privateProperties.tier", "=", "gold"))
+                .filter(criterion("assetId", "like", "asset-%"))
+                .sortField("createdAt")
+                .sortOrder(SortOrder.DESC)
+                .offset(100)
+                .limit(50)
+                .build();
+    }
+
+    @Benchmark
+    public void createStatement(Blackhole blackhole) {
+        var statement = new SqlQueryStatement(SELECT_STATEMENT, querySpec, mapping, operatorTranslator);
+        blackhole.consume(statement.getQueryAsString());
+        blackhole.consume(statement.getParameters());
+    }
+
+    private static class BenchmarkMapping extends TranslationMapping {
+        BenchmarkMapping() {
+            add("id", "transferprocess_id");
+            add("state", "state");
+            add("createdAt", "created_at");
+            add("participantContextId", "participant_context_id");
+            add("assetId", "asset_id");
+            add("privateProperties", new JsonFieldTranslator("private_properties"));
+        }
+    }
+}
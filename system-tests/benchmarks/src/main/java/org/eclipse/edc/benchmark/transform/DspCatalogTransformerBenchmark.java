@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.transform;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.connector.controlplane.transform.odrl.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToActionTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToConstraintTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToDutyTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToOperatorTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToPermissionTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToPolicyTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToProhibitionTransformer;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.participant.spi.ParticipantIdMapper;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromCatalogV2025Transformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDataServiceTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDatasetTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDistributionTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.to.JsonObjectToDataServiceTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.to.JsonObjectToDatasetTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.to.JsonObjectToDistributionTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.v2025.to.JsonObjectToCatalogTransformer;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.transform.transformer.edc.to.JsonValueToGenericTypeTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.protocol.dsp.spi.type.Dsp2025Constants.DSP_NAMESPACE_V_2025_1;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
+
+/**
+ * Measures the DSP 2025/1 catalog transformers: a {@link Catalog} is transformed to JSON-LD, as a provider does when
+ * answering a catalog request, and the expanded JSON-LD is transformed back, as a consumer does when receiving it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DspCatalogTransformerBenchmark {
+
+    @Param({ "1", "50" })
+    private int datasets;
+
+    private TypeTransformerRegistry registry;
+    private Catalog catalog;
+    private JsonObject expandedCatalog;
+
+    @Setup
+    public void setup() {
+        var factory = Json.createBuilderFactory(Map.of());
+        var typeManager = new JacksonTypeManager();
+        var participantIdMapper = new NoOpParticipantIdMapper();
+
+        registry = new TypeTransformerRegistryImpl();
+        registry.register(new JsonObjectFromCatalogV2025Transformer(factory, typeManager, JSON_LD, participantIdMapper, DSP_NAMESPACE_V_2025_1));
+        registry.register(new JsonObjectFromDatasetTransformer(factory, typeManager, JSON_LD));
+        registry.register(new JsonObjectFromDataServiceTransformer(factory));
+        registry.register(new JsonObjectFromDistributionTransformer(factory));
+        registry.register(new JsonObjectFromPolicyTransformer(factory, participantIdMapper));
+        registry.register(new JsonObjectToCatalogTransformer());
+        registry.register(new JsonObjectToDatasetTransformer());
+        registry.register(new JsonObjectToDataServiceTransformer());
+        registry.register(new JsonObjectToDistributionTransformer());
+        registry.register(new JsonObjectToPolicyTransformer(participantIdMapper));
+        registry.register(new JsonObjectToPermissionTransformer());
+        registry.register(new JsonObjectToProhibitionTransformer());
+        registry.register(new JsonObjectToDutyTransformer());
+        registry.register(new JsonObjectToActionTransformer());
+        registry.register(new JsonObjectToConstraintTransformer());
+        registry.register(new JsonObjectToOperatorTransformer());
+        registry.register(new JsonValueToGenericTypeTransformer(typeManager, JSON_LD));
+
+        var dataService = DataService.Builder.newInstance()
+                .id("data-service")
+                .endpointUrl("https://provider.example.com/api/dsp")
+                .build();
+        var builder = Catalog.Builder.newInstance()
+                .id("catalog")
+                .participantId("provider")
+                .dataService(dataService);
+        IntStream.range(0, datasets).forEach(i -> builder.dataset(Dataset.Builder.newInstance()
+                .id("dataset-" + i)
+                .offer("offer-" + i, policy())
+                .distribution(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build())
+                .property(EDC_NAMESPACE + "name", "dataset " + i)
+                .property(EDC_NAMESPACE + "contentType", "application/json")
+                .build()));
+        catalog = builder.build();
+
+        var jsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+        expandedCatalog = registry.transform(catalog, JsonObject.class)
+                .compose(jsonLd::expand)
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> fromCatalog() {
+        return registry.transform(catalog, JsonObject.class);
+    }
+
+    @Benchmark
+    public Result<Catalog> toCatalog() {
+        return registry.transform(expandedCatalog, Catalog.class);
+    }
+
+    private Policy policy() {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(EDC_NAMESPACE + "purpose"))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("research"))
+                .build();
+        return Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance()
+                        .action(Action.Builder.newInstance().type("use").build())
+                        .constraint(constraint)
+                        .build())
+                .build();
+    }
+
+    private static class NoOpParticipantIdMapper implements ParticipantIdMapper {
+        @Override
+        public String toIri(String id) {
+            return id;
+        }
+
+        @Override
+        public String fromIri(String id) {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmark.transform;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.protocol.ContractNegotiationAck;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.TransferProcessAck;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.protocol.dsp.negotiation.transform.from.JsonObjectFromContractNegotiationTransformer;
+import org.eclipse.edc.protocol.dsp.negotiation.transform.to.JsonObjectToContractNegotiationAckTransformer;
+import org.eclipse.edc.protocol.dsp.transferprocess.transform.type.from.JsonObjectFromTransferProcessTransformer;
+import org.eclipse.edc.protocol.dsp.transferprocess.transform.type.to.JsonObjectToTransferProcessAckTransformer;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.protocol.dsp.spi.type.Dsp2025Constants.DSP_NAMESPACE_V_2025_1;
+
+/**
+ * Measures the {@link TypeTransformerRegistry} round trip of the DSP 2025/1 representations of {@link ContractNegotiation}
+ * and {@link TransferProcess}: the entity is transformed to JSON-LD, expanded, as it is after being received by the
+ * counter-party, and transformed back to the corresponding acknowledgement message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DspProcessTransformerBenchmark {
+
+    private TypeTransformerRegistry registry;
+    private TitaniumJsonLd jsonLd;
+    private ContractNegotiation contractNegotiation;
+    private TransferProcess transferProcess;
+
+    @Setup
+    public void setup() {
+        var factory = Json.createBuilderFactory(Map.of());
+        registry = new TypeTransformerRegistryImpl();
+        registry.register(new JsonObjectFromContractNegotiationTransformer(factory, DSP_NAMESPACE_V_2025_1));
+        registry.register(new JsonObjectToContractNegotiationAckTransformer(DSP_NAMESPACE_V_2025_1));
+        registry.register(new JsonObjectFromTransferProcessTransformer(factory, DSP_NAMESPACE_V_2025_1));
+        registry.register(new JsonObjectToTransferProcessAckTransformer(DSP_NAMESPACE_V_2025_1));
+        jsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+
+        contractNegotiation = ContractNegotiation.Builder.newInstance()
+                .id("negotiation-id")
+                .correlationId("correlation-id")
+                .type(ContractNegotiation.Type.PROVIDER)
+                .state(ContractNegotiationStates.AGREED.code())
+                .counterPartyId("consumer")
+                .counterPartyAddress("https://consumer.example.com/api/dsp")
+                .protocol("dataspace-protocol-http:2025-1")
+                .build();
+        transferProcess = TransferProcess.Builder.newInstance()
+                .id("transfer-id")
+                .correlationId("correlation-id")
+                .type(TransferProcess.Type.PROVIDER)
+                .state(TransferProcessStates.STARTED.code())
+                .protocol("dataspace-protocol-http:2025-1")
+                .build();
+    }
+
+    @Benchmark
+    public Result<ContractNegotiationAck> contractNegotiationRoundTrip() {
+        return registry.transform(contractNegotiation, JsonObject.class)
+                .compose(jsonLd::expand)
+                .compose(json -> registry.transform(json, ContractNegotiationAck.class));
+    }
+
+    @Benchmark
+    public Result<TransferProcessAck> transferProcessRoundTrip() {
+        return registry.transform(transferProcess, JsonObject.class)
+                .compose(jsonLd::expand)
+                .compose(json -> registry.transform(json, TransferProcessAck.class));
+    }
+}